@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+/**
+ * Reports the completion of a batch of asynchronous sends to an application's {@code CompletionListener} once, when
+ * every message of the batch has completed.
+ *
+ * <p>
+ * If every send succeeded, {@code onCompletion} is called with the last message of the batch. Otherwise
+ * {@code onException} is called with the first message whose send failed and its exception.
+ *
+ * @see javax.jms.MessageProducer#sendBatch(Destination, java.util.List, CompletionListener)
+ * @see javax.jms.JMSProducer#sendBatch(Destination, java.util.List)
+ */
+class BatchCompletionListener implements CompletionListener {
+
+    private final CompletionListener delegate;
+    private final Message last;
+    private int outstanding;
+    private Message failedMessage;
+    private Exception failure;
+    private boolean abandoned;
+
+    BatchCompletionListener(CompletionListener delegate, int size, Message last) {
+        this.delegate = delegate;
+        this.outstanding = size;
+        this.last = last;
+    }
+
+    @Override
+    public void onCompletion(Message message) {
+        completed(null, null);
+    }
+
+    @Override
+    public void onException(Message message, Exception exception) {
+        completed(message, exception);
+    }
+
+    /**
+     * Stops the batch from being reported, because a send threw an exception to the application.
+     */
+    synchronized void abandon() {
+        abandoned = true;
+    }
+
+    private void completed(Message message, Exception exception) {
+        synchronized (this) {
+            if (exception != null && failure == null) {
+                failedMessage = message;
+                failure = exception;
+            }
+            if (--outstanding > 0 || abandoned) {
+                return;
+            }
+        }
+        if (failure == null) {
+            delegate.onCompletion(last);
+        } else {
+            delegate.onException(failedMessage, failure);
+        }
+    }
+}
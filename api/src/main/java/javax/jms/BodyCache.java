@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@code BodyCache} holds the body of a message decoded for {@link Message#getBody(Class)}, which providers can use
+ * so that the body is decoded at most once however many times {@code getBody} and {@code isBodyAssignableTo} are
+ * called, for instance by a chain of interceptors.
+ *
+ * <p>
+ * The body is decoded by the decoder of the cache when it is first needed, and the same object is then returned by
+ * each call until the cache is invalidated. A provider invalidates the cache whenever the body changes, in particular
+ * when {@code clearBody} is called, so that the next call decodes the new body. Since the body is shared by all the
+ * callers, a body of a mutable type is either decoded as an unmodifiable view, such as
+ * {@code Collections.unmodifiableMap}, or copied for each caller by a copier given to the cache, such as
+ * {@code byte[]::clone}, which {@code getBody} applies to the cached body on each call. If decoding fails with a
+ * {@code MessageFormatException}, the exception is remembered and thrown again by later calls to {@code getBody} until
+ * the cache is invalidated; other exceptions are not remembered, and decoding is tried again by the next call.
+ *
+ * <p>
+ * A {@code BodyCache} is not safe for use by several threads at once, any more than the message holding it.
+ *
+ * @param <B> the type of the decoded body
+ *
+ * @see javax.jms.Message#getBody(Class)
+ * @see javax.jms.Message#isBodyAssignableTo(Class)
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class BodyCache<B> {
+
+    /**
+     * Decodes the body of a message.
+     *
+     * @param <B> the type of the decoded body
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    @FunctionalInterface
+    public interface Decoder<B> {
+
+        /**
+         * Decodes the body of the message.
+         *
+         * @return the decoded body, or null if the message has no body
+         *
+         * @exception JMSException if the body cannot be decoded.
+         */
+        B decode() throws JMSException;
+    }
+
+    private final Decoder<? extends B> decoder;
+    private final UnaryOperator<B> copier;
+    private boolean decoded;
+    private B body;
+    private MessageFormatException failure;
+
+    /**
+     * Creates an empty cache of the body decoded by the specified decoder.
+     *
+     * @param decoder the decoder of the body
+     */
+    public BodyCache(Decoder<? extends B> decoder) {
+        this(decoder, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an empty cache of the body decoded by the specified decoder, whose callers each receive a copy made by
+     * the specified copier.
+     *
+     * @param decoder the decoder of the body
+     * @param copier the function returning a copy of a body that is not null, such as {@code byte[]::clone}
+     */
+    public BodyCache(Decoder<? extends B> decoder, UnaryOperator<B> copier) {
+        this.decoder = Objects.requireNonNull(decoder, "decoder");
+        this.copier = Objects.requireNonNull(copier, "copier");
+    }
+
+    /**
+     * Returns the decoded body, decoding it if this cache is empty. The body is the cached object itself, to which the
+     * copier of this cache is not applied.
+     *
+     * @return the decoded body, or null if the message has no body
+     *
+     * @exception MessageFormatException if the body cannot be decoded.
+     * @exception JMSException if the decoder fails for another reason.
+     */
+    public B get() throws JMSException {
+        if (!decoded) {
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                body = decoder.decode();
+            } catch (MessageFormatException e) {
+                failure = e;
+                throw e;
+            }
+            decoded = true;
+        }
+        return body;
+    }
+
+    /**
+     * Returns the decoded body as the specified type, as {@link Message#getBody(Class)} does, copied by the copier of
+     * this cache.
+     *
+     * @param <T> the type to which the body is assigned
+     * @param c the type to which the body is assigned
+     *
+     * @return the decoded body, or null if the message has no body
+     *
+     * @exception MessageFormatException if the body cannot be decoded or assigned to the specified type.
+     * @exception JMSException if the decoder fails for another reason.
+     */
+    public <T> T getBody(Class<T> c) throws JMSException {
+        B value = get();
+        if (value != null && !c.isInstance(value)) {
+            throw new MessageFormatException("Message body cannot be assigned to " + c.getName());
+        }
+        return value == null ? null : c.cast(copier.apply(value));
+    }
+
+    /**
+     * Returns whether the decoded body can be assigned to the specified type, as
+     * {@link Message#isBodyAssignableTo(Class)} does. If the body cannot be decoded, false is returned.
+     *
+     * @param c the type to which the body would be assigned
+     *
+     * @return true if the message has no body or the body is an instance of the specified type
+     *
+     * @exception JMSException if the decoder fails for a reason other than the format of the body.
+     */
+    public boolean isBodyAssignableTo(Class<?> c) throws JMSException {
+        B value;
+        try {
+            value = get();
+        } catch (MessageFormatException e) {
+            return false;
+        }
+        return value == null || c.isInstance(value);
+    }
+
+    /**
+     * Returns whether the body has been decoded since this cache was created or last invalidated.
+     *
+     * @return true if the body has been decoded
+     */
+    public boolean isDecoded() {
+        return decoded;
+    }
+
+    /**
+     * Empties this cache, so that the body is decoded again when it is next needed. A provider calls this method
+     * whenever the body changes.
+     */
+    public void invalidate() {
+        decoded = false;
+        body = null;
+        failure = null;
+    }
+}
@@ -16,6 +16,15 @@
 
 package javax.jms;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 /**
  * A {@code BytesMessage} object is used to send a message containing a stream of uninterpreted bytes. It inherits from
  * the {@code Message} interface and adds a bytes message body. The receiver of the message supplies the interpretation
@@ -54,6 +63,19 @@ package javax.jms;
  * write-only mode.
  *
  * <p>
+ * Large bodies can be moved between the message and NIO buffers without an intermediate byte array, with
+ * {@link #readBytes(ByteBuffer)}, {@link #writeBytes(ByteBuffer)} and {@link #asByteBuffer()}. A provider that holds
+ * the body in a buffer, possibly a direct or mapped one, can then hand it over without copying. Bodies too large to
+ * hold in memory can be read and written in chunks through a stream or channel, such as the one returned by
+ * {@link #getBodyInputStream()}.
+ *
+ * <p>
+ * Strings can be read into a caller's {@code StringBuilder} or {@code CharBuffer} and written from any
+ * {@code CharSequence}, so that text can be parsed and produced without creating a {@code String} for each value.
+ * Besides the modified UTF-8 format of {@link #readUTF()} and {@link #writeUTF(String)}, strings can be written in
+ * standard UTF-8 with {@link #writeUTF8(CharSequence)} and read with {@link #readUTF8()}.
+ *
+ * <p>
  * If a client attempts to read a message in write-only mode, a {@code MessageNotReadableException} is thrown.
  *
  * <p>
@@ -210,6 +232,148 @@ public interface BytesMessage extends Message {
      */
     String readUTF() throws JMSException;
 
+    /**
+     * Reads a string that has been encoded using a modified UTF-8 format from the bytes message stream, and appends it to
+     * the specified builder.
+     *
+     * <p>
+     * The string is read as by {@link #readUTF()}. A consumer that parses many strings can reuse one builder for all of
+     * them, and so avoid creating a {@code String} object for each. The default implementation calls {@code readUTF};
+     * providers should override it to decode the characters straight into the builder.
+     *
+     * @param builder the builder to which the string is appended
+     *
+     * @return the number of characters appended
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of bytes stream has been reached.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readUTF(StringBuilder builder) throws JMSException {
+        String value = readUTF();
+        builder.append(value);
+        return value.length();
+    }
+
+    /**
+     * Reads a string that has been encoded using a modified UTF-8 format from the bytes message stream, and puts it into
+     * the specified buffer.
+     *
+     * <p>
+     * The string is read as by {@link #readUTF()}, and its characters are put into the buffer starting at its position,
+     * which is then advanced. If the buffer has too little space remaining for the string, the string is still consumed
+     * from the bytes message stream, the position of the buffer is left unchanged and a {@code BufferOverflowException}
+     * is thrown. The default implementation calls {@code readUTF}; providers should override it to decode the characters
+     * straight into the buffer.
+     *
+     * @param buffer the buffer into which the string is put
+     *
+     * @return the number of characters put into the buffer
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of bytes stream has been reached.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     * @exception java.nio.BufferOverflowException if the buffer has too little space remaining for the string.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readUTF(CharBuffer buffer) throws JMSException {
+        String value = readUTF();
+        if (value.length() > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(value);
+        return value.length();
+    }
+
+    /**
+     * Reads a string that has been encoded in standard UTF-8 by {@link #writeUTF8(CharSequence)} from the bytes message
+     * stream.
+     *
+     * <p>
+     * The string is preceded in the stream by its length in bytes, as read by {@link #readInt()}. Unlike the modified
+     * UTF-8 format read by {@link #readUTF()}, the length is not limited to 65535 bytes, and the bytes can be produced
+     * and consumed by any UTF-8 codec. Malformed input is replaced by the Unicode replacement character
+     * {@code U+FFFD}, as by {@code new String(bytes, StandardCharsets.UTF_8)}.
+     *
+     * @return a Unicode string from the bytes message stream
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of bytes stream has been reached.
+     * @exception MessageFormatException if the length preceding the string is negative.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default String readUTF8() throws JMSException {
+        int length = readInt();
+        if (length < 0) {
+            throw new MessageFormatException("Invalid UTF-8 string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        if (length > 0 && readBytes(bytes) < length) {
+            throw new MessageEOFException("Unexpected end of message body");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string that has been encoded in standard UTF-8 by {@link #writeUTF8(CharSequence)} from the bytes message
+     * stream, and appends it to the specified builder.
+     *
+     * <p>
+     * The string is read as by {@link #readUTF8()}. The default implementation calls {@code readUTF8}; providers should
+     * override it to decode the characters straight into the builder, with a fast path for ASCII text.
+     *
+     * @param builder the builder to which the string is appended
+     *
+     * @return the number of characters appended
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of bytes stream has been reached.
+     * @exception MessageFormatException if the length preceding the string is negative.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readUTF8(StringBuilder builder) throws JMSException {
+        String value = readUTF8();
+        builder.append(value);
+        return value.length();
+    }
+
+    /**
+     * Reads a string that has been encoded in standard UTF-8 by {@link #writeUTF8(CharSequence)} from the bytes message
+     * stream, and puts it into the specified buffer.
+     *
+     * <p>
+     * The string is read as by {@link #readUTF8()}, and put into the buffer as by {@link #readUTF(CharBuffer)}. The
+     * default implementation calls {@code readUTF8}; providers should override it to decode the characters straight into
+     * the buffer, with a fast path for ASCII text.
+     *
+     * @param buffer the buffer into which the string is put
+     *
+     * @return the number of characters put into the buffer
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of bytes stream has been reached.
+     * @exception MessageFormatException if the length preceding the string is negative.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     * @exception java.nio.BufferOverflowException if the buffer has too little space remaining for the string.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readUTF8(CharBuffer buffer) throws JMSException {
+        String value = readUTF8();
+        if (value.length() > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.put(value);
+        return value.length();
+    }
+
     /**
      * Reads a byte array from the bytes message stream.
      *
@@ -259,6 +423,67 @@ public interface BytesMessage extends Message {
      */
     int readBytes(byte[] value, int length) throws JMSException;
 
+    /**
+     * Reads a portion of the bytes message stream into the specified buffer.
+     *
+     * <p>
+     * Bytes are transferred into the buffer starting at its position, until the buffer is full or the end of the stream
+     * is reached, and the position of the buffer is advanced by the number of bytes read. As with
+     * {@link #readBytes(byte[])}, a return value less than the number of bytes that were remaining in the buffer
+     * indicates that there are no more bytes left to be read from the stream, and the next read of the stream returns
+     * -1. If the buffer has no bytes remaining, nothing is read and zero is returned.
+     *
+     * <p>
+     * The default implementation reads without copying only into a heap buffer whose array offset and position are
+     * both zero, as {@link #readBytes(byte[], int)} can only fill an array from its start. Any other buffer, such as a
+     * direct buffer or a heap buffer with a non-zero position, is filled through a scratch array of 8192 bytes that is
+     * reused by the calling thread. Providers that hold the body in a buffer should override this method to transfer
+     * the bytes without the scratch array.
+     *
+     * @param buffer the buffer into which the data is read
+     *
+     * @return the total number of bytes read into the buffer, or -1 if there is no more data because the end of the stream
+     * has been reached
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     * @exception java.nio.ReadOnlyBufferException if the buffer is read-only and has bytes remaining.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readBytes(ByteBuffer buffer) throws JMSException {
+        int remaining = buffer.remaining();
+        if (remaining == 0) {
+            return 0;
+        }
+        if (buffer.hasArray() && buffer.arrayOffset() + buffer.position() == 0) {
+            int read = readBytes(buffer.array(), remaining);
+            if (read > 0) {
+                buffer.position(read);
+            }
+            return read;
+        }
+        byte[] chunk = BytesMessageStreams.borrowChunk();
+        int total = 0;
+        try {
+            while (total < remaining) {
+                int length = Math.min(chunk.length, remaining - total);
+                int read = readBytes(chunk, length);
+                if (read < 0) {
+                    break;
+                }
+                buffer.put(chunk, 0, read);
+                total += read;
+                if (read < length) {
+                    break;
+                }
+            }
+        } finally {
+            BytesMessageStreams.returnChunk(chunk);
+        }
+        return total == 0 ? -1 : total;
+    }
+
     /**
      * Writes a {@code boolean} to the bytes message stream as a 1-byte value. The value {@code true} is written as the
      * value {@code (byte)1}; the value {@code false} is written as the value {@code (byte)0}.
@@ -358,6 +583,52 @@ public interface BytesMessage extends Message {
      */
     void writeUTF(String value) throws JMSException;
 
+    /**
+     * Writes a character sequence to the bytes message stream using a modified UTF-8 format.
+     *
+     * <p>
+     * The characters are written as by {@link #writeUTF(String)}, so that a {@code StringBuilder} or {@code CharBuffer}
+     * holding the text need not be converted to a {@code String} first. The default implementation calls
+     * {@code writeUTF(value.toString())}; providers should override it to encode the characters straight into the body.
+     *
+     * @param value the characters to be written
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeUTF(CharSequence value) throws JMSException {
+        writeUTF(value.toString());
+    }
+
+    /**
+     * Writes a character sequence to the bytes message stream in standard UTF-8, preceded by its length in bytes.
+     *
+     * <p>
+     * The length is written as by {@link #writeInt(int)}, and the string can be read back with {@link #readUTF8()}.
+     * Unlike the modified UTF-8 format written by {@link #writeUTF(String)}, the null character is written as a single
+     * byte and supplementary characters as four bytes, and the length is not limited to 65535 bytes. A surrogate
+     * character that is not part of a pair is written as {@code '?'}, as by
+     * {@code String.getBytes(StandardCharsets.UTF_8)}.
+     *
+     * <p>
+     * The default implementation encodes the characters into a new array; providers should override it to encode them
+     * straight into the body, with a fast path for ASCII text.
+     *
+     * @param value the characters to be written
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeUTF8(CharSequence value) throws JMSException {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        writeBytes(bytes);
+    }
+
     /**
      * Writes a byte array to the bytes message stream.
      *
@@ -380,6 +651,44 @@ public interface BytesMessage extends Message {
      */
     void writeBytes(byte[] value, int offset, int length) throws JMSException;
 
+    /**
+     * Writes the bytes remaining in the specified buffer to the bytes message stream.
+     *
+     * <p>
+     * Bytes are transferred from the position of the buffer up to its limit, and on return the position of the buffer
+     * equals its limit. The buffer may be a direct buffer, for instance one filled by a {@code FileChannel}.
+     *
+     * <p>
+     * The default implementation writes the backing array of a heap buffer with {@link #writeBytes(byte[], int, int)},
+     * without copying, and copies the bytes of any other buffer through a scratch array of 8192 bytes that is reused by
+     * the calling thread. Providers that hold the body in a buffer should override this method to transfer the bytes
+     * without the scratch array.
+     *
+     * @param buffer the buffer holding the bytes to be written
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeBytes(ByteBuffer buffer) throws JMSException {
+        if (buffer.hasArray()) {
+            writeBytes(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        byte[] chunk = BytesMessageStreams.borrowChunk();
+        try {
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                writeBytes(chunk, 0, length);
+            }
+        } finally {
+            BytesMessageStreams.returnChunk(chunk);
+        }
+    }
+
     /**
      * Writes an object to the bytes message stream.
      *
@@ -403,4 +712,130 @@ public interface BytesMessage extends Message {
      * @exception MessageFormatException if the message has an invalid format.
      */
     void reset() throws JMSException;
+
+    /**
+     * Returns a read-only buffer holding the entire body of a message in read-only mode, and repositions the stream of
+     * bytes to the beginning. A message whose body is being written must be put in read-only mode with {@code reset}
+     * first.
+     *
+     * <p>
+     * The position of the returned buffer is zero and its limit and capacity are the body length. Reading the buffer does
+     * not move the stream of bytes. The buffer keeps its content if the body of the message is later cleared with
+     * {@code clearBody} and written again.
+     *
+     * <p>
+     * The default implementation calls {@code getBodyLength} and {@code reset}, copies the body into a new array with
+     * {@link #readBytes(byte[])} and calls {@code reset} again. Providers that hold the body in a buffer should override this method to return a
+     * view of the buffer without copying.
+     *
+     * @return a read-only buffer holding the entire message body
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageFormatException if the message has an invalid format, or the body is longer than
+     * {@code Integer.MAX_VALUE} bytes.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default ByteBuffer asByteBuffer() throws JMSException {
+        long length = getBodyLength();
+        reset();
+        if (length > Integer.MAX_VALUE) {
+            throw new MessageFormatException("Message body is too long for a ByteBuffer: " + length + " bytes");
+        }
+        byte[] body = new byte[(int) length];
+        if (length > 0) {
+            readBytes(body);
+        }
+        reset();
+        return ByteBuffer.wrap(body).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns an input stream that reads the bytes message stream from its current position.
+     *
+     * <p>
+     * Reading the input stream advances the bytes message stream, and the other read methods of this message continue
+     * from where the input stream stopped. The input stream reports the end of the message body by returning -1, and
+     * reports a {@code JMSException} as an {@code IOException} whose cause it is. Closing the input stream does not affect
+     * the message.
+     *
+     * <p>
+     * The default implementation reads through {@link #readBytes(byte[], int)} and {@link #readBytes(ByteBuffer)}. A
+     * provider that receives the body in chunks may override this method to return a stream that fetches each chunk as it
+     * is needed, so that a body much larger than the available memory can be read.
+     *
+     * @return an input stream reading the message body
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default InputStream getBodyInputStream() throws JMSException {
+        getBodyLength();
+        return new BytesMessageStreams.BodyInputStream(this);
+    }
+
+    /**
+     * Returns an output stream that appends to the bytes message stream.
+     *
+     * <p>
+     * Writing to the output stream is equivalent to calling {@link #writeBytes(byte[], int, int)}, and may be interleaved
+     * with the other write methods of this message. The output stream reports a {@code JMSException} as an
+     * {@code IOException} whose cause it is. Closing the output stream does not affect the message.
+     *
+     * <p>
+     * A provider that sends the body in chunks may override this method to return a stream that hands each chunk over as
+     * it is filled, so that a body much larger than the available memory can be written.
+     *
+     * @return an output stream writing the message body
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default OutputStream getBodyOutputStream() throws JMSException {
+        writeBytes(new byte[0], 0, 0);
+        return new BytesMessageStreams.BodyOutputStream(this);
+    }
+
+    /**
+     * Returns a channel that reads the bytes message stream from its current position.
+     *
+     * <p>
+     * The channel behaves like the stream returned by {@link #getBodyInputStream()}, and reads into buffers with
+     * {@link #readBytes(ByteBuffer)}, so that it can be passed to {@code FileChannel.transferFrom}.
+     *
+     * @return a channel reading the message body
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default ReadableByteChannel getReadableBodyChannel() throws JMSException {
+        getBodyLength();
+        return new BytesMessageStreams.BodyReadableChannel(this);
+    }
+
+    /**
+     * Returns a channel that appends to the bytes message stream.
+     *
+     * <p>
+     * The channel behaves like the stream returned by {@link #getBodyOutputStream()}, and writes each buffer entirely
+     * with {@link #writeBytes(ByteBuffer)}, so that it can be passed to {@code FileChannel.transferTo}.
+     *
+     * @return a channel writing the message body
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default WritableByteChannel getWritableBodyChannel() throws JMSException {
+        writeBytes(new byte[0], 0, 0);
+        return new BytesMessageStreams.BodyWritableChannel(this);
+    }
 }
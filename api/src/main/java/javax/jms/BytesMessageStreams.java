@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The streams and channels returned by the default implementations of the streaming methods of {@link BytesMessage}.
+ * They read and write the bytes message stream itself, so they share its position with the other read and write
+ * methods, and they report a {@code JMSException} as an {@code IOException} whose cause it is.
+ */
+final class BytesMessageStreams {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * The scratch array of each thread, which is taken while in use so that a nested transfer gets an array of its own.
+     */
+    private static final ThreadLocal<byte[]> CHUNK = new ThreadLocal<>();
+
+    private BytesMessageStreams() {
+    }
+
+    /**
+     * Takes the scratch array of the calling thread, or a new one if it is in use. It must be given back with
+     * {@link #returnChunk(byte[])}.
+     */
+    static byte[] borrowChunk() {
+        byte[] chunk = CHUNK.get();
+        if (chunk == null) {
+            return new byte[CHUNK_SIZE];
+        }
+        CHUNK.set(null);
+        return chunk;
+    }
+
+    static void returnChunk(byte[] chunk) {
+        CHUNK.set(chunk);
+    }
+
+    static IOException failure(JMSException e) {
+        return new IOException(e.getMessage(), e);
+    }
+
+    static final class BodyInputStream extends InputStream {
+
+        private final BytesMessage message;
+        private final byte[] single = new byte[1];
+        private boolean closed;
+
+        BodyInputStream(BytesMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            try {
+                return off == 0 ? message.readBytes(b, len) : message.readBytes(ByteBuffer.wrap(b, off, len));
+            } catch (JMSException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static final class BodyOutputStream extends OutputStream {
+
+        private final BytesMessage message;
+        private boolean closed;
+
+        BodyOutputStream(BytesMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            try {
+                message.writeByte((byte) b);
+            } catch (JMSException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            try {
+                message.writeBytes(b, off, len);
+            } catch (JMSException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static final class BodyReadableChannel implements ReadableByteChannel {
+
+        private final BytesMessage message;
+        private boolean open = true;
+
+        BodyReadableChannel(BytesMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+            try {
+                return message.readBytes(dst);
+            } catch (JMSException e) {
+                throw failure(e);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+
+    static final class BodyWritableChannel implements WritableByteChannel {
+
+        private final BytesMessage message;
+        private boolean open = true;
+
+        BodyWritableChannel(BytesMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+            int remaining = src.remaining();
+            try {
+                message.writeBytes(src);
+            } catch (JMSException e) {
+                throw failure(e);
+            }
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
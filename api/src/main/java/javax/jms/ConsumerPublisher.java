@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@code ConsumerPublisher} publishes the messages of a {@code JMSConsumer} or a {@code MessageConsumer} to a
+ * {@code MessageFlow.Subscriber}, receiving a message only when the subscriber has requested one.
+ *
+ * <p>
+ * The consumer is used synchronously: a message is received by calling its {@code receive} method, and only as many
+ * messages are received as the subscriber has requested. Messages the subscriber has not asked for are therefore left
+ * for the Jakarta Messaging provider to retain, or to deliver to other consumers of the same queue or subscription. The
+ * receive calls are made by a task run on the executor supplied to the publisher, one task at a time; the subscriber's
+ * methods are called from that task.
+ *
+ * <p>
+ * The session mode of the consumer's session or {@code JMSContext} determines what is done once the subscriber's
+ * {@code onNext} method has returned:
+ * <ul>
+ * <li>{@code AUTO_ACKNOWLEDGE} and {@code DUPS_OK_ACKNOWLEDGE}: nothing, since the message was acknowledged when it was
+ * received.
+ * <li>{@code CLIENT_ACKNOWLEDGE}: the message is acknowledged. A subscriber that processes each message in
+ * {@code onNext} therefore receives each message at least once.
+ * <li>{@code SESSION_TRANSACTED}: the transaction is committed. If {@code onNext} throws an exception, the transaction
+ * is rolled back instead, so that the message is redelivered, and the subscription is cancelled.
+ * </ul>
+ *
+ * <p>
+ * Cancelling the subscription closes the consumer, and so does any failure to receive a message, which is reported to
+ * the subscriber's {@code onError} method. If the consumer is closed by the application, the subscriber's
+ * {@code onComplete} method is called. Since a consumer is used by one thread of control at a time, a
+ * {@code ConsumerPublisher} accepts a single subscriber; the session or {@code JMSContext} must not be used by other
+ * threads while the subscription is active.
+ *
+ * @see javax.jms.MessageFlow
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public class ConsumerPublisher implements MessageFlow.Publisher<Message> {
+
+    private final Source source;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a {@code ConsumerPublisher} for a consumer created by the specified {@code JMSContext}.
+     *
+     * @param context the {@code JMSContext} that created the consumer, used to acknowledge messages and to commit or
+     * roll back transactions
+     * @param consumer the consumer to receive messages from
+     * @param executor the executor that runs the receive task
+     */
+    public ConsumerPublisher(JMSContext context, JMSConsumer consumer, Executor executor) {
+        this.source = new ContextSource(context, consumer);
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a {@code ConsumerPublisher} for a consumer created by the specified {@code Session}.
+     *
+     * @param session the session that created the consumer, used to commit or roll back transactions
+     * @param consumer the consumer to receive messages from
+     * @param executor the executor that runs the receive task
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to return the session's acknowledgement mode due to
+     * some internal error.
+     */
+    public ConsumerPublisher(Session session, MessageConsumer consumer, Executor executor) throws JMSException {
+        this.source = new SessionSource(session, consumer);
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(MessageFlow.Subscriber<? super Message> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber==null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new MessageFlow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ConsumerPublisher accepts a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new ConsumerSubscription(subscriber));
+    }
+
+    /**
+     * Delivers requested messages to the subscriber, one drain task at a time.
+     */
+    private class ConsumerSubscription implements MessageFlow.Subscription, Runnable {
+
+        private final MessageFlow.Subscriber<? super Message> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private final AtomicReference<Exception> invalidRequest = new AtomicReference<>();
+        private volatile boolean cancelled;
+        private boolean done;
+
+        ConsumerSubscription(MessageFlow.Subscriber<? super Message> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Adds to the demand. A request for no messages or fewer is reported to the subscriber by the drain task, as
+         * completion is, so that the subscriber's methods are never called at the same time; the consumer is closed
+         * first so that a receive in progress returns.
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (invalidRequest.compareAndSet(null,
+                        new IllegalArgumentException("Subscription.request called with " + n))) {
+                    closeQuietly();
+                }
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!demand.compareAndSet(current, next));
+            }
+            if (work.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                closeQuietly();
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                while (!done && !cancelled && (invalidRequest.get() != null || demand.get() > 0)) {
+                    deliverNext();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliverNext() {
+            if (invalidRequest.get() != null) {
+                fail(null);
+                return;
+            }
+            Message message;
+            try {
+                message = source.receive();
+            } catch (JMSException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (message == null) {
+                // A blocked receive returns null only once the consumer has been closed.
+                if (invalidRequest.get() != null) {
+                    fail(null);
+                    return;
+                }
+                done = true;
+                if (!cancelled) {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            if (demand.get() != Long.MAX_VALUE) {
+                demand.decrementAndGet();
+            }
+            try {
+                subscriber.onNext(message);
+            } catch (RuntimeException e) {
+                try {
+                    source.rejected();
+                } catch (JMSException | RuntimeException ignored) {
+                    // the subscriber's failure is the one to report
+                }
+                fail(e);
+                return;
+            }
+            try {
+                source.processed(message);
+            } catch (JMSException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Ends the subscription with the specified failure, or with the invalid request that closed the consumer if
+         * there was one.
+         */
+        private void fail(Exception e) {
+            done = true;
+            closeQuietly();
+            if (!cancelled) {
+                Exception invalid = invalidRequest.get();
+                subscriber.onError(invalid != null ? invalid : e);
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                source.close();
+            } catch (JMSException | RuntimeException e) {
+                // the consumer is being discarded
+            }
+        }
+    }
+
+    /**
+     * The operations a subscription needs from a consumer and its session or {@code JMSContext}.
+     */
+    private interface Source {
+
+        Message receive() throws JMSException;
+
+        void processed(Message message) throws JMSException;
+
+        void rejected() throws JMSException;
+
+        void close() throws JMSException;
+    }
+
+    private static final class ContextSource implements Source {
+
+        private final JMSContext context;
+        private final JMSConsumer consumer;
+
+        ContextSource(JMSContext context, JMSConsumer consumer) {
+            this.context = context;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Message receive() {
+            return consumer.receive();
+        }
+
+        @Override
+        public void processed(Message message) {
+            switch (context.getSessionMode()) {
+                case JMSContext.CLIENT_ACKNOWLEDGE:
+                    context.acknowledge();
+                    break;
+                case JMSContext.SESSION_TRANSACTED:
+                    context.commit();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void rejected() {
+            if (context.getSessionMode() == JMSContext.SESSION_TRANSACTED) {
+                context.rollback();
+            }
+        }
+
+        @Override
+        public void close() {
+            consumer.close();
+        }
+    }
+
+    private static final class SessionSource implements Source {
+
+        private final Session session;
+        private final MessageConsumer consumer;
+        private final boolean transacted;
+        private final boolean clientAcknowledge;
+
+        SessionSource(Session session, MessageConsumer consumer) throws JMSException {
+            this.session = session;
+            this.consumer = consumer;
+            this.transacted = session.getTransacted();
+            this.clientAcknowledge = !transacted && session.getAcknowledgeMode() == Session.CLIENT_ACKNOWLEDGE;
+        }
+
+        @Override
+        public Message receive() throws JMSException {
+            return consumer.receive();
+        }
+
+        @Override
+        public void processed(Message message) throws JMSException {
+            if (transacted) {
+                session.commit();
+            } else if (clientAcknowledge) {
+                message.acknowledge();
+            }
+        }
+
+        @Override
+        public void rejected() throws JMSException {
+            if (transacted) {
+                session.rollback();
+            }
+        }
+
+        @Override
+        public void close() throws JMSException {
+            consumer.close();
+        }
+    }
+}
@@ -16,6 +16,9 @@
 
 package javax.jms;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A client using the simplified Jakarta Messaging API introduced for Jakarta Messaging 2.0 uses a {@code JMSConsumer} object to receive messages
  * from a queue or topic. A {@code JMSConsumer} object may be created either created by passing a {@code Queue} or
@@ -151,6 +154,90 @@ public interface JMSConsumer extends AutoCloseable {
      */
     Message receiveNoWait();
 
+    /**
+     * Receives up to the specified number of messages, waiting until the first of them arrives within the specified
+     * timeout interval.
+     *
+     * <p>
+     * This call blocks until a message arrives, the timeout expires, or this {@code JMSConsumer} is closed, like
+     * {@link #receive(long)}. Once a message has arrived, the call returns it together with as many of the following
+     * messages, up to {@code maxMessages} in all, as are immediately available, like {@link #receiveNoWait()}. A Jakarta
+     * Messaging provider may hand over the messages it has already buffered for this consumer in a single operation. The
+     * default implementation calls {@code receive(long)} and then {@code receiveNoWait()} until it returns null or
+     * {@code maxMessages} messages have been received.
+     *
+     * <p>
+     * The messages are received as if each had been received by a separate call to {@code receive}. In particular, a
+     * client using {@code CLIENT_ACKNOWLEDGE} or a transacted session can acknowledge or commit a whole batch at once.
+     *
+     * <p>
+     * This method corresponds to {@link MessageConsumer#receive(int, long)}. It has a different name so that a class can
+     * implement both {@code JMSConsumer} and {@code MessageConsumer} without overriding either.
+     *
+     * @param maxMessages the maximum number of messages to receive
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires, and the call blocks
+     * indefinitely
+     *
+     * @return the messages received, in the order in which they were received; the list is empty if the timeout expires
+     * or this {@code JMSConsumer} is concurrently closed
+     *
+     * @exception JMSRuntimeException if the Jakarta Messaging provider fails to receive the messages due to some internal error.
+     * @exception java.lang.IllegalArgumentException if {@code maxMessages} is not positive
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default List<Message> receiveBatch(int maxMessages, long timeout) {
+        if (maxMessages <= 0) {
+            throw new IllegalArgumentException("maxMessages must be positive");
+        }
+        List<Message> messages = new ArrayList<>(Math.min(maxMessages, 16));
+        Message message = receive(timeout);
+        while (message != null) {
+            messages.add(message);
+            if (messages.size() == maxMessages) {
+                break;
+            }
+            message = receiveNoWait();
+        }
+        return messages;
+    }
+
+    /**
+     * Receives messages into the specified array, waiting until the first of them arrives within the specified timeout
+     * interval.
+     *
+     * <p>
+     * This method behaves like {@link #receiveBatch(int, long)} with {@code maxMessages} set to the length of the array, but
+     * stores the messages in the array, starting at index 0, rather than allocating a list. Elements past the returned
+     * count are left unchanged.
+     *
+     * @param messages the array to store the messages in
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires, and the call blocks
+     * indefinitely
+     *
+     * @return the number of messages received; zero if the timeout expires or this {@code JMSConsumer} is concurrently closed
+     *
+     * @exception JMSRuntimeException if the Jakarta Messaging provider fails to receive the messages due to some internal error.
+     * @exception java.lang.IllegalArgumentException if the array is empty
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int receiveBatch(Message[] messages, long timeout) {
+        if (messages.length == 0) {
+            throw new IllegalArgumentException("messages is empty");
+        }
+        int count = 0;
+        Message message = receive(timeout);
+        while (message != null) {
+            messages[count++] = message;
+            if (count == messages.length) {
+                break;
+            }
+            message = receiveNoWait();
+        }
+        return count;
+    }
+
     /**
      * Closes the {@code JMSConsumer}.
      * <p>
@@ -17,6 +17,7 @@
 package javax.jms;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -72,6 +73,59 @@ public interface JMSProducer {
      */
     JMSProducer send(Destination destination, Message message);
 
+    /**
+     * Sends a batch of messages to the specified destination, using any send options, message properties and message
+     * headers that have been defined on this {@code JMSProducer}.
+     *
+     * <p>
+     * The messages are sent in the order of the list, and are subject to the same message ordering requirements as if
+     * each had been sent by a separate call to {@link #send(Destination, Message)}. A Jakarta Messaging provider may send
+     * the whole batch as a single operation, for example by applying the send options, properties and headers of this
+     * {@code JMSProducer} once for the batch and transmitting the messages to the server together. The default
+     * implementation sends each message by calling {@code send(Destination, Message)}.
+     *
+     * <p>
+     * If a {@code CompletionListener} has been set using {@link #setAsync(CompletionListener)}, the batch is sent
+     * asynchronously and the listener is notified once, when every message of the batch has completed: its
+     * {@code onCompletion} method is called with the last message of the batch if every send succeeded, and its
+     * {@code onException} method is called with the first message that failed otherwise. If this method throws an
+     * exception, some of the messages may have been sent, and the {@code CompletionListener} is not invoked.
+     *
+     * @param destination the destination to send the messages to
+     * @param messages the messages to send
+     * @return this {@code JMSProducer}
+     * @throws MessageFormatRuntimeException if an invalid message is specified.
+     * @throws InvalidDestinationRuntimeException if a client uses this method with an invalid destination.
+     * @throws MessageNotWriteableRuntimeException if this {@code JMSProducer} has been configured to set a message
+     * property, but the message's properties are read-only
+     * @throws JMSRuntimeException if the Jakarta Messaging provider fails to send the messages due to some internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default JMSProducer sendBatch(Destination destination, List<? extends Message> messages) {
+        CompletionListener completionListener = getAsync();
+        if (completionListener == null || messages.isEmpty()) {
+            for (Message message : messages) {
+                send(destination, message);
+            }
+            return this;
+        }
+        BatchCompletionListener batch = new BatchCompletionListener(completionListener, messages.size(),
+                messages.get(messages.size() - 1));
+        setAsync(batch);
+        try {
+            for (Message message : messages) {
+                send(destination, message);
+            }
+        } catch (RuntimeException e) {
+            batch.abandon();
+            throw e;
+        } finally {
+            setAsync(completionListener);
+        }
+        return this;
+    }
+
     /**
      * Send a {@code TextMessage} with the specified body to the specified destination, using any send options, message
      * properties and message headers that have been defined on this {@code JMSProducer}.
@@ -820,6 +874,32 @@ public interface JMSProducer {
      */
     Set<String> getPropertyNames();
 
+    /**
+     * Passes each message property that has been set on this {@code JMSProducer} to the specified visitor, with its
+     * value in the type in which it was set.
+     *
+     * <p>
+     * A visitor that overrides the method for each type it expects receives the values of those types without boxing.
+     * The default implementation reads each property named by {@code getPropertyNames} with {@code getObjectProperty};
+     * providers should override it to pass the properties as they hold them, without allocating.
+     *
+     * @param visitor the visitor to receive the properties
+     *
+     * @throws JMSRuntimeException if the Jakarta Messaging provider fails to get the properties due to some internal
+     * error, or the visitor throws a {@code JMSException}, in which case the remaining properties are not visited.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void forEachProperty(PropertyVisitor visitor) {
+        try {
+            for (String name : getPropertyNames()) {
+                visitor.visit(name, getObjectProperty(name));
+            }
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
     /**
      * Specifies that messages sent using this {@code JMSProducer} will have their {@code JMSCorrelationID} header value set
      * to the specified correlation ID, where correlation ID is specified as an array of bytes.
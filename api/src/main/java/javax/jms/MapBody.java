@@ -0,0 +1,1018 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The body of a map message, held without boxing its values, which providers can use to implement {@code MapMessage}.
+ *
+ * <p>
+ * Items are stored in a hash table searched by open addressing with linear probing, made of parallel arrays: the
+ * name, its hash code, a type tag, a {@code long} holding a primitive value, the bits of a {@code float} or
+ * {@code double} value included, and an object holding a {@code String} or byte array. The slots of the items in the
+ * order in which they were first set are kept in a further array, which iteration follows. The first instance of each
+ * name is kept and compared by identity before its hash code and {@code equals}, so a name given as a constant, which
+ * is interned, is found without comparing characters. Setting an item does not allocate once the table has grown to
+ * the number of items, and {@link #clear()} keeps it, so that one body can be reused for many messages of the same
+ * shape.
+ *
+ * <p>
+ * The {@code get} methods convert values as the {@code get} methods of {@code MapMessage} do. A name with no item, or
+ * with a null item, reads as null: false as a {@code boolean}, null as a {@code String} or a byte array, and otherwise
+ * as {@code valueOf(null)} of the wrapper type does. Unlike a {@code MapMessage}, a {@code MapBody} keeps the byte
+ * arrays it is given and returns them without copying.
+ *
+ * <p>
+ * All the items can be read in one pass, without boxing their values or allocating, with a {@link Visitor} passed to
+ * {@link #forEach(Visitor)}.
+ *
+ * <p>
+ * A {@code MapBody} is not safe for use by several threads at once.
+ *
+ * @see javax.jms.MapMessage
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class MapBody {
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHAR = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte BYTES = 10;
+
+    /**
+     * The name in each slot of the table, or null for an empty slot. The length of the table is a power of two at least
+     * twice the number of items.
+     */
+    private String[] names;
+    private int[] hashes;
+    private byte[] types;
+    private long[] values;
+    private Object[] objects;
+
+    /**
+     * The slots of the items, in the order in which they were first set.
+     */
+    private int[] order;
+    private int size;
+
+    /**
+     * Creates an empty body.
+     */
+    public MapBody() {
+        this(8);
+    }
+
+    /**
+     * Creates an empty body with room for the specified number of items before its arrays grow.
+     *
+     * @param expectedSize the number of items expected
+     */
+    public MapBody(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative size: " + expectedSize);
+        }
+        allocate(Integer.highestOneBit((Math.max(expectedSize, 4) << 1) - 1) << 1);
+    }
+
+    private MapBody(MapBody body) {
+        names = body.names.clone();
+        hashes = body.hashes.clone();
+        types = body.types.clone();
+        values = body.values.clone();
+        objects = body.objects.clone();
+        order = body.order.clone();
+        size = body.size;
+    }
+
+    /**
+     * Returns a copy of this body. The copy shares the byte arrays of this body.
+     *
+     * @return a copy of this body
+     */
+    public MapBody copy() {
+        return new MapBody(this);
+    }
+
+    /**
+     * Returns the number of items in this body.
+     *
+     * @return the number of items
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this body has no items.
+     *
+     * @return true if this body has no items
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the items from this body, keeping its arrays for the items set next.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            names[slot] = null;
+            objects[slot] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Indicates whether an item exists in this body.
+     *
+     * @param name the name of the item to test
+     *
+     * @return true if the item exists
+     */
+    public boolean itemExists(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     * Returns the names of the items in this body, in the order in which they were first set.
+     *
+     * @return an enumeration of a snapshot of the names
+     */
+    public Enumeration<String> getMapNames() {
+        String[] snapshot = new String[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = names[order[i]];
+        }
+        return Collections.enumeration(Arrays.asList(snapshot));
+    }
+
+    /**
+     * Returns the {@code boolean} value with the specified name.
+     *
+     * @param name the name of the {@code boolean}
+     *
+     * @return the {@code boolean} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public boolean getBoolean(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case BOOLEAN:
+                return values[slot] != 0;
+            case STRING:
+            case NULL:
+                return Boolean.parseBoolean(string(slot));
+            default:
+                throw mismatch(slot, "boolean");
+        }
+    }
+
+    /**
+     * Returns the {@code byte} value with the specified name.
+     *
+     * @param name the name of the {@code byte}
+     *
+     * @return the {@code byte} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public byte getByte(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case BYTE:
+                return (byte) values[slot];
+            case STRING:
+            case NULL:
+                return Byte.parseByte(string(slot));
+            default:
+                throw mismatch(slot, "byte");
+        }
+    }
+
+    /**
+     * Returns the {@code short} value with the specified name.
+     *
+     * @param name the name of the {@code short}
+     *
+     * @return the {@code short} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public short getShort(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case BYTE:
+            case SHORT:
+                return (short) values[slot];
+            case STRING:
+            case NULL:
+                return Short.parseShort(string(slot));
+            default:
+                throw mismatch(slot, "short");
+        }
+    }
+
+    /**
+     * Returns the Unicode character value with the specified name.
+     *
+     * @param name the name of the Unicode character
+     *
+     * @return the Unicode character value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception java.lang.NullPointerException if there is no item with the specified name, or its value is null.
+     */
+    public char getChar(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case CHAR:
+                return (char) values[slot];
+            case NULL:
+                throw new NullPointerException("Cannot convert null to char");
+            default:
+                throw mismatch(slot, "char");
+        }
+    }
+
+    /**
+     * Returns the {@code int} value with the specified name.
+     *
+     * @param name the name of the {@code int}
+     *
+     * @return the {@code int} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public int getInt(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case BYTE:
+            case SHORT:
+            case INT:
+                return (int) values[slot];
+            case STRING:
+            case NULL:
+                return Integer.parseInt(string(slot));
+            default:
+                throw mismatch(slot, "int");
+        }
+    }
+
+    /**
+     * Returns the {@code long} value with the specified name.
+     *
+     * @param name the name of the {@code long}
+     *
+     * @return the {@code long} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public long getLong(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return values[slot];
+            case STRING:
+            case NULL:
+                return Long.parseLong(string(slot));
+            default:
+                throw mismatch(slot, "long");
+        }
+    }
+
+    /**
+     * Returns the {@code float} value with the specified name.
+     *
+     * @param name the name of the {@code float}
+     *
+     * @return the {@code float} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public float getFloat(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case FLOAT:
+                return Float.intBitsToFloat((int) values[slot]);
+            case STRING:
+            case NULL:
+                return Float.parseFloat(string(slot));
+            default:
+                throw mismatch(slot, "float");
+        }
+    }
+
+    /**
+     * Returns the {@code double} value with the specified name.
+     *
+     * @param name the name of the {@code double}
+     *
+     * @return the {@code double} value with the specified name
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public double getDouble(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case FLOAT:
+                return Float.intBitsToFloat((int) values[slot]);
+            case DOUBLE:
+                return Double.longBitsToDouble(values[slot]);
+            case STRING:
+            case NULL:
+                return Double.parseDouble(string(slot));
+            default:
+                throw mismatch(slot, "double");
+        }
+    }
+
+    /**
+     * Returns the {@code String} value with the specified name.
+     *
+     * @param name the name of the {@code String}
+     *
+     * @return the {@code String} value with the specified name; if there is no item by this name, a null value is
+     * returned
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public String getString(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return Boolean.toString(values[slot] != 0);
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return Long.toString(values[slot]);
+            case CHAR:
+                return String.valueOf((char) values[slot]);
+            case FLOAT:
+                return Float.toString(Float.intBitsToFloat((int) values[slot]));
+            case DOUBLE:
+                return Double.toString(Double.longBitsToDouble(values[slot]));
+            case STRING:
+                return (String) objects[slot];
+            default:
+                throw mismatch(slot, "String");
+        }
+    }
+
+    /**
+     * Returns the byte array value with the specified name, without copying it.
+     *
+     * @param name the name of the byte array
+     *
+     * @return the byte array value with the specified name; if there is no item by this name, a null value is returned
+     *
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public byte[] getBytes(String name) throws MessageFormatException {
+        int slot = find(name);
+        switch (type(slot)) {
+            case NULL:
+                return null;
+            case BYTES:
+                return (byte[]) objects[slot];
+            default:
+                throw mismatch(slot, "byte[]");
+        }
+    }
+
+    /**
+     * Returns the value of the item with the specified name, boxed if it is a primitive value.
+     *
+     * @param name the name of the item
+     *
+     * @return the value of the item, or null if there is no item by this name
+     */
+    public Object getObject(String name) {
+        return object(find(name));
+    }
+
+    /**
+     * Sets a {@code boolean} value with the specified name.
+     *
+     * @param name the name of the {@code boolean}
+     * @param value the {@code boolean} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setBoolean(String name, boolean value) {
+        set(name, BOOLEAN, value ? 1 : 0, null);
+    }
+
+    /**
+     * Sets a {@code byte} value with the specified name.
+     *
+     * @param name the name of the {@code byte}
+     * @param value the {@code byte} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setByte(String name, byte value) {
+        set(name, BYTE, value, null);
+    }
+
+    /**
+     * Sets a {@code short} value with the specified name.
+     *
+     * @param name the name of the {@code short}
+     * @param value the {@code short} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setShort(String name, short value) {
+        set(name, SHORT, value, null);
+    }
+
+    /**
+     * Sets a Unicode character value with the specified name.
+     *
+     * @param name the name of the Unicode character
+     * @param value the Unicode character value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setChar(String name, char value) {
+        set(name, CHAR, value, null);
+    }
+
+    /**
+     * Sets an {@code int} value with the specified name.
+     *
+     * @param name the name of the {@code int}
+     * @param value the {@code int} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setInt(String name, int value) {
+        set(name, INT, value, null);
+    }
+
+    /**
+     * Sets a {@code long} value with the specified name.
+     *
+     * @param name the name of the {@code long}
+     * @param value the {@code long} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setLong(String name, long value) {
+        set(name, LONG, value, null);
+    }
+
+    /**
+     * Sets a {@code float} value with the specified name.
+     *
+     * @param name the name of the {@code float}
+     * @param value the {@code float} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setFloat(String name, float value) {
+        set(name, FLOAT, Float.floatToRawIntBits(value), null);
+    }
+
+    /**
+     * Sets a {@code double} value with the specified name.
+     *
+     * @param name the name of the {@code double}
+     * @param value the {@code double} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setDouble(String name, double value) {
+        set(name, DOUBLE, Double.doubleToRawLongBits(value), null);
+    }
+
+    /**
+     * Sets a {@code String} value with the specified name.
+     *
+     * @param name the name of the {@code String}
+     * @param value the {@code String} value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setString(String name, String value) {
+        set(name, value == null ? NULL : STRING, 0, value);
+    }
+
+    /**
+     * Sets a byte array value with the specified name. The array is kept without copying it.
+     *
+     * @param name the name of the byte array
+     * @param value the byte array value to set
+     *
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setBytes(String name, byte[] value) {
+        set(name, value == null ? NULL : BYTES, 0, value);
+    }
+
+    /**
+     * Sets an object value with the specified name.
+     *
+     * <p>
+     * This method works only for the objectified primitive object types ({@code Integer}, {@code Double},
+     * {@code Long}&nbsp;...), {@code String} objects, and byte arrays. A byte array is kept without copying it.
+     *
+     * @param name the name of the object
+     * @param value the object value to set
+     *
+     * @exception MessageFormatException if the object is of an invalid type.
+     * @exception java.lang.IllegalArgumentException if the name is null or if the name is an empty string.
+     */
+    public void setObject(String name, Object value) throws MessageFormatException {
+        if (value == null) {
+            set(name, NULL, 0, null);
+        } else if (value instanceof String) {
+            set(name, STRING, 0, value);
+        } else if (value instanceof Integer) {
+            setInt(name, (Integer) value);
+        } else if (value instanceof Long) {
+            setLong(name, (Long) value);
+        } else if (value instanceof Double) {
+            setDouble(name, (Double) value);
+        } else if (value instanceof Boolean) {
+            setBoolean(name, (Boolean) value);
+        } else if (value instanceof Float) {
+            setFloat(name, (Float) value);
+        } else if (value instanceof Short) {
+            setShort(name, (Short) value);
+        } else if (value instanceof Byte) {
+            setByte(name, (Byte) value);
+        } else if (value instanceof Character) {
+            setChar(name, (Character) value);
+        } else if (value instanceof byte[]) {
+            set(name, BYTES, 0, value);
+        } else {
+            throw new MessageFormatException("Invalid object type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Passes each item of this body to the visitor, in the order in which the items were first set, without boxing the
+     * values. The visitor must not change this body.
+     *
+     * @param visitor the visitor to receive the items
+     *
+     * @exception JMSException if the visitor throws it, in which case the remaining items are not visited.
+     */
+    public void forEach(Visitor visitor) throws JMSException {
+        for (int i = 0; i < size; i++) {
+            int slot = order[i];
+            String name = names[slot];
+            long value = values[slot];
+            switch (types[slot]) {
+                case BOOLEAN:
+                    visitor.visitBoolean(name, value != 0);
+                    break;
+                case BYTE:
+                    visitor.visitByte(name, (byte) value);
+                    break;
+                case SHORT:
+                    visitor.visitShort(name, (short) value);
+                    break;
+                case CHAR:
+                    visitor.visitChar(name, (char) value);
+                    break;
+                case INT:
+                    visitor.visitInt(name, (int) value);
+                    break;
+                case LONG:
+                    visitor.visitLong(name, value);
+                    break;
+                case FLOAT:
+                    visitor.visitFloat(name, Float.intBitsToFloat((int) value));
+                    break;
+                case DOUBLE:
+                    visitor.visitDouble(name, Double.longBitsToDouble(value));
+                    break;
+                case STRING:
+                    visitor.visitString(name, (String) objects[slot]);
+                    break;
+                case BYTES:
+                    visitor.visitBytes(name, (byte[]) objects[slot]);
+                    break;
+                default:
+                    visitor.visitObject(name, null);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the items of this body in a new map, with their values boxed, in the order in which they were first set.
+     * The map shares the byte arrays of this body.
+     *
+     * @return a map of the items of this body
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(names[order[i]], object(order[i]));
+        }
+        return map;
+    }
+
+    /**
+     * Returns the slot of the item with the specified name, or -1 if there is none.
+     */
+    private int find(String name) {
+        if (name == null) {
+            return -1;
+        }
+        int hash = hash(name);
+        int mask = names.length - 1;
+        for (int slot = hash & mask;; slot = slot + 1 & mask) {
+            String key = names[slot];
+            if (key == name || hashes[slot] == hash && name.equals(key)) {
+                return slot;
+            }
+            if (key == null) {
+                return -1;
+            }
+        }
+    }
+
+    private void set(String name, byte type, long value, Object object) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Name must not be null or empty");
+        }
+        int hash = hash(name);
+        int mask = names.length - 1;
+        int slot = hash & mask;
+        for (String key; (key = names[slot]) != null; slot = slot + 1 & mask) {
+            if (key == name || hashes[slot] == hash && name.equals(key)) {
+                types[slot] = type;
+                values[slot] = value;
+                objects[slot] = object;
+                return;
+            }
+        }
+        if (size << 1 >= names.length) {
+            rehash();
+            set(name, type, value, object);
+            return;
+        }
+        names[slot] = name;
+        hashes[slot] = hash;
+        types[slot] = type;
+        values[slot] = value;
+        objects[slot] = object;
+        order[size++] = slot;
+    }
+
+    private void allocate(int capacity) {
+        names = new String[capacity];
+        hashes = new int[capacity];
+        types = new byte[capacity];
+        values = new long[capacity];
+        objects = new Object[capacity];
+        order = new int[capacity >> 1];
+    }
+
+    private void rehash() {
+        String[] oldNames = names;
+        int[] oldHashes = hashes;
+        byte[] oldTypes = types;
+        long[] oldValues = values;
+        Object[] oldObjects = objects;
+        int[] oldOrder = order;
+        allocate(names.length << 1);
+        int mask = names.length - 1;
+        for (int i = 0; i < size; i++) {
+            int old = oldOrder[i];
+            int slot = oldHashes[old] & mask;
+            while (names[slot] != null) {
+                slot = slot + 1 & mask;
+            }
+            names[slot] = oldNames[old];
+            hashes[slot] = oldHashes[old];
+            types[slot] = oldTypes[old];
+            values[slot] = oldValues[old];
+            objects[slot] = oldObjects[old];
+            order[i] = slot;
+        }
+    }
+
+    private byte type(int slot) {
+        return slot < 0 ? NULL : types[slot];
+    }
+
+    private String string(int slot) {
+        return slot < 0 ? null : (String) objects[slot];
+    }
+
+    private Object object(int slot) {
+        long value = slot < 0 ? 0 : values[slot];
+        switch (type(slot)) {
+            case BOOLEAN:
+                return value != 0;
+            case BYTE:
+                return (byte) value;
+            case SHORT:
+                return (short) value;
+            case CHAR:
+                return (char) value;
+            case INT:
+                return (int) value;
+            case LONG:
+                return value;
+            case FLOAT:
+                return Float.intBitsToFloat((int) value);
+            case DOUBLE:
+                return Double.longBitsToDouble(value);
+            default:
+                return slot < 0 ? null : objects[slot];
+        }
+    }
+
+    private MessageFormatException mismatch(int slot, String type) {
+        return new MessageFormatException("Cannot convert " + object(slot).getClass().getSimpleName() + " to " + type);
+    }
+
+    private static int hash(String name) {
+        int hash = name.hashCode();
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Receives the items of a map body or map message, each passed to the method for its type.
+     *
+     * <p>
+     * Only {@link #visitObject(String, Object)} must be implemented. The other methods box the value and pass it to
+     * {@code visitObject} by default, and are overridden for the types that should be received without boxing. A null
+     * value is always passed to {@code visitObject}.
+     *
+     * @see javax.jms.MapBody#forEach(Visitor)
+     * @see javax.jms.MapMessage#forEachItem(Visitor)
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Receives an item whose type has no method of its own in this visitor, or whose value is null.
+         *
+         * @param name the name of the item
+         * @param value the value of the item, boxed if it is a primitive value
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        void visitObject(String name, Object value) throws JMSException;
+
+        /**
+         * Receives a {@code boolean} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitBoolean(String name, boolean value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code byte} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitByte(String name, byte value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code short} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitShort(String name, short value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a Unicode character item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitChar(String name, char value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives an {@code int} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitInt(String name, int value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code long} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitLong(String name, long value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code float} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitFloat(String name, float value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code double} item.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitDouble(String name, double value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a {@code String} item whose value is not null.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitString(String name, String value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Receives a byte array item whose value is not null. The array must not be modified.
+         *
+         * @param name the name of the item
+         * @param value the value of the item
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visitBytes(String name, byte[] value) throws JMSException {
+            visitObject(name, value);
+        }
+
+        /**
+         * Passes a value held as an object to the method for its type, unboxing it if the method takes a primitive
+         * value, as {@link MapBody#forEach(Visitor)} would pass it. This method is meant for code that holds the values
+         * boxed, such as the default implementation of {@link MapMessage#forEachItem(Visitor)}.
+         *
+         * @param name the name of the item
+         * @param value the value of the item, boxed if it is a primitive value
+         *
+         * @exception JMSException if the visitor fails to process the item.
+         */
+        default void visit(String name, Object value) throws JMSException {
+            if (value instanceof String) {
+                visitString(name, (String) value);
+            } else if (value instanceof Integer) {
+                visitInt(name, (Integer) value);
+            } else if (value instanceof Long) {
+                visitLong(name, (Long) value);
+            } else if (value instanceof Double) {
+                visitDouble(name, (Double) value);
+            } else if (value instanceof Boolean) {
+                visitBoolean(name, (Boolean) value);
+            } else if (value instanceof Float) {
+                visitFloat(name, (Float) value);
+            } else if (value instanceof Short) {
+                visitShort(name, (Short) value);
+            } else if (value instanceof Byte) {
+                visitByte(name, (Byte) value);
+            } else if (value instanceof Character) {
+                visitChar(name, (Character) value);
+            } else if (value instanceof byte[]) {
+                visitBytes(name, (byte[]) value);
+            } else {
+                visitObject(name, value);
+            }
+        }
+
+        /**
+         * Returns a visitor passing the items of a map body that holds the properties of a message on to a
+         * {@code PropertyVisitor}, so that {@link MapBody#forEach(Visitor)} passes each property to the method for its
+         * type. As a property cannot be a {@code char} or a byte array, such an item is passed to
+         * {@code visitObject}.
+         *
+         * @param visitor the visitor of the properties
+         *
+         * @return a visitor of the items of the map body
+         */
+        static Visitor forProperties(PropertyVisitor visitor) {
+            return new Visitor() {
+                @Override
+                public void visitObject(String name, Object value) throws JMSException {
+                    visitor.visitObject(name, value);
+                }
+
+                @Override
+                public void visitBoolean(String name, boolean value) throws JMSException {
+                    visitor.visitBoolean(name, value);
+                }
+
+                @Override
+                public void visitByte(String name, byte value) throws JMSException {
+                    visitor.visitByte(name, value);
+                }
+
+                @Override
+                public void visitShort(String name, short value) throws JMSException {
+                    visitor.visitShort(name, value);
+                }
+
+                @Override
+                public void visitInt(String name, int value) throws JMSException {
+                    visitor.visitInt(name, value);
+                }
+
+                @Override
+                public void visitLong(String name, long value) throws JMSException {
+                    visitor.visitLong(name, value);
+                }
+
+                @Override
+                public void visitFloat(String name, float value) throws JMSException {
+                    visitor.visitFloat(name, value);
+                }
+
+                @Override
+                public void visitDouble(String name, double value) throws JMSException {
+                    visitor.visitDouble(name, value);
+                }
+
+                @Override
+                public void visitString(String name, String value) throws JMSException {
+                    visitor.visitString(name, value);
+                }
+            };
+        }
+    }
+}
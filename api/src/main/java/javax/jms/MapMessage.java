@@ -229,6 +229,32 @@ public interface MapMessage extends Message {
      */
     Enumeration getMapNames() throws JMSException;
 
+    /**
+     * Passes each item of the {@code MapMessage} object to the specified visitor, with its value in the type in which it
+     * was set.
+     *
+     * <p>
+     * A visitor that overrides the method for each type it expects receives the values of those types without boxing.
+     * The default implementation reads each item named by {@code getMapNames} with {@code getObject}, and so boxes the
+     * values and copies the byte arrays. Providers should override it, for instance by holding the body in a
+     * {@link MapBody} and calling {@link MapBody#forEach(MapBody.Visitor)}, so that a consumer reading many numeric
+     * items does so in one pass without allocating.
+     *
+     * @param visitor the visitor to receive the items
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error, or
+     * the visitor throws it, in which case the remaining items are not visited.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void forEachItem(MapBody.Visitor visitor) throws JMSException {
+        Enumeration<?> names = getMapNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            visitor.visit(name, getObject(name));
+        }
+    }
+
     /**
      * Sets a {@code boolean} value with the specified name into the Map.
      *
@@ -155,7 +155,7 @@ import java.util.Enumeration;
  * <p>
  * The order of property values is not defined. To iterate through a message's property values, use
  * {@code getPropertyNames} to retrieve a property name enumeration and then use the various property get methods to
- * retrieve their values.
+ * retrieve their values, or pass a {@link PropertyVisitor} to {@code forEachProperty}.
  *
  * <p>
  * A message's properties are deleted by the {@code clearProperties} method. This leaves the message with an empty set
@@ -1148,6 +1148,29 @@ public interface Message {
      */
     Enumeration getPropertyNames() throws JMSException;
 
+    /**
+     * Passes each property of the message to the specified visitor, with its value in the type in which it was set.
+     *
+     * <p>
+     * A visitor that overrides the method for each type it expects receives the values of those types without boxing.
+     * The default implementation reads each property named by {@code getPropertyNames} with {@code getObjectProperty};
+     * providers should override it to pass the properties as they hold them, without allocating.
+     *
+     * @param visitor the visitor to receive the properties
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to get the properties due to some internal error,
+     * or the visitor throws it, in which case the remaining properties are not visited.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void forEachProperty(PropertyVisitor visitor) throws JMSException {
+        Enumeration<?> names = getPropertyNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            visitor.visit(name, getObjectProperty(name));
+        }
+    }
+
     /**
      * Sets a {@code boolean} property value with the specified name into the message.
      *
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+/**
+ * Interfaces for flow-controlled streams of messages, in which a subscriber requests the number of items that a
+ * publisher may deliver to it.
+ *
+ * <p>
+ * These interfaces have the same methods and the same contract as the {@code java.util.concurrent.Flow} interfaces and
+ * the Reactive Streams specification, which they mirror so that the Jakarta Messaging API remains usable on Java SE 8.
+ * On later Java versions they can be bridged to {@code java.util.concurrent.Flow} by adapters that delegate each method
+ * to the method of the same name.
+ *
+ * @see javax.jms.ConsumerPublisher
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class MessageFlow {
+
+    private MessageFlow() {
+    }
+
+    /**
+     * A producer of items that are received by a {@code Subscriber}.
+     *
+     * @param <T> the type of the published items
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Adds the specified {@code Subscriber}. The publisher calls its {@code onSubscribe} method, and then calls its
+         * {@code onError} method if it cannot accept it.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items published by a {@code Publisher}. The methods of a subscriber are called in sequence, never
+     * concurrently.
+     *
+     * @param <T> the type of the received items
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Called before any other method, with the subscription through which the subscriber requests items.
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item, once for each item requested.
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the publisher fails. No other method is called afterwards.
+         *
+         * @param throwable the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called when the publisher has no more items to deliver. No other method is called afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@code Publisher} and a {@code Subscriber}.
+     */
+    public interface Subscription {
+
+        /**
+         * Adds the specified number of items to the number the subscriber is ready to receive.
+         *
+         * @param n the number of additional items; a value that is not positive causes {@code onError} to be called
+         * with an {@code IllegalArgumentException}
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of items, possibly after some that were already being delivered.
+         */
+        void cancel();
+    }
+}
@@ -16,6 +16,8 @@
 
 package javax.jms;
 
+import java.util.List;
+
 /**
  * A client uses a {@code MessageProducer} object to send messages to a destination. A {@code MessageProducer} object is
  * created by passing a {@code Destination} object to a message-producer creation method supplied by a session.
@@ -886,4 +888,165 @@ public interface MessageProducer extends AutoCloseable {
     void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive, CompletionListener completionListener)
             throws JMSException;
 
+    /**
+     * Sends a batch of messages using the {@code MessageProducer}'s default delivery mode, priority, and time to live.
+     *
+     * <p>
+     * The messages are sent in the order of the list, and are subject to the same message ordering requirements as if
+     * each had been sent by a separate call to {@link #send(Message)}. A Jakarta Messaging provider may send the whole
+     * batch as a single operation, for example by setting the headers that are common to the batch once and transmitting
+     * the messages to the server together. The default implementation sends each message by calling
+     * {@code send(Message)}.
+     *
+     * <p>
+     * If this method throws an exception, some of the messages may have been sent.
+     *
+     * @param messages the messages to send
+     *
+     * @exception JMSException if an internal error occurs
+     * @exception MessageFormatException if an invalid message is specified.
+     * @exception InvalidDestinationException if a client uses this method with a {@code MessageProducer} with an invalid
+     * destination.
+     * @exception java.lang.UnsupportedOperationException if a client uses this method with a {@code MessageProducer} that
+     * did not specify a destination at creation time.
+     *
+     * @see javax.jms.MessageProducer#send(Message)
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void sendBatch(List<? extends Message> messages) throws JMSException {
+        for (Message message : messages) {
+            send(message);
+        }
+    }
+
+    /**
+     * Sends a batch of messages to a destination for an unidentified message producer, using the
+     * {@code MessageProducer}'s default delivery mode, priority, and time to live.
+     *
+     * <p>
+     * The messages are sent in the order of the list, and are subject to the same message ordering requirements as if
+     * each had been sent by a separate call to {@link #send(Destination, Message)}. A Jakarta Messaging provider may send
+     * the whole batch as a single operation. The default implementation sends each message by calling
+     * {@code send(Destination, Message)}.
+     *
+     * <p>
+     * If this method throws an exception, some of the messages may have been sent.
+     *
+     * @param destination the destination to send the messages to
+     * @param messages the messages to send
+     *
+     * @exception JMSException if an internal error occurs
+     * @exception MessageFormatException if an invalid message is specified.
+     * @exception InvalidDestinationException if a client uses this method with an invalid destination.
+     * @exception java.lang.UnsupportedOperationException if a client uses this method with a {@code MessageProducer} that
+     * specified a destination at creation time.
+     *
+     * @see javax.jms.MessageProducer#send(Destination, Message)
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void sendBatch(Destination destination, List<? extends Message> messages) throws JMSException {
+        for (Message message : messages) {
+            send(destination, message);
+        }
+    }
+
+    /**
+     * Sends a batch of messages asynchronously using the {@code MessageProducer}'s default delivery mode, priority, and
+     * time to live, notifying the specified {@code CompletionListener} once when the whole batch has completed.
+     *
+     * <p>
+     * When every message of the batch has been successfully sent, the Jakarta Messaging provider invokes
+     * {@code onCompletion} with the last message of the batch. If the sending of any message fails, it instead invokes
+     * {@code onException} with the first message that failed, once every message of the batch has completed. The
+     * requirements of {@link #send(Message, CompletionListener)} apply to the batch as a whole. A Jakarta Messaging
+     * provider may send the whole batch as a single operation. The default implementation sends each message by calling
+     * {@code send(Message, CompletionListener)}.
+     *
+     * <p>
+     * If this method throws an exception, some of the messages may have been sent, and the {@code CompletionListener} is
+     * not invoked.
+     *
+     * @param messages the messages to send; the list must not be empty
+     * @param completionListener a {@code CompletionListener} to be notified when the batch has completed
+     *
+     * @exception JMSException if an internal error occurs
+     * @exception MessageFormatException if an invalid message is specified.
+     * @exception InvalidDestinationException if a client uses this method with a {@code MessageProducer} with an invalid
+     * destination.
+     * @exception java.lang.IllegalArgumentException if the specified {@code CompletionListener} is null or the list is
+     * empty
+     * @exception java.lang.UnsupportedOperationException if a client uses this method with a {@code MessageProducer} that
+     * did not specify a destination at creation time.
+     *
+     * @see javax.jms.MessageProducer#send(Message, CompletionListener)
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void sendBatch(List<? extends Message> messages, CompletionListener completionListener) throws JMSException {
+        if (completionListener == null || messages.isEmpty()) {
+            throw new IllegalArgumentException("completionListener==null or messages is empty");
+        }
+        BatchCompletionListener batch = new BatchCompletionListener(completionListener, messages.size(),
+                messages.get(messages.size() - 1));
+        try {
+            for (Message message : messages) {
+                send(message, batch);
+            }
+        } catch (JMSException | RuntimeException e) {
+            batch.abandon();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a batch of messages asynchronously to a destination for an unidentified message producer, using the
+     * {@code MessageProducer}'s default delivery mode, priority, and time to live, notifying the specified
+     * {@code CompletionListener} once when the whole batch has completed.
+     *
+     * <p>
+     * When every message of the batch has been successfully sent, the Jakarta Messaging provider invokes
+     * {@code onCompletion} with the last message of the batch. If the sending of any message fails, it instead invokes
+     * {@code onException} with the first message that failed, once every message of the batch has completed. The
+     * requirements of {@link #send(Destination, Message, CompletionListener)} apply to the batch as a whole. A Jakarta
+     * Messaging provider may send the whole batch as a single operation. The default implementation sends each message
+     * by calling {@code send(Destination, Message, CompletionListener)}.
+     *
+     * <p>
+     * If this method throws an exception, some of the messages may have been sent, and the {@code CompletionListener} is
+     * not invoked.
+     *
+     * @param destination the destination to send the messages to
+     * @param messages the messages to send; the list must not be empty
+     * @param completionListener a {@code CompletionListener} to be notified when the batch has completed
+     *
+     * @exception JMSException if an internal error occurs
+     * @exception MessageFormatException if an invalid message is specified.
+     * @exception InvalidDestinationException if a client uses this method with an invalid destination.
+     * @exception java.lang.IllegalArgumentException if the specified {@code CompletionListener} is null or the list is
+     * empty
+     * @exception java.lang.UnsupportedOperationException if a client uses this method with a {@code MessageProducer} that
+     * specified a destination at creation time.
+     *
+     * @see javax.jms.MessageProducer#send(Destination, Message, CompletionListener)
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void sendBatch(Destination destination, List<? extends Message> messages, CompletionListener completionListener)
+            throws JMSException {
+        if (completionListener == null || messages.isEmpty()) {
+            throw new IllegalArgumentException("completionListener==null or messages is empty");
+        }
+        BatchCompletionListener batch = new BatchCompletionListener(completionListener, messages.size(),
+                messages.get(messages.size() - 1));
+        try {
+            for (Message message : messages) {
+                send(destination, message, batch);
+            }
+        } catch (JMSException | RuntimeException e) {
+            batch.abandon();
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.jms.SelectorExpression.Numeric;
+
+/**
+ * A compiled message selector.
+ *
+ * <p>
+ * A {@code MessageSelector} is compiled once from the text of a message selector, with the syntax and semantics given in
+ * the description of message selectors in {@link Message}, and can then be evaluated against any number of messages by
+ * any number of threads. Evaluating a selector does not allocate: intermediate numeric results are held in registers
+ * that are reused by each thread.
+ *
+ * <p>
+ * Constant subexpressions are folded when the selector is compiled. Where the runtime supports hidden classes, the
+ * selector is then translated into bytecode, with {@code AND}, {@code OR} and {@code NOT} compiled into branches, so
+ * that the JIT can inline it into the code delivering messages. Otherwise, or if the system property
+ * {@code javax.jms.MessageSelector.interpret} is set to {@code true}, the selector is interpreted.
+ *
+ * <p>
+ * Compiling a selector also analyses it. The header fields and properties it references are available, so that a
+ * provider can decode only those properties of a message before matching it, as are whether the selector is known to
+ * always or never select a message and an estimate of the cost of evaluating it. The terms of {@code AND} and
+ * {@code OR} are reordered so that the cheapest terms most likely to decide the result are evaluated first; as both
+ * operators are commutative, this does not change which messages are selected.
+ *
+ * <p>
+ * Compiled selectors are shared through a bounded cache keyed by the text of the selector, so that a provider that
+ * creates many consumers with the same selector compiles it only once. A message selector that is null or the empty
+ * string matches every message.
+ *
+ * <p>
+ * A provider can use a {@code MessageSelector} to validate the selector passed to {@code createConsumer} and its
+ * variants, and to decide which messages are delivered to the consumer.
+ *
+ * @see javax.jms.Message
+ * @see javax.jms.Session#createConsumer(Destination, String)
+ * @see javax.jms.JMSContext#createConsumer(Destination, String)
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class MessageSelector {
+
+    /**
+     * The maximum number of compiled selectors kept in the cache. When the cache is full it is emptied, so that a
+     * client using an unbounded number of distinct selectors cannot exhaust memory.
+     */
+    static final int CACHE_SIZE = 1024;
+
+    private static final ConcurrentMap<String, MessageSelector> CACHE = new ConcurrentHashMap<>();
+
+    private static final MessageSelector MATCH_ALL = new MessageSelector(null, null, null, 0);
+
+    private static final ThreadLocal<Numeric[]> REGISTERS = ThreadLocal.withInitial(() -> new Numeric[0]);
+
+    private final String selector;
+    private final SelectorExpression expression;
+    private final SelectorExpression evaluator;
+    private final int registerCount;
+    private final Set<String> headers;
+    private final Set<String> properties;
+
+    private MessageSelector(String selector, SelectorExpression expression, SelectorExpression evaluator,
+            int registerCount) {
+        this.selector = selector;
+        this.expression = expression;
+        this.evaluator = evaluator;
+        this.registerCount = registerCount;
+        Set<String> headers = new LinkedHashSet<>();
+        Set<String> properties = new LinkedHashSet<>();
+        SelectorAnalyzer.references(expression, headers, properties);
+        this.headers = Collections.unmodifiableSet(headers);
+        this.properties = Collections.unmodifiableSet(properties);
+    }
+
+    /**
+     * Compiles the specified message selector, or returns the cached result of compiling it previously.
+     *
+     * @param selector the message selector; null or the empty string selects every message
+     *
+     * @return the compiled message selector
+     *
+     * @exception InvalidSelectorException if the message selector is invalid
+     */
+    public static MessageSelector compile(String selector) throws InvalidSelectorException {
+        if (selector == null || selector.trim().isEmpty()) {
+            return MATCH_ALL;
+        }
+        MessageSelector compiled = CACHE.get(selector);
+        if (compiled == null) {
+            SelectorExpression expression = SelectorCompiler.fold(SelectorParser.parse(selector));
+            expression = SelectorAnalyzer.reorder(expression);
+            int registerCount = expression.assignRegisters(0);
+            compiled = new MessageSelector(selector, expression, SelectorCompiler.compile(expression), registerCount);
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            MessageSelector previous = CACHE.putIfAbsent(selector, compiled);
+            if (previous != null) {
+                compiled = previous;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles the specified message selector, or returns the cached result of compiling it previously. This method
+     * is intended for use where an unchecked exception is required, as with {@code JMSContext}.
+     *
+     * @param selector the message selector; null or the empty string selects every message
+     *
+     * @return the compiled message selector
+     *
+     * @exception InvalidSelectorRuntimeException if the message selector is invalid
+     */
+    public static MessageSelector compileUnchecked(String selector) {
+        try {
+            return compile(selector);
+        } catch (InvalidSelectorException e) {
+            throw new InvalidSelectorRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    /**
+     * Returns whether the specified message is selected. A message is selected if the selector evaluates to true when
+     * its header field and property references are replaced by the values of the message; it is not selected if the
+     * selector evaluates to false or unknown.
+     *
+     * @param message the message to test
+     *
+     * @return true if the message is selected
+     *
+     * @exception JMSException if the header fields or properties of the message cannot be read
+     */
+    public boolean matches(Message message) throws JMSException {
+        if (evaluator == null) {
+            return true;
+        }
+        return evaluator.test(message, registers()) == SelectorExpression.TRUE;
+    }
+
+    /**
+     * Returns the registers of the calling thread, enlarged if this selector needs more than it has.
+     */
+    private Numeric[] registers() {
+        Numeric[] registers = REGISTERS.get();
+        if (registers.length < registerCount) {
+            registers = Numeric.allocate(registerCount);
+            REGISTERS.set(registers);
+        }
+        return registers;
+    }
+
+    /**
+     * Returns the names of the header fields referenced by this message selector, such as {@code JMSPriority}.
+     * References that were eliminated by folding constant subexpressions, as in {@code TRUE OR JMSPriority > 4}, are
+     * not included.
+     *
+     * @return the names of the referenced header fields, in the order in which they are first evaluated
+     */
+    public Set<String> getReferencedHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the names of the properties referenced by this message selector. The properties that are not included
+     * are never read when matching a message, so a provider need not decode them.
+     *
+     * @return the names of the referenced properties, in the order in which they are first evaluated
+     */
+    public Set<String> getReferencedProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns whether this message selector is known to select every message, as it does if it is null or empty, or
+     * if it reduces to {@code TRUE} when its constant subexpressions are folded.
+     *
+     * @return true if this message selector selects every message
+     */
+    public boolean isAlwaysTrue() {
+        return expression == null || (expression instanceof SelectorExpression.Literal
+                && Boolean.TRUE.equals(((SelectorExpression.Literal) expression).value));
+    }
+
+    /**
+     * Returns whether this message selector is known to select no message, as it does if it reduces to {@code FALSE}
+     * when its constant subexpressions are folded.
+     *
+     * @return true if this message selector selects no message
+     */
+    public boolean isAlwaysFalse() {
+        return expression instanceof SelectorExpression.Literal
+                && !Boolean.TRUE.equals(((SelectorExpression.Literal) expression).value);
+    }
+
+    /**
+     * Returns an estimate of the cost of evaluating this message selector against a message, when no condition can be
+     * decided early. The estimate is expressed in units in which reading a header field costs 1, and is meant for
+     * comparing selectors with each other.
+     *
+     * @return the estimated cost
+     */
+    public int getEstimatedCost() {
+        return expression == null ? 0 : SelectorAnalyzer.cost(expression);
+    }
+
+    /**
+     * Returns the expression tree of this message selector, or null if it selects every message.
+     */
+    SelectorExpression expression() {
+        return expression;
+    }
+
+    /**
+     * Returns the text of this message selector.
+     *
+     * @return the message selector, or null if it selects every message
+     */
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Returns a normalised representation of this message selector, in which operators are parenthesised.
+     */
+    @Override
+    public String toString() {
+        return expression == null ? "TRUE" : expression.toString();
+    }
+}
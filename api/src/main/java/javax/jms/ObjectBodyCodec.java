@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * An {@code ObjectBodyCodec} encodes the objects of one class held in the body of an {@code ObjectMessage} in a form of
+ * its own, in place of Java serialization.
+ *
+ * <p>
+ * Codecs are registered with an {@link ObjectBodyCodecs} registry, usually by listing their classes in a
+ * {@code META-INF/services/javax.jms.ObjectBodyCodec} file so that they are found by {@code java.util.ServiceLoader}.
+ * A codec applies to the objects whose class is its type and, if {@link #appliesToSubclasses()} returns true, to those
+ * of its subclasses. The registry records the name of the codec with the encoded object, and decodes the object with
+ * the codec of that name, so a codec must be registered under the same name wherever its objects are received.
+ *
+ * <p>
+ * A codec must be thread-safe, since a registry may use it to encode and decode several objects at once.
+ *
+ * @param <T> the type of the objects encoded
+ *
+ * @see javax.jms.ObjectBodyCodecs
+ * @see javax.jms.ObjectMessage
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public interface ObjectBodyCodec<T extends Serializable> {
+
+    /**
+     * Returns the class of the objects this codec encodes.
+     *
+     * @return the class of the objects encoded
+     */
+    Class<T> getType();
+
+    /**
+     * Returns the name recorded with the objects this codec encodes, which identifies the codec that decodes them. The
+     * default implementation returns the name of the type.
+     *
+     * @return the name of this codec
+     */
+    default String getName() {
+        return getType().getName();
+    }
+
+    /**
+     * Returns whether this codec also applies to the objects of subclasses of its type, for which no codec of their own
+     * is registered. Such objects are decoded as this codec decodes them, which need not preserve their class. The
+     * default implementation returns false.
+     *
+     * @return true if this codec applies to the objects of subclasses of its type
+     */
+    default boolean appliesToSubclasses() {
+        return false;
+    }
+
+    /**
+     * Writes an object to a stream.
+     *
+     * @param object the object to be encoded, which is not null
+     * @param out the stream to which the encoded object is written, which must not be closed
+     *
+     * @exception IOException if the object cannot be encoded or written
+     */
+    void encode(T object, OutputStream out) throws IOException;
+
+    /**
+     * Reads an object written by {@link #encode(Serializable, OutputStream)} from a stream.
+     *
+     * @param in the stream from which the encoded object is read, which must not be closed
+     *
+     * @return the object decoded
+     *
+     * @exception IOException if the object cannot be read or decoded
+     */
+    T decode(InputStream in) throws IOException;
+}
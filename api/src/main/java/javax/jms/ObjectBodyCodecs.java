@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Predicate;
+
+/**
+ * A registry of {@link ObjectBodyCodec} objects, which providers can use to encode and decode the body of an
+ * {@code ObjectMessage}.
+ *
+ * <p>
+ * An object is encoded by the codec that applies to its class, if there is one, and otherwise by Java serialization.
+ * The encoded body starts with a byte telling which: 0 for Java serialization, followed by the serialized object, or
+ * 1 for a codec, followed by the name of the codec, written as by {@code DataOutput.writeUTF}, and the object as the
+ * codec encoded it. The codec applying to a class is looked up once and remembered.
+ *
+ * <p>
+ * A registry resolves the classes of serialized objects with the class loader it was created with, and only those
+ * classes whose names its filter accepts, so that a receiver can limit the classes that a sender can have it load, or
+ * refuse serialized objects altogether. {@link #load(ClassLoader)} returns a registry of the codecs found by
+ * {@code java.util.ServiceLoader}. A provider typically creates one registry for each connection factory, with the
+ * class loader of the application, and uses it both for {@code ObjectMessage.getObject} and for
+ * {@code Message.getBody}, so that the body is decoded the same way for both. An {@code ObjectBodyCodecs} is
+ * thread-safe.
+ *
+ * @see javax.jms.ObjectBodyCodec
+ * @see javax.jms.ObjectMessage
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class ObjectBodyCodecs {
+
+    private static final int SERIALIZED = 0;
+    private static final int ENCODED = 1;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[] { boolean.class, byte.class, short.class, char.class, int.class, long.class,
+                float.class, double.class, void.class }) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    private final Map<Class<?>, ObjectBodyCodec<?>> byType = new HashMap<>();
+    private final Map<String, ObjectBodyCodec<?>> byName = new HashMap<>();
+    private final ClassLoader loader;
+    private final Predicate<? super String> serializedClasses;
+
+    private final ClassValue<ObjectBodyCodec<?>> codecs = new ClassValue<ObjectBodyCodec<?>>() {
+        @Override
+        protected ObjectBodyCodec<?> computeValue(Class<?> type) {
+            return find(type);
+        }
+    };
+
+    /**
+     * Creates a registry of the specified codecs, which resolves the classes of serialized objects with the context
+     * class loader of the current thread.
+     *
+     * @param codecs the codecs to register
+     *
+     * @exception IllegalArgumentException if two of the codecs have the same type or the same name.
+     */
+    public ObjectBodyCodecs(Iterable<? extends ObjectBodyCodec<?>> codecs) {
+        this(codecs, Thread.currentThread().getContextClassLoader(), name -> true);
+    }
+
+    /**
+     * Creates a registry of the specified codecs, which resolves the classes of serialized objects with the specified
+     * class loader.
+     *
+     * <p>
+     * When an object encoded by Java serialization is decoded, the filter is called with the name of each class in the
+     * serialized form, including superclasses, the classes of fields and, for an array, its component class, before the
+     * class is loaded, and the object is rejected if the filter returns false for any of them. The names of primitive
+     * types and the interfaces of proxy classes are passed to the filter too. A filter of {@code name -> false} rejects
+     * every object encoded by Java serialization, so that only objects encoded by a codec can be received.
+     *
+     * @param codecs the codecs to register
+     * @param loader the class loader with which the classes of serialized objects are resolved, or null for the system
+     * class loader
+     * @param serializedClasses the filter of the names of the classes of serialized objects
+     *
+     * @exception IllegalArgumentException if two of the codecs have the same type or the same name.
+     */
+    public ObjectBodyCodecs(Iterable<? extends ObjectBodyCodec<?>> codecs, ClassLoader loader,
+            Predicate<? super String> serializedClasses) {
+        if (serializedClasses == null) {
+            throw new IllegalArgumentException("Filter must not be null");
+        }
+        for (ObjectBodyCodec<?> codec : codecs) {
+            register(codec);
+        }
+        this.loader = loader == null ? ClassLoader.getSystemClassLoader() : loader;
+        this.serializedClasses = serializedClasses;
+    }
+
+    private void register(ObjectBodyCodec<?> codec) {
+        if (byType.putIfAbsent(codec.getType(), codec) != null) {
+            throw new IllegalArgumentException("More than one codec for " + codec.getType().getName());
+        }
+        if (byName.putIfAbsent(codec.getName(), codec) != null) {
+            throw new IllegalArgumentException("More than one codec named " + codec.getName());
+        }
+    }
+
+    /**
+     * Returns a registry of the codecs that {@code java.util.ServiceLoader} finds with the specified class loader, which
+     * also resolves the classes of serialized objects.
+     *
+     * @param loader the class loader with which codecs are found, or null for the system class loader
+     *
+     * @return a registry of the codecs found
+     *
+     * @exception IllegalArgumentException if two of the codecs have the same type or the same name.
+     */
+    public static ObjectBodyCodecs load(ClassLoader loader) {
+        return load(loader, name -> true);
+    }
+
+    /**
+     * Returns a registry of the codecs that {@code java.util.ServiceLoader} finds with the specified class loader, which
+     * also resolves the classes of serialized objects whose names the filter accepts, as described for
+     * {@link #ObjectBodyCodecs(Iterable, ClassLoader, Predicate)}.
+     *
+     * @param loader the class loader with which codecs are found, or null for the system class loader
+     * @param serializedClasses the filter of the names of the classes of serialized objects
+     *
+     * @return a registry of the codecs found
+     *
+     * @exception IllegalArgumentException if two of the codecs have the same type or the same name.
+     */
+    public static ObjectBodyCodecs load(ClassLoader loader, Predicate<? super String> serializedClasses) {
+        List<ObjectBodyCodec<?>> codecs = new ArrayList<>();
+        for (ObjectBodyCodec<?> codec : ServiceLoader.load(ObjectBodyCodec.class, loader)) {
+            codecs.add(codec);
+        }
+        return new ObjectBodyCodecs(codecs, loader, serializedClasses);
+    }
+
+    /**
+     * Returns the codec that applies to objects of the specified class.
+     *
+     * @param <T> the type of the objects
+     * @param type the class of the objects
+     *
+     * @return the codec that applies, or null if the objects are encoded by Java serialization
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> ObjectBodyCodec<? super T> getCodec(Class<T> type) {
+        return (ObjectBodyCodec<? super T>) codecs.get(type);
+    }
+
+    private ObjectBodyCodec<?> find(Class<?> type) {
+        ObjectBodyCodec<?> codec = byType.get(type);
+        if (codec != null) {
+            return codec;
+        }
+        for (Class<?> superclass = type.getSuperclass(); superclass != null; superclass = superclass.getSuperclass()) {
+            codec = byType.get(superclass);
+            if (codec != null && codec.appliesToSubclasses()) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Encodes an object in a new array.
+     *
+     * @param object the object to be encoded, or null
+     *
+     * @return the encoded object, or null if the object is null
+     *
+     * @exception MessageFormatException if the object cannot be encoded.
+     */
+    public byte[] encode(Serializable object) throws MessageFormatException {
+        if (object == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        encode(object, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes an object to a stream, which is left open.
+     *
+     * @param object the object to be encoded
+     * @param out the stream to which the encoded object is written
+     *
+     * @exception MessageFormatException if the object cannot be encoded or written.
+     */
+    public void encode(Serializable object, OutputStream out) throws MessageFormatException {
+        ObjectBodyCodec<?> codec = codecs.get(object.getClass());
+        try {
+            if (codec == null) {
+                out.write(SERIALIZED);
+                ObjectOutputStream serialized = new ObjectOutputStream(out);
+                serialized.writeObject(object);
+                serialized.flush();
+            } else {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeByte(ENCODED);
+                data.writeUTF(codec.getName());
+                encode(codec, object, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw failure("Cannot encode " + object.getClass().getName(), e);
+        }
+    }
+
+    private static <T extends Serializable> void encode(ObjectBodyCodec<T> codec, Serializable object, OutputStream out)
+            throws IOException {
+        codec.encode(codec.getType().cast(object), out);
+    }
+
+    /**
+     * Decodes an object encoded by {@link #encode(Serializable)}.
+     *
+     * @param encoded the encoded object, or null
+     *
+     * @return the object decoded, or null if {@code encoded} is null
+     *
+     * @exception MessageFormatException if the object cannot be decoded.
+     */
+    public Serializable decode(byte[] encoded) throws MessageFormatException {
+        return encoded == null ? null : decode(new ByteArrayInputStream(encoded));
+    }
+
+    /**
+     * Decodes an object encoded by {@link #encode(Serializable, OutputStream)} from a stream holding nothing else,
+     * which is left open.
+     *
+     * @param in the stream from which the encoded object is read
+     *
+     * @return the object decoded
+     *
+     * @exception MessageFormatException if the object cannot be read or decoded, the codec that encoded it is not
+     * registered, or it was encoded by Java serialization and the filter of this registry rejects one of its classes.
+     */
+    public Serializable decode(InputStream in) throws MessageFormatException {
+        try {
+            int encoding = in.read();
+            if (encoding == SERIALIZED) {
+                return (Serializable) new FilteredInputStream(in).readObject();
+            }
+            if (encoding == ENCODED) {
+                String name = new DataInputStream(in).readUTF();
+                ObjectBodyCodec<?> codec = byName.get(name);
+                if (codec == null) {
+                    throw new MessageFormatException("No codec named " + name + " is registered");
+                }
+                return codec.decode(in);
+            }
+            throw new MessageFormatException(
+                    encoding < 0 ? "Empty object body" : "Invalid object body encoding " + encoding);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            throw failure("Cannot decode object", e);
+        }
+    }
+
+    /**
+     * Reads serialized objects, resolving their classes with the class loader of the registry once the filter has
+     * accepted their names.
+     */
+    private final class FilteredInputStream extends ObjectInputStream {
+
+        FilteredInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            int dimensions = 0;
+            while (name.charAt(dimensions) == '[') {
+                dimensions++;
+            }
+            if (dimensions > 0 && name.charAt(dimensions) == 'L') {
+                check(name.substring(dimensions + 1, name.length() - 1));
+            } else if (dimensions == 0) {
+                check(name);
+            }
+            Class<?> primitive = PRIMITIVES.get(name);
+            return primitive != null ? primitive : Class.forName(name, false, loader);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            Class<?>[] types = new Class<?>[interfaces.length];
+            for (int i = 0; i < interfaces.length; i++) {
+                check(interfaces[i]);
+                types[i] = Class.forName(interfaces[i], false, loader);
+            }
+            try {
+                return Proxy.getProxyClass(loader, types);
+            } catch (IllegalArgumentException e) {
+                throw new ClassNotFoundException("Cannot define a proxy class", e);
+            }
+        }
+
+        private void check(String name) throws InvalidClassException {
+            if (!serializedClasses.test(name)) {
+                throw new InvalidClassException(name, "Rejected by the filter of the registry");
+            }
+        }
+    }
+
+    private static MessageFormatException failure(String reason, Exception cause) {
+        MessageFormatException exception = new MessageFormatException(reason + ": " + cause);
+        exception.setLinkedException(cause);
+        return exception;
+    }
+}
@@ -28,6 +28,11 @@ import java.io.Serializable;
  * used.
  *
  * <p>
+ * A provider may encode the object in the body with an {@link ObjectBodyCodec} registered for its class rather than by
+ * Java serialization, which is slower and larger, and which deserializes classes chosen by the sender. The
+ * {@link ObjectBodyCodecs} registry falls back to Java serialization for the objects to which no codec applies.
+ *
+ * <p>
  * When a client receives an {@code ObjectMessage}, it is in read-only mode. If a client attempts to write to the
  * message at this point, a {@code MessageNotWriteableException} is thrown. If {@code clearBody} is called, the message
  * can now be both read from and written to.
@@ -37,6 +42,7 @@ import java.io.Serializable;
  * @see javax.jms.BytesMessage
  * @see javax.jms.MapMessage
  * @see javax.jms.Message
+ * @see javax.jms.ObjectBodyCodecs
  * @see javax.jms.StreamMessage
  * @see javax.jms.TextMessage
  *
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@code ProducerSubscriber} is a {@code MessageFlow.Subscriber} that sends each item it receives to a destination
+ * using a {@code JMSProducer}, and requests items from its publisher only as fast as they are sent.
+ *
+ * <p>
+ * An item is sent with the {@code JMSProducer.send} method that matches its type: a {@code Message} is sent as it
+ * is, and a {@code String}, {@code Map}, {@code byte[]} or {@code Serializable} item is sent as the body of a
+ * {@code TextMessage}, {@code MapMessage}, {@code BytesMessage} or {@code ObjectMessage} respectively.
+ *
+ * <p>
+ * If the {@code JMSContext} is not transacted, items are sent asynchronously. The subscriber initially requests
+ * {@code window} items, and requests one more each time the Jakarta Messaging provider notifies it that a send has
+ * completed, so no more than {@code window} sends are ever outstanding. If the {@code JMSContext} is transacted, the
+ * subscriber requests {@code window} items at a time, sends them synchronously, and commits the transaction after every
+ * {@code window} items before requesting more. The remaining items are committed when the publisher completes.
+ *
+ * <p>
+ * If a send or a commit fails, the subscription is cancelled, and, if the {@code JMSContext} is transacted, the
+ * transaction is rolled back. The outcome is reported by the future returned by {@link #getCompletion()}: it is
+ * completed normally once every item has been sent after the publisher completes, and exceptionally if the publisher
+ * or a send fails.
+ *
+ * <p>
+ * The {@code JMSContext} must not be used by other threads while the subscription is active.
+ *
+ * @param <T> the type of the items to send
+ *
+ * @see javax.jms.MessageFlow
+ * @see javax.jms.ConsumerPublisher
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public class ProducerSubscriber<T> implements MessageFlow.Subscriber<T> {
+
+    private final JMSContext context;
+    private final JMSProducer producer;
+    private final Destination destination;
+    private final int window;
+    private final boolean transacted;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private MessageFlow.Subscription subscription;
+    private int uncommitted;
+    private int outstanding;
+    private boolean upstreamDone;
+
+    /**
+     * Creates a {@code ProducerSubscriber} that sends items to the specified destination.
+     *
+     * @param context the {@code JMSContext} used to create the producer and, if it is transacted, to commit the items
+     * @param destination the destination to send items to
+     * @param window the maximum number of asynchronous sends outstanding at a time, or the number of items sent in each
+     * transaction if the {@code JMSContext} is transacted
+     */
+    public ProducerSubscriber(JMSContext context, Destination destination, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.context = context;
+        this.destination = destination;
+        this.window = window;
+        this.transacted = context.getTransacted();
+        this.producer = context.createProducer();
+        if (!transacted) {
+            producer.setAsync(new CompletionListener() {
+                @Override
+                public void onCompletion(Message message) {
+                    sent();
+                }
+
+                @Override
+                public void onException(Message message, Exception exception) {
+                    failed(exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the {@code JMSProducer} used to send items, so that its delivery options, headers and properties may be
+     * configured before items are received.
+     *
+     * @return the {@code JMSProducer}
+     */
+    public JMSProducer getProducer() {
+        return producer;
+    }
+
+    /**
+     * Returns a future that is completed when every item has been sent, or exceptionally when the publisher or a send
+     * fails.
+     *
+     * @return the completion of this subscriber
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(MessageFlow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        subscription.request(window);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (completion.isDone()) {
+            return;
+        }
+        if (!transacted) {
+            synchronized (this) {
+                outstanding++;
+            }
+        }
+        try {
+            send(item);
+        } catch (RuntimeException e) {
+            if (!transacted) {
+                synchronized (this) {
+                    outstanding--;
+                }
+            }
+            failed(e);
+            return;
+        }
+        if (transacted && ++uncommitted == window) {
+            try {
+                context.commit();
+            } catch (RuntimeException e) {
+                failed(e);
+                return;
+            }
+            uncommitted = 0;
+            subscription.request(window);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (transacted) {
+            rollbackQuietly();
+        }
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (transacted) {
+            if (uncommitted > 0) {
+                try {
+                    context.commit();
+                } catch (RuntimeException e) {
+                    failed(e);
+                    return;
+                }
+            }
+            completion.complete(null);
+            return;
+        }
+        boolean allSent;
+        synchronized (this) {
+            upstreamDone = true;
+            allSent = outstanding == 0;
+        }
+        if (allSent) {
+            completion.complete(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void send(T item) {
+        if (item instanceof Message) {
+            producer.send(destination, (Message) item);
+        } else if (item instanceof String) {
+            producer.send(destination, (String) item);
+        } else if (item instanceof Map) {
+            producer.send(destination, (Map<String, Object>) item);
+        } else if (item instanceof byte[]) {
+            producer.send(destination, (byte[]) item);
+        } else if (item instanceof Serializable) {
+            producer.send(destination, (Serializable) item);
+        } else {
+            throw new MessageFormatRuntimeException("Cannot send an item of " + item.getClass());
+        }
+    }
+
+    private void sent() {
+        boolean allSent;
+        synchronized (this) {
+            outstanding--;
+            allSent = upstreamDone && outstanding == 0;
+        }
+        if (allSent) {
+            completion.complete(null);
+        } else if (!completion.isDone()) {
+            subscription.request(1);
+        }
+    }
+
+    private void failed(Exception exception) {
+        if (completion.completeExceptionally(exception)) {
+            subscription.cancel();
+            if (transacted) {
+                rollbackQuietly();
+            }
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            context.rollback();
+        } catch (RuntimeException e) {
+            // the original failure is the one reported
+        }
+    }
+}
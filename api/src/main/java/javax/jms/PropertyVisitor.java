@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+/**
+ * Receives the properties of a message or of a {@code JMSProducer}, each passed to the method for its type.
+ *
+ * <p>
+ * Only {@link #visitObject(String, Object)} must be implemented. The other methods box the value and pass it to
+ * {@code visitObject} by default, and are overridden for the types that should be received without boxing. A null
+ * value is always passed to {@code visitObject}. A visitor lets code that copies or logs every property, such as a
+ * bridge or a header mapper, read each property in one pass, instead of enumerating the names and then looking up each
+ * value.
+ *
+ * @see javax.jms.Message#forEachProperty(PropertyVisitor)
+ * @see javax.jms.JMSProducer#forEachProperty(PropertyVisitor)
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+@FunctionalInterface
+public interface PropertyVisitor {
+
+    /**
+     * Receives a property whose type has no method of its own in this visitor, or whose value is null.
+     *
+     * @param name the name of the property
+     * @param value the value of the property, boxed if it is a primitive value
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    void visitObject(String name, Object value) throws JMSException;
+
+    /**
+     * Receives a {@code boolean} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitBoolean(String name, boolean value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code byte} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitByte(String name, byte value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code short} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitShort(String name, short value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives an {@code int} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitInt(String name, int value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code long} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitLong(String name, long value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code float} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitFloat(String name, float value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code double} property.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitDouble(String name, double value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Receives a {@code String} property whose value is not null.
+     *
+     * @param name the name of the property
+     * @param value the value of the property
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visitString(String name, String value) throws JMSException {
+        visitObject(name, value);
+    }
+
+    /**
+     * Passes a property held as an object to the method for its type, unboxing it if the method takes a primitive
+     * value. This method is meant for implementations of {@code forEachProperty} that hold the values boxed.
+     *
+     * @param name the name of the property
+     * @param value the value of the property, boxed if it is a primitive value
+     *
+     * @exception JMSException if the visitor fails to process the property.
+     */
+    default void visit(String name, Object value) throws JMSException {
+        if (value instanceof String) {
+            visitString(name, (String) value);
+        } else if (value instanceof Integer) {
+            visitInt(name, (Integer) value);
+        } else if (value instanceof Long) {
+            visitLong(name, (Long) value);
+        } else if (value instanceof Double) {
+            visitDouble(name, (Double) value);
+        } else if (value instanceof Boolean) {
+            visitBoolean(name, (Boolean) value);
+        } else if (value instanceof Float) {
+            visitFloat(name, (Float) value);
+        } else if (value instanceof Short) {
+            visitShort(name, (Short) value);
+        } else if (value instanceof Byte) {
+            visitByte(name, (Byte) value);
+        } else {
+            visitObject(name, value);
+        }
+    }
+}
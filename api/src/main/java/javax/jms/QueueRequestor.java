@@ -16,6 +16,15 @@
 
 package javax.jms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@code QueueRequestor} helper class simplifies making service requests.
  *
@@ -29,7 +38,26 @@ package javax.jms;
  * either AUTO_ACKNOWLEDGE or DUPS_OK_ACKNOWLEDGE. It is expected that most applications will create less basic
  * implementations.
  *
+ * <p>
+ * A {@code QueueRequestor} created in multiplexed mode allows many requests to be outstanding at the same time. Each
+ * request is stamped with a generated {@code JMSCorrelationID}, and a single {@code MessageListener} on the temporary
+ * queue routes each reply to the request whose correlation ID it carries. The responder must therefore copy the
+ * {@code JMSCorrelationID} of the request onto its reply. Replies that carry no pending correlation ID, such as late
+ * replies to an earlier request, are discarded rather than returned to the wrong caller.
+ *
+ * <p>
+ * The {@code request} methods that take a timeout or a deadline return null if no reply arrives in time, so that a lost
+ * reply does not block the caller indefinitely. They also stamp the request with a generated {@code JMSCorrelationID}
+ * and discard replies carrying any other correlation ID, so a late reply to a request that timed out is never returned
+ * for a later one.
+ *
+ * <p>
+ * The {@code requestAll} methods pipeline a batch of independent requests: every request is sent asynchronously before
+ * any reply is awaited, and the replies are matched to their requests by correlation ID in whatever order they arrive.
+ * A batch therefore costs about one round trip rather than one per request.
+ *
  * @see javax.jms.TopicRequestor
+ * @see javax.jms.RequestorPool
  *
  * @version Jakarta Messaging 2.0
  * @since JMS 1.0
@@ -40,6 +68,10 @@ public class QueueRequestor {
     TemporaryQueue tempQueue;
     QueueSender sender;
     QueueReceiver receiver;
+    ReplyDispatcher dispatcher = new ReplyDispatcher();
+    RequestorPool pool; // Non-null if the temporary queue is leased from a pool.
+    RequestorPool.Lease lease;
+    boolean multiplexed;
 
     /**
      * Constructor for the {@code QueueRequestor} class.
@@ -65,10 +97,59 @@ public class QueueRequestor {
         receiver = session.createReceiver(tempQueue);
     }
 
+    /**
+     * Constructor for the {@code QueueRequestor} class that optionally creates a multiplexed requestor.
+     *
+     * <p>
+     * A multiplexed requestor registers a {@code MessageListener} on the consumer of its temporary queue, so the session
+     * is dedicated to asynchronous delivery from then on. Requests may be issued concurrently from any number of threads;
+     * they are sent one at a time through the requestor's sender. This requires a provider that allows a session's
+     * producers to be used while a message listener is registered on the same session.
+     *
+     * @param session the {@code QueueSession} the queue belongs to
+     * @param queue the queue to perform the request/reply call on
+     * @param multiplexed whether replies are to be matched to requests by correlation ID so that several requests may
+     * be outstanding at the same time
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to create the {@code QueueRequestor} due to some internal error.
+     * @exception InvalidDestinationException if an invalid queue is specified.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public QueueRequestor(QueueSession session, Queue queue, boolean multiplexed) throws JMSException {
+        this(session, queue);
+        if (multiplexed) {
+            receiver.setMessageListener(dispatcher);
+            this.multiplexed = true;
+        }
+    }
+
+    /**
+     * Creates a {@code QueueRequestor} that uses a temporary queue leased from a {@code RequestorPool}.
+     */
+    QueueRequestor(QueueSession session, Queue queue, RequestorPool pool, RequestorPool.Lease lease) throws JMSException {
+        this.session = session;
+        this.pool = pool;
+        this.lease = lease;
+        tempQueue = (TemporaryQueue) lease.destination;
+        receiver = (QueueReceiver) lease.consumer;
+        try {
+            sender = session.createSender(queue);
+        } catch (JMSException e) {
+            pool.release(lease);
+            throw e;
+        }
+    }
+
     /**
      * Sends a request and waits for a reply. The temporary queue is used for the {@code JMSReplyTo} destination, and only
      * one reply per request is expected.
      *
+     * <p>
+     * If this requestor was created by a {@code RequestorPool}, the request is stamped with a newly generated
+     * {@code JMSCorrelationID} and only a reply carrying the same {@code JMSCorrelationID} is returned, since the
+     * temporary queue may still receive late replies to requests made by a previous requestor.
+     *
      * @param message the message to send
      *
      * @return the reply message
@@ -76,11 +157,282 @@ public class QueueRequestor {
      * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
      */
     public Message request(Message message) throws JMSException {
+        if (multiplexed) {
+            return ReplyDispatcher.await(requestAsync(message));
+        }
+        if (pool != null) {
+            return requestUntil(message, 0);
+        }
         message.setJMSReplyTo(tempQueue);
         sender.send(message);
         return (receiver.receive());
     }
 
+    /**
+     * Sends a request and waits for its reply until the specified timeout expires. The request is stamped with a newly
+     * generated {@code JMSCorrelationID}, and the temporary queue is used for the {@code JMSReplyTo} destination. Only a
+     * reply carrying the same {@code JMSCorrelationID} is returned.
+     *
+     * @param message the message to send
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return the reply message, or null if the timeout expires first
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public Message request(Message message, long timeout) throws JMSException {
+        return requestUntil(message, ReplyDispatcher.deadline(timeout));
+    }
+
+    /**
+     * Sends a request and waits for its reply until the specified deadline passes. The request is stamped with a newly
+     * generated {@code JMSCorrelationID}, and the temporary queue is used for the {@code JMSReplyTo} destination. Only a
+     * reply carrying the same {@code JMSCorrelationID} is returned.
+     *
+     * <p>
+     * A deadline lets a caller that issues several requests in turn bound the time spent on all of them.
+     *
+     * @param message the message to send
+     * @param deadline the time after which to stop waiting, in milliseconds since the epoch as returned by
+     * {@code System.currentTimeMillis()}; a {@code deadline} of zero never passes
+     *
+     * @return the reply message, or null if the deadline passes first
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public Message requestUntil(Message message, long deadline) throws JMSException {
+        if (multiplexed) {
+            return ReplyDispatcher.await(send(message, deadline));
+        }
+        String correlationID = ReplyDispatcher.nextCorrelationID();
+        message.setJMSCorrelationID(correlationID);
+        message.setJMSReplyTo(tempQueue);
+        sender.send(message);
+        Message reply = dispatcher.receive(receiver, correlationID, deadline);
+        if (reply == null && deadline != 0) {
+            dispatcher.expired();
+        }
+        return reply;
+    }
+
+    /**
+     * Sends a request without waiting for its reply. The request is stamped with a newly generated
+     * {@code JMSCorrelationID}, and the temporary queue is used for the {@code JMSReplyTo} destination.
+     *
+     * <p>
+     * The returned future is completed with the first reply that carries the same {@code JMSCorrelationID}. If the
+     * requestor is closed first, the future is completed exceptionally with an {@code IllegalStateException}. Cancelling
+     * the future abandons the request; a reply that arrives afterwards is discarded.
+     *
+     * @param message the message to send
+     *
+     * @return a future that is completed with the reply message
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to send the request due to some internal error.
+     * @exception IllegalStateException if this requestor is not multiplexed or has been closed.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public CompletableFuture<Message> requestAsync(Message message) throws JMSException {
+        return send(message, 0);
+    }
+
+    /**
+     * Sends a request without waiting for its reply, giving up on the reply once the specified timeout expires.
+     *
+     * <p>
+     * This method behaves like {@link #requestAsync(Message)}, except that if no reply has arrived when the timeout
+     * expires the returned future is completed exceptionally with a {@code java.util.concurrent.TimeoutException} and the
+     * request is forgotten. Expired requests are counted by {@link #getExpiredRequestCount()}.
+     *
+     * @param message the message to send
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return a future that is completed with the reply message
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to send the request due to some internal error.
+     * @exception IllegalStateException if this requestor is not multiplexed or has been closed.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public CompletableFuture<Message> requestAsync(Message message, long timeout) throws JMSException {
+        return send(message, ReplyDispatcher.deadline(timeout));
+    }
+
+    /**
+     * Sends a batch of requests and waits for all of their replies.
+     *
+     * <p>
+     * Each request is stamped with a newly generated {@code JMSCorrelationID}, and the temporary queue is used for its
+     * {@code JMSReplyTo} destination. All the requests are sent using
+     * {@link MessageProducer#send(Message, CompletionListener)}, without waiting for one to be acknowledged before the
+     * next is sent. The replies are then matched to the requests by correlation ID in whatever order they arrive.
+     *
+     * @param messages the messages to send
+     *
+     * @return the reply messages, in the order of the requests
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to send a request or complete the batch due to some
+     * internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public List<Message> requestAll(List<? extends Message> messages) throws JMSException {
+        return requestAllUntil(messages, 0);
+    }
+
+    /**
+     * Sends a batch of requests and waits for their replies until the specified timeout expires.
+     *
+     * <p>
+     * This method behaves like {@link #requestAll(List)}, except that it waits no longer than the specified timeout for
+     * the whole batch. Requests whose reply has not arrived by then have a null element in the returned list.
+     *
+     * @param messages the messages to send
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return the reply messages, in the order of the requests, with null elements for the replies that did not arrive
+     * in time
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to send a request or complete the batch due to some
+     * internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public List<Message> requestAll(List<? extends Message> messages, long timeout) throws JMSException {
+        return requestAllUntil(messages, ReplyDispatcher.deadline(timeout));
+    }
+
+    /**
+     * Returns the number of multiplexed requests that are waiting for a reply.
+     *
+     * @return the number of pending requests; always zero if this requestor is not multiplexed
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public int getPendingRequestCount() {
+        return dispatcher.getPendingCount();
+    }
+
+    /**
+     * Returns the number of requests made with a timeout or deadline whose reply did not arrive in time.
+     *
+     * @return the number of expired requests
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public long getExpiredRequestCount() {
+        return dispatcher.getExpiredCount();
+    }
+
+    /**
+     * Returns the number of replies that were discarded because no request was waiting for them, typically late replies
+     * to requests that have expired.
+     *
+     * @return the number of discarded replies
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public long getDiscardedReplyCount() {
+        return dispatcher.getUnmatchedReplyCount();
+    }
+
+    private List<Message> requestAllUntil(List<? extends Message> messages, long deadline) throws JMSException {
+        int count = messages.size();
+        if (multiplexed) {
+            List<CompletableFuture<Message>> futures = new ArrayList<>(count);
+            try {
+                synchronized (sender) {
+                    for (Message message : messages) {
+                        String correlationID = ReplyDispatcher.nextCorrelationID();
+                        message.setJMSCorrelationID(correlationID);
+                        message.setJMSReplyTo(tempQueue);
+                        CompletableFuture<Message> future = dispatcher.register(correlationID, deadline);
+                        futures.add(future);
+                        sender.send(message, new CompletionListener() {
+                            @Override
+                            public void onCompletion(Message sent) {
+                            }
+
+                            @Override
+                            public void onException(Message sent, Exception exception) {
+                                future.completeExceptionally(exception);
+                            }
+                        });
+                    }
+                }
+                List<Message> replies = new ArrayList<>(count);
+                for (CompletableFuture<Message> future : futures) {
+                    replies.add(ReplyDispatcher.await(future));
+                }
+                return replies;
+            } finally {
+                // Unregisters the requests still waiting if a send or a wait failed; the others are already complete.
+                for (CompletableFuture<Message> future : futures) {
+                    future.cancel(false);
+                }
+            }
+        }
+
+        Map<String, Integer> pending = new HashMap<>(count * 4 / 3 + 1);
+        BatchCompletion completion = new BatchCompletion(count);
+        for (Message message : messages) {
+            String correlationID = ReplyDispatcher.nextCorrelationID();
+            message.setJMSCorrelationID(correlationID);
+            message.setJMSReplyTo(tempQueue);
+            pending.put(correlationID, pending.size());
+            sender.send(message, completion);
+        }
+        completion.await(deadline);
+
+        Message[] replies = new Message[count];
+        while (!pending.isEmpty()) {
+            Message reply;
+            if (deadline == 0) {
+                reply = receiver.receive();
+            } else {
+                long remaining = deadline - System.currentTimeMillis();
+                reply = remaining > 0 ? receiver.receive(remaining) : receiver.receiveNoWait();
+            }
+            if (reply == null) {
+                for (int i = pending.size(); i > 0; i--) {
+                    dispatcher.expired();
+                }
+                break;
+            }
+            Integer index = pending.remove(reply.getJMSCorrelationID());
+            if (index == null) {
+                dispatcher.discarded();
+            } else {
+                replies[index] = reply;
+            }
+        }
+        return Arrays.asList(replies);
+    }
+
+    private CompletableFuture<Message> send(Message message, long deadline) throws JMSException {
+        if (!multiplexed) {
+            throw new IllegalStateException("QueueRequestor is not multiplexed");
+        }
+        String correlationID = ReplyDispatcher.nextCorrelationID();
+        message.setJMSCorrelationID(correlationID);
+        message.setJMSReplyTo(tempQueue);
+        CompletableFuture<Message> future = dispatcher.register(correlationID, deadline);
+        try {
+            synchronized (sender) {
+                sender.send(message);
+            }
+        } catch (JMSException e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        return future;
+    }
+
     /**
      * Closes the {@code QueueRequestor} and its session.
      *
@@ -90,14 +442,74 @@ public class QueueRequestor {
      * resources may not be timely enough.
      *
      * <p>
-     * Note that this method closes the {@code QueueSession} object passed to the {@code QueueRequestor} constructor.
+     * Note that this method closes the {@code QueueSession} object passed to the {@code QueueRequestor} constructor. A requestor created
+     * by a {@code RequestorPool} instead returns its temporary queue to the pool, leaving the session open.
+     *
+     * <p>
+     * If the requestor is multiplexed, requests that are still waiting for a reply are completed exceptionally with an
+     * {@code IllegalStateException}.
      *
      * @exception JMSException if the Jakarta Messaging provider fails to close the {@code QueueRequestor} due to some internal error.
      */
     public void close() throws JMSException {
+        dispatcher.close();
+
+        if (pool != null) {
+            if (lease != null) {
+                sender.close();
+                pool.release(lease);
+                lease = null;
+            }
+            return;
+        }
 
         // publisher and consumer created by constructor are implicitly closed.
         session.close();
         tempQueue.delete();
     }
+
+    /**
+     * Waits for the acknowledgements of a batch of asynchronously sent requests.
+     */
+    private static class BatchCompletion implements CompletionListener {
+
+        private final CountDownLatch outstanding;
+        private volatile Exception failure;
+
+        BatchCompletion(int count) {
+            outstanding = new CountDownLatch(count);
+        }
+
+        @Override
+        public void onCompletion(Message message) {
+            outstanding.countDown();
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            failure = exception;
+            outstanding.countDown();
+        }
+
+        /**
+         * Waits until every request has been acknowledged or the deadline passes, and throws the first send failure.
+         */
+        void await(long deadline) throws JMSException {
+            try {
+                if (deadline == 0) {
+                    outstanding.await();
+                } else {
+                    outstanding.await(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                JMSException jmse = new JMSException("Interrupted while waiting for requests to be sent");
+                jmse.setLinkedException(e);
+                throw jmse;
+            }
+            if (failure != null) {
+                throw ReplyDispatcher.toJMSException(failure);
+            }
+        }
+    }
 }
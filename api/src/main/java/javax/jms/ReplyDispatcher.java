@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matches replies arriving on a requestor's reply destination to the requests that are waiting for them.
+ *
+ * <p>
+ * Each request is stamped with a {@code JMSCorrelationID} generated by {@link #nextCorrelationID()}; the responder is
+ * expected to copy it onto its reply. Replies are delivered to {@link #onMessage(Message)} and complete the pending
+ * future registered for their correlation ID. Replies for which no request is pending (for example because the request
+ * was cancelled or has expired) are discarded and counted.
+ *
+ * <p>
+ * A request registered with a deadline is expired by a shared background reaper once the deadline passes: its future is
+ * completed exceptionally with a {@code TimeoutException} and its entry is removed, so that lost replies neither block
+ * callers nor accumulate.
+ *
+ * <p>
+ * Requestors that are not multiplexed use {@link #receive(MessageConsumer, String, long)} instead, which applies the
+ * same correlation check to replies received synchronously.
+ *
+ * @see javax.jms.QueueRequestor
+ * @see javax.jms.TopicRequestor
+ */
+class ReplyDispatcher implements MessageListener {
+
+    private static final String CORRELATION_PREFIX = UUID.randomUUID().toString() + '-';
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final ConcurrentHashMap<String, CompletableFuture<Message>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong unmatchedReplies = new AtomicLong();
+    private final AtomicLong expiredRequests = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Returns a correlation ID that is unique to this virtual machine, and with overwhelming probability to any other.
+     */
+    static String nextCorrelationID() {
+        return CORRELATION_PREFIX + SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Registers a pending request. The entry is removed as soon as the returned future completes, whether with a reply,
+     * exceptionally, by expiry or by cancellation.
+     *
+     * @param deadline the time, in milliseconds since the epoch, after which the request expires, or zero if it never
+     * expires
+     *
+     * @exception IllegalStateException if the dispatcher has been closed
+     */
+    CompletableFuture<Message> register(String correlationID, long deadline) throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("Requestor is closed");
+        }
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        pending.put(correlationID, future);
+        if (closed) {
+            // close() may have walked the pending requests before this one was added
+            pending.remove(correlationID, future);
+            throw new IllegalStateException("Requestor is closed");
+        }
+        if (deadline == 0) {
+            future.whenComplete((reply, failure) -> pending.remove(correlationID, future));
+        } else {
+            long delay = Math.max(0, deadline - System.currentTimeMillis());
+            ScheduledFuture<?> expiry = Reaper.INSTANCE.schedule(() -> {
+                // Claims the entry before completing the future, so that a reply can no longer match it and the
+                // expiry is already counted when the waiter wakes up.
+                if (pending.remove(correlationID, future)) {
+                    expiredRequests.incrementAndGet();
+                    future.completeExceptionally(new TimeoutException("No reply received for " + correlationID));
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            future.whenComplete((reply, failure) -> {
+                pending.remove(correlationID, future);
+                expiry.cancel(false);
+            });
+        }
+        return future;
+    }
+
+    @Override
+    public void onMessage(Message reply) {
+        CompletableFuture<Message> future = null;
+        try {
+            String correlationID = reply.getJMSCorrelationID();
+            if (correlationID != null) {
+                future = pending.remove(correlationID);
+            }
+        } catch (JMSException e) {
+            // a reply whose correlation ID cannot be read cannot be matched
+        }
+        if (future == null || !future.complete(reply)) {
+            unmatchedReplies.incrementAndGet();
+        }
+    }
+
+    /**
+     * Receives the reply carrying the given correlation ID from a consumer used synchronously. Replies carrying any other
+     * correlation ID are discarded and counted.
+     *
+     * @param deadline the time, in milliseconds since the epoch, after which to stop waiting, or zero to wait
+     * indefinitely
+     *
+     * @return the reply, or null if the deadline passes or the consumer is concurrently closed
+     */
+    Message receive(MessageConsumer consumer, String correlationID, long deadline) throws JMSException {
+        while (true) {
+            Message reply;
+            if (deadline == 0) {
+                reply = consumer.receive();
+            } else {
+                long remaining = deadline - System.currentTimeMillis();
+                reply = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+            }
+            if (reply == null) {
+                return null;
+            }
+            if (correlationID.equals(reply.getJMSCorrelationID())) {
+                return reply;
+            }
+            unmatchedReplies.incrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a reply that was received synchronously but matched no request.
+     */
+    void discarded() {
+        unmatchedReplies.incrementAndGet();
+    }
+
+    /**
+     * Counts a request whose reply did not arrive before its deadline.
+     */
+    void expired() {
+        expiredRequests.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of requests still waiting for a reply.
+     */
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of replies that arrived with no request waiting for them.
+     */
+    long getUnmatchedReplyCount() {
+        return unmatchedReplies.get();
+    }
+
+    /**
+     * Returns the number of requests that expired before their reply arrived.
+     */
+    long getExpiredCount() {
+        return expiredRequests.get();
+    }
+
+    /**
+     * Fails every pending request and refuses new ones. A request registered concurrently either sees the dispatcher
+     * closed, or is added before {@code closed} is read by {@link #register(String, long)} and so is failed here.
+     */
+    void close() {
+        closed = true;
+        IllegalStateException failure = new IllegalStateException("Requestor is closed");
+        for (CompletableFuture<Message> future : pending.values()) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Waits for a pending request to complete, translating the outcome into the results of the blocking {@code request}
+     * methods: an expired request yields null, like {@code MessageConsumer.receive(long)}.
+     */
+    static Message await(CompletableFuture<Message> future) throws JMSException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            JMSException jmse = new JMSException("Interrupted while waiting for a reply");
+            jmse.setLinkedException(e);
+            throw jmse;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return null;
+            }
+            throw toJMSException(e.getCause());
+        }
+    }
+
+    /**
+     * Converts a relative timeout in milliseconds into a deadline, keeping zero as "never". A timeout too long to be
+     * added to the current time gives the latest representable deadline.
+     */
+    static long deadline(long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout < 0");
+        }
+        if (timeout == 0) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        return timeout > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeout;
+    }
+
+    static JMSException toJMSException(Throwable cause) {
+        if (cause instanceof JMSException) {
+            return (JMSException) cause;
+        }
+        JMSException jmse = new JMSException(String.valueOf(cause));
+        if (cause instanceof Exception) {
+            jmse.setLinkedException((Exception) cause);
+        }
+        return jmse;
+    }
+
+    /**
+     * The scheduler that expires pending requests. It runs on a single daemon thread shared by all requestors and is
+     * only started when a request with a deadline is first registered.
+     */
+    private static final class Reaper {
+
+        static final ScheduledThreadPoolExecutor INSTANCE;
+
+        static {
+            INSTANCE = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "javax.jms requestor reaper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            INSTANCE.setRemoveOnCancelPolicy(true);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * A {@code RequestorPool} creates {@code QueueRequestor} and {@code TopicRequestor} objects whose temporary reply
+ * destinations are reused.
+ *
+ * <p>
+ * Each {@code QueueRequestor} or {@code TopicRequestor} created by its public constructor creates a temporary
+ * destination and a consumer on it, and deletes the temporary destination when it is closed. With many providers both
+ * operations are round trips to the messaging server, which can dominate the latency of a short-lived requestor. A
+ * requestor created by a {@code RequestorPool} instead leases a temporary destination, together with its consumer, from
+ * the pool. Closing the requestor returns the lease to the pool and leaves the session open.
+ *
+ * <p>
+ * A late reply to a request that timed out may arrive after its requestor has been closed and the lease handed to the
+ * next requestor. Every request made by a pooled requestor, including {@code request(Message)}, is therefore stamped
+ * with a generated {@code JMSCorrelationID}, and replies carrying any other correlation ID are discarded; the responder
+ * must copy the {@code JMSCorrelationID} of the request onto its reply. When a lease is returned, the replies already
+ * waiting on its consumer are drained and discarded as well, so that they do not accumulate while the lease is idle.
+ *
+ * <p>
+ * Leases that have been idle for longer than the pool's maximum idle time are evicted: their consumer is closed and
+ * their temporary destination is deleted. Idle leases are evicted whenever a requestor is created or closed, and when
+ * {@link #evictIdle()} is called.
+ *
+ * <p>
+ * All the requestors of a pool use the session the pool was created with, so they are subject to the threading
+ * restrictions of that session. Requestors created by a pool are not multiplexed; a multiplexed {@code QueueRequestor}
+ * already shares a single temporary queue between any number of concurrent requests.
+ *
+ * @see javax.jms.QueueRequestor
+ * @see javax.jms.TopicRequestor
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public class RequestorPool implements AutoCloseable {
+
+    private final Session session;
+    private final long maxIdleTime;
+    private final ArrayDeque<Lease> idleQueues = new ArrayDeque<>();
+    private final ArrayDeque<Lease> idleTopics = new ArrayDeque<>();
+    private long drainedReplies;
+    private boolean closed;
+
+    /**
+     * Creates a {@code RequestorPool} for the specified session.
+     *
+     * <p>
+     * The session must be non-transacted, with a delivery mode of either {@code AUTO_ACKNOWLEDGE} or
+     * {@code DUPS_OK_ACKNOWLEDGE}. It must be a {@code QueueSession} to create {@code QueueRequestor} objects, and a
+     * {@code TopicSession} to create {@code TopicRequestor} objects.
+     *
+     * @param session the session used by the requestors of the pool
+     * @param maxIdleTime the time (in milliseconds) after which an unused temporary destination is deleted; a
+     * {@code maxIdleTime} of zero never expires
+     */
+    public RequestorPool(Session session, long maxIdleTime) {
+        if (maxIdleTime < 0) {
+            throw new IllegalArgumentException("maxIdleTime < 0");
+        }
+        this.session = session;
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    /**
+     * Creates a {@code QueueRequestor} for the specified queue that uses a pooled temporary queue for its replies.
+     *
+     * <p>
+     * Closing the returned requestor returns its temporary queue to this pool rather than closing the session.
+     *
+     * @param queue the queue to perform the request/reply call on
+     *
+     * @return the requestor
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to create the {@code QueueRequestor} due to some internal error.
+     * @exception InvalidDestinationException if an invalid queue is specified.
+     * @exception IllegalStateException if this pool has been closed or its session is not a {@code QueueSession}.
+     */
+    public synchronized QueueRequestor createQueueRequestor(Queue queue) throws JMSException {
+        if (queue == null) {
+            throw new InvalidDestinationException("queue==null");
+        }
+        if (!(session instanceof QueueSession)) {
+            throw new IllegalStateException("RequestorPool session is not a QueueSession");
+        }
+        QueueSession queueSession = (QueueSession) session;
+        Lease lease = acquire(idleQueues);
+        if (lease == null) {
+            TemporaryQueue tempQueue = queueSession.createTemporaryQueue();
+            lease = new Lease(tempQueue, queueSession.createReceiver(tempQueue));
+        }
+        return new QueueRequestor(queueSession, queue, this, lease);
+    }
+
+    /**
+     * Creates a {@code TopicRequestor} for the specified topic that uses a pooled temporary topic for its replies.
+     *
+     * <p>
+     * Closing the returned requestor returns its temporary topic to this pool rather than closing the session.
+     *
+     * @param topic the topic to perform the request/reply call on
+     *
+     * @return the requestor
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to create the {@code TopicRequestor} due to some internal error.
+     * @exception InvalidDestinationException if an invalid topic is specified.
+     * @exception IllegalStateException if this pool has been closed or its session is not a {@code TopicSession}.
+     */
+    public synchronized TopicRequestor createTopicRequestor(Topic topic) throws JMSException {
+        if (topic == null) {
+            throw new InvalidDestinationException("topic==null");
+        }
+        if (!(session instanceof TopicSession)) {
+            throw new IllegalStateException("RequestorPool session is not a TopicSession");
+        }
+        TopicSession topicSession = (TopicSession) session;
+        Lease lease = acquire(idleTopics);
+        if (lease == null) {
+            TemporaryTopic tempTopic = topicSession.createTemporaryTopic();
+            lease = new Lease(tempTopic, topicSession.createSubscriber(tempTopic));
+        }
+        return new TopicRequestor(topicSession, topic, this, lease);
+    }
+
+    /**
+     * Deletes the temporary destinations that have been idle for longer than the maximum idle time of this pool.
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to delete a temporary destination due to some internal error.
+     */
+    public synchronized void evictIdle() throws JMSException {
+        if (maxIdleTime == 0) {
+            return;
+        }
+        long idleSince = System.currentTimeMillis() - maxIdleTime;
+        evictIdle(idleQueues, idleSince);
+        evictIdle(idleTopics, idleSince);
+    }
+
+    /**
+     * Returns the number of temporary destinations that are currently idle in this pool.
+     *
+     * @return the number of idle temporary destinations
+     */
+    public synchronized int getIdleCount() {
+        return idleQueues.size() + idleTopics.size();
+    }
+
+    /**
+     * Returns the number of stray replies that were discarded when requestors were returned to this pool.
+     *
+     * @return the number of discarded replies
+     */
+    public synchronized long getDrainedReplyCount() {
+        return drainedReplies;
+    }
+
+    /**
+     * Closes the pool, deleting its idle temporary destinations. Temporary destinations that are in use are deleted when
+     * their requestor is closed. The session of the pool is not closed.
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to delete a temporary destination due to some internal error.
+     */
+    @Override
+    public synchronized void close() throws JMSException {
+        closed = true;
+        evictIdle(idleQueues, Long.MAX_VALUE);
+        evictIdle(idleTopics, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a lease to the pool once its requestor has been closed.
+     */
+    synchronized void release(Lease lease) throws JMSException {
+        while (lease.consumer.receiveNoWait() != null) {
+            drainedReplies++;
+        }
+        if (closed) {
+            lease.destroy();
+            return;
+        }
+        lease.idleSince = System.currentTimeMillis();
+        (lease.destination instanceof TemporaryQueue ? idleQueues : idleTopics).push(lease);
+        evictIdle();
+    }
+
+    private Lease acquire(ArrayDeque<Lease> idle) throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("RequestorPool is closed");
+        }
+        evictIdle();
+        // Reuse the most recently returned lease, which is the least likely to have been evicted by the provider.
+        return idle.poll();
+    }
+
+    private static void evictIdle(ArrayDeque<Lease> idle, long idleSince) throws JMSException {
+        // The deque is ordered from the most to the least recently returned lease.
+        Iterator<Lease> leases = idle.descendingIterator();
+        while (leases.hasNext()) {
+            Lease lease = leases.next();
+            if (lease.idleSince > idleSince) {
+                break;
+            }
+            leases.remove();
+            lease.destroy();
+        }
+    }
+
+    /**
+     * A temporary destination and the consumer of its replies, shared in turn by the requestors of a pool.
+     */
+    static final class Lease {
+
+        final Destination destination;
+        final MessageConsumer consumer;
+        long idleSince;
+
+        Lease(Destination destination, MessageConsumer consumer) {
+            this.destination = destination;
+            this.consumer = consumer;
+        }
+
+        void destroy() throws JMSException {
+            consumer.close();
+            if (destination instanceof TemporaryQueue) {
+                ((TemporaryQueue) destination).delete();
+            } else {
+                ((TemporaryTopic) destination).delete();
+            }
+        }
+    }
+}
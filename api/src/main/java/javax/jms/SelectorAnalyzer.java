@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import javax.jms.SelectorExpression.And;
+import javax.jms.SelectorExpression.Arithmetic;
+import javax.jms.SelectorExpression.Comparison;
+import javax.jms.SelectorExpression.Header;
+import javax.jms.SelectorExpression.In;
+import javax.jms.SelectorExpression.IsNull;
+import javax.jms.SelectorExpression.Like;
+import javax.jms.SelectorExpression.Literal;
+import javax.jms.SelectorExpression.Negate;
+import javax.jms.SelectorExpression.Not;
+import javax.jms.SelectorExpression.Or;
+import javax.jms.SelectorExpression.Property;
+
+/**
+ * Static analysis of message selectors: the identifiers they reference, the estimated cost of evaluating them, and the
+ * order in which the terms of {@code AND} and {@code OR} are best evaluated.
+ *
+ * <p>
+ * Costs are expressed in arbitrary units, in which reading a header field costs 1 and reading a property costs
+ * {@value #PROPERTY_COST}. Selectivities are the estimated probabilities that a condition is true, using the
+ * conventional estimates of query planners for lack of statistics.
+ *
+ * @see javax.jms.MessageSelector
+ */
+final class SelectorAnalyzer {
+
+    static final int PROPERTY_COST = 4;
+
+    private SelectorAnalyzer() {
+    }
+
+    /**
+     * Adds the header fields and properties referenced by an expression to the specified sets.
+     */
+    static void references(SelectorExpression expression, Set<String> headers, Set<String> properties) {
+        if (expression instanceof Header) {
+            headers.add(((Header) expression).name);
+        } else if (expression instanceof Property) {
+            properties.add(((Property) expression).name);
+        } else if (expression instanceof Negate) {
+            references(((Negate) expression).operand, headers, properties);
+        } else if (expression instanceof Arithmetic) {
+            references(((Arithmetic) expression).left, headers, properties);
+            references(((Arithmetic) expression).right, headers, properties);
+        } else if (expression instanceof Comparison) {
+            references(((Comparison) expression).left, headers, properties);
+            references(((Comparison) expression).right, headers, properties);
+        } else if (expression instanceof And) {
+            references(((And) expression).left, headers, properties);
+            references(((And) expression).right, headers, properties);
+        } else if (expression instanceof Or) {
+            references(((Or) expression).left, headers, properties);
+            references(((Or) expression).right, headers, properties);
+        } else if (expression instanceof Not) {
+            references(((Not) expression).operand, headers, properties);
+        } else if (expression instanceof In) {
+            references(((In) expression).value, headers, properties);
+        } else if (expression instanceof Like) {
+            references(((Like) expression).value, headers, properties);
+        } else if (expression instanceof IsNull) {
+            references(((IsNull) expression).value, headers, properties);
+        }
+    }
+
+    /**
+     * Returns the estimated cost of evaluating an expression in full, without short-circuiting.
+     */
+    static int cost(SelectorExpression expression) {
+        if (expression instanceof Literal) {
+            return 0;
+        }
+        if (expression instanceof Header) {
+            return 1;
+        }
+        if (expression instanceof Property) {
+            return PROPERTY_COST;
+        }
+        if (expression instanceof Negate) {
+            return 1 + cost(((Negate) expression).operand);
+        }
+        if (expression instanceof Arithmetic) {
+            return 1 + cost(((Arithmetic) expression).left) + cost(((Arithmetic) expression).right);
+        }
+        if (expression instanceof Comparison) {
+            return 1 + cost(((Comparison) expression).left) + cost(((Comparison) expression).right);
+        }
+        if (expression instanceof And) {
+            return cost(((And) expression).left) + cost(((And) expression).right);
+        }
+        if (expression instanceof Or) {
+            return cost(((Or) expression).left) + cost(((Or) expression).right);
+        }
+        if (expression instanceof Not) {
+            return cost(((Not) expression).operand);
+        }
+        if (expression instanceof In) {
+            return 2 + cost(((In) expression).value);
+        }
+        if (expression instanceof Like) {
+            return 4 + cost(((Like) expression).value);
+        }
+        if (expression instanceof IsNull) {
+            return cost(((IsNull) expression).value);
+        }
+        return PROPERTY_COST;
+    }
+
+    /**
+     * Returns the estimated probability that a condition is true.
+     */
+    static double selectivity(SelectorExpression expression) {
+        if (expression instanceof Literal) {
+            return Boolean.TRUE.equals(((Literal) expression).value) ? 1 : 0;
+        }
+        if (expression instanceof Comparison) {
+            switch (((Comparison) expression).operator) {
+                case Comparison.EQ:
+                    return 0.1;
+                case Comparison.NE:
+                    return 0.9;
+                default:
+                    return 1.0 / 3;
+            }
+        }
+        if (expression instanceof And) {
+            return selectivity(((And) expression).left) * selectivity(((And) expression).right);
+        }
+        if (expression instanceof Or) {
+            double l = selectivity(((Or) expression).left);
+            double r = selectivity(((Or) expression).right);
+            return l + r - l * r;
+        }
+        if (expression instanceof Not) {
+            return 1 - selectivity(((Not) expression).operand);
+        }
+        if (expression instanceof In) {
+            double p = Math.min(0.5, 0.1 * ((In) expression).values.size());
+            return ((In) expression).negated ? 1 - p : p;
+        }
+        if (expression instanceof Like) {
+            return ((Like) expression).negated ? 0.75 : 0.25;
+        }
+        if (expression instanceof IsNull) {
+            return ((IsNull) expression).negated ? 0.9 : 0.1;
+        }
+        return 0.5;
+    }
+
+    /**
+     * Reorders the terms of each chain of {@code AND} or {@code OR} operators so that the terms most likely to decide
+     * the result for the least cost are evaluated first. Both operators are commutative in the three-valued logic of
+     * message selectors, so the result of the expression is unchanged.
+     *
+     * <p>
+     * The terms of an {@code AND} chain are sorted by cost divided by the probability of being false, and those of an
+     * {@code OR} chain by cost divided by the probability of being true. Terms with equal ranks keep their order.
+     */
+    static SelectorExpression reorder(SelectorExpression expression) {
+        if (expression instanceof And || expression instanceof Or) {
+            boolean and = expression instanceof And;
+            List<SelectorExpression> terms = new ArrayList<>();
+            flatten(expression, and, terms);
+            for (int i = 0; i < terms.size(); i++) {
+                terms.set(i, reorder(terms.get(i)));
+            }
+            Collections.sort(terms, Comparator.comparingDouble(term -> rank(term, and)));
+            SelectorExpression result = terms.get(0);
+            for (int i = 1; i < terms.size(); i++) {
+                result = and ? new And(result, terms.get(i)) : new Or(result, terms.get(i));
+            }
+            return result;
+        }
+        if (expression instanceof Not) {
+            return new Not(reorder(((Not) expression).operand));
+        }
+        return expression;
+    }
+
+    private static void flatten(SelectorExpression expression, boolean and, List<SelectorExpression> terms) {
+        if (and && expression instanceof And) {
+            flatten(((And) expression).left, and, terms);
+            flatten(((And) expression).right, and, terms);
+        } else if (!and && expression instanceof Or) {
+            flatten(((Or) expression).left, and, terms);
+            flatten(((Or) expression).right, and, terms);
+        } else {
+            terms.add(expression);
+        }
+    }
+
+    private static double rank(SelectorExpression term, boolean and) {
+        double decisive = and ? 1 - selectivity(term) : selectivity(term);
+        return decisive <= 0 ? Double.MAX_VALUE : (cost(term) + 1) / decisive;
+    }
+}
@@ -0,0 +1,770 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jms.SelectorExpression.And;
+import javax.jms.SelectorExpression.Arithmetic;
+import javax.jms.SelectorExpression.Comparison;
+import javax.jms.SelectorExpression.Condition;
+import javax.jms.SelectorExpression.Header;
+import javax.jms.SelectorExpression.In;
+import javax.jms.SelectorExpression.IsNull;
+import javax.jms.SelectorExpression.Kind;
+import javax.jms.SelectorExpression.Like;
+import javax.jms.SelectorExpression.Literal;
+import javax.jms.SelectorExpression.Negate;
+import javax.jms.SelectorExpression.Not;
+import javax.jms.SelectorExpression.Numeric;
+import javax.jms.SelectorExpression.Or;
+import javax.jms.SelectorExpression.Property;
+
+/**
+ * Translates a message selector into JVM bytecode.
+ *
+ * <p>
+ * The boolean structure of the selector, {@code AND}, {@code OR} and {@code NOT} with their short-circuit rules, is
+ * compiled into branches. Comparisons of a property or a numeric header field with a literal are compiled into direct
+ * calls, and every other predicate is called through a field holding its expression tree. The class is defined as a
+ * hidden class of this package with {@code MethodHandles.Lookup.defineHiddenClass}, so that it can be unloaded with the
+ * selector and inlined by the JIT like ordinary code.
+ *
+ * <p>
+ * Where hidden classes are not available, as on Java SE 8, where the system property
+ * {@value #INTERPRET_PROPERTY} is {@code true}, or where the class cannot be defined, the expression tree is
+ * interpreted instead.
+ *
+ * @see javax.jms.MessageSelector
+ */
+final class SelectorCompiler {
+
+    /**
+     * The system property that disables bytecode generation.
+     */
+    static final String INTERPRET_PROPERTY = "javax.jms.MessageSelector.interpret";
+
+    private static final Method DEFINE_HIDDEN_CLASS;
+    private static final Object NO_OPTIONS;
+
+    static {
+        Method define = null;
+        Object options = null;
+        try {
+            if (!Boolean.getBoolean(INTERPRET_PROPERTY)) {
+                Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                options = Array.newInstance(option, 0);
+                define = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class,
+                        options.getClass());
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            define = null;
+        }
+        DEFINE_HIDDEN_CLASS = define;
+        NO_OPTIONS = options;
+    }
+
+    private static final String CLASS_NAME = "javax/jms/SelectorExpression$Compiled";
+    private static final String SUPER_NAME = "javax/jms/SelectorExpression$Condition";
+    private static final String MESSAGE = "javax/jms/Message";
+    private static final String COMPILER = "javax/jms/SelectorCompiler";
+    private static final String COMPARISON = "javax/jms/SelectorExpression$Comparison";
+    private static final String TEST_DESCRIPTOR = "(Ljavax/jms/Message;[Ljavax/jms/SelectorExpression$Numeric;)I";
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ICONST_0 = 0x03;
+    private static final int BIPUSH = 0x10;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int LDC2_W = 0x14;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int AALOAD = 0x32;
+    private static final int POP2 = 0x58;
+    private static final int DUP = 0x59;
+    private static final int SWAP = 0x5f;
+    private static final int ISUB = 0x64;
+    private static final int I2L = 0x85;
+    private static final int I2D = 0x87;
+    private static final int L2D = 0x8a;
+    private static final int IFEQ = 0x99;
+    private static final int IF_ICMPEQ = 0x9f;
+    private static final int GOTO = 0xa7;
+    private static final int IRETURN = 0xac;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int CHECKCAST = 0xc0;
+
+    private final Bytes pool = new Bytes();
+    private final Map<String, Integer> constants = new HashMap<>();
+    private int poolCount = 1;
+    private final Bytes code = new Bytes();
+    private final List<SelectorExpression> leaves = new ArrayList<>();
+
+    private SelectorCompiler() {
+    }
+
+    /**
+     * Folds the constant parts of an expression: arithmetic on literals, comparisons of literals, and operands of
+     * {@code AND}, {@code OR} and {@code NOT} that are literal truth values.
+     */
+    static SelectorExpression fold(SelectorExpression expression) {
+        if (expression instanceof Negate) {
+            SelectorExpression operand = fold(((Negate) expression).operand);
+            if (operand instanceof Literal) {
+                Number value = (Number) ((Literal) operand).value;
+                return SelectorExpression.isExact(value) ? new Literal(Long.valueOf(-value.longValue()))
+                        : new Literal(Double.valueOf(-value.doubleValue()));
+            }
+            return new Negate(operand);
+        }
+        if (expression instanceof Arithmetic) {
+            Arithmetic arithmetic = (Arithmetic) expression;
+            SelectorExpression left = fold(arithmetic.left);
+            SelectorExpression right = fold(arithmetic.right);
+            if (isNumber(left) && isNumber(right)) {
+                Numeric result = Arithmetic.compute(arithmetic.operator, (Number) ((Literal) left).value,
+                        (Number) ((Literal) right).value, new Numeric());
+                if (result != null) {
+                    return result.exact ? new Literal(Long.valueOf(result.exactValue))
+                            : new Literal(Double.valueOf(result.approximateValue));
+                }
+            }
+            return new Arithmetic(arithmetic.operator, left, right);
+        }
+        if (expression instanceof Comparison) {
+            Comparison comparison = (Comparison) expression;
+            SelectorExpression left = fold(comparison.left);
+            SelectorExpression right = fold(comparison.right);
+            if (left instanceof Literal && right instanceof Literal) {
+                int result = Comparison.compare(comparison.operator, ((Literal) left).value, ((Literal) right).value);
+                if (result != SelectorExpression.UNKNOWN) {
+                    return truth(result == SelectorExpression.TRUE);
+                }
+            }
+            return new Comparison(comparison.operator, left, right);
+        }
+        if (expression instanceof And) {
+            SelectorExpression left = fold(((And) expression).left);
+            SelectorExpression right = fold(((And) expression).right);
+            if (isTruth(left, false) || isTruth(right, false)) {
+                return truth(false);
+            }
+            if (isTruth(left, true) && right.kind() == Kind.BOOLEAN) {
+                return right;
+            }
+            if (isTruth(right, true) && left.kind() == Kind.BOOLEAN) {
+                return left;
+            }
+            return new And(left, right);
+        }
+        if (expression instanceof Or) {
+            SelectorExpression left = fold(((Or) expression).left);
+            SelectorExpression right = fold(((Or) expression).right);
+            if (isTruth(left, true) || isTruth(right, true)) {
+                return truth(true);
+            }
+            if (isTruth(left, false) && right.kind() == Kind.BOOLEAN) {
+                return right;
+            }
+            if (isTruth(right, false) && left.kind() == Kind.BOOLEAN) {
+                return left;
+            }
+            return new Or(left, right);
+        }
+        if (expression instanceof Not) {
+            SelectorExpression operand = fold(((Not) expression).operand);
+            if (operand instanceof Literal && ((Literal) operand).value instanceof Boolean) {
+                return truth(!((Boolean) ((Literal) operand).value));
+            }
+            if (operand instanceof Not && ((Not) operand).operand.kind() == Kind.BOOLEAN) {
+                return ((Not) operand).operand;
+            }
+            return new Not(operand);
+        }
+        SelectorExpression folded;
+        SelectorExpression value;
+        if (expression instanceof In) {
+            In in = (In) expression;
+            value = fold(in.value);
+            folded = new In(value, in.values, in.negated);
+        } else if (expression instanceof Like) {
+            Like like = (Like) expression;
+            value = fold(like.value);
+            folded = new Like(value, like.pattern, like.negated);
+        } else if (expression instanceof IsNull) {
+            IsNull isNull = (IsNull) expression;
+            value = fold(isNull.value);
+            folded = new IsNull(value, isNull.negated);
+        } else {
+            return expression;
+        }
+        if (value instanceof Literal) {
+            try {
+                // A predicate of a literal does not read the message.
+                return truth(folded.test(null, null) == SelectorExpression.TRUE);
+            } catch (JMSException e) {
+                return folded;
+            }
+        }
+        return folded;
+    }
+
+    private static boolean isNumber(SelectorExpression expression) {
+        return expression instanceof Literal && ((Literal) expression).value instanceof Number;
+    }
+
+    private static boolean isTruth(SelectorExpression expression, boolean truth) {
+        return expression instanceof Literal && Boolean.valueOf(truth).equals(((Literal) expression).value);
+    }
+
+    private static Literal truth(boolean truth) {
+        return new Literal(Boolean.valueOf(truth));
+    }
+
+    /**
+     * Returns an equivalent of the specified expression implemented in bytecode, or the expression itself if it cannot
+     * be compiled. Registers must already have been assigned to the expression.
+     */
+    static SelectorExpression compile(SelectorExpression expression) {
+        if (DEFINE_HIDDEN_CLASS == null || !(expression instanceof Condition)) {
+            return expression;
+        }
+        try {
+            SelectorCompiler compiler = new SelectorCompiler();
+            byte[] bytes = compiler.generate(expression);
+            MethodHandles.Lookup lookup = (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(MethodHandles.lookup(), bytes,
+                    Boolean.TRUE, NO_OPTIONS);
+            Object[] leaves = compiler.leaves.toArray();
+            return (SelectorExpression) lookup.lookupClass().getConstructor(Object[].class).newInstance((Object) leaves);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return expression;
+        }
+    }
+
+    /**
+     * Compares a property with an exact numeric literal. Called by generated code.
+     */
+    static int compareProperty(Message message, String name, int operator, long value) throws JMSException {
+        Object property = message.getObjectProperty(name);
+        if (property == null) {
+            return SelectorExpression.UNKNOWN;
+        }
+        if (!(property instanceof Number)) {
+            return SelectorExpression.FALSE;
+        }
+        Number number = (Number) property;
+        if (SelectorExpression.isExact(number)) {
+            return Comparison.compare(operator, number.longValue(), value);
+        }
+        return Comparison.compare(operator, number.doubleValue(), value);
+    }
+
+    /**
+     * Compares a property with an approximate numeric literal. Called by generated code.
+     */
+    static int compareProperty(Message message, String name, int operator, double value) throws JMSException {
+        Object property = message.getObjectProperty(name);
+        if (property == null) {
+            return SelectorExpression.UNKNOWN;
+        }
+        if (!(property instanceof Number)) {
+            return SelectorExpression.FALSE;
+        }
+        return Comparison.compare(operator, ((Number) property).doubleValue(), value);
+    }
+
+    /**
+     * Compares a property with a string or boolean literal. Called by generated code.
+     */
+    static int compareProperty(Message message, String name, int operator, Object value) throws JMSException {
+        Object property = message.getObjectProperty(name);
+        if (property == null) {
+            return SelectorExpression.UNKNOWN;
+        }
+        return Comparison.compare(operator, property, value);
+    }
+
+    private byte[] generate(SelectorExpression expression) {
+        int thisClass = classConstant(CLASS_NAME);
+        int superClass = classConstant(SUPER_NAME);
+
+        emit(expression);
+        code.u1(IRETURN);
+        byte[] test = code.toByteArray();
+        code.reset();
+
+        // The constructor stores each predicate called through a field.
+        code.u1(ALOAD_0);
+        code.u1(INVOKESPECIAL);
+        code.u2(memberConstant(0x0a, SUPER_NAME, "<init>", "()V"));
+        for (int i = 0; i < leaves.size(); i++) {
+            String type = internalName(leaves.get(i).getClass());
+            code.u1(ALOAD_0);
+            code.u1(ALOAD_1);
+            pushInt(i);
+            code.u1(AALOAD);
+            code.u1(CHECKCAST);
+            code.u2(classConstant(type));
+            code.u1(PUTFIELD);
+            code.u2(memberConstant(0x09, CLASS_NAME, "leaf" + i, "L" + type + ";"));
+        }
+        code.u1(RETURN);
+        byte[] init = code.toByteArray();
+
+        int codeName = utf8("Code");
+        int initName = utf8("<init>");
+        int initDescriptor = utf8("([Ljava/lang/Object;)V");
+        int testName = utf8("test");
+        int testDescriptor = utf8(TEST_DESCRIPTOR);
+        int[] fieldNames = new int[leaves.size()];
+        int[] fieldTypes = new int[leaves.size()];
+        for (int i = 0; i < leaves.size(); i++) {
+            fieldNames[i] = utf8("leaf" + i);
+            fieldTypes[i] = utf8("L" + internalName(leaves.get(i).getClass()) + ";");
+        }
+
+        Bytes out = new Bytes();
+        out.u4(0xCAFEBABE);
+        // Version 49 needs no stack map frames.
+        out.u2(0);
+        out.u2(49);
+        out.u2(poolCount);
+        out.bytes(pool.toByteArray());
+        out.u2(ACC_FINAL | ACC_SUPER);
+        out.u2(thisClass);
+        out.u2(superClass);
+        out.u2(0);
+        out.u2(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            out.u2(ACC_PRIVATE | ACC_FINAL);
+            out.u2(fieldNames[i]);
+            out.u2(fieldTypes[i]);
+            out.u2(0);
+        }
+        out.u2(2);
+        method(out, initName, initDescriptor, codeName, 3, 2, init);
+        method(out, testName, testDescriptor, codeName, maxStack(expression) + 1, 3, test);
+        out.u2(0);
+        return out.toByteArray();
+    }
+
+    private static void method(Bytes out, int name, int descriptor, int codeName, int maxStack, int maxLocals,
+            byte[] code) {
+        if (code.length > 0xffff) {
+            throw new IllegalArgumentException("Selector too large to compile");
+        }
+        out.u2(ACC_PUBLIC);
+        out.u2(name);
+        out.u2(descriptor);
+        out.u2(1);
+        out.u2(codeName);
+        out.u4(12 + code.length);
+        out.u2(maxStack);
+        out.u2(maxLocals);
+        out.u4(code.length);
+        out.bytes(code);
+        out.u2(0);
+        out.u2(0);
+    }
+
+    /**
+     * Returns the operand stack depth needed by the code emitted for the specified expression.
+     */
+    private static int maxStack(SelectorExpression expression) {
+        if (expression instanceof And) {
+            return Math.max(Math.max(maxStack(((And) expression).left), 1 + maxStack(((And) expression).right)), 3);
+        }
+        if (expression instanceof Or) {
+            return Math.max(Math.max(maxStack(((Or) expression).left), 1 + maxStack(((Or) expression).right)), 3);
+        }
+        if (expression instanceof Not) {
+            return Math.max(maxStack(((Not) expression).operand), 2);
+        }
+        return 5;
+    }
+
+    /**
+     * Emits code leaving the truth value of the specified expression on the operand stack.
+     */
+    private void emit(SelectorExpression expression) {
+        if (expression instanceof And) {
+            // left = FALSE: FALSE; right = FALSE: FALSE; otherwise TRUE if both are TRUE, else UNKNOWN.
+            emit(((And) expression).left);
+            code.u1(DUP);
+            int leftFalse = branch(IFEQ);
+            emit(((And) expression).right);
+            code.u1(DUP);
+            int rightFalse = branch(IFEQ);
+            max();
+            int done = branch(GOTO);
+            bind(rightFalse);
+            code.u1(POP2);
+            code.u1(ICONST_0);
+            bind(leftFalse);
+            bind(done);
+            return;
+        }
+        if (expression instanceof Or) {
+            // left = TRUE: TRUE; right = TRUE: TRUE; otherwise FALSE if both are FALSE, else UNKNOWN.
+            emit(((Or) expression).left);
+            code.u1(DUP);
+            pushInt(SelectorExpression.TRUE);
+            int leftTrue = branch(IF_ICMPEQ);
+            emit(((Or) expression).right);
+            code.u1(DUP);
+            pushInt(SelectorExpression.TRUE);
+            int rightTrue = branch(IF_ICMPEQ);
+            max();
+            int done = branch(GOTO);
+            bind(rightTrue);
+            code.u1(POP2);
+            pushInt(SelectorExpression.TRUE);
+            bind(leftTrue);
+            bind(done);
+            return;
+        }
+        if (expression instanceof Not) {
+            emit(((Not) expression).operand);
+            code.u1(DUP);
+            pushInt(SelectorExpression.UNKNOWN);
+            int unknown = branch(IF_ICMPEQ);
+            pushInt(SelectorExpression.TRUE);
+            code.u1(SWAP);
+            code.u1(ISUB);
+            bind(unknown);
+            return;
+        }
+        if (expression instanceof Literal) {
+            Object value = ((Literal) expression).value;
+            pushInt(!(value instanceof Boolean) ? SelectorExpression.UNKNOWN
+                    : ((Boolean) value) ? SelectorExpression.TRUE : SelectorExpression.FALSE);
+            return;
+        }
+        if (expression instanceof Comparison && emitComparison((Comparison) expression)) {
+            return;
+        }
+        int index = leaves.size();
+        leaves.add(expression);
+        String type = internalName(expression.getClass());
+        code.u1(ALOAD_0);
+        code.u1(GETFIELD);
+        code.u2(memberConstant(0x09, CLASS_NAME, "leaf" + index, "L" + type + ";"));
+        code.u1(ALOAD_1);
+        code.u1(ALOAD_2);
+        code.u1(INVOKEVIRTUAL);
+        code.u2(memberConstant(0x0a, type, "test", TEST_DESCRIPTOR));
+    }
+
+    /**
+     * Emits a direct comparison of a property or numeric header field with a literal.
+     *
+     * @return false if the comparison has another form
+     */
+    private boolean emitComparison(Comparison comparison) {
+        SelectorExpression subject = comparison.left;
+        SelectorExpression constant = comparison.right;
+        int operator = comparison.operator;
+        if (subject instanceof Literal) {
+            subject = comparison.right;
+            constant = comparison.left;
+            operator = reverse(operator);
+        }
+        if (!(constant instanceof Literal)) {
+            return false;
+        }
+        Object value = ((Literal) constant).value;
+        if (subject instanceof Property) {
+            code.u1(ALOAD_1);
+            code.u1(LDC_W);
+            code.u2(stringConstant(((Property) subject).name));
+            pushInt(operator);
+            String type;
+            if (value instanceof Long) {
+                code.u1(LDC2_W);
+                code.u2(longConstant((Long) value));
+                type = "J";
+            } else if (value instanceof Double) {
+                code.u1(LDC2_W);
+                code.u2(doubleConstant((Double) value));
+                type = "D";
+            } else if (value instanceof String) {
+                code.u1(LDC_W);
+                code.u2(stringConstant((String) value));
+                type = "Ljava/lang/Object;";
+            } else {
+                code.u1(GETSTATIC);
+                code.u2(memberConstant(0x09, "java/lang/Boolean", ((Boolean) value) ? "TRUE" : "FALSE",
+                        "Ljava/lang/Boolean;"));
+                type = "Ljava/lang/Object;";
+            }
+            code.u1(INVOKESTATIC);
+            code.u2(memberConstant(0x0a, COMPILER, "compareProperty", "(L" + MESSAGE + ";Ljava/lang/String;I" + type
+                    + ")I"));
+            return true;
+        }
+        if (subject instanceof Header && subject.kind() == Kind.NUMERIC && value instanceof Number) {
+            boolean priority = ((Header) subject).name.equals(Header.PRIORITY);
+            boolean exact = value instanceof Long;
+            pushInt(operator);
+            code.u1(ALOAD_1);
+            code.u1(INVOKEINTERFACE);
+            code.u2(memberConstant(0x0b, MESSAGE, priority ? "getJMSPriority" : "getJMSTimestamp", priority ? "()I"
+                    : "()J"));
+            code.u1(1);
+            code.u1(0);
+            if (priority) {
+                code.u1(exact ? I2L : I2D);
+            } else if (!exact) {
+                code.u1(L2D);
+            }
+            code.u1(LDC2_W);
+            code.u2(exact ? longConstant((Long) value) : doubleConstant((Double) value));
+            code.u1(INVOKESTATIC);
+            code.u2(memberConstant(0x0a, COMPARISON, "compare", exact ? "(IJJ)I" : "(IDD)I"));
+            return true;
+        }
+        return false;
+    }
+
+    private static int reverse(int operator) {
+        switch (operator) {
+            case Comparison.LT:
+                return Comparison.GT;
+            case Comparison.LE:
+                return Comparison.GE;
+            case Comparison.GT:
+                return Comparison.LT;
+            case Comparison.GE:
+                return Comparison.LE;
+            default:
+                return operator;
+        }
+    }
+
+    /**
+     * Replaces the two truth values on top of the stack, neither of them decisive, by the larger of them.
+     */
+    private void max() {
+        code.u1(INVOKESTATIC);
+        code.u2(memberConstant(0x0a, "java/lang/Math", "max", "(II)I"));
+    }
+
+    private void pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            code.u1(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            code.u1(BIPUSH);
+            code.u1(value);
+        } else {
+            code.u1(SIPUSH);
+            code.u2(value);
+        }
+    }
+
+    /**
+     * Emits a branch instruction whose target is set later by {@link #bind(int)}.
+     *
+     * @return the offset of the instruction
+     */
+    private int branch(int opcode) {
+        int at = code.size();
+        code.u1(opcode);
+        code.u2(0);
+        return at;
+    }
+
+    /**
+     * Makes the branch emitted at the specified offset jump to the current offset.
+     */
+    private void bind(int branch) {
+        int offset = code.size() - branch;
+        if (offset > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Selector too large to compile");
+        }
+        code.set(branch + 1, offset >> 8);
+        code.set(branch + 2, offset);
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private int utf8(String value) {
+        Integer index = constants.get("U" + value);
+        if (index == null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            // Class files use modified UTF-8, which differs only for NUL and supplementary characters.
+            if (value.indexOf('\0') >= 0 || bytes.length > 0xffff || hasSupplementary(value)) {
+                throw new IllegalArgumentException("Unsupported constant");
+            }
+            pool.u1(1);
+            pool.u2(bytes.length);
+            pool.bytes(bytes);
+            index = add("U" + value, 1);
+        }
+        return index;
+    }
+
+    private static boolean hasSupplementary(String value) {
+        return value.codePointCount(0, value.length()) != value.length();
+    }
+
+    private int classConstant(String name) {
+        Integer index = constants.get("C" + name);
+        if (index == null) {
+            int nameIndex = utf8(name);
+            pool.u1(7);
+            pool.u2(nameIndex);
+            index = add("C" + name, 1);
+        }
+        return index;
+    }
+
+    private int stringConstant(String value) {
+        Integer index = constants.get("S" + value);
+        if (index == null) {
+            int valueIndex = utf8(value);
+            pool.u1(8);
+            pool.u2(valueIndex);
+            index = add("S" + value, 1);
+        }
+        return index;
+    }
+
+    private int longConstant(long value) {
+        Integer index = constants.get("J" + value);
+        if (index == null) {
+            pool.u1(5);
+            pool.u4((int) (value >>> 32));
+            pool.u4((int) value);
+            index = add("J" + value, 2);
+        }
+        return index;
+    }
+
+    private int doubleConstant(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        Integer index = constants.get("D" + bits);
+        if (index == null) {
+            pool.u1(6);
+            pool.u4((int) (bits >>> 32));
+            pool.u4((int) bits);
+            index = add("D" + bits, 2);
+        }
+        return index;
+    }
+
+    /**
+     * Returns a field (tag 9), method (tag 10) or interface method (tag 11) reference.
+     */
+    private int memberConstant(int tag, String owner, String name, String descriptor) {
+        String key = "M" + tag + owner + '.' + name + descriptor;
+        Integer index = constants.get(key);
+        if (index == null) {
+            int ownerIndex = classConstant(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            pool.u1(12);
+            pool.u2(nameIndex);
+            pool.u2(descriptorIndex);
+            int nameAndType = poolCount++;
+            pool.u1(tag);
+            pool.u2(ownerIndex);
+            pool.u2(nameAndType);
+            index = add(key, 1);
+        }
+        return index;
+    }
+
+    private int add(String key, int slots) {
+        int index = poolCount;
+        poolCount += slots;
+        if (poolCount > 0xffff) {
+            throw new IllegalArgumentException("Selector too large to compile");
+        }
+        constants.put(key, index);
+        return index;
+    }
+
+    /**
+     * A growable byte array written in big-endian order.
+     */
+    private static final class Bytes {
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void u1(int value) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void u2(int value) {
+            u1(value >> 8);
+            u1(value);
+        }
+
+        void u4(int value) {
+            u2(value >> 16);
+            u2(value);
+        }
+
+        void bytes(byte[] values) {
+            for (byte value : values) {
+                u1(value);
+            }
+        }
+
+        void set(int at, int value) {
+            bytes[at] = (byte) value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,849 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.Set;
+
+/**
+ * A node of a compiled message selector.
+ *
+ * <p>
+ * Evaluation follows the rules given in the description of message selectors in {@link Message}. A node that yields a
+ * condition returns {@link #TRUE}, {@link #FALSE} or {@link #UNKNOWN} from {@link #test(Message, Numeric[])}. A node
+ * that yields a value returns it from {@link #evaluate(Message, Numeric[])}: a {@code String}, a {@code Boolean}, a
+ * {@code Number}, or null for an unknown value. A node that computes a number stores it in the {@link Numeric} register
+ * assigned to it and returns the register, so that evaluating a selector does not allocate.
+ *
+ * @see javax.jms.MessageSelector
+ */
+abstract class SelectorExpression {
+
+    static final int FALSE = 0;
+    static final int TRUE = 1;
+    static final int UNKNOWN = 2;
+
+    /**
+     * The type of the values of an expression, as far as it is known when the selector is compiled.
+     */
+    enum Kind {
+        BOOLEAN, NUMERIC, STRING, ANY
+    }
+
+    abstract Kind kind();
+
+    abstract Object evaluate(Message message, Numeric[] registers) throws JMSException;
+
+    int test(Message message, Numeric[] registers) throws JMSException {
+        Object value = evaluate(message, registers);
+        if (value instanceof Boolean) {
+            return ((Boolean) value) ? TRUE : FALSE;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Assigns registers to this expression and its operands, starting with the specified index.
+     *
+     * @return the index of the first register left unassigned
+     */
+    int assignRegisters(int next) {
+        return next;
+    }
+
+    static boolean isExact(Object number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte
+                || (number instanceof Numeric && ((Numeric) number).exact);
+    }
+
+    static String quote(String value) {
+        return '\'' + value.replace("'", "''") + '\'';
+    }
+
+    /**
+     * A mutable number holding the result of an arithmetic expression or a numeric header field.
+     */
+    static final class Numeric extends Number {
+
+        private static final long serialVersionUID = 1L;
+
+        boolean exact;
+        long exactValue;
+        double approximateValue;
+
+        static Numeric[] allocate(int count) {
+            Numeric[] registers = new Numeric[count];
+            for (int i = 0; i < count; i++) {
+                registers[i] = new Numeric();
+            }
+            return registers;
+        }
+
+        Numeric setExact(long value) {
+            exact = true;
+            exactValue = value;
+            return this;
+        }
+
+        Numeric setApproximate(double value) {
+            exact = false;
+            approximateValue = value;
+            return this;
+        }
+
+        @Override
+        public int intValue() {
+            return (int) longValue();
+        }
+
+        @Override
+        public long longValue() {
+            return exact ? exactValue : (long) approximateValue;
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) doubleValue();
+        }
+
+        @Override
+        public double doubleValue() {
+            return exact ? exactValue : approximateValue;
+        }
+    }
+
+    /**
+     * An expression that yields a condition.
+     */
+    abstract static class Condition extends SelectorExpression {
+
+        @Override
+        Kind kind() {
+            return Kind.BOOLEAN;
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) throws JMSException {
+            switch (test(message, registers)) {
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        abstract int test(Message message, Numeric[] registers) throws JMSException;
+    }
+
+    /**
+     * A string, numeric or boolean literal.
+     */
+    static final class Literal extends SelectorExpression {
+
+        final Object value;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Kind kind() {
+            if (value instanceof Boolean) {
+                return Kind.BOOLEAN;
+            }
+            return value instanceof String ? Kind.STRING : Kind.NUMERIC;
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            if (value instanceof String) {
+                return quote((String) value);
+            }
+            if (value instanceof Boolean) {
+                return ((Boolean) value) ? "TRUE" : "FALSE";
+            }
+            return value.toString();
+        }
+    }
+
+    /**
+     * A reference to a message property.
+     */
+    static final class Property extends SelectorExpression {
+
+        final String name;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.ANY;
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) throws JMSException {
+            return message.getObjectProperty(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * A reference to one of the header fields that a message selector may use.
+     */
+    static final class Header extends SelectorExpression {
+
+        static final String DELIVERY_MODE = "JMSDeliveryMode";
+        static final String PRIORITY = "JMSPriority";
+        static final String MESSAGE_ID = "JMSMessageID";
+        static final String TIMESTAMP = "JMSTimestamp";
+        static final String CORRELATION_ID = "JMSCorrelationID";
+        static final String TYPE = "JMSType";
+
+        final String name;
+        int register;
+
+        private Header(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the header field reference for the specified identifier, or null if the identifier is a property
+         * reference.
+         */
+        static Header forName(String name) {
+            switch (name) {
+                case DELIVERY_MODE:
+                case PRIORITY:
+                case MESSAGE_ID:
+                case TIMESTAMP:
+                case CORRELATION_ID:
+                case TYPE:
+                    return new Header(name);
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        Kind kind() {
+            return name.equals(PRIORITY) || name.equals(TIMESTAMP) ? Kind.NUMERIC : Kind.STRING;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            register = next;
+            return next + 1;
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) throws JMSException {
+            switch (name) {
+                case DELIVERY_MODE:
+                    return message.getJMSDeliveryMode() == DeliveryMode.PERSISTENT ? "PERSISTENT" : "NON_PERSISTENT";
+                case PRIORITY:
+                    return registers[register].setExact(message.getJMSPriority());
+                case MESSAGE_ID:
+                    return message.getJMSMessageID();
+                case TIMESTAMP:
+                    return registers[register].setExact(message.getJMSTimestamp());
+                case CORRELATION_ID:
+                    return message.getJMSCorrelationID();
+                default:
+                    return message.getJMSType();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * Unary minus.
+     */
+    static final class Negate extends SelectorExpression {
+
+        final SelectorExpression operand;
+        int register;
+
+        Negate(SelectorExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.NUMERIC;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            register = next;
+            return operand.assignRegisters(next + 1);
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) throws JMSException {
+            Object value = operand.evaluate(message, registers);
+            if (!(value instanceof Number)) {
+                return null;
+            }
+            Number number = (Number) value;
+            Numeric result = registers[register];
+            return isExact(number) ? result.setExact(-number.longValue()) : result.setApproximate(-number.doubleValue());
+        }
+
+        @Override
+        public String toString() {
+            return "-" + operand;
+        }
+    }
+
+    /**
+     * Addition, subtraction, multiplication or division.
+     */
+    static final class Arithmetic extends SelectorExpression {
+
+        final char operator;
+        final SelectorExpression left;
+        final SelectorExpression right;
+        int register;
+
+        Arithmetic(char operator, SelectorExpression left, SelectorExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        Kind kind() {
+            return Kind.NUMERIC;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            register = next;
+            return right.assignRegisters(left.assignRegisters(next + 1));
+        }
+
+        @Override
+        Object evaluate(Message message, Numeric[] registers) throws JMSException {
+            Object l = left.evaluate(message, registers);
+            if (!(l instanceof Number)) {
+                return null;
+            }
+            Object r = right.evaluate(message, registers);
+            if (!(r instanceof Number)) {
+                return null;
+            }
+            return compute(operator, (Number) l, (Number) r, registers[register]);
+        }
+
+        /**
+         * Applies an arithmetic operator using binary numeric promotion.
+         *
+         * @return the result, or null if an exact division by zero was attempted
+         */
+        static Numeric compute(char operator, Number l, Number r, Numeric result) {
+            if (isExact(l) && isExact(r)) {
+                long a = l.longValue();
+                long b = r.longValue();
+                switch (operator) {
+                    case '+':
+                        return result.setExact(a + b);
+                    case '-':
+                        return result.setExact(a - b);
+                    case '*':
+                        return result.setExact(a * b);
+                    default:
+                        return b == 0 ? null : result.setExact(a / b);
+                }
+            }
+            double a = l.doubleValue();
+            double b = r.doubleValue();
+            switch (operator) {
+                case '+':
+                    return result.setApproximate(a + b);
+                case '-':
+                    return result.setApproximate(a - b);
+                case '*':
+                    return result.setApproximate(a * b);
+                default:
+                    return result.setApproximate(a / b);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " " + operator + " " + right + ")";
+        }
+    }
+
+    /**
+     * A comparison using one of the operators {@code =}, {@code <>}, {@code <}, {@code <=}, {@code >} and
+     * {@code >=}.
+     */
+    static final class Comparison extends Condition {
+
+        static final int EQ = 0;
+        static final int NE = 1;
+        static final int LT = 2;
+        static final int LE = 3;
+        static final int GT = 4;
+        static final int GE = 5;
+
+        private static final String[] SYMBOLS = { "=", "<>", "<", "<=", ">", ">=" };
+
+        final int operator;
+        final SelectorExpression left;
+        final SelectorExpression right;
+
+        Comparison(int operator, SelectorExpression left, SelectorExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return right.assignRegisters(left.assignRegisters(next));
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            Object l = left.evaluate(message, registers);
+            if (l == null) {
+                return UNKNOWN;
+            }
+            Object r = right.evaluate(message, registers);
+            if (r == null) {
+                return UNKNOWN;
+            }
+            return compare(operator, l, r);
+        }
+
+        /**
+         * Compares two non-null values.
+         */
+        static int compare(int operator, Object l, Object r) {
+            if (l instanceof Number) {
+                if (!(r instanceof Number)) {
+                    return FALSE;
+                }
+                Number a = (Number) l;
+                Number b = (Number) r;
+                if (isExact(a) && isExact(b)) {
+                    return compare(operator, a.longValue(), b.longValue());
+                }
+                return compare(operator, a.doubleValue(), b.doubleValue());
+            }
+            if (l.getClass() != r.getClass() || !(l instanceof String || l instanceof Boolean)) {
+                return FALSE;
+            }
+            switch (operator) {
+                case EQ:
+                    return l.equals(r) ? TRUE : FALSE;
+                case NE:
+                    return l.equals(r) ? FALSE : TRUE;
+                default:
+                    // Strings and booleans are not ordered.
+                    return UNKNOWN;
+            }
+        }
+
+        static int compare(int operator, long a, long b) {
+            boolean result;
+            switch (operator) {
+                case EQ:
+                    result = a == b;
+                    break;
+                case NE:
+                    result = a != b;
+                    break;
+                case LT:
+                    result = a < b;
+                    break;
+                case LE:
+                    result = a <= b;
+                    break;
+                case GT:
+                    result = a > b;
+                    break;
+                default:
+                    result = a >= b;
+                    break;
+            }
+            return result ? TRUE : FALSE;
+        }
+
+        static int compare(int operator, double a, double b) {
+            boolean result;
+            switch (operator) {
+                case EQ:
+                    result = a == b;
+                    break;
+                case NE:
+                    result = a != b;
+                    break;
+                case LT:
+                    result = a < b;
+                    break;
+                case LE:
+                    result = a <= b;
+                    break;
+                case GT:
+                    result = a > b;
+                    break;
+                default:
+                    result = a >= b;
+                    break;
+            }
+            return result ? TRUE : FALSE;
+        }
+
+        static String symbol(int operator) {
+            return SYMBOLS[operator];
+        }
+
+        @Override
+        public String toString() {
+            return left + " " + SYMBOLS[operator] + " " + right;
+        }
+    }
+
+    /**
+     * The {@code AND} operator.
+     */
+    static final class And extends Condition {
+
+        final SelectorExpression left;
+        final SelectorExpression right;
+
+        And(SelectorExpression left, SelectorExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return right.assignRegisters(left.assignRegisters(next));
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            int l = left.test(message, registers);
+            if (l == FALSE) {
+                return FALSE;
+            }
+            int r = right.test(message, registers);
+            if (r == FALSE) {
+                return FALSE;
+            }
+            return l == TRUE && r == TRUE ? TRUE : UNKNOWN;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    /**
+     * The {@code OR} operator.
+     */
+    static final class Or extends Condition {
+
+        final SelectorExpression left;
+        final SelectorExpression right;
+
+        Or(SelectorExpression left, SelectorExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return right.assignRegisters(left.assignRegisters(next));
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            int l = left.test(message, registers);
+            if (l == TRUE) {
+                return TRUE;
+            }
+            int r = right.test(message, registers);
+            if (r == TRUE) {
+                return TRUE;
+            }
+            return l == FALSE && r == FALSE ? FALSE : UNKNOWN;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    /**
+     * The {@code NOT} operator.
+     */
+    static final class Not extends Condition {
+
+        final SelectorExpression operand;
+
+        Not(SelectorExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return operand.assignRegisters(next);
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            return negate(operand.test(message, registers));
+        }
+
+        static int negate(int value) {
+            return value == UNKNOWN ? UNKNOWN : TRUE - value;
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    /**
+     * The {@code IN} and {@code NOT IN} operators.
+     */
+    static final class In extends Condition {
+
+        final SelectorExpression value;
+        final Set<String> values;
+        final boolean negated;
+
+        In(SelectorExpression value, Set<String> values, boolean negated) {
+            this.value = value;
+            this.values = values;
+            this.negated = negated;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return value.assignRegisters(next);
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            Object v = value.evaluate(message, registers);
+            if (v == null) {
+                return UNKNOWN;
+            }
+            if (!(v instanceof String)) {
+                return FALSE;
+            }
+            return values.contains(v) != negated ? TRUE : FALSE;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder().append(value).append(negated ? " NOT IN (" : " IN (");
+            String separator = "";
+            for (String v : values) {
+                text.append(separator).append(quote(v));
+                separator = ", ";
+            }
+            return text.append(')').toString();
+        }
+    }
+
+    /**
+     * The {@code LIKE} and {@code NOT LIKE} operators.
+     */
+    static final class Like extends Condition {
+
+        final SelectorExpression value;
+        final LikePattern pattern;
+        final boolean negated;
+
+        Like(SelectorExpression value, LikePattern pattern, boolean negated) {
+            this.value = value;
+            this.pattern = pattern;
+            this.negated = negated;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return value.assignRegisters(next);
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            Object v = value.evaluate(message, registers);
+            if (v == null) {
+                return UNKNOWN;
+            }
+            if (!(v instanceof String)) {
+                return FALSE;
+            }
+            return pattern.matches((String) v) != negated ? TRUE : FALSE;
+        }
+
+        @Override
+        public String toString() {
+            return value + (negated ? " NOT LIKE " : " LIKE ") + pattern;
+        }
+    }
+
+    /**
+     * The {@code IS NULL} and {@code IS NOT NULL} operators.
+     */
+    static final class IsNull extends Condition {
+
+        final SelectorExpression value;
+        final boolean negated;
+
+        IsNull(SelectorExpression value, boolean negated) {
+            this.value = value;
+            this.negated = negated;
+        }
+
+        @Override
+        int assignRegisters(int next) {
+            return value.assignRegisters(next);
+        }
+
+        @Override
+        int test(Message message, Numeric[] registers) throws JMSException {
+            return (value.evaluate(message, registers) == null) != negated ? TRUE : FALSE;
+        }
+
+        @Override
+        public String toString() {
+            return value + (negated ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    /**
+     * A compiled {@code LIKE} pattern, in which {@code '_'} matches any character and {@code '%'} any sequence of
+     * characters.
+     */
+    static final class LikePattern {
+
+        private final String text;
+        private final char[] chars;
+        private final byte[] kinds;
+        private static final byte CHAR = 0;
+        private static final byte ANY_ONE = 1;
+        private static final byte ANY_MANY = 2;
+
+        /**
+         * @param text the pattern as written in the selector, including any {@code ESCAPE} clause
+         * @param chars the characters of the pattern, with escape characters removed
+         * @param kinds for each character, whether it stands for itself, for any character or for any sequence
+         */
+        private LikePattern(String text, char[] chars, byte[] kinds) {
+            this.text = text;
+            this.chars = chars;
+            this.kinds = kinds;
+        }
+
+        /**
+         * Compiles a pattern.
+         *
+         * @param escape the escape character, or -1 if there is none
+         *
+         * @exception InvalidSelectorException if the pattern ends with the escape character
+         */
+        static LikePattern compile(String pattern, int escape) throws InvalidSelectorException {
+            char[] chars = new char[pattern.length()];
+            byte[] kinds = new byte[pattern.length()];
+            int length = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == escape) {
+                    if (++i == pattern.length()) {
+                        throw new InvalidSelectorException("LIKE pattern ends with its escape character: " + quote(pattern));
+                    }
+                    chars[length] = pattern.charAt(i);
+                    kinds[length++] = CHAR;
+                } else if (c == '%') {
+                    if (length == 0 || kinds[length - 1] != ANY_MANY) {
+                        kinds[length++] = ANY_MANY;
+                    }
+                } else {
+                    chars[length] = c;
+                    kinds[length++] = c == '_' ? ANY_ONE : CHAR;
+                }
+            }
+            String text = quote(pattern) + (escape < 0 ? "" : " ESCAPE " + quote(String.valueOf((char) escape)));
+            char[] compiledChars = new char[length];
+            byte[] compiledKinds = new byte[length];
+            System.arraycopy(chars, 0, compiledChars, 0, length);
+            System.arraycopy(kinds, 0, compiledKinds, 0, length);
+            return new LikePattern(text, compiledChars, compiledKinds);
+        }
+
+        boolean matches(String value) {
+            int length = kinds.length;
+            int v = 0;
+            int p = 0;
+            int retryPattern = -1;
+            int retryValue = 0;
+            while (v < value.length()) {
+                if (p < length && (kinds[p] == ANY_ONE || (kinds[p] == CHAR && chars[p] == value.charAt(v)))) {
+                    v++;
+                    p++;
+                } else if (p < length && kinds[p] == ANY_MANY) {
+                    retryPattern = ++p;
+                    retryValue = v;
+                } else if (retryPattern >= 0) {
+                    // Let the last '%' absorb one more character and try again from there.
+                    p = retryPattern;
+                    v = ++retryValue;
+                } else {
+                    return false;
+                }
+            }
+            while (p < length && kinds[p] == ANY_MANY) {
+                p++;
+            }
+            return p == length;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
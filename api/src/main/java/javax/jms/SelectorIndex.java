@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import javax.jms.SelectorExpression.And;
+import javax.jms.SelectorExpression.Comparison;
+import javax.jms.SelectorExpression.Header;
+import javax.jms.SelectorExpression.In;
+import javax.jms.SelectorExpression.Literal;
+import javax.jms.SelectorExpression.Property;
+
+/**
+ * An index of the message selectors of many subscriptions, used to find the subscriptions that select a message
+ * without evaluating every selector.
+ *
+ * <p>
+ * When a subscription is added, one condition that its selector requires is chosen as its anchor: an equality such as
+ * {@code region = 'EU'}, an {@code IN} list, or a bound such as {@code JMSPriority > 4}, taken from the terms joined by
+ * {@code AND} at the top level of the selector. The subscription is filed under the identifier and value of its anchor
+ * in a hash table for equalities and {@code IN} lists, or in a sorted map for bounds. To match a message, the index
+ * looks up the value of each anchored identifier in the message and evaluates in full only the selectors of the
+ * subscriptions found, together with the selectors that have no anchor. A topic with many subscriptions selecting on a
+ * few identifiers therefore costs a few lookups per message rather than an evaluation per subscription.
+ *
+ * <p>
+ * A {@code SelectorIndex} may be used by many threads at once. Subscriptions can be added and removed while messages
+ * are matched.
+ *
+ * @param <S> the type of the subscriptions
+ *
+ * @see javax.jms.MessageSelector
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class SelectorIndex<S> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<S, Entry<S>> entries = new HashMap<>();
+    private final List<Entry<S>> unanchored = new ArrayList<>();
+    private final Map<String, Map<Object, List<Entry<S>>>> equalities = new HashMap<>();
+    private final Map<String, NavigableMap<Double, List<Entry<S>>>> lowerBounds = new HashMap<>();
+    private final Map<String, NavigableMap<Double, List<Entry<S>>>> upperBounds = new HashMap<>();
+
+    /**
+     * Adds a subscription to this index, replacing any selector it was previously added with.
+     *
+     * @param subscription the subscription
+     * @param selector the message selector of the subscription
+     */
+    public void add(S subscription, MessageSelector selector) {
+        if (subscription == null || selector == null) {
+            throw new NullPointerException();
+        }
+        Entry<S> entry = new Entry<>(subscription, selector);
+        anchor(entry, selector.expression());
+        lock.writeLock().lock();
+        try {
+            Entry<S> previous = entries.put(subscription, entry);
+            if (previous != null) {
+                unfile(previous);
+            }
+            file(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a subscription to this index, replacing any selector it was previously added with.
+     *
+     * @param subscription the subscription
+     * @param selector the message selector of the subscription; null or the empty string selects every message
+     *
+     * @exception InvalidSelectorException if the message selector is invalid
+     */
+    public void add(S subscription, String selector) throws InvalidSelectorException {
+        add(subscription, MessageSelector.compile(selector));
+    }
+
+    /**
+     * Removes a subscription from this index.
+     *
+     * @param subscription the subscription
+     *
+     * @return true if the subscription was in this index
+     */
+    public boolean remove(S subscription) {
+        lock.writeLock().lock();
+        try {
+            Entry<S> entry = entries.remove(subscription);
+            if (entry == null) {
+                return false;
+            }
+            unfile(entry);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of subscriptions in this index.
+     *
+     * @return the number of subscriptions
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the subscriptions whose selectors select the specified message.
+     *
+     * @param message the message
+     *
+     * @return the matching subscriptions
+     *
+     * @exception JMSException if the header fields or properties of the message cannot be read
+     */
+    public Set<S> match(Message message) throws JMSException {
+        Set<S> matches = new LinkedHashSet<>();
+        match(message, matches::add);
+        return matches;
+    }
+
+    /**
+     * Performs the specified action for each subscription whose selector selects the specified message. The action is
+     * performed once for each matching subscription, while no subscription can be added or removed.
+     *
+     * @param message the message
+     * @param action the action to be performed for each matching subscription
+     *
+     * @exception JMSException if the header fields or properties of the message cannot be read
+     */
+    public void match(Message message, Consumer<? super S> action) throws JMSException {
+        lock.readLock().lock();
+        try {
+            evaluate(unanchored, message, action);
+            for (Map.Entry<String, Map<Object, List<Entry<S>>>> equality : equalities.entrySet()) {
+                Object key = key(value(message, equality.getKey()));
+                if (key != null) {
+                    evaluate(equality.getValue().get(key), message, action);
+                }
+            }
+            for (Map.Entry<String, NavigableMap<Double, List<Entry<S>>>> bounds : lowerBounds.entrySet()) {
+                Object key = key(value(message, bounds.getKey()));
+                if (key instanceof Double) {
+                    for (List<Entry<S>> candidates : bounds.getValue().headMap((Double) key, true).values()) {
+                        evaluate(candidates, message, action);
+                    }
+                }
+            }
+            for (Map.Entry<String, NavigableMap<Double, List<Entry<S>>>> bounds : upperBounds.entrySet()) {
+                Object key = key(value(message, bounds.getKey()));
+                if (key instanceof Double) {
+                    for (List<Entry<S>> candidates : bounds.getValue().tailMap((Double) key, true).values()) {
+                        evaluate(candidates, message, action);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <S> void evaluate(List<Entry<S>> candidates, Message message, Consumer<? super S> action)
+            throws JMSException {
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                Entry<S> candidate = candidates.get(i);
+                if (candidate.selector.matches(message)) {
+                    action.accept(candidate.subscription);
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses the anchor of a selector among the terms of its top-level conjunction, preferring equalities and
+     * {@code IN} lists to bounds.
+     */
+    private static void anchor(Entry<?> entry, SelectorExpression expression) {
+        List<SelectorExpression> terms = new ArrayList<>();
+        conjuncts(expression, terms);
+        for (SelectorExpression term : terms) {
+            if (term instanceof In) {
+                In in = (In) term;
+                if (!in.negated && isIdentifier(in.value)) {
+                    entry.anchor(Entry.EQUALITY, in.value.toString(), new ArrayList<Object>(in.values));
+                    return;
+                }
+            } else if (term instanceof Comparison && ((Comparison) term).operator == Comparison.EQ) {
+                Comparison comparison = (Comparison) term;
+                SelectorExpression identifier = isIdentifier(comparison.left) ? comparison.left : comparison.right;
+                SelectorExpression literal = identifier == comparison.left ? comparison.right : comparison.left;
+                Object key = literal instanceof Literal ? key(((Literal) literal).value) : null;
+                if (isIdentifier(identifier) && key != null) {
+                    List<Object> keys = new ArrayList<>();
+                    keys.add(key);
+                    entry.anchor(Entry.EQUALITY, identifier.toString(), keys);
+                    return;
+                }
+            }
+        }
+        for (SelectorExpression term : terms) {
+            if (term instanceof Comparison) {
+                Comparison comparison = (Comparison) term;
+                int operator = comparison.operator;
+                SelectorExpression identifier = comparison.left;
+                SelectorExpression literal = comparison.right;
+                if (identifier instanceof Literal) {
+                    identifier = comparison.right;
+                    literal = comparison.left;
+                    operator = operator == Comparison.LT ? Comparison.GT : operator == Comparison.LE ? Comparison.GE
+                            : operator == Comparison.GT ? Comparison.LT : operator == Comparison.GE ? Comparison.LE
+                                    : operator;
+                }
+                if (!isIdentifier(identifier) || !(literal instanceof Literal)
+                        || !(key(((Literal) literal).value) instanceof Double)) {
+                    continue;
+                }
+                List<Object> keys = new ArrayList<>();
+                keys.add(key(((Literal) literal).value));
+                if (operator == Comparison.GT || operator == Comparison.GE) {
+                    entry.anchor(Entry.LOWER_BOUND, identifier.toString(), keys);
+                    return;
+                }
+                if (operator == Comparison.LT || operator == Comparison.LE) {
+                    entry.anchor(Entry.UPPER_BOUND, identifier.toString(), keys);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void conjuncts(SelectorExpression expression, List<SelectorExpression> terms) {
+        if (expression instanceof And) {
+            conjuncts(((And) expression).left, terms);
+            conjuncts(((And) expression).right, terms);
+        } else if (expression != null) {
+            terms.add(expression);
+        }
+    }
+
+    private static boolean isIdentifier(SelectorExpression expression) {
+        return expression instanceof Property || expression instanceof Header;
+    }
+
+    private void file(Entry<S> entry) {
+        if (entry.kind == Entry.UNANCHORED) {
+            unanchored.add(entry);
+            return;
+        }
+        for (Object key : entry.keys) {
+            lists(entry).computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private void unfile(Entry<S> entry) {
+        if (entry.kind == Entry.UNANCHORED) {
+            unanchored.remove(entry);
+            return;
+        }
+        Map<Object, List<Entry<S>>> lists = lists(entry);
+        for (Object key : entry.keys) {
+            List<Entry<S>> list = lists.get(key);
+            if (list != null && list.remove(entry) && list.isEmpty()) {
+                lists.remove(key);
+            }
+        }
+        if (lists.isEmpty()) {
+            (entry.kind == Entry.EQUALITY ? equalities : entry.kind == Entry.LOWER_BOUND ? lowerBounds : upperBounds)
+                    .remove(entry.identifier);
+        }
+    }
+
+    /**
+     * Returns the map holding the subscriptions filed under the identifier of the anchor of the specified entry.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, List<Entry<S>>> lists(Entry<S> entry) {
+        if (entry.kind == Entry.EQUALITY) {
+            return equalities.computeIfAbsent(entry.identifier, k -> new HashMap<>());
+        }
+        Map<String, NavigableMap<Double, List<Entry<S>>>> bounds = entry.kind == Entry.LOWER_BOUND ? lowerBounds
+                : upperBounds;
+        return (Map<Object, List<Entry<S>>>) (Map<?, ?>) bounds.computeIfAbsent(entry.identifier, k -> new TreeMap<>());
+    }
+
+    /**
+     * Returns the value of a header field or property, as seen by a message selector.
+     */
+    private static Object value(Message message, String identifier) throws JMSException {
+        switch (identifier) {
+            case Header.DELIVERY_MODE:
+                return message.getJMSDeliveryMode() == DeliveryMode.PERSISTENT ? "PERSISTENT" : "NON_PERSISTENT";
+            case Header.PRIORITY:
+                return message.getJMSPriority();
+            case Header.MESSAGE_ID:
+                return message.getJMSMessageID();
+            case Header.TIMESTAMP:
+                return message.getJMSTimestamp();
+            case Header.CORRELATION_ID:
+                return message.getJMSCorrelationID();
+            case Header.TYPE:
+                return message.getJMSType();
+            default:
+                return message.getObjectProperty(identifier);
+        }
+    }
+
+    /**
+     * Returns the key under which a value is filed: strings and booleans are their own keys, and numbers, which compare
+     * equal across types, are keyed by their double value. Distinct long values may share a key; the full evaluation
+     * of the selectors found tells them apart.
+     *
+     * @return the key, or null if the value cannot be indexed
+     */
+    private static Object key(Object value) {
+        if (value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Number) {
+            double key = ((Number) value).doubleValue();
+            if (Double.isNaN(key)) {
+                return null;
+            }
+            return key == 0 ? 0.0 : key;
+        }
+        return null;
+    }
+
+    /**
+     * A subscription and where it is filed.
+     */
+    private static final class Entry<S> {
+
+        static final int UNANCHORED = 0;
+        static final int EQUALITY = 1;
+        static final int LOWER_BOUND = 2;
+        static final int UPPER_BOUND = 3;
+
+        final S subscription;
+        final MessageSelector selector;
+        int kind = UNANCHORED;
+        String identifier;
+        List<Object> keys;
+
+        Entry(S subscription, MessageSelector selector) {
+            this.subscription = subscription;
+            this.selector = selector;
+        }
+
+        void anchor(int kind, String identifier, List<Object> keys) {
+            this.kind = kind;
+            this.identifier = identifier;
+            this.keys = keys;
+        }
+    }
+}
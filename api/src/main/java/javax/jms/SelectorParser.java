@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.jms.SelectorExpression.And;
+import javax.jms.SelectorExpression.Arithmetic;
+import javax.jms.SelectorExpression.Comparison;
+import javax.jms.SelectorExpression.Header;
+import javax.jms.SelectorExpression.In;
+import javax.jms.SelectorExpression.IsNull;
+import javax.jms.SelectorExpression.Kind;
+import javax.jms.SelectorExpression.Like;
+import javax.jms.SelectorExpression.LikePattern;
+import javax.jms.SelectorExpression.Literal;
+import javax.jms.SelectorExpression.Negate;
+import javax.jms.SelectorExpression.Not;
+import javax.jms.SelectorExpression.Or;
+import javax.jms.SelectorExpression.Property;
+
+/**
+ * A recursive descent parser for the message selector syntax described in {@link Message}.
+ *
+ * <p>
+ * Operators are parsed with the following precedence, from highest to lowest: unary {@code +} and {@code -};
+ * {@code *} and {@code /}; {@code +} and {@code -}; comparison, {@code BETWEEN}, {@code IN}, {@code LIKE} and
+ * {@code IS NULL}; {@code NOT}; {@code AND}; {@code OR}.
+ *
+ * @see javax.jms.MessageSelector
+ */
+final class SelectorParser {
+
+    private static final Set<String> RESERVED = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("NULL", "TRUE",
+            "FALSE", "NOT", "AND", "OR", "BETWEEN", "LIKE", "IN", "IS", "ESCAPE")));
+
+    private static final int END = 0;
+    private static final int IDENTIFIER = 1;
+    private static final int STRING = 2;
+    private static final int EXACT = 3;
+    private static final int APPROXIMATE = 4;
+    private static final int OPERATOR = 5;
+
+    private final String selector;
+    private int position;
+
+    private int tokenType;
+    private int tokenStart;
+    private String tokenText;
+
+    private SelectorParser(String selector) {
+        this.selector = selector;
+    }
+
+    /**
+     * Parses a message selector.
+     *
+     * @exception InvalidSelectorException if the selector is syntactically invalid or does not yield a condition
+     */
+    static SelectorExpression parse(String selector) throws InvalidSelectorException {
+        SelectorParser parser = new SelectorParser(selector);
+        parser.next();
+        SelectorExpression expression = parser.parseOr();
+        if (parser.tokenType != END) {
+            throw parser.error("unexpected " + parser.describeToken());
+        }
+        parser.requireCondition(expression, 0);
+        return expression;
+    }
+
+    /**
+     * Returns whether the specified name is a valid identifier in a message selector, that is whether it is a Java
+     * identifier that is not one of the reserved words {@code NULL}, {@code TRUE}, {@code FALSE}, {@code NOT},
+     * {@code AND}, {@code OR}, {@code BETWEEN}, {@code LIKE}, {@code IN}, {@code IS} and {@code ESCAPE}.
+     */
+    static boolean isIdentifier(String name) {
+        if (name == null || name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return !RESERVED.contains(name.toUpperCase(Locale.ROOT));
+    }
+
+    private SelectorExpression parseOr() throws InvalidSelectorException {
+        SelectorExpression left = parseAnd();
+        while (isKeyword("OR")) {
+            int start = tokenStart;
+            next();
+            SelectorExpression right = parseAnd();
+            requireCondition(left, start);
+            requireCondition(right, start);
+            left = new Or(left, right);
+        }
+        return left;
+    }
+
+    private SelectorExpression parseAnd() throws InvalidSelectorException {
+        SelectorExpression left = parseNot();
+        while (isKeyword("AND")) {
+            int start = tokenStart;
+            next();
+            SelectorExpression right = parseNot();
+            requireCondition(left, start);
+            requireCondition(right, start);
+            left = new And(left, right);
+        }
+        return left;
+    }
+
+    private SelectorExpression parseNot() throws InvalidSelectorException {
+        if (isKeyword("NOT")) {
+            int start = tokenStart;
+            next();
+            SelectorExpression operand = parseNot();
+            requireCondition(operand, start);
+            return new Not(operand);
+        }
+        return parsePredicate();
+    }
+
+    private SelectorExpression parsePredicate() throws InvalidSelectorException {
+        SelectorExpression left = parseAdditive();
+        int start = tokenStart;
+        if (tokenType == OPERATOR) {
+            int operator = comparisonOperator(tokenText);
+            if (operator < 0) {
+                return left;
+            }
+            next();
+            SelectorExpression right = parseAdditive();
+            checkComparison(operator, left, right, start);
+            return new Comparison(operator, left, right);
+        }
+        if (isKeyword("IS")) {
+            next();
+            boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new IsNull(left, negated);
+        }
+        boolean negated = false;
+        if (isKeyword("NOT")) {
+            negated = true;
+            next();
+            if (!isKeyword("BETWEEN") && !isKeyword("IN") && !isKeyword("LIKE")) {
+                throw error("expected BETWEEN, IN or LIKE after NOT but found " + describeToken());
+            }
+        }
+        if (acceptKeyword("BETWEEN")) {
+            SelectorExpression low = parseAdditive();
+            expectKeyword("AND");
+            SelectorExpression high = parseAdditive();
+            requireArithmetic(left, start);
+            requireArithmetic(low, start);
+            requireArithmetic(high, start);
+            // The expression is referenced twice, but it is evaluated at most once per comparison.
+            SelectorExpression between = new And(new Comparison(Comparison.GE, left, low),
+                    new Comparison(Comparison.LE, left, high));
+            return negated ? new Not(between) : between;
+        }
+        if (acceptKeyword("IN")) {
+            requireString(left, start);
+            expectOperator("(");
+            Set<String> values = new LinkedHashSet<>();
+            do {
+                values.add(expectString());
+            } while (acceptOperator(","));
+            expectOperator(")");
+            return new In(left, Collections.unmodifiableSet(values), negated);
+        }
+        if (acceptKeyword("LIKE")) {
+            requireString(left, start);
+            String pattern = expectString();
+            int escape = -1;
+            if (acceptKeyword("ESCAPE")) {
+                int escapeStart = tokenStart;
+                String escapeText = expectString();
+                if (escapeText.length() != 1) {
+                    throw error("ESCAPE requires a single character", escapeStart);
+                }
+                escape = escapeText.charAt(0);
+            }
+            return new Like(left, LikePattern.compile(pattern, escape), negated);
+        }
+        return left;
+    }
+
+    private SelectorExpression parseAdditive() throws InvalidSelectorException {
+        SelectorExpression left = parseMultiplicative();
+        while (isOperator("+") || isOperator("-")) {
+            int start = tokenStart;
+            char operator = tokenText.charAt(0);
+            next();
+            SelectorExpression right = parseMultiplicative();
+            requireArithmetic(left, start);
+            requireArithmetic(right, start);
+            left = new Arithmetic(operator, left, right);
+        }
+        return left;
+    }
+
+    private SelectorExpression parseMultiplicative() throws InvalidSelectorException {
+        SelectorExpression left = parseUnary();
+        while (isOperator("*") || isOperator("/")) {
+            int start = tokenStart;
+            char operator = tokenText.charAt(0);
+            next();
+            SelectorExpression right = parseUnary();
+            requireArithmetic(left, start);
+            requireArithmetic(right, start);
+            left = new Arithmetic(operator, left, right);
+        }
+        return left;
+    }
+
+    private SelectorExpression parseUnary() throws InvalidSelectorException {
+        if (isOperator("+") || isOperator("-")) {
+            int start = tokenStart;
+            boolean minus = tokenText.equals("-");
+            next();
+            if (minus && (tokenType == EXACT || tokenType == APPROXIMATE)) {
+                // Fold the sign into the literal so that the smallest long value can be written.
+                return parseNumber("-" + tokenText);
+            }
+            SelectorExpression operand = parseUnary();
+            requireArithmetic(operand, start);
+            return minus ? new Negate(operand) : operand;
+        }
+        return parsePrimary();
+    }
+
+    private SelectorExpression parsePrimary() throws InvalidSelectorException {
+        switch (tokenType) {
+            case STRING: {
+                String value = tokenText;
+                next();
+                return new Literal(value);
+            }
+            case EXACT:
+            case APPROXIMATE:
+                return parseNumber(tokenText);
+            case IDENTIFIER: {
+                String name = tokenText;
+                String upper = name.toUpperCase(Locale.ROOT);
+                if (upper.equals("TRUE") || upper.equals("FALSE")) {
+                    next();
+                    return new Literal(Boolean.valueOf(upper.equals("TRUE")));
+                }
+                if (RESERVED.contains(upper)) {
+                    throw error("unexpected " + describeToken());
+                }
+                next();
+                Header header = Header.forName(name);
+                return header != null ? header : new Property(name);
+            }
+            default:
+                if (acceptOperator("(")) {
+                    SelectorExpression expression = parseOr();
+                    expectOperator(")");
+                    return expression;
+                }
+                throw error("unexpected " + describeToken());
+        }
+    }
+
+    private SelectorExpression parseNumber(String text) throws InvalidSelectorException {
+        int start = tokenStart;
+        boolean exact = tokenType == EXACT;
+        next();
+        try {
+            if (!exact) {
+                return new Literal(Double.valueOf(text));
+            }
+            return new Literal(Long.valueOf(parseExact(text)));
+        } catch (NumberFormatException e) {
+            throw error("invalid numeric literal " + text, start);
+        }
+    }
+
+    /**
+     * Parses an integer literal written with the syntax of the Java programming language.
+     */
+    private static long parseExact(String text) {
+        boolean negative = text.startsWith("-");
+        String digits = negative ? text.substring(1) : text;
+        if (digits.endsWith("L") || digits.endsWith("l")) {
+            digits = digits.substring(0, digits.length() - 1);
+        }
+        int radix = 10;
+        if (digits.length() > 2 && (digits.startsWith("0x") || digits.startsWith("0X"))) {
+            radix = 16;
+            digits = digits.substring(2);
+        } else if (digits.length() > 1 && digits.startsWith("0")) {
+            radix = 8;
+            digits = digits.substring(1);
+        }
+        if (radix == 10) {
+            return Long.parseLong(negative ? "-" + digits : digits);
+        }
+        // Hexadecimal and octal literals may denote negative values through their sign bit, as in Java.
+        long value = Long.parseUnsignedLong(digits, radix);
+        return negative ? -value : value;
+    }
+
+    private static int comparisonOperator(String text) {
+        switch (text) {
+            case "=":
+                return Comparison.EQ;
+            case "<>":
+                return Comparison.NE;
+            case "<":
+                return Comparison.LT;
+            case "<=":
+                return Comparison.LE;
+            case ">":
+                return Comparison.GT;
+            case ">=":
+                return Comparison.GE;
+            default:
+                return -1;
+        }
+    }
+
+    private void checkComparison(int operator, SelectorExpression left, SelectorExpression right, int start)
+            throws InvalidSelectorException {
+        Kind l = left.kind();
+        Kind r = right.kind();
+        if (operator != Comparison.EQ && operator != Comparison.NE) {
+            if (l == Kind.STRING || l == Kind.BOOLEAN || r == Kind.STRING || r == Kind.BOOLEAN) {
+                throw error("strings and booleans can only be compared with = and <>", start);
+            }
+        }
+    }
+
+    private void requireCondition(SelectorExpression expression, int start) throws InvalidSelectorException {
+        Kind kind = expression.kind();
+        if (kind != Kind.BOOLEAN && kind != Kind.ANY) {
+            throw error("expected a conditional expression but found " + expression, start);
+        }
+    }
+
+    private void requireArithmetic(SelectorExpression expression, int start) throws InvalidSelectorException {
+        Kind kind = expression.kind();
+        if (kind != Kind.NUMERIC && kind != Kind.ANY) {
+            throw error("expected an arithmetic expression but found " + expression, start);
+        }
+    }
+
+    private void requireString(SelectorExpression expression, int start) throws InvalidSelectorException {
+        Kind kind = expression.kind();
+        if (kind != Kind.STRING && kind != Kind.ANY) {
+            throw error("expected a string expression but found " + expression, start);
+        }
+    }
+
+    private boolean isKeyword(String keyword) {
+        return tokenType == IDENTIFIER && tokenText.equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) throws InvalidSelectorException {
+        if (isKeyword(keyword)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) throws InvalidSelectorException {
+        if (!acceptKeyword(keyword)) {
+            throw error("expected " + keyword + " but found " + describeToken());
+        }
+    }
+
+    private boolean isOperator(String operator) {
+        return tokenType == OPERATOR && tokenText.equals(operator);
+    }
+
+    private boolean acceptOperator(String operator) throws InvalidSelectorException {
+        if (isOperator(operator)) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    private void expectOperator(String operator) throws InvalidSelectorException {
+        if (!acceptOperator(operator)) {
+            throw error("expected '" + operator + "' but found " + describeToken());
+        }
+    }
+
+    private String expectString() throws InvalidSelectorException {
+        if (tokenType != STRING) {
+            throw error("expected a string literal but found " + describeToken());
+        }
+        String value = tokenText;
+        next();
+        return value;
+    }
+
+    private String describeToken() {
+        switch (tokenType) {
+            case END:
+                return "end of selector";
+            case STRING:
+                return SelectorExpression.quote(tokenText);
+            default:
+                return "'" + tokenText + "'";
+        }
+    }
+
+    private InvalidSelectorException error(String reason) {
+        return error(reason, tokenStart);
+    }
+
+    private InvalidSelectorException error(String reason, int at) {
+        return new InvalidSelectorException("Invalid message selector at position " + at + ": " + reason + ": "
+                + selector);
+    }
+
+    /**
+     * Reads the next token.
+     */
+    private void next() throws InvalidSelectorException {
+        int length = selector.length();
+        while (position < length && isWhitespace(selector.charAt(position))) {
+            position++;
+        }
+        tokenStart = position;
+        if (position == length) {
+            tokenType = END;
+            tokenText = "";
+            return;
+        }
+        char c = selector.charAt(position);
+        if (Character.isJavaIdentifierStart(c)) {
+            position++;
+            while (position < length && Character.isJavaIdentifierPart(selector.charAt(position))) {
+                position++;
+            }
+            token(IDENTIFIER);
+        } else if (c == '\'') {
+            StringBuilder value = new StringBuilder();
+            position++;
+            while (true) {
+                if (position == length) {
+                    throw error("unterminated string literal");
+                }
+                char s = selector.charAt(position++);
+                if (s == '\'') {
+                    if (position < length && selector.charAt(position) == '\'') {
+                        position++;
+                    } else {
+                        break;
+                    }
+                }
+                value.append(s);
+            }
+            tokenType = STRING;
+            tokenText = value.toString();
+        } else if (isDigit(c) || (c == '.' && position + 1 < length && isDigit(selector.charAt(position + 1)))) {
+            scanNumber();
+        } else if (c == '<' || c == '>') {
+            position++;
+            if (position < length && (selector.charAt(position) == '=' || (c == '<' && selector.charAt(position) == '>'))) {
+                position++;
+            }
+            token(OPERATOR);
+        } else if ("=+-*/(),".indexOf(c) >= 0) {
+            position++;
+            token(OPERATOR);
+        } else {
+            throw error("unexpected character '" + c + "'");
+        }
+    }
+
+    private void scanNumber() {
+        int length = selector.length();
+        boolean approximate = false;
+        if (selector.startsWith("0x", position) || selector.startsWith("0X", position)) {
+            position += 2;
+            while (position < length && Character.digit(selector.charAt(position), 16) >= 0) {
+                position++;
+            }
+        } else {
+            while (position < length && isDigit(selector.charAt(position))) {
+                position++;
+            }
+            if (position < length && selector.charAt(position) == '.') {
+                approximate = true;
+                position++;
+                while (position < length && isDigit(selector.charAt(position))) {
+                    position++;
+                }
+            }
+            if (position < length && (selector.charAt(position) == 'e' || selector.charAt(position) == 'E')) {
+                approximate = true;
+                position++;
+                if (position < length && (selector.charAt(position) == '+' || selector.charAt(position) == '-')) {
+                    position++;
+                }
+                while (position < length && isDigit(selector.charAt(position))) {
+                    position++;
+                }
+            }
+            if (position < length && "fFdD".indexOf(selector.charAt(position)) >= 0) {
+                approximate = true;
+                position++;
+                token(APPROXIMATE);
+                return;
+            }
+        }
+        if (!approximate && position < length && (selector.charAt(position) == 'L' || selector.charAt(position) == 'l')) {
+            position++;
+        }
+        token(approximate ? APPROXIMATE : EXACT);
+    }
+
+    private void token(int type) {
+        tokenType = type;
+        tokenText = selector.substring(tokenStart, position);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f' || c == '\n' || c == '\r';
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+/**
+ * A {@code SendWindow} bounds the number and the total size of messages that have been sent asynchronously but whose
+ * sending has not yet completed.
+ *
+ * <p>
+ * When a message is sent asynchronously, using {@link MessageProducer#send(Message, CompletionListener)} or a
+ * {@code JMSProducer} on which {@link JMSProducer#setAsync(CompletionListener)} has been called, the application
+ * retains the message until its {@code CompletionListener} is invoked. If the messaging server stalls, an application
+ * that keeps sending accumulates an unbounded number of pending messages. Sending through a {@code SendWindow} instead
+ * admits a message only if the window has room for it. Room is released when the {@code CompletionListener} is invoked,
+ * whether sending succeeded or failed.
+ *
+ * <p>
+ * A window is full when the number of messages in flight has reached its message limit, or when admitting the message
+ * would take the total size of the messages in flight over its byte limit. A message larger than the byte limit is
+ * admitted only when the window is empty. When the window is full, a send either waits for room, for up to the maximum
+ * wait time of the window, or fails immediately if the maximum wait time is zero. A send that is not admitted throws a
+ * {@code ResourceAllocationException}, or a {@code ResourceAllocationRuntimeException} for a {@code JMSProducer}.
+ *
+ * <p>
+ * The producers of a session complete their asynchronous sends in the order they were made. Sharing one
+ * {@code SendWindow} between all the producers of a session therefore bounds the memory held by the session as a
+ * whole. A {@code SendWindow} is thread-safe. A send must not be made through a {@code SendWindow} from a
+ * {@code CompletionListener}, since the listener may be the one expected to release room in the window.
+ *
+ * <p>
+ * The size of a message is estimated by {@link #sizeOf(Message)}, which applications with better knowledge of their
+ * messages may override.
+ *
+ * @see javax.jms.CompletionListener
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public class SendWindow {
+
+    /**
+     * The size assumed for the headers and properties of a message, and for a body whose size cannot be determined.
+     */
+    static final long DEFAULT_MESSAGE_SIZE = 1024;
+
+    private final int maxMessages;
+    private final long maxBytes;
+    private final long maxWait;
+
+    private int inFlightMessages;
+    private long inFlightBytes;
+    private long rejected;
+
+    /**
+     * Creates a {@code SendWindow} that waits indefinitely for room when it is full.
+     *
+     * @param maxMessages the maximum number of messages in flight; zero for no limit
+     * @param maxBytes the maximum total size, in bytes, of the messages in flight; zero for no limit
+     */
+    public SendWindow(int maxMessages, long maxBytes) {
+        this(maxMessages, maxBytes, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code SendWindow} that waits for up to the specified time for room when it is full.
+     *
+     * @param maxMessages the maximum number of messages in flight; zero for no limit
+     * @param maxBytes the maximum total size, in bytes, of the messages in flight; zero for no limit
+     * @param maxWait the maximum time (in milliseconds) a send waits for room; zero to fail immediately if the window
+     * is full
+     */
+    public SendWindow(int maxMessages, long maxBytes, long maxWait) {
+        if (maxMessages < 0 || maxBytes < 0 || maxWait < 0) {
+            throw new IllegalArgumentException("SendWindow limits must not be negative");
+        }
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Sends a message asynchronously with the specified producer once the window has room for it.
+     *
+     * @param producer the producer to send the message with
+     * @param message the message to send
+     * @param completionListener the listener to notify when the sending has completed
+     *
+     * @exception ResourceAllocationException if the window has no room for the message within its maximum wait time.
+     * @exception JMSException if the producer fails to send the message.
+     *
+     * @see MessageProducer#send(Message, CompletionListener)
+     */
+    public void send(MessageProducer producer, Message message, CompletionListener completionListener) throws JMSException {
+        if (completionListener == null) {
+            throw new IllegalArgumentException("completionListener==null");
+        }
+        long size = sizeOf(message);
+        admit(size);
+        try {
+            producer.send(message, new Releasing(completionListener, size));
+        } catch (JMSException | RuntimeException e) {
+            release(size);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a message asynchronously to the specified destination with the specified producer once the window has room
+     * for it.
+     *
+     * @param producer the producer to send the message with
+     * @param destination the destination to send the message to
+     * @param message the message to send
+     * @param completionListener the listener to notify when the sending has completed
+     *
+     * @exception ResourceAllocationException if the window has no room for the message within its maximum wait time.
+     * @exception JMSException if the producer fails to send the message.
+     *
+     * @see MessageProducer#send(Destination, Message, CompletionListener)
+     */
+    public void send(MessageProducer producer, Destination destination, Message message, CompletionListener completionListener)
+            throws JMSException {
+        if (completionListener == null) {
+            throw new IllegalArgumentException("completionListener==null");
+        }
+        long size = sizeOf(message);
+        admit(size);
+        try {
+            producer.send(destination, message, new Releasing(completionListener, size));
+        } catch (JMSException | RuntimeException e) {
+            release(size);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a message to the specified destination with the specified {@code JMSProducer} once the window has room for
+     * it.
+     *
+     * <p>
+     * If a {@code CompletionListener} has been set on the producer, the message is sent asynchronously and occupies the
+     * window until that listener is invoked. Otherwise the message is sent synchronously and occupies the window while
+     * the call is in progress.
+     *
+     * <p>
+     * Since a {@code JMSProducer} has no send method that takes a {@code CompletionListener}, the producer's
+     * {@code CompletionListener} is replaced by one belonging to this window for the duration of the call, and restored
+     * before it returns. While the call is in progress the producer must not be used by any other code, including a
+     * {@code CompletionListener} invoked before the call returns: {@code getAsync} would return the window's listener,
+     * and a listener set with {@code setAsync} would be overwritten when the call returns.
+     *
+     * @param producer the producer to send the message with
+     * @param destination the destination to send the message to
+     * @param message the message to send
+     *
+     * @exception ResourceAllocationRuntimeException if the window has no room for the message within its maximum wait
+     * time.
+     * @exception JMSRuntimeException if the producer fails to send the message.
+     *
+     * @see JMSProducer#send(Destination, Message)
+     */
+    public void send(JMSProducer producer, Destination destination, Message message) {
+        long size;
+        try {
+            size = sizeOf(message);
+            admit(size);
+        } catch (ResourceAllocationException e) {
+            throw new ResourceAllocationRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+        CompletionListener completionListener = producer.getAsync();
+        if (completionListener == null) {
+            try {
+                producer.send(destination, message);
+            } finally {
+                release(size);
+            }
+            return;
+        }
+        producer.setAsync(new Releasing(completionListener, size));
+        try {
+            producer.send(destination, message);
+        } catch (RuntimeException e) {
+            release(size);
+            throw e;
+        } finally {
+            producer.setAsync(completionListener);
+        }
+    }
+
+    /**
+     * Returns the number of messages that have been sent through this window and whose sending has not yet completed.
+     *
+     * @return the number of messages in flight
+     */
+    public synchronized int getInFlightMessages() {
+        return inFlightMessages;
+    }
+
+    /**
+     * Returns the total estimated size of the messages that have been sent through this window and whose sending has
+     * not yet completed.
+     *
+     * @return the number of bytes in flight
+     */
+    public synchronized long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    /**
+     * Returns the number of sends that failed because the window had no room for their message.
+     *
+     * @return the number of rejected sends
+     */
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Estimates the number of bytes a message occupies until its sending has completed.
+     *
+     * <p>
+     * This implementation uses the body length of a {@code BytesMessage} in read-only mode and twice the length of the
+     * text of a {@code TextMessage}, plus a fixed allowance for the headers and properties. The body of any other
+     * message is assumed to take the same fixed allowance.
+     *
+     * @param message the message
+     *
+     * @return the estimated size of the message, in bytes
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     */
+    protected long sizeOf(Message message) throws JMSException {
+        if (message instanceof BytesMessage) {
+            try {
+                return DEFAULT_MESSAGE_SIZE + ((BytesMessage) message).getBodyLength();
+            } catch (MessageNotReadableException e) {
+                // the length of a body being written is not available
+            }
+        } else if (message instanceof TextMessage) {
+            String text = ((TextMessage) message).getText();
+            return DEFAULT_MESSAGE_SIZE + (text == null ? 0 : 2L * text.length());
+        }
+        return 2 * DEFAULT_MESSAGE_SIZE;
+    }
+
+    private synchronized void admit(long size) throws JMSException {
+        if (hasRoom(size)) {
+            inFlightMessages++;
+            inFlightBytes += size;
+            return;
+        }
+        if (maxWait > 0) {
+            // Compare the time waited with maxWait rather than computing a deadline, which overflows for long waits.
+            long start = System.currentTimeMillis();
+            try {
+                long remaining = maxWait;
+                while (!hasRoom(size) && remaining > 0) {
+                    wait(remaining);
+                    remaining = maxWait - (System.currentTimeMillis() - start);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected++;
+                JMSException jmse = new ResourceAllocationException("Interrupted while waiting for room in the send window");
+                jmse.setLinkedException(e);
+                throw jmse;
+            }
+            if (hasRoom(size)) {
+                inFlightMessages++;
+                inFlightBytes += size;
+                return;
+            }
+        }
+        rejected++;
+        throw new ResourceAllocationException(
+                "Send window is full: " + inFlightMessages + " messages and " + inFlightBytes + " bytes in flight");
+    }
+
+    private boolean hasRoom(long size) {
+        if (inFlightMessages == 0) {
+            return true;
+        }
+        if (maxMessages > 0 && inFlightMessages >= maxMessages) {
+            return false;
+        }
+        return maxBytes == 0 || inFlightBytes + size <= maxBytes;
+    }
+
+    private synchronized void release(long size) {
+        inFlightMessages--;
+        inFlightBytes -= size;
+        notifyAll();
+    }
+
+    /**
+     * Releases the room taken by a message before notifying the application's listener.
+     */
+    private class Releasing implements CompletionListener {
+
+        private final CompletionListener delegate;
+        private final long size;
+
+        Releasing(CompletionListener delegate, long size) {
+            this.delegate = delegate;
+            this.size = size;
+        }
+
+        @Override
+        public void onCompletion(Message message) {
+            release(size);
+            delegate.onCompletion(message);
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+            release(size);
+            delegate.onException(message, exception);
+        }
+    }
+}
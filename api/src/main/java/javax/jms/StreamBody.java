@@ -0,0 +1,1154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The body of a stream message, encoded as tagged binary items in a byte array, which providers can use to implement
+ * {@code StreamMessage}.
+ *
+ * <p>
+ * Each item is a one byte type tag followed by the value, in big-endian order: nothing for a null value (tag 0), one
+ * byte for a {@code boolean} (tag 1, 0 or 1) or a {@code byte} (tag 2), two bytes for a {@code short} (tag 3) or a
+ * {@code char} (tag 4), four bytes for an {@code int} (tag 5) or a {@code float} (tag 7), eight bytes for a
+ * {@code long} (tag 6) or a {@code double} (tag 8), and, for a {@code String} (tag 9) or a byte array (tag 10), a four
+ * byte length followed by that many bytes, the characters of a string being encoded in standard UTF-8. The size of
+ * every item is therefore known from its first five bytes at most, so that {@link #peekType()} returns the type of the
+ * next item and {@link #skip(int)} passes over items without decoding them. Bulk reads such as
+ * {@link #readDoubles(double[], int, int)} read runs of numeric items straight into an array.
+ *
+ * <p>
+ * Items are appended by the {@code write} methods and read, from the beginning after a call to {@link #reset()}, by
+ * the {@code read} methods, which convert values and read byte arrays as the methods of {@code StreamMessage} do. If a
+ * read method throws a {@code MessageFormatException} or {@code NumberFormatException}, the position is not
+ * advanced, and the item can be read again as another type. A null value reads as false as a {@code boolean}, null as
+ * a {@code String} and -1 from {@code readBytes}, and otherwise as {@code valueOf(null)} of the wrapper type does. The
+ * body does not enforce the read-only and write-only modes of a message, which the provider checks.
+ *
+ * <p>
+ * A {@code StreamBody} is not safe for use by several threads at once.
+ *
+ * @see javax.jms.StreamMessage
+ *
+ * @version Jakarta Messaging 2.0
+ * @since Jakarta Messaging 2.1
+ */
+public final class StreamBody {
+
+    /**
+     * The type of an item of a stream body.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public enum Type {
+
+        /**
+         * A null value, written as a null {@code String}, byte array or object.
+         */
+        NULL,
+
+        /**
+         * A {@code boolean} value.
+         */
+        BOOLEAN,
+
+        /**
+         * A {@code byte} value.
+         */
+        BYTE,
+
+        /**
+         * A {@code short} value.
+         */
+        SHORT,
+
+        /**
+         * A Unicode character value.
+         */
+        CHAR,
+
+        /**
+         * An {@code int} value.
+         */
+        INT,
+
+        /**
+         * A {@code long} value.
+         */
+        LONG,
+
+        /**
+         * A {@code float} value.
+         */
+        FLOAT,
+
+        /**
+         * A {@code double} value.
+         */
+        DOUBLE,
+
+        /**
+         * A {@code String} value.
+         */
+        STRING,
+
+        /**
+         * A byte array value.
+         */
+        BYTES
+    }
+
+    private static final byte NULL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHAR = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte STRING = 9;
+    private static final byte BYTES = 10;
+
+    private static final Type[] TYPES = Type.values();
+
+    private byte[] buffer;
+    private ByteBuffer view;
+    private int limit;
+    private int position;
+
+    /**
+     * The number of bytes of the byte array at the current position already returned by {@code readBytes}, or -1 if
+     * no byte array is being read.
+     */
+    private int bytesRead = -1;
+
+    /**
+     * Creates an empty body.
+     */
+    public StreamBody() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty body with room for the specified number of encoded bytes before its array grows.
+     *
+     * @param initialCapacity the number of bytes expected
+     */
+    public StreamBody(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        buffer = new byte[initialCapacity];
+        view = ByteBuffer.wrap(buffer);
+    }
+
+    /**
+     * Creates a body holding a copy of encoded items, such as those returned by {@link #toByteArray()}, positioned at
+     * the first item. The items are checked as they are read, and a read method throws a
+     * {@code MessageFormatException} if an item is malformed.
+     *
+     * @param encoded the array holding the encoded items
+     * @param offset the offset of the first item in the array
+     * @param length the number of encoded bytes
+     */
+    public StreamBody(byte[] encoded, int offset, int length) {
+        this(length);
+        System.arraycopy(encoded, offset, buffer, 0, length);
+        limit = length;
+    }
+
+    /**
+     * Returns a copy of the items of this body, positioned at the first item.
+     *
+     * @return a copy of this body
+     */
+    public StreamBody copy() {
+        return new StreamBody(buffer, 0, limit);
+    }
+
+    /**
+     * Returns the encoded items of this body in a new array.
+     *
+     * @return the encoded items
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, limit);
+    }
+
+    /**
+     * Returns the number of encoded bytes in this body.
+     *
+     * @return the number of encoded bytes
+     */
+    public int length() {
+        return limit;
+    }
+
+    /**
+     * Returns whether this body has no items.
+     *
+     * @return true if this body has no items
+     */
+    public boolean isEmpty() {
+        return limit == 0;
+    }
+
+    /**
+     * Removes all the items from this body, keeping its array for the items written next.
+     */
+    public void clear() {
+        limit = 0;
+        reset();
+    }
+
+    /**
+     * Repositions this body to its first item.
+     */
+    public void reset() {
+        position = 0;
+        bytesRead = -1;
+    }
+
+    /**
+     * Returns the type of the next item, without reading it.
+     *
+     * @return the type of the next item, or null if there are no more items
+     *
+     * @exception MessageFormatException if a byte array is being read, or the next item is malformed.
+     */
+    public Type peekType() throws MessageFormatException {
+        checkNotReadingBytes();
+        if (position >= limit) {
+            return null;
+        }
+        next(position);
+        return TYPES[buffer[position]];
+    }
+
+    /**
+     * Skips the next item without decoding it. If a byte array is being read by {@code readBytes}, the rest of it is
+     * skipped instead.
+     *
+     * @return true if an item was skipped, or false if there are no more items
+     *
+     * @exception MessageFormatException if the next item is malformed.
+     */
+    public boolean skip() throws MessageFormatException {
+        bytesRead = -1;
+        if (position >= limit) {
+            return false;
+        }
+        position = next(position);
+        return true;
+    }
+
+    /**
+     * Skips items without decoding them, as {@link #skip()} does, until the specified number have been skipped or there
+     * are no more.
+     *
+     * @param count the number of items to skip
+     *
+     * @return the number of items skipped
+     *
+     * @exception MessageFormatException if an item is malformed.
+     */
+    public int skip(int count) throws MessageFormatException {
+        int skipped = 0;
+        while (skipped < count && skip()) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Reads a {@code boolean} from this body.
+     *
+     * @return the {@code boolean} value read
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public boolean readBoolean() throws JMSException {
+        int end = item();
+        boolean value;
+        switch (buffer[position]) {
+            case BOOLEAN:
+                value = buffer[position + 1] != 0;
+                break;
+            case STRING:
+            case NULL:
+                value = Boolean.parseBoolean(string(position));
+                break;
+            default:
+                throw mismatch("boolean");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a {@code byte} value from this body.
+     *
+     * @return the {@code byte} value read
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public byte readByte() throws JMSException {
+        int end = item();
+        byte value;
+        switch (buffer[position]) {
+            case BYTE:
+                value = buffer[position + 1];
+                break;
+            case STRING:
+            case NULL:
+                value = Byte.parseByte(string(position));
+                break;
+            default:
+                throw mismatch("byte");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a 16-bit integer from this body.
+     *
+     * @return a 16-bit integer from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public short readShort() throws JMSException {
+        int end = item();
+        short value;
+        switch (buffer[position]) {
+            case BYTE:
+                value = buffer[position + 1];
+                break;
+            case SHORT:
+                value = view.getShort(position + 1);
+                break;
+            case STRING:
+            case NULL:
+                value = Short.parseShort(string(position));
+                break;
+            default:
+                throw mismatch("short");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a Unicode character value from this body.
+     *
+     * @return a Unicode character from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception java.lang.NullPointerException if the value is null.
+     */
+    public char readChar() throws JMSException {
+        int end = item();
+        char value;
+        switch (buffer[position]) {
+            case CHAR:
+                value = view.getChar(position + 1);
+                break;
+            case NULL:
+                throw new NullPointerException("Cannot convert null to char");
+            default:
+                throw mismatch("char");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a 32-bit integer from this body.
+     *
+     * @return a 32-bit integer value from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public int readInt() throws JMSException {
+        int end = item();
+        int value;
+        switch (buffer[position]) {
+            case BYTE:
+                value = buffer[position + 1];
+                break;
+            case SHORT:
+                value = view.getShort(position + 1);
+                break;
+            case INT:
+                value = view.getInt(position + 1);
+                break;
+            case STRING:
+            case NULL:
+                value = Integer.parseInt(string(position));
+                break;
+            default:
+                throw mismatch("int");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a 64-bit integer from this body.
+     *
+     * @return a 64-bit integer value from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public long readLong() throws JMSException {
+        int end = item();
+        long value;
+        switch (buffer[position]) {
+            case BYTE:
+                value = buffer[position + 1];
+                break;
+            case SHORT:
+                value = view.getShort(position + 1);
+                break;
+            case INT:
+                value = view.getInt(position + 1);
+                break;
+            case LONG:
+                value = view.getLong(position + 1);
+                break;
+            case STRING:
+            case NULL:
+                value = Long.parseLong(string(position));
+                break;
+            default:
+                throw mismatch("long");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a {@code float} from this body.
+     *
+     * @return a {@code float} value from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public float readFloat() throws JMSException {
+        int end = item();
+        float value;
+        switch (buffer[position]) {
+            case FLOAT:
+                value = view.getFloat(position + 1);
+                break;
+            case STRING:
+            case NULL:
+                value = Float.parseFloat(string(position));
+                break;
+            default:
+                throw mismatch("float");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a {@code double} from this body.
+     *
+     * @return a {@code double} value from this body
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public double readDouble() throws JMSException {
+        int end = item();
+        double value;
+        switch (buffer[position]) {
+            case FLOAT:
+                value = view.getFloat(position + 1);
+                break;
+            case DOUBLE:
+                value = view.getDouble(position + 1);
+                break;
+            case STRING:
+            case NULL:
+                value = Double.parseDouble(string(position));
+                break;
+            default:
+                throw mismatch("double");
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a {@code String} from this body.
+     *
+     * @return a Unicode string from this body, or null if the value is null
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public String readString() throws JMSException {
+        int end = item();
+        String value;
+        switch (buffer[position]) {
+            case NULL:
+                value = null;
+                break;
+            case BOOLEAN:
+                value = Boolean.toString(buffer[position + 1] != 0);
+                break;
+            case CHAR:
+                value = String.valueOf(view.getChar(position + 1));
+                break;
+            case FLOAT:
+                value = Float.toString(view.getFloat(position + 1));
+                break;
+            case DOUBLE:
+                value = Double.toString(view.getDouble(position + 1));
+                break;
+            case STRING:
+                value = string(position);
+                break;
+            case BYTES:
+                throw mismatch("String");
+            default:
+                value = Long.toString(integer(position));
+                break;
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads a {@code String} from this body and appends it to the specified builder. A number is appended without
+     * creating a {@code String}, and so is a string of ASCII characters.
+     *
+     * @param builder the builder to which the value is appended
+     *
+     * @return the number of characters appended, or -1 if the value is null
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public int readString(StringBuilder builder) throws JMSException {
+        int end = item();
+        int start = builder.length();
+        switch (buffer[position]) {
+            case NULL:
+                position = end;
+                return -1;
+            case BOOLEAN:
+                builder.append(buffer[position + 1] != 0);
+                break;
+            case CHAR:
+                builder.append(view.getChar(position + 1));
+                break;
+            case FLOAT:
+                builder.append(view.getFloat(position + 1));
+                break;
+            case DOUBLE:
+                builder.append(view.getDouble(position + 1));
+                break;
+            case STRING:
+                appendString(position, builder);
+                break;
+            case BYTES:
+                throw mismatch("String");
+            default:
+                builder.append(integer(position));
+                break;
+        }
+        position = end;
+        return builder.length() - start;
+    }
+
+    /**
+     * Reads a byte array item from this body into the specified array, as {@code StreamMessage.readBytes} does.
+     *
+     * <p>
+     * To read the item, {@code readBytes} is called until it returns a value less than the length of the array. If the
+     * item is null, -1 is returned; if it is empty, 0 is returned; and once it has been read in full, a further call
+     * returns -1. Until it has been read in full, the other read methods throw a {@code MessageFormatException}.
+     *
+     * @param value the array into which the bytes are read
+     *
+     * @return the number of bytes read into the array, or -1 if there are no more bytes in the item
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if this type conversion is invalid.
+     */
+    public int readBytes(byte[] value) throws JMSException {
+        if (bytesRead < 0) {
+            int end = item();
+            switch (buffer[position]) {
+                case NULL:
+                    position = end;
+                    return -1;
+                case BYTES:
+                    bytesRead = 0;
+                    break;
+                default:
+                    throw mismatch("byte[]");
+            }
+        }
+        int length = view.getInt(position + 1);
+        int remaining = length - bytesRead;
+        if (remaining == 0 && bytesRead > 0) {
+            bytesRead = -1;
+            position += 5 + length;
+            return -1;
+        }
+        int count = Math.min(value.length, remaining);
+        System.arraycopy(buffer, position + 5 + bytesRead, value, 0, count);
+        bytesRead += count;
+        if (count < value.length) {
+            bytesRead = -1;
+            position += 5 + length;
+        }
+        return count;
+    }
+
+    /**
+     * Reads an object from this body: a boxed primitive value, a {@code String}, a new byte array or null.
+     *
+     * @return the value read
+     *
+     * @exception MessageEOFException if there are no more items.
+     * @exception MessageFormatException if a byte array is being read, or the item is malformed.
+     */
+    public Object readObject() throws JMSException {
+        int end = item();
+        Object value;
+        switch (buffer[position]) {
+            case NULL:
+                value = null;
+                break;
+            case BOOLEAN:
+                value = buffer[position + 1] != 0;
+                break;
+            case BYTE:
+                value = buffer[position + 1];
+                break;
+            case SHORT:
+                value = view.getShort(position + 1);
+                break;
+            case CHAR:
+                value = view.getChar(position + 1);
+                break;
+            case INT:
+                value = view.getInt(position + 1);
+                break;
+            case LONG:
+                value = view.getLong(position + 1);
+                break;
+            case FLOAT:
+                value = view.getFloat(position + 1);
+                break;
+            case DOUBLE:
+                value = view.getDouble(position + 1);
+                break;
+            case STRING:
+                value = string(position);
+                break;
+            default:
+                value = Arrays.copyOfRange(buffer, position + 5, end);
+                break;
+        }
+        position = end;
+        return value;
+    }
+
+    /**
+     * Reads consecutive items from this body into an array of {@code int} values, converting each as
+     * {@link #readInt()} does. Items written as {@code int} values are copied straight from the encoded bytes.
+     *
+     * <p>
+     * If an item cannot be converted, the exception is thrown with the items before it read into the array and the
+     * position at that item.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more items
+     *
+     * @exception MessageFormatException if an item cannot be converted.
+     */
+    public int readInts(int[] values, int offset, int length) throws JMSException {
+        checkRange(values.length, offset, length);
+        byte[] buffer = this.buffer;
+        ByteBuffer view = this.view;
+        int at = position;
+        int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (at <= limit - 5 && buffer[at] == INT && bytesRead < 0) {
+                values[index++] = view.getInt(at + 1);
+                at += 5;
+            } else if (at < limit) {
+                position = at;
+                values[index++] = readInt();
+                at = position;
+            } else {
+                break;
+            }
+        }
+        position = at;
+        return index - offset;
+    }
+
+    /**
+     * Reads consecutive items from this body into an array of {@code long} values, converting each as
+     * {@link #readLong()} does. Items written as {@code long} values are copied straight from the encoded bytes.
+     *
+     * <p>
+     * If an item cannot be converted, the exception is thrown with the items before it read into the array and the
+     * position at that item.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more items
+     *
+     * @exception MessageFormatException if an item cannot be converted.
+     */
+    public int readLongs(long[] values, int offset, int length) throws JMSException {
+        checkRange(values.length, offset, length);
+        byte[] buffer = this.buffer;
+        ByteBuffer view = this.view;
+        int at = position;
+        int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (at <= limit - 9 && buffer[at] == LONG && bytesRead < 0) {
+                values[index++] = view.getLong(at + 1);
+                at += 9;
+            } else if (at < limit) {
+                position = at;
+                values[index++] = readLong();
+                at = position;
+            } else {
+                break;
+            }
+        }
+        position = at;
+        return index - offset;
+    }
+
+    /**
+     * Reads consecutive items from this body into an array of {@code double} values, converting each as
+     * {@link #readDouble()} does. Items written as {@code double} values are copied straight from the encoded bytes.
+     *
+     * <p>
+     * If an item cannot be converted, the exception is thrown with the items before it read into the array and the
+     * position at that item.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more items
+     *
+     * @exception MessageFormatException if an item cannot be converted.
+     */
+    public int readDoubles(double[] values, int offset, int length) throws JMSException {
+        checkRange(values.length, offset, length);
+        byte[] buffer = this.buffer;
+        ByteBuffer view = this.view;
+        int at = position;
+        int end = offset + length;
+        int index = offset;
+        while (index < end) {
+            if (at <= limit - 9 && buffer[at] == DOUBLE && bytesRead < 0) {
+                values[index++] = view.getDouble(at + 1);
+                at += 9;
+            } else if (at < limit) {
+                position = at;
+                values[index++] = readDouble();
+                at = position;
+            } else {
+                break;
+            }
+        }
+        position = at;
+        return index - offset;
+    }
+
+    /**
+     * Writes a {@code boolean} to this body.
+     *
+     * @param value the {@code boolean} value to be written
+     */
+    public void writeBoolean(boolean value) {
+        ensure(2);
+        buffer[limit] = BOOLEAN;
+        buffer[limit + 1] = (byte) (value ? 1 : 0);
+        limit += 2;
+    }
+
+    /**
+     * Writes a {@code byte} to this body.
+     *
+     * @param value the {@code byte} value to be written
+     */
+    public void writeByte(byte value) {
+        ensure(2);
+        buffer[limit] = BYTE;
+        buffer[limit + 1] = value;
+        limit += 2;
+    }
+
+    /**
+     * Writes a {@code short} to this body.
+     *
+     * @param value the {@code short} value to be written
+     */
+    public void writeShort(short value) {
+        ensure(3);
+        buffer[limit] = SHORT;
+        view.putShort(limit + 1, value);
+        limit += 3;
+    }
+
+    /**
+     * Writes a {@code char} to this body.
+     *
+     * @param value the {@code char} value to be written
+     */
+    public void writeChar(char value) {
+        ensure(3);
+        buffer[limit] = CHAR;
+        view.putChar(limit + 1, value);
+        limit += 3;
+    }
+
+    /**
+     * Writes an {@code int} to this body.
+     *
+     * @param value the {@code int} value to be written
+     */
+    public void writeInt(int value) {
+        ensure(5);
+        buffer[limit] = INT;
+        view.putInt(limit + 1, value);
+        limit += 5;
+    }
+
+    /**
+     * Writes a {@code long} to this body.
+     *
+     * @param value the {@code long} value to be written
+     */
+    public void writeLong(long value) {
+        ensure(9);
+        buffer[limit] = LONG;
+        view.putLong(limit + 1, value);
+        limit += 9;
+    }
+
+    /**
+     * Writes a {@code float} to this body.
+     *
+     * @param value the {@code float} value to be written
+     */
+    public void writeFloat(float value) {
+        ensure(5);
+        buffer[limit] = FLOAT;
+        view.putFloat(limit + 1, value);
+        limit += 5;
+    }
+
+    /**
+     * Writes a {@code double} to this body.
+     *
+     * @param value the {@code double} value to be written
+     */
+    public void writeDouble(double value) {
+        ensure(9);
+        buffer[limit] = DOUBLE;
+        view.putDouble(limit + 1, value);
+        limit += 9;
+    }
+
+    /**
+     * Writes a {@code String} to this body.
+     *
+     * @param value the {@code String} value to be written, or null
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeNull();
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeItem(STRING, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Writes a copy of a byte array to this body.
+     *
+     * @param value the byte array value to be written, or null
+     */
+    public void writeBytes(byte[] value) {
+        if (value == null) {
+            writeNull();
+        } else {
+            writeItem(BYTES, value, 0, value.length);
+        }
+    }
+
+    /**
+     * Writes a copy of a portion of a byte array to this body as a byte array item.
+     *
+     * @param value the byte array value to be written
+     * @param offset the initial offset within the byte array
+     * @param length the number of bytes to use
+     */
+    public void writeBytes(byte[] value, int offset, int length) {
+        checkRange(value.length, offset, length);
+        writeItem(BYTES, value, offset, length);
+    }
+
+    /**
+     * Writes an object to this body. This method works only for the objectified primitive object types
+     * ({@code Integer}, {@code Double}, {@code Long}&nbsp;...), {@code String} objects, byte arrays and null.
+     *
+     * @param value the object to be written
+     *
+     * @exception MessageFormatException if the object is of an invalid type.
+     */
+    public void writeObject(Object value) throws MessageFormatException {
+        if (value == null) {
+            writeNull();
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Integer) {
+            writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else if (value instanceof Double) {
+            writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            writeChar((Character) value);
+        } else if (value instanceof byte[]) {
+            writeBytes((byte[]) value);
+        } else {
+            throw new MessageFormatException("Invalid object type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Writes values from an array of {@code int} values to this body, each as an item.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     */
+    public void writeInts(int[] values, int offset, int length) {
+        checkRange(values.length, offset, length);
+        ensure(Math.multiplyExact(length, 5));
+        for (int i = offset; i < offset + length; i++) {
+            buffer[limit] = INT;
+            view.putInt(limit + 1, values[i]);
+            limit += 5;
+        }
+    }
+
+    /**
+     * Writes values from an array of {@code long} values to this body, each as an item.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     */
+    public void writeLongs(long[] values, int offset, int length) {
+        checkRange(values.length, offset, length);
+        ensure(Math.multiplyExact(length, 9));
+        for (int i = offset; i < offset + length; i++) {
+            buffer[limit] = LONG;
+            view.putLong(limit + 1, values[i]);
+            limit += 9;
+        }
+    }
+
+    /**
+     * Writes values from an array of {@code double} values to this body, each as an item.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     */
+    public void writeDoubles(double[] values, int offset, int length) {
+        checkRange(values.length, offset, length);
+        ensure(Math.multiplyExact(length, 9));
+        for (int i = offset; i < offset + length; i++) {
+            buffer[limit] = DOUBLE;
+            view.putDouble(limit + 1, values[i]);
+            limit += 9;
+        }
+    }
+
+    private void writeNull() {
+        ensure(1);
+        buffer[limit++] = NULL;
+    }
+
+    private void writeItem(byte tag, byte[] value, int offset, int length) {
+        ensure(Math.addExact(length, 5));
+        buffer[limit] = tag;
+        view.putInt(limit + 1, length);
+        System.arraycopy(value, offset, buffer, limit + 5, length);
+        limit += 5 + length;
+    }
+
+    private void ensure(int size) {
+        if (size > buffer.length - limit) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, Math.addExact(limit, size)));
+            view = ByteBuffer.wrap(buffer);
+        }
+    }
+
+    /**
+     * Checks that the item at the current position can be read, and returns the position following it.
+     */
+    private int item() throws JMSException {
+        checkNotReadingBytes();
+        if (position >= limit) {
+            throw new MessageEOFException("Unexpected end of message body");
+        }
+        return next(position);
+    }
+
+    /**
+     * Returns the position following the item at the specified position, checking that the item is well formed.
+     */
+    private int next(int at) throws MessageFormatException {
+        int size;
+        switch (buffer[at]) {
+            case NULL:
+                size = 1;
+                break;
+            case BOOLEAN:
+            case BYTE:
+                size = 2;
+                break;
+            case SHORT:
+            case CHAR:
+                size = 3;
+                break;
+            case INT:
+            case FLOAT:
+                size = 5;
+                break;
+            case LONG:
+            case DOUBLE:
+                size = 9;
+                break;
+            case STRING:
+            case BYTES:
+                if (limit - at < 5) {
+                    size = 5;
+                } else {
+                    int length = view.getInt(at + 1);
+                    if (length < 0) {
+                        throw new MessageFormatException("Invalid item length " + length + " at byte " + at);
+                    }
+                    size = 5 + length;
+                }
+                break;
+            default:
+                throw new MessageFormatException("Invalid type tag " + buffer[at] + " at byte " + at);
+        }
+        if (size < 0 || size > limit - at) {
+            throw new MessageFormatException("Truncated item at byte " + at);
+        }
+        return at + size;
+    }
+
+    private void checkNotReadingBytes() throws MessageFormatException {
+        if (bytesRead >= 0) {
+            throw new MessageFormatException("A byte array is being read");
+        }
+    }
+
+    private String string(int at) {
+        return buffer[at] == NULL ? null : new String(buffer, at + 5, view.getInt(at + 1), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the value of an item written as a {@code byte}, {@code short}, {@code int} or {@code long}.
+     */
+    private long integer(int at) {
+        switch (buffer[at]) {
+            case BYTE:
+                return buffer[at + 1];
+            case SHORT:
+                return view.getShort(at + 1);
+            case INT:
+                return view.getInt(at + 1);
+            default:
+                return view.getLong(at + 1);
+        }
+    }
+
+    private void appendString(int at, StringBuilder builder) {
+        int start = at + 5;
+        int end = start + view.getInt(at + 1);
+        for (int i = start; i < end; i++) {
+            if (buffer[i] < 0) {
+                builder.append(new String(buffer, start, end - start, StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        builder.ensureCapacity(builder.length() + end - start);
+        for (int i = start; i < end; i++) {
+            builder.append((char) buffer[i]);
+        }
+    }
+
+    private MessageFormatException mismatch(String type) {
+        return new MessageFormatException("Cannot convert " + TYPES[buffer[position]] + " to " + type);
+    }
+
+    private static void checkRange(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || length > arrayLength - offset) {
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + " or length " + length);
+        }
+    }
+}
@@ -194,6 +194,35 @@ public interface StreamMessage extends Message {
      */
     String readString() throws JMSException;
 
+    /**
+     * Reads a {@code String} from the stream message and appends it to the specified builder.
+     *
+     * <p>
+     * The value is read and converted as by {@link #readString()}. If the value is null, nothing is appended and -1 is
+     * returned. A consumer that parses many strings can reuse one builder for all of them, and so avoid creating a
+     * {@code String} object for each. The default implementation calls {@code readString}; providers should override it
+     * to append the value without the intermediate {@code String}, for instance when a number is read as a string.
+     *
+     * @param builder the builder to which the value is appended
+     *
+     * @return the number of characters appended, or -1 if the value is null
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageEOFException if unexpected end of message stream has been reached.
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readString(StringBuilder builder) throws JMSException {
+        String value = readString();
+        if (value == null) {
+            return -1;
+        }
+        builder.append(value);
+        return value.length();
+    }
+
     /**
      * Reads a byte array field from the stream message into the specified {@code byte[]} object (the read buffer).
      *
@@ -260,6 +289,147 @@ public interface StreamMessage extends Message {
      */
     Object readObject() throws JMSException;
 
+    /**
+     * Skips the next field of the stream message. If a byte array field is being read by {@code readBytes}, the rest of it
+     * is skipped instead.
+     *
+     * <p>
+     * The default implementation reads the field with {@code readObject}; providers should override it to pass over the
+     * field without decoding it.
+     *
+     * @return true if a field was skipped, or false if there are no more fields
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default boolean skip() throws JMSException {
+        try {
+            readObject();
+            return true;
+        } catch (MessageEOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Skips fields of the stream message, as {@link #skip()} does, until the specified number have been skipped or there
+     * are no more.
+     *
+     * @param count the number of fields to skip
+     *
+     * @return the number of fields skipped
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int skip(int count) throws JMSException {
+        int skipped = 0;
+        while (skipped < count && skip()) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Reads consecutive fields of the stream message into an array of {@code int} values, converting each as
+     * {@link #readInt()} does.
+     *
+     * <p>
+     * If a field cannot be converted, the exception is thrown with the fields before it read into the array. The default
+     * implementation calls {@code readInt} for each field; providers should override it to read the values in bulk.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more fields
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readInts(int[] values, int offset, int length) throws JMSException {
+        int count = 0;
+        try {
+            for (; count < length; count++) {
+                values[offset + count] = readInt();
+            }
+        } catch (MessageEOFException e) {
+            // no more fields
+        }
+        return count;
+    }
+
+    /**
+     * Reads consecutive fields of the stream message into an array of {@code long} values, converting each as
+     * {@link #readLong()} does.
+     *
+     * <p>
+     * If a field cannot be converted, the exception is thrown with the fields before it read into the array. The default
+     * implementation calls {@code readLong} for each field; providers should override it to read the values in bulk.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more fields
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readLongs(long[] values, int offset, int length) throws JMSException {
+        int count = 0;
+        try {
+            for (; count < length; count++) {
+                values[offset + count] = readLong();
+            }
+        } catch (MessageEOFException e) {
+            // no more fields
+        }
+        return count;
+    }
+
+    /**
+     * Reads consecutive fields of the stream message into an array of {@code double} values, converting each as
+     * {@link #readDouble()} does.
+     *
+     * <p>
+     * If a field cannot be converted, the exception is thrown with the fields before it read into the array. The default
+     * implementation calls {@code readDouble} for each field; providers should override it to read the values in bulk.
+     *
+     * @param values the array into which the values are read
+     * @param offset the index in the array of the first value
+     * @param length the maximum number of values to read
+     *
+     * @return the number of values read, which is less than {@code length} only if there are no more fields
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to read the message due to some internal error.
+     * @exception MessageFormatException if this type conversion is invalid.
+     * @exception MessageNotReadableException if the message is in write-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default int readDoubles(double[] values, int offset, int length) throws JMSException {
+        int count = 0;
+        try {
+            for (; count < length; count++) {
+                values[offset + count] = readDouble();
+            }
+        } catch (MessageEOFException e) {
+            // no more fields
+        }
+        return count;
+    }
+
     /**
      * Writes a {@code boolean} to the stream message. The value {@code true} is written as the value {@code (byte)1}; the
      * value {@code false} is written as the value {@code (byte)0}.
@@ -351,6 +521,24 @@ public interface StreamMessage extends Message {
      */
     void writeString(String value) throws JMSException;
 
+    /**
+     * Writes a character sequence to the stream message as a {@code String}.
+     *
+     * <p>
+     * The value is written as by {@link #writeString(String)}, and is read back as a {@code String}. The default
+     * implementation calls {@code writeString} with {@code value.toString()}, or with null if the value is null.
+     *
+     * @param value the characters to be written
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeString(CharSequence value) throws JMSException {
+        writeString(value == null ? null : value.toString());
+    }
+
     /**
      * Writes a byte array field to the stream message.
      *
@@ -396,6 +584,69 @@ public interface StreamMessage extends Message {
      */
     void writeObject(Object value) throws JMSException;
 
+    /**
+     * Writes values from an array of {@code int} values to the stream message, each as a field.
+     *
+     * <p>
+     * The default implementation calls {@code writeInt} for each value.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeInts(int[] values, int offset, int length) throws JMSException {
+        for (int i = offset; i < offset + length; i++) {
+            writeInt(values[i]);
+        }
+    }
+
+    /**
+     * Writes values from an array of {@code long} values to the stream message, each as a field.
+     *
+     * <p>
+     * The default implementation calls {@code writeLong} for each value.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeLongs(long[] values, int offset, int length) throws JMSException {
+        for (int i = offset; i < offset + length; i++) {
+            writeLong(values[i]);
+        }
+    }
+
+    /**
+     * Writes values from an array of {@code double} values to the stream message, each as a field.
+     *
+     * <p>
+     * The default implementation calls {@code writeDouble} for each value.
+     *
+     * @param values the array holding the values
+     * @param offset the index in the array of the first value
+     * @param length the number of values to write
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to write the message due to some internal error.
+     * @exception MessageNotWriteableException if the message is in read-only mode.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    default void writeDoubles(double[] values, int offset, int length) throws JMSException {
+        for (int i = offset; i < offset + length; i++) {
+            writeDouble(values[i]);
+        }
+    }
+
     /**
      * Puts the message body in read-only mode and repositions the stream to the beginning.
      *
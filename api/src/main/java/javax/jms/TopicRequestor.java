@@ -16,6 +16,11 @@
 
 package javax.jms;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
 /**
  * The {@code TopicRequestor} helper class simplifies making service requests.
  *
@@ -29,7 +34,19 @@ package javax.jms;
  * either AUTO_ACKNOWLEDGE or DUPS_OK_ACKNOWLEDGE. It is expected that most applications will create less basic
  * implementations.
  *
+ * <p>
+ * The {@code request} methods that take a timeout or a deadline return null if no reply arrives in time, so that a lost
+ * reply does not block the caller indefinitely. They also stamp the request with a generated {@code JMSCorrelationID}
+ * and discard replies carrying any other correlation ID, so a late reply to a request that timed out is never returned
+ * for a later one. The responder must therefore copy the {@code JMSCorrelationID} of the request onto its reply.
+ *
+ * <p>
+ * Since a request published to a topic may be answered by any number of subscribers, the {@code requestReplies} and
+ * {@code iterateReplies} methods publish a request once and collect every reply to it, until an expected number of
+ * replies has arrived or a timeout expires.
+ *
  * @see javax.jms.QueueRequestor
+ * @see javax.jms.RequestorPool
  *
  * @version Jakarta Messaging 2.0
  * @since JMS 1.0
@@ -40,6 +57,9 @@ public class TopicRequestor {
     TemporaryTopic tempTopic;
     TopicPublisher publisher;
     TopicSubscriber subscriber;
+    ReplyDispatcher dispatcher = new ReplyDispatcher();
+    RequestorPool pool; // Non-null if the temporary topic is leased from a pool.
+    RequestorPool.Lease lease;
 
     /**
      * Constructor for the {@code TopicRequestor} class.
@@ -66,10 +86,32 @@ public class TopicRequestor {
         subscriber = session.createSubscriber(tempTopic);
     }
 
+    /**
+     * Creates a {@code TopicRequestor} that uses a temporary topic leased from a {@code RequestorPool}.
+     */
+    TopicRequestor(TopicSession session, Topic topic, RequestorPool pool, RequestorPool.Lease lease) throws JMSException {
+        this.session = session;
+        this.pool = pool;
+        this.lease = lease;
+        tempTopic = (TemporaryTopic) lease.destination;
+        subscriber = (TopicSubscriber) lease.consumer;
+        try {
+            publisher = session.createPublisher(topic);
+        } catch (JMSException e) {
+            pool.release(lease);
+            throw e;
+        }
+    }
+
     /**
      * Sends a request and waits for a reply. The temporary topic is used for the {@code JMSReplyTo} destination; the first
      * reply is returned, and any following replies are discarded.
      *
+     * <p>
+     * If this requestor was created by a {@code RequestorPool}, the request is stamped with a newly generated
+     * {@code JMSCorrelationID} and only a reply carrying the same {@code JMSCorrelationID} is returned, since the
+     * temporary topic may still receive late replies to requests made by a previous requestor.
+     *
      * @param message the message to send
      *
      * @return the reply message
@@ -77,11 +119,140 @@ public class TopicRequestor {
      * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
      */
     public Message request(Message message) throws JMSException {
+        if (pool != null) {
+            return requestUntil(message, 0);
+        }
         message.setJMSReplyTo(tempTopic);
         publisher.publish(message);
         return (subscriber.receive());
     }
 
+    /**
+     * Sends a request and waits for a reply until the specified timeout expires. The request is stamped with a newly
+     * generated {@code JMSCorrelationID}, and the temporary topic is used for the {@code JMSReplyTo} destination. The
+     * first reply carrying the same {@code JMSCorrelationID} is returned, and any following replies are discarded.
+     *
+     * @param message the message to send
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return the reply message, or null if the timeout expires first
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public Message request(Message message, long timeout) throws JMSException {
+        return requestUntil(message, ReplyDispatcher.deadline(timeout));
+    }
+
+    /**
+     * Sends a request and waits for a reply until the specified deadline passes. The request is stamped with a newly
+     * generated {@code JMSCorrelationID}, and the temporary topic is used for the {@code JMSReplyTo} destination. The
+     * first reply carrying the same {@code JMSCorrelationID} is returned, and any following replies are discarded.
+     *
+     * @param message the message to send
+     * @param deadline the time after which to stop waiting, in milliseconds since the epoch as returned by
+     * {@code System.currentTimeMillis()}; a {@code deadline} of zero never passes
+     *
+     * @return the reply message, or null if the deadline passes first
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public Message requestUntil(Message message, long deadline) throws JMSException {
+        String correlationID = ReplyDispatcher.nextCorrelationID();
+        message.setJMSCorrelationID(correlationID);
+        message.setJMSReplyTo(tempTopic);
+        publisher.publish(message);
+        Message reply = dispatcher.receive(subscriber, correlationID, deadline);
+        if (reply == null && deadline != 0) {
+            dispatcher.expired();
+        }
+        return reply;
+    }
+
+    /**
+     * Publishes a request and collects its replies. The request is stamped with a newly generated
+     * {@code JMSCorrelationID}, and the temporary topic is used for the {@code JMSReplyTo} destination. Replies carrying
+     * the same {@code JMSCorrelationID} are collected until {@code expectedReplies} of them have arrived or the timeout
+     * expires, whichever comes first.
+     *
+     * <p>
+     * {@code expectedReplies} may be the number of known responders, or only a quorum of them if the caller does not need
+     * to wait for the slowest. Replies to the request that arrive after this method returns are discarded by later
+     * requests.
+     *
+     * @param message the message to send
+     * @param expectedReplies the number of replies after which to stop waiting; zero to wait until the timeout expires
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return the replies, in the order in which they arrived; the list is empty if no reply arrived in time
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to complete the request due to some internal error.
+     * @exception IllegalArgumentException if {@code expectedReplies} or {@code timeout} is negative, or if both are zero.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public List<Message> requestReplies(Message message, int expectedReplies, long timeout) throws JMSException {
+        ReplyIterator replies = new ReplyIterator(message, expectedReplies, timeout);
+        List<Message> result = new ArrayList<>(expectedReplies == 0 ? 10 : Math.min(expectedReplies, 64));
+        Message reply;
+        while ((reply = replies.receive()) != null) {
+            result.add(reply);
+        }
+        return result;
+    }
+
+    /**
+     * Publishes a request and returns an iterator over its replies, as they arrive. The request is stamped with a newly
+     * generated {@code JMSCorrelationID}, and the temporary topic is used for the {@code JMSReplyTo} destination.
+     *
+     * <p>
+     * The iterator's {@code hasNext} method blocks until the next reply carrying the same {@code JMSCorrelationID}
+     * arrives, {@code expectedReplies} replies have been returned or the timeout expires. It wraps any
+     * {@code JMSException} thrown while receiving a reply in a {@code JMSRuntimeException}. The iterator must be used
+     * by the thread of control of the requestor's session, and only until the next request is made.
+     *
+     * @param message the message to send
+     * @param expectedReplies the number of replies after which the iteration ends; zero to end it only when the timeout
+     * expires
+     * @param timeout the timeout value (in milliseconds); a {@code timeout} of zero never expires
+     *
+     * @return an iterator over the replies
+     *
+     * @exception JMSException if the Jakarta Messaging provider fails to send the request due to some internal error.
+     * @exception IllegalArgumentException if {@code expectedReplies} or {@code timeout} is negative, or if both are zero.
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public Iterator<Message> iterateReplies(Message message, int expectedReplies, long timeout) throws JMSException {
+        return new ReplyIterator(message, expectedReplies, timeout);
+    }
+
+    /**
+     * Returns the number of requests made with a timeout or deadline whose reply did not arrive in time.
+     *
+     * @return the number of expired requests
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public long getExpiredRequestCount() {
+        return dispatcher.getExpiredCount();
+    }
+
+    /**
+     * Returns the number of replies that were discarded because they did not belong to the request being waited for,
+     * typically late or additional replies to earlier requests.
+     *
+     * @return the number of discarded replies
+     *
+     * @since Jakarta Messaging 2.1
+     */
+    public long getDiscardedReplyCount() {
+        return dispatcher.getUnmatchedReplyCount();
+    }
+
     /**
      * Closes the {@code TopicRequestor} and its session.
      *
@@ -91,13 +262,85 @@ public class TopicRequestor {
      * resources may not be timely enough.
      *
      * <p>
-     * Note that this method closes the {@code TopicSession} object passed to the {@code TopicRequestor} constructor.
+     * Note that this method closes the {@code TopicSession} object passed to the {@code TopicRequestor} constructor. A requestor created
+     * by a {@code RequestorPool} instead returns its temporary topic to the pool, leaving the session open.
      *
      * @exception JMSException if the Jakarta Messaging provider fails to close the {@code TopicRequestor} due to some internal error.
      */
     public void close() throws JMSException {
+        if (pool != null) {
+            if (lease != null) {
+                publisher.close();
+                pool.release(lease);
+                lease = null;
+            }
+            return;
+        }
+
         // publisher and consumer created by constructor are implicitly closed.
         session.close();
         tempTopic.delete();
     }
+
+    /**
+     * Receives the replies to one published request.
+     */
+    private class ReplyIterator implements Iterator<Message> {
+
+        private final String correlationID = ReplyDispatcher.nextCorrelationID();
+        private final long deadline;
+        private int remaining;
+        private Message next;
+        private boolean done;
+
+        ReplyIterator(Message message, int expectedReplies, long timeout) throws JMSException {
+            if (expectedReplies < 0) {
+                throw new IllegalArgumentException("expectedReplies < 0");
+            }
+            if (expectedReplies == 0 && timeout == 0) {
+                throw new IllegalArgumentException("Either expectedReplies or timeout must be specified");
+            }
+            deadline = ReplyDispatcher.deadline(timeout);
+            remaining = expectedReplies == 0 ? Integer.MAX_VALUE : expectedReplies;
+            message.setJMSCorrelationID(correlationID);
+            message.setJMSReplyTo(tempTopic);
+            publisher.publish(message);
+        }
+
+        Message receive() throws JMSException {
+            if (done || remaining == 0) {
+                return null;
+            }
+            Message reply = dispatcher.receive(subscriber, correlationID, deadline);
+            if (reply == null) {
+                done = true;
+            } else {
+                remaining--;
+            }
+            return reply;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = receive();
+                } catch (JMSException e) {
+                    done = true;
+                    throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Message next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Message reply = next;
+            next = null;
+            return reply;
+        }
+    }
 }
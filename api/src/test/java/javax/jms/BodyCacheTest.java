@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link BodyCache}: decoding once, copying for each caller, and remembering format failures.
+ */
+public class BodyCacheTest {
+
+    @Test
+    public void decodesOnceUntilInvalidated() throws JMSException {
+        AtomicInteger decodes = new AtomicInteger();
+        BodyCache<Object> cache = new BodyCache<>(() -> "body" + decodes.incrementAndGet());
+        assertFalse(cache.isDecoded());
+        assertTrue(cache.isBodyAssignableTo(CharSequence.class));
+        assertEquals("body1", cache.getBody(String.class));
+        assertSame(cache.get(), cache.getBody(Serializable.class));
+        assertEquals(1, decodes.get());
+
+        cache.invalidate();
+        assertFalse(cache.isDecoded());
+        assertEquals("body2", cache.getBody(Object.class));
+    }
+
+    @Test
+    public void copierGivesEachCallerItsOwnBody() throws JMSException {
+        BodyCache<byte[]> cache = new BodyCache<>(() -> new byte[] { 1, 2 }, byte[]::clone);
+        byte[] first = cache.getBody(byte[].class);
+        first[0] = 9;
+        byte[] second = cache.getBody(byte[].class);
+        assertNotSame(first, second);
+        assertArrayEquals(new byte[] { 1, 2 }, second);
+        assertArrayEquals(new byte[] { 1, 2 }, cache.get());
+    }
+
+    @Test
+    public void nullBodyIsAssignableToAnyType() throws JMSException {
+        BodyCache<byte[]> cache = new BodyCache<>(() -> null, byte[]::clone);
+        assertNull(cache.getBody(Integer.class));
+        assertTrue(cache.isBodyAssignableTo(Integer.class));
+        assertTrue(cache.isDecoded());
+    }
+
+    @Test
+    public void wrongTypeIsRejected() throws JMSException {
+        BodyCache<Object> cache = new BodyCache<>(() -> 42);
+        assertFalse(cache.isBodyAssignableTo(String.class));
+        try {
+            cache.getBody(String.class);
+            fail("Assigned an Integer to String");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        assertEquals(Integer.valueOf(42), cache.getBody(Number.class));
+    }
+
+    @Test
+    public void formatFailureIsRememberedUntilInvalidated() throws JMSException {
+        AtomicInteger decodes = new AtomicInteger();
+        BodyCache<Object> cache = new BodyCache<>(() -> {
+            if (decodes.incrementAndGet() == 1) {
+                throw new MessageFormatException("bad body");
+            }
+            return "good";
+        });
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.getBody(String.class);
+                fail("Decoded a bad body");
+            } catch (MessageFormatException e) {
+                assertEquals("bad body", e.getMessage());
+            }
+        }
+        assertFalse(cache.isBodyAssignableTo(String.class));
+        assertEquals(1, decodes.get());
+        cache.invalidate();
+        assertEquals("good", cache.getBody(String.class));
+    }
+
+    @Test
+    public void otherFailuresAreRetried() throws JMSException {
+        AtomicInteger decodes = new AtomicInteger();
+        BodyCache<Object> cache = new BodyCache<>(() -> {
+            if (decodes.incrementAndGet() == 1) {
+                throw new JMSException("transient");
+            }
+            return "good";
+        });
+        try {
+            cache.get();
+            fail("Decoded despite a failure");
+        } catch (JMSException e) {
+            assertFalse(e instanceof MessageFormatException);
+        }
+        assertEquals("good", cache.get());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests that {@link ConsumerPublisher} signals its subscriber serially when the subscriber requests no messages.
+ */
+public class ConsumerPublisherTest {
+
+    private static final Message CLOSED = TestMessages.message(Collections.emptyMap());
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final BlockingQueue<Message> messages = new LinkedBlockingQueue<>();
+    private final CountDownLatch receiving = new CountDownLatch(1);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns a consumer receiving from the queue of this test, whose receive returns null once it is closed.
+     */
+    private MessageConsumer consumer() {
+        return (MessageConsumer) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { MessageConsumer.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "receive":
+                            receiving.countDown();
+                            Message message = messages.take();
+                            if (message == CLOSED) {
+                                messages.add(CLOSED);
+                                return null;
+                            }
+                            return message;
+                        case "close":
+                            messages.add(CLOSED);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Session session() {
+        return (Session) Proxy.newProxyInstance(ConsumerPublisherTest.class.getClassLoader(),
+                new Class<?>[] { Session.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTransacted":
+                            return false;
+                        case "getAcknowledgeMode":
+                            return Session.AUTO_ACKNOWLEDGE;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Records the signals it receives, failing if two overlap.
+     */
+    private static class RecordingSubscriber implements MessageFlow.Subscriber<Message> {
+
+        final List<String> signals = new CopyOnWriteArrayList<>();
+        final AtomicInteger active = new AtomicInteger();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile MessageFlow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(MessageFlow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Message item) {
+            enter("next");
+            exit();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            enter("error " + throwable.getClass().getSimpleName());
+            exit();
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            enter("complete");
+            exit();
+            terminated.countDown();
+        }
+
+        void enter(String signal) {
+            if (active.incrementAndGet() != 1) {
+                signals.add("overlapping " + signal);
+            }
+            signals.add(signal);
+        }
+
+        void exit() {
+            active.decrementAndGet();
+        }
+    }
+
+    @Test
+    public void invalidRequestWhileReceivingIsSignalledByTheDrainTask() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new ConsumerPublisher(session(), consumer(), executor).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(receiving.await(5, TimeUnit.SECONDS));
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals("[error IllegalArgumentException]", subscriber.signals.toString());
+    }
+
+    @Test
+    public void invalidRequestFromOnNextIsSignalledAfterItReturns() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(Message item) {
+                enter("next");
+                subscription.request(-1);
+                signals.add("requested");
+                exit();
+            }
+        };
+        messages.add(TestMessages.message(Collections.emptyMap()));
+        messages.add(TestMessages.message(Collections.emptyMap()));
+        new ConsumerPublisher(session(), consumer(), executor).subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals("[next, requested, error IllegalArgumentException]", subscriber.signals.toString());
+        subscriber.subscription.request(1);
+        executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+        assertEquals(3, subscriber.signals.size());
+    }
+
+    @Test
+    public void closingTheConsumerCompletes() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        MessageConsumer consumer = consumer();
+        messages.add(TestMessages.message(Collections.emptyMap()));
+        new ConsumerPublisher(session(), consumer, executor).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        consumer.close();
+        assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+        assertEquals("[next, complete]", subscriber.signals.toString());
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link MapBody}: conversions, insertion order, copies, and the visitors of its items and of properties.
+ */
+public class MapBodyTest {
+
+    /**
+     * Records each item with the method that received it.
+     */
+    private abstract static class Recorder {
+
+        final List<String> visits = new ArrayList<>();
+
+        public void visitObject(String name, Object value) {
+            visits.add("object " + name + "=" + value);
+        }
+
+        public void visitInt(String name, int value) {
+            visits.add("int " + name + "=" + value);
+        }
+
+        public void visitChar(String name, char value) {
+            visits.add("char " + name + "=" + value);
+        }
+
+        public void visitBytes(String name, byte[] value) {
+            visits.add("bytes " + name + "=" + Arrays.toString(value));
+        }
+
+        public void visitString(String name, String value) {
+            visits.add("string " + name + "=" + value);
+        }
+    }
+
+    private static final class ItemRecorder extends Recorder implements MapBody.Visitor {
+    }
+
+    private static final class PropertyRecorder extends Recorder implements PropertyVisitor {
+    }
+
+    private static MapBody sample() {
+        MapBody body = new MapBody(0);
+        body.setInt("i", 1);
+        body.setString("s", "two");
+        body.setChar("c", 'x');
+        body.setBytes("b", new byte[] { 3 });
+        body.setString("n", null);
+        body.setDouble("d", 4.5);
+        return body;
+    }
+
+    @Test
+    public void conversions() throws JMSException {
+        MapBody body = new MapBody();
+        body.setShort("short", (short) 7);
+        body.setString("text", "12");
+        body.setFloat("float", 1.5f);
+        assertEquals(7L, body.getLong("short"));
+        assertEquals(12, body.getInt("text"));
+        assertEquals(1.5, body.getDouble("float"), 0);
+        assertEquals("1.5", body.getString("float"));
+        assertFalse(body.getBoolean("missing"));
+        assertNull(body.getString("missing"));
+        try {
+            body.getInt("float");
+            fail("Converted a float to an int");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        try {
+            body.getBytes("text");
+            fail("Converted a String to a byte array");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void itemsKeepTheirFirstOrderAcrossGrowth() throws JMSException {
+        MapBody body = new MapBody(0);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            body.setInt("item" + i, i);
+            expected.add("item" + i);
+        }
+        body.setLong("item0", -1);
+        assertEquals(100, body.size());
+        assertEquals(expected, Collections.list(body.getMapNames()));
+        assertEquals(-1L, body.getObject("item0"));
+        assertEquals(99, body.getInt("item99"));
+        assertEquals(expected, new ArrayList<>(body.toMap().keySet()));
+    }
+
+    @Test
+    public void copyIsIndependent() throws JMSException {
+        MapBody body = sample();
+        MapBody copy = body.copy();
+        body.setInt("i", 9);
+        body.clear();
+        assertTrue(body.isEmpty());
+        assertEquals(1, copy.getInt("i"));
+        assertArrayEquals(new byte[] { 3 }, copy.getBytes("b"));
+        assertTrue(copy.itemExists("n"));
+    }
+
+    @Test
+    public void forEachPassesEachItemToItsMethod() throws JMSException {
+        ItemRecorder recorder = new ItemRecorder();
+        sample().forEach(recorder);
+        assertEquals(Arrays.asList("int i=1", "string s=two", "char c=x", "bytes b=[3]", "object n=null",
+                "object d=4.5"), recorder.visits);
+    }
+
+    @Test
+    public void visitDispatchesBoxedValuesAsForEachDoes() throws JMSException {
+        MapBody body = sample();
+        ItemRecorder recorder = new ItemRecorder();
+        for (String name : Collections.list(body.getMapNames())) {
+            recorder.visit(name, body.getObject(name));
+        }
+        ItemRecorder expected = new ItemRecorder();
+        body.forEach(expected);
+        assertEquals(expected.visits, recorder.visits);
+    }
+
+    @Test
+    public void forPropertiesAdaptsToAPropertyVisitor() throws JMSException {
+        MapBody properties = new MapBody();
+        properties.setInt("i", 1);
+        properties.setString("s", "two");
+        properties.setBoolean("flag", true);
+        properties.setString("n", null);
+        PropertyRecorder recorder = new PropertyRecorder();
+        properties.forEach(MapBody.Visitor.forProperties(recorder));
+        assertEquals(Arrays.asList("int i=1", "string s=two", "object flag=true", "object n=null"), recorder.visits);
+
+        PropertyRecorder boxed = new PropertyRecorder();
+        for (String name : Collections.list(properties.getMapNames())) {
+            boxed.visit(name, properties.getObject(name));
+        }
+        assertEquals(recorder.visits, boxed.visits);
+    }
+
+    @Test
+    public void invalidObjectIsRejected() {
+        try {
+            new MapBody().setObject("list", new ArrayList<>());
+            fail("Set an object of an invalid type");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+    }
+}
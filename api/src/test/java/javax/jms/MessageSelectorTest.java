@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the matching rules of {@link MessageSelector}, including the three-valued logic applied to missing properties.
+ */
+public class MessageSelectorTest {
+
+    private Message message;
+
+    @Before
+    public void setUp() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("JMSPriority", 4);
+        headers.put("JMSDeliveryMode", DeliveryMode.PERSISTENT);
+        headers.put("JMSTimestamp", 1000L);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("color", "red");
+        properties.put("n", 5);
+        properties.put("d", 2.5);
+        properties.put("b", true);
+        properties.put("s", "abc_x%y");
+        message = TestMessages.message(headers, properties);
+    }
+
+    private void assertMatches(String selector) throws JMSException {
+        assertTrue(selector, MessageSelector.compile(selector).matches(message));
+    }
+
+    private void assertNotMatches(String selector) throws JMSException {
+        assertFalse(selector, MessageSelector.compile(selector).matches(message));
+    }
+
+    @Test
+    public void comparisons() throws JMSException {
+        assertMatches("color = 'red'");
+        assertNotMatches("color <> 'red'");
+        assertMatches("n > 3 AND n < 10");
+        assertMatches("n = 5.0");
+        assertMatches("n > 4.5e0");
+        assertMatches("d = 2.5f");
+        assertNotMatches("n = '5'");
+        assertMatches("NOT (n = '5')");
+    }
+
+    @Test
+    public void arithmetic() throws JMSException {
+        assertMatches("n * 2 + 1 = 11");
+        assertMatches("n / 2 = 2");
+        assertMatches("d * 2 = 5");
+        assertMatches("-n = -5");
+        assertMatches("n = 0x5");
+        assertMatches("n = 05L");
+        assertNotMatches("1 / 0 = 1");
+    }
+
+    @Test
+    public void between() throws JMSException {
+        assertMatches("n BETWEEN 5 AND 6");
+        assertNotMatches("n NOT BETWEEN 5 AND 6");
+    }
+
+    @Test
+    public void in() throws JMSException {
+        assertMatches("color IN ('blue', 'red')");
+        assertNotMatches("color NOT IN ('blue', 'red')");
+        assertNotMatches("missing NOT IN ('x')");
+    }
+
+    @Test
+    public void like() throws JMSException {
+        assertMatches("color LIKE 'r%'");
+        assertMatches("color LIKE '_e_'");
+        assertMatches("color LIKE '%d'");
+        assertNotMatches("color LIKE 'r_'");
+        assertMatches("s LIKE 'abc\\_x\\%y' ESCAPE '\\'");
+        assertMatches("s LIKE '%\\_%' ESCAPE '\\'");
+        assertNotMatches("s LIKE 'abc\\_' ESCAPE '\\'");
+    }
+
+    @Test
+    public void missingPropertiesAreUnknown() throws JMSException {
+        assertNotMatches("missing = 1");
+        assertNotMatches("NOT missing = 1");
+        assertMatches("missing IS NULL");
+        assertMatches("color IS NOT NULL");
+        assertMatches("missing OR b");
+        assertNotMatches("missing AND b");
+        assertNotMatches("NOT (missing AND b)");
+    }
+
+    @Test
+    public void booleans() throws JMSException {
+        assertMatches("b");
+        assertMatches("b = TRUE");
+        assertNotMatches("NOT b");
+    }
+
+    @Test
+    public void headers() throws JMSException {
+        assertMatches("JMSPriority > 3 AND JMSDeliveryMode = 'PERSISTENT'");
+        assertMatches("JMSTimestamp - 1000 = 0");
+        MessageSelector selector = MessageSelector.compile("JMSPriority > 3 AND color = 'red'");
+        assertEquals(new HashSet<>(Arrays.asList("JMSPriority")), selector.getReferencedHeaders());
+        assertEquals(new HashSet<>(Arrays.asList("color")), selector.getReferencedProperties());
+    }
+
+    @Test
+    public void constantSelectors() throws JMSException {
+        assertTrue(MessageSelector.compile(null).isAlwaysTrue());
+        assertTrue(MessageSelector.compile(" ").isAlwaysTrue());
+        assertTrue(MessageSelector.compile("color = 'it''s' OR TRUE").isAlwaysTrue());
+        assertTrue(MessageSelector.compile("1 = 2 AND color = 'red'").isAlwaysFalse());
+        assertMatches("");
+        assertNotMatches("1 = 2 AND color = 'red'");
+    }
+
+    @Test
+    public void compiledSelectorsAreCached() throws InvalidSelectorException {
+        assertSame(MessageSelector.compile("n > 1"), MessageSelector.compile("n > 1"));
+    }
+
+    @Test(expected = InvalidSelectorRuntimeException.class)
+    public void compileUncheckedThrowsRuntimeException() {
+        MessageSelector.compileUnchecked("color = ");
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ObjectBodyCodecs}: encoding with a codec or by Java serialization, and the class loader and filter used
+ * to decode serialized objects.
+ */
+public class ObjectBodyCodecsTest {
+
+    static class Point implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static final class NamedPoint extends Point {
+
+        private static final long serialVersionUID = 1L;
+
+        NamedPoint(int x, int y) {
+            super(x, y);
+        }
+    }
+
+    static final class PointCodec implements ObjectBodyCodec<Point> {
+
+        private final boolean subclasses;
+
+        PointCodec(boolean subclasses) {
+            this.subclasses = subclasses;
+        }
+
+        @Override
+        public Class<Point> getType() {
+            return Point.class;
+        }
+
+        @Override
+        public String getName() {
+            return "point";
+        }
+
+        @Override
+        public boolean appliesToSubclasses() {
+            return subclasses;
+        }
+
+        @Override
+        public void encode(Point point, OutputStream out) throws IOException {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(point.x);
+            data.writeInt(point.y);
+        }
+
+        @Override
+        public Point decode(InputStream in) throws IOException {
+            DataInputStream data = new DataInputStream(in);
+            return new Point(data.readInt(), data.readInt());
+        }
+    }
+
+    /**
+     * Records the names of the classes it is asked to load.
+     */
+    static final class RecordingClassLoader extends ClassLoader {
+
+        final List<String> names = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingClassLoader() {
+            super(ObjectBodyCodecsTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            names.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+
+    private static void assertRejected(ObjectBodyCodecs codecs, byte[] encoded) {
+        try {
+            codecs.decode(encoded);
+            fail("Decoded a rejected object");
+        } catch (MessageFormatException e) {
+            assertTrue(e.getLinkedException() instanceof InvalidClassException);
+        }
+    }
+
+    @Test
+    public void codecEncodesItsType() throws JMSException {
+        ObjectBodyCodecs codecs = new ObjectBodyCodecs(Collections.singletonList(new PointCodec(false)));
+        byte[] encoded = codecs.encode(new Point(3, -4));
+        assertEquals(1, encoded[0]);
+        assertEquals(1 + 2 + "point".length() + 8, encoded.length);
+        Point point = (Point) codecs.decode(encoded);
+        assertEquals(3, point.x);
+        assertEquals(-4, point.y);
+    }
+
+    @Test
+    public void subclassesAreSerializedUnlessTheCodecAppliesToThem() throws JMSException {
+        ObjectBodyCodecs exact = new ObjectBodyCodecs(Collections.singletonList(new PointCodec(false)));
+        assertNull(exact.getCodec(NamedPoint.class));
+        assertEquals(0, exact.encode(new NamedPoint(1, 2))[0]);
+        assertEquals(NamedPoint.class, exact.decode(exact.encode(new NamedPoint(1, 2))).getClass());
+
+        ObjectBodyCodecs inherited = new ObjectBodyCodecs(Collections.singletonList(new PointCodec(true)));
+        assertEquals(Point.class, inherited.decode(inherited.encode(new NamedPoint(1, 2))).getClass());
+    }
+
+    @Test
+    public void duplicateCodecsAreRejected() {
+        try {
+            new ObjectBodyCodecs(Arrays.asList(new PointCodec(false), new PointCodec(true)));
+            fail("Registered two codecs for one type");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void unknownCodecOrEncoding() throws JMSException {
+        byte[] encoded = new ObjectBodyCodecs(Collections.singletonList(new PointCodec(false))).encode(new Point(1, 1));
+        ObjectBodyCodecs empty = new ObjectBodyCodecs(Collections.<ObjectBodyCodec<?>> emptyList());
+        try {
+            empty.decode(encoded);
+            fail("Decoded with an unregistered codec");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        for (byte[] invalid : new byte[][] { {}, { 2 } }) {
+            try {
+                empty.decode(invalid);
+                fail("Decoded " + Arrays.toString(invalid));
+            } catch (MessageFormatException e) {
+                // expected
+            }
+        }
+        assertNull(empty.encode(null));
+        assertNull(empty.decode((byte[]) null));
+    }
+
+    @Test
+    public void serializedClassesAreResolvedWithTheRegistryLoader() throws JMSException {
+        RecordingClassLoader loader = new RecordingClassLoader();
+        ObjectBodyCodecs codecs = new ObjectBodyCodecs(Collections.<ObjectBodyCodec<?>> emptyList(), loader,
+                name -> true);
+        Point point = (Point) codecs.decode(codecs.encode(new Point(5, 6)));
+        assertEquals(6, point.y);
+        assertTrue(loader.names.toString(), loader.names.contains(Point.class.getName()));
+    }
+
+    @Test
+    public void filterRejectsSerializedClasses() throws JMSException {
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        ObjectBodyCodecs filtered = new ObjectBodyCodecs(Collections.<ObjectBodyCodec<?>> emptyList(),
+                getClass().getClassLoader(), name -> seen.add(name) && name.startsWith("java."));
+        byte[] numbers = filtered.encode(new Integer[] { 1, 2 });
+        assertArrayEquals(new Integer[] { 1, 2 }, (Integer[]) filtered.decode(numbers));
+        assertTrue(seen.toString(), seen.contains("java.lang.Integer"));
+        assertTrue(seen.toString(), seen.contains("java.lang.Number"));
+
+        RecordingClassLoader loader = new RecordingClassLoader();
+        ObjectBodyCodecs rejecting = new ObjectBodyCodecs(Collections.<ObjectBodyCodec<?>> emptyList(), loader,
+                name -> name.startsWith("java."));
+        assertRejected(rejecting, rejecting.encode(new Point(1, 2)));
+        assertRejected(rejecting, rejecting.encode(new Point[] { new Point(1, 2) }));
+        assertTrue(loader.names.toString(), loader.names.isEmpty());
+    }
+
+    @Test
+    public void serializationCanBeRefusedWhileCodecsStillDecode() throws JMSException {
+        ObjectBodyCodecs codecs = new ObjectBodyCodecs(Collections.singletonList(new PointCodec(false)), null,
+                name -> false);
+        assertRejected(codecs, codecs.encode(42L));
+        assertEquals(7, ((Point) codecs.decode(codecs.encode(new Point(7, 8)))).x);
+        assertSame(String.class, codecs.decode(codecs.encode("text")).getClass());
+    }
+}
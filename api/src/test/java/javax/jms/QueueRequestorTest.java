@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the batched and multiplexed requests of {@link QueueRequestor} against a {@link TestSession}.
+ */
+public class QueueRequestorTest {
+
+    private final TestSession stub = new TestSession();
+    private final Queue queue = stub.session::toString;
+
+    private static List<Message> requests(int count) {
+        List<Message> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(TestMessages.message());
+        }
+        return requests;
+    }
+
+    @Test
+    public void requestAllMatchesRepliesInAnyOrder() throws JMSException {
+        List<Message> requests = requests(3);
+        stub.responder = (session, request) -> {
+            if (request == requests.get(2)) {
+                for (int i = 2; i >= 0; i--) {
+                    session.reply(requests.get(i), TestSession.replyTo(requests.get(i)));
+                }
+            }
+        };
+        for (boolean multiplexed : new boolean[] { false, true }) {
+            QueueRequestor requestor = new QueueRequestor(stub.session, queue, multiplexed);
+            List<Message> replies = requestor.requestAll(requests);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(requests.get(i).getJMSCorrelationID(), replies.get(i).getJMSCorrelationID());
+            }
+            assertEquals(0, requestor.getPendingRequestCount());
+        }
+    }
+
+    @Test
+    public void requestAllUntilReturnsNullForMissingReplies() throws JMSException {
+        List<Message> requests = requests(2);
+        stub.responder = (session, request) -> {
+            if (request == requests.get(1)) {
+                session.reply(request, TestSession.replyTo(request));
+            }
+        };
+        QueueRequestor requestor = new QueueRequestor(stub.session, queue, true);
+        List<Message> replies = requestor.requestAll(requests, 50);
+        assertNull(replies.get(0));
+        assertEquals(requests.get(1).getJMSCorrelationID(), replies.get(1).getJMSCorrelationID());
+        assertEquals(0, requestor.getPendingRequestCount());
+        assertEquals(1, requestor.getExpiredRequestCount());
+    }
+
+    @Test
+    public void failedSendUnregistersTheWholeBatch() throws JMSException {
+        JMSException refused = new JMSException("refused");
+        stub.asyncSend = (message, listener) -> {
+            if (stub.sent.size() == 1) {
+                listener.onException(message, refused);
+            } else {
+                listener.onCompletion(message);
+            }
+        };
+        QueueRequestor requestor = new QueueRequestor(stub.session, queue, true);
+        try {
+            requestor.requestAll(requests(3));
+            fail("A failed send was not reported");
+        } catch (JMSException e) {
+            assertSame(refused, e);
+        }
+        assertEquals(3, stub.sent.size());
+        assertEquals(0, requestor.getPendingRequestCount());
+    }
+
+    @Test
+    public void interruptedWaitUnregistersTheWholeBatch() throws JMSException {
+        QueueRequestor requestor = new QueueRequestor(stub.session, queue, true);
+        Thread.currentThread().interrupt();
+        try {
+            requestor.requestAll(requests(3));
+            fail("An interrupted wait was not reported");
+        } catch (JMSException e) {
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(0, requestor.getPendingRequestCount());
+
+        Message late = TestSession.replyTo(stub.sent.get(2));
+        stub.deliver(stub.temporaryQueues.get(0), late);
+        assertEquals(1, requestor.getDiscardedReplyCount());
+    }
+
+    @Test
+    public void emptyBatch() throws JMSException {
+        QueueRequestor requestor = new QueueRequestor(stub.session, queue, true);
+        assertEquals(Collections.emptyList(), requestor.requestAll(Collections.<Message> emptyList()));
+        assertEquals(Collections.emptyList(), new QueueRequestor(stub.session, queue).requestAll(requests(0)));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ReplyDispatcher}: matching replies, expiring requests and closing while requests are registered.
+ */
+public class ReplyDispatcherTest {
+
+    private final ReplyDispatcher dispatcher = new ReplyDispatcher();
+
+    @Test
+    public void replyCompletesItsRequest() throws Exception {
+        CompletableFuture<Message> future = dispatcher.register("a", 0);
+        Message reply = TestSession.replyWith("a");
+        dispatcher.onMessage(reply);
+        assertSame(reply, future.get());
+        assertEquals(0, dispatcher.getPendingCount());
+        dispatcher.onMessage(TestSession.replyWith("a"));
+        dispatcher.onMessage(TestSession.replyWith(null));
+        assertEquals(2, dispatcher.getUnmatchedReplyCount());
+    }
+
+    @Test(timeout = 10000)
+    public void expiredRequestIsReaped() throws Exception {
+        CompletableFuture<Message> future = dispatcher.register("a", ReplyDispatcher.deadline(20));
+        try {
+            future.get();
+            fail("The request must expire");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertEquals(1, dispatcher.getExpiredCount());
+        assertEquals(0, dispatcher.getPendingCount());
+        dispatcher.onMessage(TestSession.replyWith("a"));
+        assertEquals(1, dispatcher.getUnmatchedReplyCount());
+    }
+
+    @Test(timeout = 10000)
+    public void awaitReturnsNullOnExpiry() throws JMSException {
+        assertNull(ReplyDispatcher.await(dispatcher.register("a", ReplyDispatcher.deadline(1))));
+        assertEquals(1, dispatcher.getExpiredCount());
+    }
+
+    @Test
+    public void answeredRequestDoesNotExpire() throws Exception {
+        Message reply = TestSession.replyWith("a");
+        CompletableFuture<Message> future = dispatcher.register("a", ReplyDispatcher.deadline(100));
+        dispatcher.onMessage(reply);
+        Thread.sleep(200);
+        assertTrue(future.isDone() && !future.isCompletedExceptionally());
+        assertEquals(0, dispatcher.getExpiredCount());
+    }
+
+    @Test
+    public void closeFailsPendingRequests() throws JMSException {
+        CompletableFuture<Message> future = dispatcher.register("a", 0);
+        dispatcher.close();
+        try {
+            ReplyDispatcher.await(future);
+            fail("A pending request must fail when the dispatcher is closed");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(0, dispatcher.getPendingCount());
+        try {
+            dispatcher.register("b", 0);
+            fail("A closed dispatcher must refuse new requests");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void closeDuringRegisterLeavesNoRequestPending() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            ReplyDispatcher closing = new ReplyDispatcher();
+            List<CompletableFuture<Message>> registered = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(2);
+            Thread[] threads = new Thread[2];
+            for (int t = 0; t < threads.length; t++) {
+                String prefix = round + "-" + t + "-";
+                threads[t] = new Thread(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0;; i++) {
+                            registered.add(closing.register(prefix + i, 0));
+                        }
+                    } catch (JMSException e) {
+                        // closed
+                    }
+                });
+                threads[t].start();
+            }
+            started.await();
+            closing.close();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (CompletableFuture<Message> future : registered) {
+                assertTrue(future.isCompletedExceptionally());
+            }
+            assertEquals(0, closing.getPendingCount());
+        }
+    }
+
+    @Test
+    public void deadlineSaturates() {
+        assertEquals(0, ReplyDispatcher.deadline(0));
+        assertEquals(Long.MAX_VALUE, ReplyDispatcher.deadline(Long.MAX_VALUE));
+        long now = System.currentTimeMillis();
+        long deadline = ReplyDispatcher.deadline(1000);
+        assertTrue(deadline >= now + 1000 && deadline <= System.currentTimeMillis() + 1000);
+        try {
+            ReplyDispatcher.deadline(-1);
+            fail("A negative timeout must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
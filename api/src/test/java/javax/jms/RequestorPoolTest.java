@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Tests the reuse of temporary queues by {@link RequestorPool} against a {@link TestSession}.
+ */
+public class RequestorPoolTest {
+
+    private final TestSession stub = new TestSession();
+    private final Queue queue = stub.session::toString;
+
+    @Test(timeout = 10000)
+    public void leaseReusedAfterLateReply() throws JMSException {
+        RequestorPool pool = new RequestorPool(stub.session, 0);
+        QueueRequestor first = pool.createQueueRequestor(queue);
+        Message expired = TestMessages.message();
+        assertNull(first.request(expired, 10));
+        first.close();
+        assertEquals(1, pool.getIdleCount());
+
+        // The reply to the expired request arrives once its temporary queue has been returned to the pool.
+        TemporaryQueue leased = stub.temporaryQueues.get(0);
+        stub.deliver(leased, TestSession.replyTo(expired));
+
+        stub.responder = (session, request) -> session.reply(request, TestSession.replyTo(request));
+        QueueRequestor second = pool.createQueueRequestor(queue);
+        assertEquals(1, stub.temporaryQueues.size());
+        assertEquals(0, pool.getIdleCount());
+        Message request = TestMessages.message();
+        Message reply = second.request(request, 1000);
+        assertEquals(request.getJMSCorrelationID(), reply.getJMSCorrelationID());
+        assertEquals(1, second.getDiscardedReplyCount());
+        second.close();
+        assertTrue(stub.deleted.isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void releaseDrainsWaitingReplies() throws JMSException {
+        RequestorPool pool = new RequestorPool(stub.session, 0);
+        QueueRequestor requestor = pool.createQueueRequestor(queue);
+        Message expired = TestMessages.message();
+        assertNull(requestor.request(expired, 10));
+        TemporaryQueue leased = stub.temporaryQueues.get(0);
+        stub.deliver(leased, TestSession.replyTo(expired));
+        stub.deliver(leased, TestSession.replyTo(expired));
+        requestor.close();
+        assertEquals(2, pool.getDrainedReplyCount());
+        assertEquals(0, stub.waiting(leased));
+    }
+
+    @Test
+    public void idleLeaseIsEvicted() throws Exception {
+        RequestorPool pool = new RequestorPool(stub.session, 1);
+        pool.createQueueRequestor(queue).close();
+        Thread.sleep(10);
+        pool.evictIdle();
+        assertEquals(0, pool.getIdleCount());
+        assertEquals(stub.temporaryQueues, stub.deleted);
+    }
+
+    @Test
+    public void closedPoolDeletesReturnedLease() throws JMSException {
+        RequestorPool pool = new RequestorPool(stub.session, 0);
+        QueueRequestor requestor = pool.createQueueRequestor(queue);
+        pool.close();
+        assertTrue(stub.deleted.isEmpty());
+        requestor.close();
+        assertEquals(stub.temporaryQueues, stub.deleted);
+        try {
+            pool.createQueueRequestor(queue);
+            fail("A closed pool must refuse to create requestors");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+}
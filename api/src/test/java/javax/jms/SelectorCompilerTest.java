@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.jms.SelectorExpression.Numeric;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SelectorCompiler} and {@link SelectorAnalyzer#reorder(SelectorExpression)} by evaluating random
+ * selectors against random messages three ways: as parsed, after folding and reordering, and compiled to bytecode. All
+ * three must agree.
+ */
+public class SelectorCompilerTest {
+
+    private static final String[] PROPERTIES = { "a", "b", "c", "s", "flag" };
+    private static final String[] COMPARISONS = { "=", "<>", "<", "<=", ">", ">=" };
+
+    private final Random random = new Random(42);
+
+    private String value() {
+        switch (random.nextInt(6)) {
+            case 0:
+                return Integer.toString(random.nextInt(5));
+            case 1:
+                return random.nextInt(5) + ".5";
+            case 2:
+                return "'x" + random.nextInt(3) + "'";
+            case 3:
+                return "JMSPriority";
+            case 4:
+                return "JMSTimestamp";
+            default:
+                return property();
+        }
+    }
+
+    private String property() {
+        return PROPERTIES[random.nextInt(PROPERTIES.length)];
+    }
+
+    private String arithmetic(int depth) {
+        if (depth <= 0 || random.nextInt(3) > 0) {
+            return value();
+        }
+        return "(" + arithmetic(depth - 1) + " " + "+-*/".charAt(random.nextInt(4)) + " " + arithmetic(depth - 1) + ")";
+    }
+
+    private String condition(int depth) {
+        if (depth <= 0 || random.nextInt(4) == 0) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    return property() + " IS NULL";
+                case 1:
+                    return property() + " IN ('x0','x1')";
+                case 2:
+                    return property() + " LIKE 'x%'";
+                case 3:
+                    return arithmetic(2) + " BETWEEN " + arithmetic(1) + " AND " + arithmetic(1);
+                case 4:
+                    return random.nextBoolean() ? "TRUE" : "flag";
+                default:
+                    return arithmetic(2) + " " + COMPARISONS[random.nextInt(COMPARISONS.length)] + " " + arithmetic(2);
+            }
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                return "(" + condition(depth - 1) + " AND " + condition(depth - 1) + ")";
+            case 1:
+                return "(" + condition(depth - 1) + " OR " + condition(depth - 1) + ")";
+            default:
+                return "NOT (" + condition(depth - 1) + ")";
+        }
+    }
+
+    private Object propertyValue() {
+        switch (random.nextInt(6)) {
+            case 0:
+                return null;
+            case 1:
+                return random.nextInt(5);
+            case 2:
+                return random.nextInt(5) + 0.5;
+            case 3:
+                return "x" + random.nextInt(3);
+            case 4:
+                return random.nextBoolean();
+            default:
+                return (long) random.nextInt(5);
+        }
+    }
+
+    private Message message() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("JMSPriority", random.nextInt(10));
+        headers.put("JMSTimestamp", (long) random.nextInt(5));
+        Map<String, Object> properties = new HashMap<>();
+        for (String property : PROPERTIES) {
+            Object value = propertyValue();
+            if (value != null) {
+                properties.put(property, value);
+            }
+        }
+        return TestMessages.message(headers, properties);
+    }
+
+    private static boolean hiddenClassesAvailable() {
+        String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 15
+                && !Boolean.getBoolean(SelectorCompiler.INTERPRET_PROPERTY);
+    }
+
+    @Test
+    public void compiledAgreesWithInterpreted() throws JMSException {
+        int compiled = 0;
+        int evaluations = 0;
+        for (int i = 0; i < 2000; i++) {
+            String selector = condition(4);
+            SelectorExpression parsed;
+            try {
+                parsed = SelectorParser.parse(selector);
+            } catch (InvalidSelectorException e) {
+                // the generator does not check types, so many selectors compare strings with numbers
+                continue;
+            }
+            Numeric[] parsedRegisters = Numeric.allocate(parsed.assignRegisters(0));
+
+            SelectorExpression optimized = SelectorParser.parse(selector);
+            optimized = SelectorAnalyzer.reorder(SelectorCompiler.fold(optimized));
+            Numeric[] registers = Numeric.allocate(optimized.assignRegisters(0));
+            SelectorExpression evaluator = SelectorCompiler.compile(optimized);
+            if (evaluator != optimized) {
+                compiled++;
+            }
+
+            for (int j = 0; j < 20; j++) {
+                Message message = message();
+                int expected = parsed.test(message, parsedRegisters);
+                String context = selector + " with " + message;
+                assertEquals(context, expected, optimized.test(message, registers));
+                assertEquals(context, expected, evaluator.test(message, registers));
+                evaluations++;
+            }
+        }
+        assertTrue("Too few valid selectors generated: " + evaluations, evaluations > 10000);
+        if (hiddenClassesAvailable()) {
+            assertTrue("No selector was compiled", compiled > 0);
+        }
+    }
+
+    @Test
+    public void constantsAreFolded() throws InvalidSelectorException {
+        assertEquals("TRUE", SelectorCompiler.fold(SelectorParser.parse("1 + 2 = 3")).toString());
+        assertEquals("TRUE", SelectorCompiler.fold(SelectorParser.parse("TRUE OR a = 1")).toString());
+        assertEquals("FALSE", SelectorCompiler.fold(SelectorParser.parse("FALSE AND a = 1")).toString());
+        assertEquals("a = 1", SelectorCompiler.fold(SelectorParser.parse("TRUE AND a = 1")).toString());
+    }
+
+    @Test
+    public void literalsAreNotCompiled() throws InvalidSelectorException {
+        SelectorExpression expression = SelectorCompiler.fold(SelectorParser.parse("1 = 1"));
+        expression.assignRegisters(0);
+        assertSame(expression, SelectorCompiler.compile(expression));
+    }
+
+    @Test
+    public void conditionsAreCompiled() throws JMSException {
+        SelectorExpression expression = SelectorParser.parse("JMSPriority > 3 AND color = 'red'");
+        Numeric[] registers = Numeric.allocate(expression.assignRegisters(0));
+        SelectorExpression evaluator = SelectorCompiler.compile(expression);
+        if (hiddenClassesAvailable()) {
+            assertNotSame(expression, evaluator);
+        }
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("JMSPriority", 4);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("color", "red");
+        assertEquals(SelectorExpression.TRUE, evaluator.test(TestMessages.message(headers, properties), registers));
+        properties.put("color", "blue");
+        assertEquals(SelectorExpression.FALSE, evaluator.test(TestMessages.message(headers, properties), registers));
+        properties.remove("color");
+        assertEquals(SelectorExpression.UNKNOWN, evaluator.test(TestMessages.message(headers, properties), registers));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SelectorParser}: operator precedence, literals and the errors reported for invalid selectors.
+ */
+public class SelectorParserTest {
+
+    private static void assertParsed(String selector, String expected) throws InvalidSelectorException {
+        assertEquals(selector, expected, SelectorParser.parse(selector).toString());
+    }
+
+    private static void assertInvalid(String selector, String expectedMessage) {
+        try {
+            SelectorParser.parse(selector);
+            fail("Accepted invalid selector: " + selector);
+        } catch (InvalidSelectorException e) {
+            assertEquals(selector, expectedMessage, e.getMessage());
+        }
+    }
+
+    @Test
+    public void andBindsTighterThanOr() throws InvalidSelectorException {
+        assertParsed("a = 1 OR b = 2 AND c = 3", "(a = 1 OR (b = 2 AND c = 3))");
+        assertParsed("(a = 1 OR b = 2) AND c = 3", "((a = 1 OR b = 2) AND c = 3)");
+    }
+
+    @Test
+    public void notBindsTighterThanAnd() throws InvalidSelectorException {
+        assertParsed("NOT a = 1 AND b", "(NOT a = 1 AND b)");
+    }
+
+    @Test
+    public void arithmeticPrecedence() throws InvalidSelectorException {
+        assertParsed("-a * 2 + 3 > 4", "((-a * 2) + 3) > 4");
+        assertParsed("a - b - c = 0", "((a - b) - c) = 0");
+    }
+
+    @Test
+    public void betweenIsExpanded() throws InvalidSelectorException {
+        assertParsed("a BETWEEN 1 AND 2 OR c", "((a >= 1 AND a <= 2) OR c)");
+    }
+
+    @Test
+    public void predicates() throws InvalidSelectorException {
+        assertParsed("x NOT IN ('a','b')", "x NOT IN ('a', 'b')");
+        assertParsed("x IS NOT NULL", "x IS NOT NULL");
+        assertParsed("x LIKE 'a\\_%' ESCAPE '\\'", "x LIKE 'a\\_%' ESCAPE '\\'");
+    }
+
+    @Test
+    public void literals() throws InvalidSelectorException {
+        assertParsed("0x1F = 31", "31 = 31");
+        assertParsed("1.5e1 = 15", "15.0 = 15");
+        assertParsed("a = 'it''s'", "a = 'it''s'");
+        assertParsed("-9223372036854775808 < 0", "-9223372036854775808 < 0");
+    }
+
+    @Test
+    public void keywordsAreCaseInsensitive() throws InvalidSelectorException {
+        assertParsed("a = 1 or b is null", "(a = 1 OR b IS NULL)");
+    }
+
+    @Test
+    public void unexpectedEnd() {
+        assertInvalid("color = ", "Invalid message selector at position 8: unexpected end of selector: color = ");
+        assertInvalid("(a = 1",
+                "Invalid message selector at position 6: expected ')' but found end of selector: (a = 1");
+    }
+
+    @Test
+    public void unexpectedToken() {
+        assertInvalid("AND = 1", "Invalid message selector at position 0: unexpected 'AND': AND = 1");
+        assertInvalid("a # 1", "Invalid message selector at position 2: unexpected character '#': a # 1");
+        assertInvalid("a NOT NULL",
+                "Invalid message selector at position 6: expected BETWEEN, IN or LIKE after NOT but found 'NULL': "
+                        + "a NOT NULL");
+    }
+
+    @Test
+    public void unterminatedString() {
+        assertInvalid("a = 'x", "Invalid message selector at position 4: unterminated string literal: a = 'x");
+    }
+
+    @Test
+    public void typeErrors() {
+        assertInvalid("color < 'x'",
+                "Invalid message selector at position 6: strings and booleans can only be compared with = and <>: "
+                        + "color < 'x'");
+        assertInvalid("n + 'a' = 1",
+                "Invalid message selector at position 2: expected an arithmetic expression but found 'a': n + 'a' = 1");
+    }
+
+    @Test
+    public void selectorMustBeCondition() {
+        assertInvalid("5", "Invalid message selector at position 0: expected a conditional expression but found 5: 5");
+        assertInvalid("'a' = 'a' AND 5",
+                "Invalid message selector at position 10: expected a conditional expression but found 5: "
+                        + "'a' = 'a' AND 5");
+    }
+
+    @Test
+    public void invalidEscape() {
+        assertInvalid("color LIKE 'a' ESCAPE 'ab'",
+                "Invalid message selector at position 22: ESCAPE requires a single character: "
+                        + "color LIKE 'a' ESCAPE 'ab'");
+        try {
+            SelectorParser.parse("c LIKE 'x\\' ESCAPE '\\'");
+            fail("Accepted a pattern ending with its escape character");
+        } catch (InvalidSelectorException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void identifiers() {
+        assertTrue(SelectorParser.isIdentifier("color"));
+        assertTrue(SelectorParser.isIdentifier("_x$1"));
+        assertFalse(SelectorParser.isIdentifier(null));
+        assertFalse(SelectorParser.isIdentifier(""));
+        assertFalse(SelectorParser.isIdentifier("1a"));
+        assertFalse(SelectorParser.isIdentifier("a-b"));
+        assertFalse(SelectorParser.isIdentifier("between"));
+        assertFalse(SelectorParser.isIdentifier("NULL"));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link SendWindow} against the asynchronous sends of a {@link TestSession}, which are completed by each test.
+ */
+public class SendWindowTest {
+
+    private final TestSession stub = new TestSession();
+    private final List<CompletionListener> listeners = new CopyOnWriteArrayList<>();
+    private final MessageProducer producer;
+    private final CompletionListener ignored = new CompletionListener() {
+
+        @Override
+        public void onCompletion(Message message) {
+        }
+
+        @Override
+        public void onException(Message message, Exception exception) {
+        }
+    };
+
+    public SendWindowTest() throws JMSException {
+        stub.asyncSend = (message, listener) -> listeners.add(listener);
+        producer = stub.session.createSender(stub.session::toString);
+    }
+
+    private void complete(int index) {
+        listeners.get(index).onCompletion(stub.sent.get(index));
+    }
+
+    @Test
+    public void fullWindowRejectsWithoutWait() throws JMSException {
+        SendWindow window = new SendWindow(1, 0, 0);
+        window.send(producer, TestMessages.message(), ignored);
+        try {
+            window.send(producer, TestMessages.message(), ignored);
+            fail("A send to a full window must be rejected");
+        } catch (ResourceAllocationException e) {
+            // expected
+        }
+        assertEquals(1, window.getRejectedCount());
+        assertEquals(1, stub.sent.size());
+
+        complete(0);
+        assertEquals(0, window.getInFlightMessages());
+        assertEquals(0, window.getInFlightBytes());
+        window.send(producer, TestMessages.message(), ignored);
+        assertEquals(1, window.getInFlightMessages());
+    }
+
+    @Test
+    public void byteLimitRejectsWithoutWait() throws JMSException {
+        SendWindow window = new SendWindow(0, 3 * SendWindow.DEFAULT_MESSAGE_SIZE, 0);
+        window.send(producer, TestMessages.message(), ignored);
+        assertEquals(2 * SendWindow.DEFAULT_MESSAGE_SIZE, window.getInFlightBytes());
+        try {
+            window.send(producer, TestMessages.message(), ignored);
+            fail("A send over the byte limit must be rejected");
+        } catch (ResourceAllocationException e) {
+            // expected
+        }
+        assertEquals(1, window.getRejectedCount());
+    }
+
+    @Test
+    public void oversizedMessageAdmittedWhenEmpty() throws JMSException {
+        SendWindow window = new SendWindow(0, 1, 0);
+        window.send(producer, TestMessages.message(), ignored);
+        assertEquals(1, window.getInFlightMessages());
+    }
+
+    @Test
+    public void failedSendReleasesRoom() throws JMSException {
+        SendWindow window = new SendWindow(1, 0, 0);
+        Exception[] failure = new Exception[1];
+        window.send(producer, TestMessages.message(), new CompletionListener() {
+
+            @Override
+            public void onCompletion(Message message) {
+            }
+
+            @Override
+            public void onException(Message message, Exception exception) {
+                failure[0] = exception;
+            }
+        });
+        JMSException exception = new JMSException("failed");
+        listeners.get(0).onException(stub.sent.get(0), exception);
+        assertSame(exception, failure[0]);
+        assertEquals(0, window.getInFlightMessages());
+
+        stub.asyncSend = (message, listener) -> {
+            throw new IllegalStateRuntimeException("closed");
+        };
+        try {
+            window.send(producer, TestMessages.message(), ignored);
+            fail("The failure of the producer must be thrown");
+        } catch (IllegalStateRuntimeException e) {
+            // expected
+        }
+        assertEquals(0, window.getInFlightMessages());
+        assertEquals(0, window.getRejectedCount());
+    }
+
+    @Test(timeout = 10000)
+    public void longWaitAdmitsOnceRoomIsReleased() throws Exception {
+        SendWindow window = new SendWindow(1, 0, Long.MAX_VALUE);
+        window.send(producer, TestMessages.message(), ignored);
+        Thread completer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            complete(0);
+        });
+        completer.start();
+        window.send(producer, TestMessages.message(), ignored);
+        completer.join();
+        assertEquals(1, window.getInFlightMessages());
+        assertEquals(0, window.getRejectedCount());
+    }
+
+    @Test(timeout = 10000)
+    public void waitRejectsAfterMaxWait() throws JMSException {
+        SendWindow window = new SendWindow(1, 0, 20);
+        window.send(producer, TestMessages.message(), ignored);
+        long start = System.currentTimeMillis();
+        try {
+            window.send(producer, TestMessages.message(), ignored);
+            fail("A send that finds no room within the maximum wait must be rejected");
+        } catch (ResourceAllocationException e) {
+            // expected
+        }
+        assertEquals(1, window.getRejectedCount());
+        assertEquals(true, System.currentTimeMillis() - start >= 20);
+    }
+}
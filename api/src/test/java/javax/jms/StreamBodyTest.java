@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamBody}: round trips, type conversions, chunked byte array reads, bulk reads and malformed items.
+ */
+public class StreamBodyTest {
+
+    private static StreamBody decode(byte[] encoded) {
+        return new StreamBody(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Returns the encoding of one string or byte array item with the specified tag, length prefix and content.
+     */
+    private static byte[] item(int tag, int length, int contentLength) {
+        return ByteBuffer.allocate(5 + contentLength).put((byte) tag).putInt(length).array();
+    }
+
+    private static void assertMalformed(StreamBody body) throws JMSException {
+        try {
+            body.readObject();
+            fail("Read a malformed item");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        try {
+            body.skip();
+            fail("Skipped a malformed item");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void roundTrip() throws JMSException {
+        StreamBody body = new StreamBody(0);
+        body.writeBoolean(true);
+        body.writeByte((byte) -7);
+        body.writeShort((short) 300);
+        body.writeChar('\u00e9');
+        body.writeInt(Integer.MIN_VALUE);
+        body.writeLong(Long.MAX_VALUE);
+        body.writeFloat(1.5f);
+        body.writeDouble(-0.25);
+        body.writeString("caf\u00e9 \ud83d\ude00");
+        body.writeBytes(new byte[] { 1, 2, 3 });
+        body.writeString(null);
+        body.writeBytes(new byte[] { 9, 8, 7, 6 }, 1, 2);
+
+        StreamBody copy = decode(body.toByteArray());
+        assertEquals(body.length(), copy.length());
+        assertTrue(copy.readBoolean());
+        assertEquals(-7, copy.readByte());
+        assertEquals(300, copy.readShort());
+        assertEquals('\u00e9', copy.readChar());
+        assertEquals(Integer.MIN_VALUE, copy.readInt());
+        assertEquals(Long.MAX_VALUE, copy.readLong());
+        assertEquals(1.5f, copy.readFloat(), 0);
+        assertEquals(-0.25, copy.readDouble(), 0);
+        assertEquals("caf\u00e9 \ud83d\ude00", copy.readString());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) copy.readObject());
+        assertNull(copy.readObject());
+        assertArrayEquals(new byte[] { 8, 7 }, (byte[]) copy.readObject());
+        assertNull(copy.peekType());
+        try {
+            copy.readInt();
+            fail("Read past the last item");
+        } catch (MessageEOFException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void peekAndSkip() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeInt(1);
+        body.writeString("two");
+        body.writeBytes(new byte[0]);
+        body.writeDouble(4);
+        assertEquals(StreamBody.Type.INT, body.peekType());
+        assertTrue(body.skip());
+        assertEquals(StreamBody.Type.STRING, body.peekType());
+        assertEquals(2, body.skip(2));
+        assertEquals(StreamBody.Type.DOUBLE, body.peekType());
+        assertEquals(1, body.skip(5));
+        assertFalse(body.skip());
+        body.reset();
+        assertEquals(4, body.skip(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void conversions() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeByte((byte) 5);
+        body.writeShort((short) -2);
+        body.writeString("42");
+        body.writeFloat(2.5f);
+        body.writeBoolean(false);
+        body.writeString(null);
+        body.writeLong(7);
+
+        assertEquals(5L, body.readLong());
+        assertEquals(-2, body.readInt());
+        assertEquals(42.0, body.readDouble(), 0);
+        assertEquals("2.5", body.readString());
+        assertEquals("false", body.readString());
+        assertFalse(body.readBoolean());
+        StringBuilder builder = new StringBuilder("x");
+        assertEquals(1, body.readString(builder));
+        assertEquals("x7", builder.toString());
+    }
+
+    @Test
+    public void failedConversionDoesNotAdvance() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeString("abc");
+        body.writeLong(1);
+        try {
+            body.readInt();
+            fail("Converted a non-numeric string");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+        assertEquals("abc", body.readString());
+        try {
+            body.readInt();
+            fail("Converted a long to an int");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        try {
+            body.readBytes(new byte[1]);
+            fail("Read a long as a byte array");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        assertEquals(1, body.readLong());
+    }
+
+    @Test
+    public void readBytesInChunks() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeBytes(new byte[] { 1, 2, 3, 4, 5 });
+        body.writeBytes(new byte[] { 6, 7 });
+        body.writeBytes(new byte[0]);
+        body.writeBytes(null);
+        body.writeInt(8);
+
+        byte[] chunk = new byte[2];
+        assertEquals(2, body.readBytes(chunk));
+        assertArrayEquals(new byte[] { 1, 2 }, chunk);
+        try {
+            body.readInt();
+            fail("Read another item in the middle of a byte array");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        assertEquals(2, body.readBytes(chunk));
+        assertArrayEquals(new byte[] { 3, 4 }, chunk);
+        assertEquals(1, body.readBytes(chunk));
+        assertEquals(5, chunk[0]);
+
+        assertEquals(2, body.readBytes(chunk));
+        assertArrayEquals(new byte[] { 6, 7 }, chunk);
+        assertEquals(-1, body.readBytes(chunk));
+
+        assertEquals(0, body.readBytes(chunk));
+        assertEquals(-1, body.readBytes(chunk));
+        assertEquals(8, body.readInt());
+    }
+
+    @Test
+    public void skipFinishesPartlyReadBytes() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeBytes(new byte[] { 1, 2, 3 });
+        body.writeInt(4);
+        assertEquals(1, body.readBytes(new byte[1]));
+        assertTrue(body.skip());
+        assertEquals(4, body.readInt());
+    }
+
+    @Test
+    public void bulkReads() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeInts(new int[] { 1, 2, 3 }, 0, 3);
+        body.writeShort((short) 4);
+        body.writeString("5");
+        body.writeLongs(new long[] { 6, 7 }, 0, 2);
+        body.writeDoubles(new double[] { 0.5, 1.5 }, 0, 2);
+        body.writeFloat(2.5f);
+
+        int[] ints = new int[6];
+        assertEquals(5, body.readInts(ints, 1, 5));
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4, 5 }, ints);
+        long[] longs = new long[2];
+        assertEquals(2, body.readLongs(longs, 0, 2));
+        assertArrayEquals(new long[] { 6, 7 }, longs);
+        double[] doubles = new double[4];
+        assertEquals(3, body.readDoubles(doubles, 0, 4));
+        assertArrayEquals(new double[] { 0.5, 1.5, 2.5, 0 }, doubles, 0);
+        assertEquals(0, body.readDoubles(doubles, 0, 4));
+    }
+
+    @Test
+    public void bulkReadStopsAtUnconvertibleItem() throws JMSException {
+        StreamBody body = new StreamBody();
+        body.writeInt(1);
+        body.writeDouble(2);
+        int[] ints = new int[2];
+        try {
+            body.readInts(ints, 0, 2);
+            fail("Converted a double to an int");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+        assertEquals(1, ints[0]);
+        assertEquals(StreamBody.Type.DOUBLE, body.peekType());
+    }
+
+    @Test
+    public void invalidTag() throws JMSException {
+        StreamBody body = decode(new byte[] { 11 });
+        assertMalformed(body);
+        try {
+            body.peekType();
+            fail("Peeked an invalid tag");
+        } catch (MessageFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void truncatedItems() throws JMSException {
+        assertMalformed(decode(new byte[] { 5, 0, 0 }));
+        assertMalformed(decode(new byte[] { 9, 0, 0 }));
+        assertMalformed(decode(item(9, 4, 3)));
+        assertMalformed(decode(item(10, Integer.MAX_VALUE, 0)));
+    }
+
+    @Test
+    public void negativeLengths() throws JMSException {
+        for (int length = -5; length < 0; length++) {
+            assertMalformed(decode(item(9, length, 0)));
+            assertMalformed(decode(item(10, length, 0)));
+            StreamBody body = decode(item(10, length, 0));
+            try {
+                body.skip(5);
+                fail("Skipped an item of length " + length);
+            } catch (MessageFormatException e) {
+                // expected
+            }
+            try {
+                body.readBytes(new byte[8]);
+                fail("Read an item of length " + length);
+            } catch (MessageFormatException e) {
+                // expected
+            }
+        }
+        assertMalformed(decode(item(9, Integer.MIN_VALUE, 0)));
+    }
+
+    @Test
+    public void clearKeepsBodyUsable() throws JMSException {
+        StreamBody body = new StreamBody(1);
+        body.writeString("abc");
+        StreamBody copy = body.copy();
+        body.clear();
+        assertTrue(body.isEmpty());
+        body.writeInt(3);
+        assertEquals(3, body.readInt());
+        assertEquals("abc", copy.readString());
+    }
+}
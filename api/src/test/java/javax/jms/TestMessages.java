@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates messages backed by maps of header fields and properties, for testing code that reads messages and sets their
+ * header fields.
+ */
+final class TestMessages {
+
+    private TestMessages() {
+    }
+
+    /**
+     * Returns a message with no header fields or properties set, whose header fields can be set.
+     */
+    static Message message() {
+        return message(new HashMap<>(), Collections.emptyMap());
+    }
+
+    /**
+     * Returns a message with the specified properties and no header fields set.
+     */
+    static Message message(Map<String, Object> properties) {
+        return message(Collections.emptyMap(), properties);
+    }
+
+    /**
+     * Returns a message with the specified header fields, keyed by name as in {@code JMSPriority}, and properties. The
+     * header fields of a primitive type that are not specified are zero. Setting a header field puts it in the map of
+     * header fields.
+     */
+    static Message message(Map<String, Object> headers, Map<String, Object> properties) {
+        return (Message) Proxy.newProxyInstance(TestMessages.class.getClassLoader(), new Class<?>[] { Message.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("getObjectProperty")) {
+                        return properties.get(args[0]);
+                    }
+                    if (name.equals("propertyExists")) {
+                        return properties.containsKey(args[0]);
+                    }
+                    if (name.startsWith("getJMS") && method.getParameterCount() == 0) {
+                        Object value = headers.get(name.substring(3));
+                        if (value == null && method.getReturnType() == int.class) {
+                            return 0;
+                        }
+                        if (value == null && method.getReturnType() == long.class) {
+                            return 0L;
+                        }
+                        return value;
+                    }
+                    if (name.startsWith("setJMS") && method.getParameterCount() == 1) {
+                        headers.put(name.substring(3), args[0]);
+                        return null;
+                    }
+                    if (name.equals("toString")) {
+                        return "TestMessage" + headers + properties;
+                    }
+                    throw new UnsupportedOperationException(name);
+                });
+    }
+}
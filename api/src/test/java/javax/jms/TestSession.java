@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.jms;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * A stub {@code QueueSession} and {@code TopicSession} for testing the requestors, whose temporary queues and topics
+ * hold their messages in memory.
+ *
+ * <p>
+ * Every message sent by a sender or publisher of the session is recorded and passed to the responder, which may answer
+ * it by calling {@link #reply(Message, Message)}, at once or later. An asynchronous send is completed before the send
+ * returns, or fails if a failure has been set for it. The consumer of a temporary destination delivers the replies to
+ * its message listener, on the thread that calls {@code reply}, or else returns them from its {@code receive} methods.
+ */
+final class TestSession {
+
+    /**
+     * Answers a request.
+     */
+    interface Responder {
+
+        void respond(TestSession session, Message request) throws JMSException;
+    }
+
+    final QueueSession session;
+    final TopicSession topicSession;
+    final List<Message> sent = new CopyOnWriteArrayList<>();
+    final List<TemporaryQueue> temporaryQueues = new CopyOnWriteArrayList<>();
+    final List<Destination> deleted = new CopyOnWriteArrayList<>();
+    volatile Responder responder = (session, request) -> {
+    };
+    volatile BiConsumer<Message, CompletionListener> asyncSend = (message, listener) -> listener.onCompletion(message);
+
+    private final Map<Destination, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    TestSession() {
+        Object stub = proxy(new Class<?>[] { QueueSession.class, TopicSession.class }, (method, args) -> {
+            switch (method) {
+                case "createTemporaryQueue":
+                    TemporaryQueue queue = temporaryDestination(TemporaryQueue.class, "getQueueName");
+                    temporaryQueues.add(queue);
+                    return queue;
+                case "createTemporaryTopic":
+                    return temporaryDestination(TemporaryTopic.class, "getTopicName");
+                case "createSender":
+                case "createPublisher":
+                    return sender();
+                case "createReceiver":
+                case "createSubscriber":
+                    return channels.get(args[0]).consumer;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        session = (QueueSession) stub;
+        topicSession = (TopicSession) stub;
+    }
+
+    /**
+     * Returns a reply to the specified request carrying its correlation ID.
+     */
+    static Message replyTo(Message request) throws JMSException {
+        return replyWith(request.getJMSCorrelationID());
+    }
+
+    /**
+     * Returns a reply carrying the specified correlation ID.
+     */
+    static Message replyWith(String correlationID) throws JMSException {
+        Message reply = TestMessages.message();
+        reply.setJMSCorrelationID(correlationID);
+        return reply;
+    }
+
+    /**
+     * Delivers a reply to the reply destination of the specified request.
+     */
+    void reply(Message request, Message reply) throws JMSException {
+        deliver(request.getJMSReplyTo(), reply);
+    }
+
+    /**
+     * Delivers a message to the specified temporary destination.
+     */
+    void deliver(Destination destination, Message message) {
+        Channel channel = channels.get(destination);
+        MessageListener listener = channel.listener;
+        if (listener != null) {
+            listener.onMessage(message);
+        } else {
+            channel.messages.add(message);
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be received from the specified temporary destination.
+     */
+    int waiting(Destination destination) {
+        return channels.get(destination).messages.size();
+    }
+
+    private MessageProducer sender() {
+        return proxy(new Class<?>[] { QueueSender.class, TopicPublisher.class }, (method, args) -> {
+            if (method.equals("close")) {
+                return null;
+            }
+            if (!method.equals("send") && !method.equals("publish")) {
+                throw new UnsupportedOperationException(method);
+            }
+            Message message = (Message) args[0];
+            sent.add(message);
+            if (args.length == 2) {
+                asyncSend.accept(message, (CompletionListener) args[1]);
+            }
+            responder.respond(this, message);
+            return null;
+        });
+    }
+
+    private <T extends Destination> T temporaryDestination(Class<T> type, String getName) {
+        String name = "temporary-" + ids.incrementAndGet();
+        Object[] destination = new Object[1];
+        destination[0] = proxy(new Class<?>[] { type }, (method, args) -> {
+            switch (method) {
+                case "toString":
+                    return name;
+                case "hashCode":
+                    return System.identityHashCode(destination[0]);
+                case "equals":
+                    return destination[0] == args[0];
+                case "delete":
+                    deleted.add((Destination) destination[0]);
+                    return null;
+                default:
+                    if (method.equals(getName)) {
+                        return name;
+                    }
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        T result = type.cast(destination[0]);
+        channels.put(result, new Channel());
+        return result;
+    }
+
+    /**
+     * The messages of a temporary destination, and its receiver or subscriber.
+     */
+    private final class Channel {
+
+        final BlockingQueue<Message> messages = new LinkedBlockingQueue<>();
+        volatile MessageListener listener;
+        final MessageConsumer consumer = proxy(new Class<?>[] { QueueReceiver.class, TopicSubscriber.class },
+                (method, args) -> {
+            switch (method) {
+                case "receive":
+                    if (args == null) {
+                        return messages.take();
+                    }
+                    return messages.poll((Long) args[0], TimeUnit.MILLISECONDS);
+                case "receiveNoWait":
+                    return messages.poll();
+                case "setMessageListener":
+                    listener = (MessageListener) args[0];
+                    return null;
+                case "close":
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+    }
+
+    /**
+     * Handles a call to a stub by the name of its method.
+     */
+    private interface Handler {
+
+        Object invoke(String method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<?>[] types, Handler handler) {
+        @SuppressWarnings("unchecked")
+        T proxy = (T) Proxy.newProxyInstance(TestSession.class.getClassLoader(), types,
+                (stub, method, args) -> handler.invoke(method.getName(), args));
+        return proxy;
+    }
+}
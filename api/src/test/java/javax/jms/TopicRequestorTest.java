@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.jms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the scatter-gather requests of {@link TopicRequestor} against a {@link TestSession}.
+ */
+public class TopicRequestorTest {
+
+    private final TestSession stub = new TestSession();
+    private final Topic topic = stub.topicSession::toString;
+
+    @Test
+    public void requestRepliesRejectsNoLimit() throws JMSException {
+        TopicRequestor requestor = new TopicRequestor(stub.topicSession, topic);
+        try {
+            requestor.requestReplies(TestMessages.message(), 0, 0);
+            fail("requestReplies without a limit must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertTrue(stub.sent.isEmpty());
+    }
+
+    @Test
+    public void iterateRepliesRejectsNoLimit() throws JMSException {
+        TopicRequestor requestor = new TopicRequestor(stub.topicSession, topic);
+        try {
+            requestor.iterateReplies(TestMessages.message(), 0, 0);
+            fail("iterateReplies without a limit must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertTrue(stub.sent.isEmpty());
+    }
+
+    @Test
+    public void iterateRepliesEndsAfterExpectedReplies() throws JMSException {
+        stub.responder = (session, request) -> {
+            for (int i = 0; i < 3; i++) {
+                session.reply(request, TestSession.replyTo(request));
+            }
+        };
+        TopicRequestor requestor = new TopicRequestor(stub.topicSession, topic);
+        Iterator<Message> replies = requestor.iterateReplies(TestMessages.message(), 2, 0);
+        assertTrue(replies.hasNext());
+        replies.next();
+        assertTrue(replies.hasNext());
+        replies.next();
+        assertFalse(replies.hasNext());
+    }
+
+    @Test
+    public void requestRepliesEndsAtTimeout() throws JMSException {
+        Message stale = TestSession.replyWith("stale");
+        stub.responder = (session, request) -> {
+            session.reply(request, stale);
+            session.reply(request, TestSession.replyTo(request));
+        };
+        TopicRequestor requestor = new TopicRequestor(stub.topicSession, topic);
+        List<Message> replies = requestor.requestReplies(TestMessages.message(), 0, 50);
+        assertEquals(1, replies.size());
+        assertEquals(stub.sent.get(0).getJMSCorrelationID(), replies.get(0).getJMSCorrelationID());
+        assertEquals(1, requestor.getDiscardedReplyCount());
+    }
+}
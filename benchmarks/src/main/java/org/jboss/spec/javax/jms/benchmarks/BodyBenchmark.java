@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.BytesMessage;
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.ObjectMessage;
+import javax.jms.Session;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+
+import org.jboss.spec.javax.jms.provider.InVMConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures encoding and decoding the body of each message type. Each body holds the same record: an int, a long, a
+ * double, a string and a byte array of {@code payloadSize} bytes. The UTF-8 benchmarks instead encode and decode a
+ * string of {@code payloadSize} ASCII characters, into a new string or a reused builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyBenchmark {
+
+    @Param({ "16", "1024" })
+    int payloadSize;
+
+    private Connection connection;
+    private Session session;
+    private byte[] payload;
+    private ByteBuffer directPayload;
+    private ByteBuffer directTarget;
+    private String text;
+    private StringBuilder builder;
+    private Record record;
+
+    private TextMessage textMessage;
+    private BytesMessage bytesMessage;
+    private BytesMessage utf8Message;
+    private MapMessage mapMessage;
+    private StreamMessage streamMessage;
+    private ObjectMessage objectMessage;
+
+    /**
+     * The record carried by an object message.
+     */
+    public static class Record implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        int id;
+        long timestamp;
+        double amount;
+        String name;
+        byte[] payload;
+    }
+
+    @Setup
+    public void setUp() throws JMSException {
+        connection = new InVMConnectionFactory().createConnection();
+        session = connection.createSession();
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+        directPayload = ByteBuffer.allocateDirect(payloadSize);
+        directPayload.put(payload).flip();
+        directTarget = ByteBuffer.allocateDirect(payloadSize);
+        text = new String(payload, StandardCharsets.US_ASCII);
+        builder = new StringBuilder(text);
+        record = new Record();
+        record.id = 42;
+        record.timestamp = System.currentTimeMillis();
+        record.amount = 99.5;
+        record.name = "record";
+        record.payload = payload;
+
+        textMessage = encodeText();
+        bytesMessage = encodeBytes();
+        bytesMessage.reset();
+        utf8Message = encodeUTF8();
+        utf8Message.reset();
+        mapMessage = encodeMap();
+        streamMessage = encodeStream();
+        streamMessage.reset();
+        objectMessage = encodeObject();
+    }
+
+    @TearDown
+    public void tearDown() throws JMSException {
+        connection.close();
+    }
+
+    @Benchmark
+    public TextMessage encodeText() throws JMSException {
+        return session.createTextMessage(text);
+    }
+
+    @Benchmark
+    public String decodeText() throws JMSException {
+        return textMessage.getText();
+    }
+
+    @Benchmark
+    public BytesMessage encodeBytes() throws JMSException {
+        BytesMessage message = session.createBytesMessage();
+        message.writeInt(record.id);
+        message.writeLong(record.timestamp);
+        message.writeDouble(record.amount);
+        message.writeUTF(record.name);
+        message.writeInt(payload.length);
+        message.writeBytes(payload);
+        return message;
+    }
+
+    @Benchmark
+    public void decodeBytes(Blackhole blackhole) throws JMSException {
+        bytesMessage.reset();
+        blackhole.consume(bytesMessage.readInt());
+        blackhole.consume(bytesMessage.readLong());
+        blackhole.consume(bytesMessage.readDouble());
+        blackhole.consume(bytesMessage.readUTF());
+        byte[] bytes = new byte[bytesMessage.readInt()];
+        bytesMessage.readBytes(bytes);
+        blackhole.consume(bytes);
+    }
+
+    /**
+     * Encodes the payload from a direct buffer, as read from a {@code FileChannel}, with no intermediate array.
+     */
+    @Benchmark
+    public BytesMessage encodeBytesFromBuffer() throws JMSException {
+        BytesMessage message = session.createBytesMessage();
+        message.writeInt(directPayload.remaining());
+        message.writeBytes(directPayload.duplicate());
+        return message;
+    }
+
+    @Benchmark
+    public ByteBuffer decodeBytesToBuffer() throws JMSException {
+        bytesMessage.reset();
+        bytesMessage.readInt();
+        bytesMessage.readLong();
+        bytesMessage.readDouble();
+        bytesMessage.readUTF();
+        directTarget.clear().limit(bytesMessage.readInt());
+        bytesMessage.readBytes(directTarget);
+        return directTarget;
+    }
+
+    @Benchmark
+    public ByteBuffer viewBytes() throws JMSException {
+        return bytesMessage.asByteBuffer();
+    }
+
+    @Benchmark
+    public BytesMessage encodeUTF8() throws JMSException {
+        BytesMessage message = session.createBytesMessage();
+        message.writeUTF8(builder);
+        return message;
+    }
+
+    @Benchmark
+    public String decodeUTF8() throws JMSException {
+        utf8Message.reset();
+        return utf8Message.readUTF8();
+    }
+
+    @Benchmark
+    public StringBuilder decodeUTF8ToBuilder() throws JMSException {
+        utf8Message.reset();
+        builder.setLength(0);
+        utf8Message.readUTF8(builder);
+        return builder;
+    }
+
+    @Benchmark
+    public MapMessage encodeMap() throws JMSException {
+        MapMessage message = session.createMapMessage();
+        message.setInt("id", record.id);
+        message.setLong("timestamp", record.timestamp);
+        message.setDouble("amount", record.amount);
+        message.setString("name", record.name);
+        message.setBytes("payload", payload);
+        return message;
+    }
+
+    @Benchmark
+    public void decodeMap(Blackhole blackhole) throws JMSException {
+        blackhole.consume(mapMessage.getInt("id"));
+        blackhole.consume(mapMessage.getLong("timestamp"));
+        blackhole.consume(mapMessage.getDouble("amount"));
+        blackhole.consume(mapMessage.getString("name"));
+        blackhole.consume(mapMessage.getBytes("payload"));
+    }
+
+    @Benchmark
+    public Map<?, ?> decodeMapBody() throws JMSException {
+        return mapMessage.getBody(Map.class);
+    }
+
+    @Benchmark
+    public StreamMessage encodeStream() throws JMSException {
+        StreamMessage message = session.createStreamMessage();
+        message.writeInt(record.id);
+        message.writeLong(record.timestamp);
+        message.writeDouble(record.amount);
+        message.writeString(record.name);
+        message.writeBytes(payload);
+        return message;
+    }
+
+    @Benchmark
+    public void decodeStream(Blackhole blackhole) throws JMSException {
+        streamMessage.reset();
+        blackhole.consume(streamMessage.readInt());
+        blackhole.consume(streamMessage.readLong());
+        blackhole.consume(streamMessage.readDouble());
+        blackhole.consume(streamMessage.readString());
+        blackhole.consume(streamMessage.readObject());
+    }
+
+    @Benchmark
+    public ObjectMessage encodeObject() throws JMSException {
+        return session.createObjectMessage(record);
+    }
+
+    @Benchmark
+    public Object decodeObject() throws JMSException {
+        return objectMessage.getObject();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.MessageFormatException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating and throwing the exceptions of the API, which capture a stack trace when they are created.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark {
+
+    private final IOException cause = new IOException("cause");
+
+    @Benchmark
+    public JMSException createJMSException() {
+        return new JMSException("failure", "code");
+    }
+
+    @Benchmark
+    public JMSException createLinkedJMSException() {
+        JMSException exception = new JMSException("failure");
+        exception.setLinkedException(cause);
+        return exception;
+    }
+
+    @Benchmark
+    public JMSRuntimeException createJMSRuntimeException() {
+        return new JMSRuntimeException("failure", "code", cause);
+    }
+
+    @Benchmark
+    public Exception throwAndCatchMessageFormatException() {
+        try {
+            throw new MessageFormatException("Cannot convert Integer to boolean");
+        } catch (MessageFormatException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.MapBody;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a {@link MapBody} with a {@code HashMap} of boxed values, as a map message body of {@code fieldCount}
+ * numeric fields, alternately {@code double} and {@code long}, like a market data update. Each pair of benchmarks fills
+ * a reused body, reads every field by name, visits every field, and copies the body as a provider does on each send.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBodyBenchmark {
+
+    @Param({ "20", "200" })
+    int fieldCount;
+
+    private String[] names;
+    private Map<String, Object> hashMap;
+    private MapBody mapBody;
+    private Sum sum;
+
+    /**
+     * A reused visitor adding up the numeric fields.
+     */
+    static final class Sum implements MapBody.Visitor {
+
+        double total;
+
+        @Override
+        public void visitObject(String name, Object value) {
+            total += ((Number) value).doubleValue();
+        }
+
+        @Override
+        public void visitLong(String name, long value) {
+            total += value;
+        }
+
+        @Override
+        public void visitDouble(String name, double value) {
+            total += value;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        names = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            names[i] = ("field" + i).intern();
+        }
+        hashMap = new HashMap<>();
+        mapBody = new MapBody(fieldCount);
+        sum = new Sum();
+        fillHashMap();
+        fillMapBody();
+    }
+
+    @Benchmark
+    public Map<String, Object> fillHashMap() {
+        hashMap.clear();
+        for (int i = 0; i < fieldCount; i++) {
+            if ((i & 1) == 0) {
+                hashMap.put(names[i], i * 1.25);
+            } else {
+                hashMap.put(names[i], i * 1000L);
+            }
+        }
+        return hashMap;
+    }
+
+    @Benchmark
+    public MapBody fillMapBody() {
+        mapBody.clear();
+        for (int i = 0; i < fieldCount; i++) {
+            if ((i & 1) == 0) {
+                mapBody.setDouble(names[i], i * 1.25);
+            } else {
+                mapBody.setLong(names[i], i * 1000L);
+            }
+        }
+        return mapBody;
+    }
+
+    @Benchmark
+    public double readHashMap() {
+        double total = 0;
+        for (String name : names) {
+            total += ((Number) hashMap.get(name)).doubleValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double readMapBody() throws JMSException {
+        double total = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            total += (i & 1) == 0 ? mapBody.getDouble(names[i]) : mapBody.getLong(names[i]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double visitHashMap() {
+        double total = 0;
+        for (Map.Entry<String, Object> entry : hashMap.entrySet()) {
+            total += ((Number) entry.getValue()).doubleValue();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double visitMapBody() throws JMSException {
+        sum.total = 0;
+        mapBody.forEach(sum);
+        return sum.total;
+    }
+
+    @Benchmark
+    public Map<String, Object> copyHashMap() {
+        return new HashMap<>(hashMap);
+    }
+
+    @Benchmark
+    public MapBody copyMapBody() {
+        return mapBody.copy();
+    }
+}
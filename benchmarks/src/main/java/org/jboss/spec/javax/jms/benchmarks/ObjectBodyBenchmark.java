@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.BodyCache;
+import javax.jms.JMSException;
+import javax.jms.ObjectBodyCodec;
+import javax.jms.ObjectBodyCodecs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares encoding and decoding a small object message body by Java serialization, in a registry without codecs, and
+ * by an {@link ObjectBodyCodec} writing its fields with a {@code DataOutputStream}. The last pair of benchmarks gets the
+ * body of a message three times, as a chain of interceptors does, decoding it each time or once through a
+ * {@link BodyCache}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectBodyBenchmark {
+
+    /**
+     * A price quote, as an object message body.
+     */
+    public static final class Quote implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final String symbol;
+        final double bid;
+        final double ask;
+        final long timestamp;
+
+        Quote(String symbol, double bid, double ask, long timestamp) {
+            this.symbol = symbol;
+            this.bid = bid;
+            this.ask = ask;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Writes the fields of a quote in order.
+     */
+    static final class QuoteCodec implements ObjectBodyCodec<Quote> {
+
+        @Override
+        public Class<Quote> getType() {
+            return Quote.class;
+        }
+
+        @Override
+        public String getName() {
+            return "quote";
+        }
+
+        @Override
+        public void encode(Quote quote, OutputStream out) throws IOException {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeUTF(quote.symbol);
+            data.writeDouble(quote.bid);
+            data.writeDouble(quote.ask);
+            data.writeLong(quote.timestamp);
+        }
+
+        @Override
+        public Quote decode(InputStream in) throws IOException {
+            DataInputStream data = new DataInputStream(in);
+            return new Quote(data.readUTF(), data.readDouble(), data.readDouble(), data.readLong());
+        }
+    }
+
+    private Quote quote;
+    private ObjectBodyCodecs serialization;
+    private ObjectBodyCodecs codec;
+    private byte[] serialized;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws JMSException {
+        quote = new Quote("EURUSD", 1.0842, 1.0844, 1700000000000L);
+        serialization = new ObjectBodyCodecs(Collections.<ObjectBodyCodec<?>> emptyList());
+        codec = new ObjectBodyCodecs(Collections.singletonList(new QuoteCodec()));
+        serialized = encodeSerialization();
+        encoded = encodeCodec();
+    }
+
+    @Benchmark
+    public byte[] encodeSerialization() throws JMSException {
+        return serialization.encode(quote);
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() throws JMSException {
+        return codec.encode(quote);
+    }
+
+    @Benchmark
+    public Serializable decodeSerialization() throws JMSException {
+        return serialization.decode(serialized);
+    }
+
+    @Benchmark
+    public Serializable decodeCodec() throws JMSException {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public void getBodyThreeTimes(Blackhole blackhole) throws JMSException {
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume((Quote) codec.decode(encoded));
+        }
+    }
+
+    @Benchmark
+    public void getBodyThreeTimesCached(Blackhole blackhole) throws JMSException {
+        BodyCache<Serializable> cache = new BodyCache<>(() -> codec.decode(encoded));
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(cache.getBody(Quote.class));
+        }
+    }
+}
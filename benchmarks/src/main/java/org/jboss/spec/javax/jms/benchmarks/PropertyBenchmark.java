@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.PropertyVisitor;
+
+import org.jboss.spec.javax.jms.provider.InVMMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures access to message properties: enumerating them with {@code getPropertyNames} and visiting them with
+ * {@code forEachProperty}, reading them as primitives, as boxed objects and with conversions, and setting them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBenchmark {
+
+    @Param({ "4", "16" })
+    int propertyCount;
+
+    private Message message;
+    private Message scratch;
+    private String[] names;
+    private final Consumer consumer = new Consumer();
+
+    @Setup
+    public void setUp() throws JMSException {
+        message = new InVMMessage();
+        scratch = new InVMMessage();
+        names = new String[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            names[i] = "property" + i;
+        }
+        setProperties(message);
+    }
+
+    private void setProperties(Message target) throws JMSException {
+        for (int i = 0; i < propertyCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    target.setIntProperty(names[i], i);
+                    break;
+                case 1:
+                    target.setStringProperty(names[i], "value" + i);
+                    break;
+                case 2:
+                    target.setLongProperty(names[i], i * 1000L);
+                    break;
+                default:
+                    target.setBooleanProperty(names[i], true);
+                    break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void enumerateProperties(Blackhole blackhole) throws JMSException {
+        Enumeration<?> enumeration = message.getPropertyNames();
+        while (enumeration.hasMoreElements()) {
+            blackhole.consume(message.getObjectProperty((String) enumeration.nextElement()));
+        }
+    }
+
+    @Benchmark
+    public void visitProperties(Blackhole blackhole) throws JMSException {
+        consumer.blackhole = blackhole;
+        message.forEachProperty(consumer);
+    }
+
+    @Benchmark
+    public int getIntProperty() throws JMSException {
+        return message.getIntProperty(names[0]);
+    }
+
+    @Benchmark
+    public Object getObjectProperty() throws JMSException {
+        return message.getObjectProperty(names[0]);
+    }
+
+    @Benchmark
+    public String getIntPropertyAsString() throws JMSException {
+        return message.getStringProperty(names[0]);
+    }
+
+    @Benchmark
+    public boolean propertyExists() throws JMSException {
+        return message.propertyExists(names[propertyCount - 1]);
+    }
+
+    @Benchmark
+    public Message setProperties() throws JMSException {
+        scratch.clearProperties();
+        setProperties(scratch);
+        return scratch;
+    }
+
+    /**
+     * Consumes the properties of the types set by this benchmark without boxing them.
+     */
+    private static final class Consumer implements PropertyVisitor {
+
+        Blackhole blackhole;
+
+        @Override
+        public void visitObject(String name, Object value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void visitBoolean(String name, boolean value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void visitInt(String name, int value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void visitLong(String name, long value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void visitString(String name, String value) {
+            blackhole.consume(value);
+        }
+    }
+}
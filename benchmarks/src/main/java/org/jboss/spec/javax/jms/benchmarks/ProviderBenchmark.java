@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.Connection;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import javax.jms.Topic;
+
+import org.jboss.spec.javax.jms.provider.InVMBroker;
+import org.jboss.spec.javax.jms.provider.InVMConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures sending a message and receiving it again on the same thread through the in-JVM provider, which gives the
+ * per-message overhead of the API with no network, serialization or thread hand-off. Run it with {@code -prof gc} to
+ * see the allocation per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderBenchmark {
+
+    @Param({ "1", "8" })
+    int subscribers;
+
+    private Connection connection;
+    private Session session;
+    private Session transacted;
+    private MessageProducer queueProducer;
+    private MessageConsumer queueConsumer;
+    private MessageProducer transactedProducer;
+    private MessageConsumer transactedConsumer;
+    private MessageProducer topicProducer;
+    private MessageConsumer[] topicConsumers;
+    private JMSContext context;
+    private JMSProducer contextProducer;
+    private JMSConsumer contextConsumer;
+    private Queue contextQueue;
+    private TextMessage message;
+
+    @Setup
+    public void setUp() throws JMSException {
+        InVMConnectionFactory factory = new InVMConnectionFactory(new InVMBroker());
+        connection = factory.createConnection();
+        session = connection.createSession();
+        Queue queue = session.createQueue("queue");
+        queueProducer = session.createProducer(queue);
+        queueConsumer = session.createConsumer(queue);
+
+        transacted = connection.createSession(Session.SESSION_TRANSACTED);
+        Queue transactedQueue = transacted.createQueue("transacted");
+        transactedProducer = transacted.createProducer(transactedQueue);
+        transactedConsumer = transacted.createConsumer(transactedQueue);
+
+        Topic topic = session.createTopic("topic");
+        topicProducer = session.createProducer(topic);
+        topicConsumers = new MessageConsumer[subscribers];
+        for (int i = 0; i < subscribers; i++) {
+            topicConsumers[i] = session.createConsumer(topic);
+        }
+
+        context = factory.createContext();
+        contextQueue = context.createQueue("context");
+        contextProducer = context.createProducer();
+        contextConsumer = context.createConsumer(contextQueue);
+
+        message = session.createTextMessage("payload");
+        message.setStringProperty("region", "EU");
+        message.setIntProperty("quantity", 3);
+        connection.start();
+    }
+
+    @TearDown
+    public void tearDown() throws JMSException {
+        context.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Message queueSendReceive() throws JMSException {
+        queueProducer.send(message);
+        return queueConsumer.receiveNoWait();
+    }
+
+    @Benchmark
+    public Message transactedSendReceive() throws JMSException {
+        transactedProducer.send(message);
+        transacted.commit();
+        Message received = transactedConsumer.receiveNoWait();
+        transacted.commit();
+        return received;
+    }
+
+    @Benchmark
+    public void topicPublishReceive(Blackhole blackhole) throws JMSException {
+        topicProducer.send(message);
+        for (MessageConsumer consumer : topicConsumers) {
+            blackhole.consume(consumer.receiveNoWait());
+        }
+    }
+
+    @Benchmark
+    public String contextSendReceiveBody() {
+        contextProducer.send(contextQueue, "payload");
+        return contextConsumer.receiveBodyNoWait(String.class);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.QueueReceiver;
+import javax.jms.QueueRequestor;
+import javax.jms.QueueConnection;
+import javax.jms.QueueSession;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
+import org.jboss.spec.javax.jms.provider.InVMConnectionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures request/reply round trips through a {@link QueueRequestor}, against a service that replies from a message
+ * listener of the in-JVM provider, so that the cost measured is that of the requestor and of handing messages between
+ * threads rather than of a network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestorBenchmark {
+
+    private QueueConnection connection;
+    private QueueRequestor requestor;
+    private QueueRequestor multiplexed;
+    private TextMessage request;
+
+    @Setup
+    public void setUp() throws JMSException {
+        connection = new InVMConnectionFactory().createQueueConnection();
+        QueueSession serviceSession = connection.createQueueSession(false, Session.AUTO_ACKNOWLEDGE);
+        Queue service = serviceSession.createQueue("service");
+        MessageProducer replies = serviceSession.createProducer(null);
+        QueueReceiver receiver = serviceSession.createReceiver(service);
+        receiver.setMessageListener(message -> {
+            try {
+                Message reply = serviceSession.createTextMessage("pong");
+                String correlationID = message.getJMSCorrelationID();
+                reply.setJMSCorrelationID(correlationID != null ? correlationID : message.getJMSMessageID());
+                replies.send(message.getJMSReplyTo(), reply);
+            } catch (JMSException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        requestor = new QueueRequestor(connection.createQueueSession(false, Session.AUTO_ACKNOWLEDGE), service);
+        multiplexed = new QueueRequestor(connection.createQueueSession(false, Session.AUTO_ACKNOWLEDGE), service, true);
+        request = serviceSession.createTextMessage("ping");
+        connection.start();
+    }
+
+    @TearDown
+    public void tearDown() throws JMSException {
+        requestor.close();
+        multiplexed.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Message request() throws JMSException {
+        return requestor.request(request);
+    }
+
+    @Benchmark
+    public Message requestWithTimeout() throws JMSException {
+        return requestor.request(request, 1000);
+    }
+
+    @Benchmark
+    public Message requestAsync() throws JMSException, InterruptedException, ExecutionException {
+        return multiplexed.requestAsync(request).get();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageSelector;
+
+import org.jboss.spec.javax.jms.provider.InVMMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluating a message selector against a message, and looking up a compiled selector in the cache.
+ *
+ * <p>
+ * Run with {@code -jvmArgsAppend -Djavax.jms.MessageSelector.interpret=true} to measure the interpreter rather than
+ * the generated bytecode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectorBenchmark {
+
+    @Param({ "region = 'EU'",
+            "region = 'EU' AND JMSPriority > 4 AND amount BETWEEN 100 AND 1000",
+            "customer LIKE 'acme%' OR region IN ('US', 'CA', 'MX')",
+            "amount * 1.2 > 500 AND NOT (region = 'APAC') AND quantity IS NOT NULL" })
+    String selector;
+
+    private MessageSelector compiled;
+    private Message message;
+
+    @Setup
+    public void setUp() throws JMSException {
+        compiled = MessageSelector.compile(selector);
+        message = new InVMMessage();
+        message.setJMSPriority(7);
+        message.setStringProperty("region", "EU");
+        message.setStringProperty("customer", "acme-industries");
+        message.setDoubleProperty("amount", 512.25);
+        message.setIntProperty("quantity", 3);
+    }
+
+    @Benchmark
+    public boolean matches() throws JMSException {
+        return compiled.matches(message);
+    }
+
+    @Benchmark
+    public MessageSelector compileCached() throws JMSException {
+        return MessageSelector.compile(selector);
+    }
+}
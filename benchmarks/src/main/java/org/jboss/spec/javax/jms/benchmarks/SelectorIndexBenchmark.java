@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageSelector;
+import javax.jms.SelectorIndex;
+
+import org.jboss.spec.javax.jms.provider.InVMMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures finding the subscriptions of a topic that select a message, with a {@link SelectorIndex} and by evaluating
+ * every selector in turn. Each subscription selects on a region and a minimum priority.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectorIndexBenchmark {
+
+    @Param({ "100", "10000" })
+    int subscriptions;
+
+    private final SelectorIndex<Integer> index = new SelectorIndex<>();
+    private MessageSelector[] selectors;
+    private Message message;
+
+    @Setup
+    public void setUp() throws JMSException {
+        selectors = new MessageSelector[subscriptions];
+        for (int i = 0; i < subscriptions; i++) {
+            selectors[i] = MessageSelector.compile("region = 'R" + (i % 100) + "' AND JMSPriority >= " + (i % 10));
+            index.add(i, selectors[i]);
+        }
+        message = new InVMMessage();
+        message.setStringProperty("region", "R42");
+        message.setJMSPriority(5);
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) throws JMSException {
+        index.match(message, blackhole::consume);
+    }
+
+    @Benchmark
+    public void evaluateEach(Blackhole blackhole) throws JMSException {
+        for (int i = 0; i < selectors.length; i++) {
+            if (selectors[i].matches(message)) {
+                blackhole.consume(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.jms.JMSException;
+import javax.jms.StreamBody;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a {@link StreamBody} with a list of boxed values, as a stream message body of a symbol and a timestamp
+ * followed by {@code valueCount} {@code double} values, like a price curve. Each pair of benchmarks fills a reused body
+ * and reads it back, and the stream body is also read in bulk, and with the header skipped rather than decoded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBodyBenchmark {
+
+    @Param({ "16", "256" })
+    int valueCount;
+
+    private double[] values;
+    private double[] read;
+    private List<Object> list;
+    private StreamBody streamBody;
+
+    @Setup
+    public void setUp() {
+        values = new double[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            values[i] = i * 1.25;
+        }
+        read = new double[valueCount];
+        list = new ArrayList<>();
+        streamBody = new StreamBody();
+        fillList();
+        fillStreamBody();
+    }
+
+    @Benchmark
+    public List<Object> fillList() {
+        list.clear();
+        list.add("EURUSD");
+        list.add(1700000000000L);
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public StreamBody fillStreamBody() {
+        streamBody.clear();
+        streamBody.writeString("EURUSD");
+        streamBody.writeLong(1700000000000L);
+        streamBody.writeDoubles(values, 0, valueCount);
+        return streamBody;
+    }
+
+    @Benchmark
+    public double readList() {
+        double total = ((String) list.get(0)).length() + (Long) list.get(1);
+        for (int i = 0; i < valueCount; i++) {
+            total += (Double) list.get(2 + i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double readStreamBody() throws JMSException {
+        streamBody.reset();
+        double total = streamBody.readString().length() + streamBody.readLong();
+        for (int i = 0; i < valueCount; i++) {
+            total += streamBody.readDouble();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double readStreamBodyBulk() throws JMSException {
+        streamBody.reset();
+        double total = streamBody.readString().length() + streamBody.readLong();
+        int count = streamBody.readDoubles(read, 0, valueCount);
+        for (int i = 0; i < count; i++) {
+            total += read[i];
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double skipHeaderStreamBody() throws JMSException {
+        streamBody.reset();
+        streamBody.skip(2);
+        int count = streamBody.readDoubles(read, 0, valueCount);
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            total += read[i];
+        }
+        return total;
+    }
+}
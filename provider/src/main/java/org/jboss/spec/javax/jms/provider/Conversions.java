@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.MessageFormatException;
+
+/**
+ * The conversions between the types of property, map and stream values permitted by the Jakarta Messaging
+ * specification. A null value converts to a boolean as false, to a number by throwing {@code NumberFormatException}, as
+ * {@code valueOf(null)} does, and to a string or a byte array as null.
+ */
+final class Conversions {
+
+    private Conversions() {
+    }
+
+    static boolean toBoolean(Object value) throws MessageFormatException {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value == null || value instanceof String) {
+            return Boolean.valueOf((String) value);
+        }
+        throw mismatch(value, "boolean");
+    }
+
+    static byte toByte(Object value) throws MessageFormatException {
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        if (value == null || value instanceof String) {
+            return Byte.valueOf((String) value);
+        }
+        throw mismatch(value, "byte");
+    }
+
+    static short toShort(Object value) throws MessageFormatException {
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).shortValue();
+        }
+        if (value == null || value instanceof String) {
+            return Short.valueOf((String) value);
+        }
+        throw mismatch(value, "short");
+    }
+
+    static char toChar(Object value) throws MessageFormatException {
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        if (value == null) {
+            throw new NullPointerException("Cannot convert null to char");
+        }
+        throw mismatch(value, "char");
+    }
+
+    static int toInt(Object value) throws MessageFormatException {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value == null || value instanceof String) {
+            return Integer.valueOf((String) value);
+        }
+        throw mismatch(value, "int");
+    }
+
+    static long toLong(Object value) throws MessageFormatException {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value == null || value instanceof String) {
+            return Long.valueOf((String) value);
+        }
+        throw mismatch(value, "long");
+    }
+
+    static float toFloat(Object value) throws MessageFormatException {
+        if (value instanceof Float) {
+            return (Float) value;
+        }
+        if (value == null || value instanceof String) {
+            return Float.valueOf((String) value);
+        }
+        throw mismatch(value, "float");
+    }
+
+    static double toDouble(Object value) throws MessageFormatException {
+        if (value instanceof Double || value instanceof Float) {
+            return ((Number) value).doubleValue();
+        }
+        if (value == null || value instanceof String) {
+            return Double.valueOf((String) value);
+        }
+        throw mismatch(value, "double");
+    }
+
+    static String toString(Object value) throws MessageFormatException {
+        if (value instanceof byte[]) {
+            throw mismatch(value, "String");
+        }
+        return value == null ? null : value.toString();
+    }
+
+    static byte[] toBytes(Object value) throws MessageFormatException {
+        if (value == null || value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        throw mismatch(value, "byte[]");
+    }
+
+    /**
+     * Checks that a value may be stored in a property.
+     */
+    static void checkProperty(Object value) throws MessageFormatException {
+        if (value != null && !(value instanceof Boolean || value instanceof Byte || value instanceof Short
+                || value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double
+                || value instanceof String)) {
+            throw new MessageFormatException("Invalid property type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Checks that a value may be stored in the body of a map or stream message.
+     */
+    static void checkItem(Object value) throws MessageFormatException {
+        if (value != null && !(value instanceof Boolean || value instanceof Byte || value instanceof Short
+                || value instanceof Character || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double || value instanceof String
+                || value instanceof byte[])) {
+            throw new MessageFormatException("Invalid object type: " + value.getClass().getName());
+        }
+    }
+
+    private static MessageFormatException mismatch(Object value, String type) {
+        return new MessageFormatException("Cannot convert " + value.getClass().getSimpleName() + " to " + type);
+    }
+}
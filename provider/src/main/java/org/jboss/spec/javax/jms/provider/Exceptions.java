@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.IllegalStateException;
+import javax.jms.IllegalStateRuntimeException;
+import javax.jms.InvalidClientIDException;
+import javax.jms.InvalidClientIDRuntimeException;
+import javax.jms.InvalidDestinationException;
+import javax.jms.InvalidDestinationRuntimeException;
+import javax.jms.InvalidSelectorException;
+import javax.jms.InvalidSelectorRuntimeException;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.JMSSecurityException;
+import javax.jms.JMSSecurityRuntimeException;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageFormatRuntimeException;
+import javax.jms.MessageNotWriteableException;
+import javax.jms.MessageNotWriteableRuntimeException;
+import javax.jms.ResourceAllocationException;
+import javax.jms.ResourceAllocationRuntimeException;
+import javax.jms.TransactionInProgressException;
+import javax.jms.TransactionInProgressRuntimeException;
+import javax.jms.TransactionRolledBackException;
+import javax.jms.TransactionRolledBackRuntimeException;
+
+/**
+ * Converts the checked exceptions thrown by the classic API to the unchecked exceptions thrown by the simplified API.
+ */
+final class Exceptions {
+
+    private Exceptions() {
+    }
+
+    static JMSRuntimeException toRuntime(JMSException e) {
+        String message = e.getMessage();
+        String code = e.getErrorCode();
+        JMSRuntimeException result;
+        if (e instanceof IllegalStateException) {
+            result = new IllegalStateRuntimeException(message, code, e);
+        } else if (e instanceof InvalidClientIDException) {
+            result = new InvalidClientIDRuntimeException(message, code, e);
+        } else if (e instanceof InvalidDestinationException) {
+            result = new InvalidDestinationRuntimeException(message, code, e);
+        } else if (e instanceof InvalidSelectorException) {
+            result = new InvalidSelectorRuntimeException(message, code, e);
+        } else if (e instanceof JMSSecurityException) {
+            result = new JMSSecurityRuntimeException(message, code, e);
+        } else if (e instanceof MessageFormatException) {
+            result = new MessageFormatRuntimeException(message, code, e);
+        } else if (e instanceof MessageNotWriteableException) {
+            result = new MessageNotWriteableRuntimeException(message, code, e);
+        } else if (e instanceof ResourceAllocationException) {
+            result = new ResourceAllocationRuntimeException(message, code, e);
+        } else if (e instanceof TransactionInProgressException) {
+            result = new TransactionInProgressRuntimeException(message, code, e);
+        } else if (e instanceof TransactionRolledBackException) {
+            result = new TransactionRolledBackRuntimeException(message, code, e);
+        } else {
+            result = new JMSRuntimeException(message, code, e);
+        }
+        return result;
+    }
+}
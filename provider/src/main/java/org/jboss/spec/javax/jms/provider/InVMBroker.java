@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.jms.Destination;
+import javax.jms.IllegalStateException;
+import javax.jms.InvalidDestinationException;
+import javax.jms.InvalidSelectorException;
+import javax.jms.JMSException;
+import javax.jms.MessageSelector;
+import javax.jms.Queue;
+import javax.jms.TemporaryQueue;
+import javax.jms.TemporaryTopic;
+import javax.jms.Topic;
+
+/**
+ * The queues and topics shared by the connections created from one or more {@link InVMConnectionFactory} instances.
+ *
+ * <p>
+ * A broker holds its messages in memory only, so persistent messages are delivered with the same guarantees as
+ * non-persistent ones and do not survive the JVM. Messages of the same priority are delivered in the order they were
+ * sent; messages of different priorities are not reordered.
+ */
+public final class InVMBroker {
+
+    private final ConcurrentMap<String, MessageQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Subscription>> topics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Set<String> clientIDs = ConcurrentHashMap.newKeySet();
+    private final AtomicLong ids = new AtomicLong();
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * Returns the number of messages waiting on the specified queue, including any that have expired and not yet been
+     * discarded.
+     *
+     * @param queueName the name of the queue
+     * @return the number of messages on the queue, or zero if there is no such queue
+     */
+    public int getQueueDepth(String queueName) {
+        MessageQueue queue = queues.get(queueName);
+        return queue == null ? 0 : queue.size();
+    }
+
+    long nextId() {
+        return ids.incrementAndGet();
+    }
+
+    boolean claimClientID(String clientID) {
+        return clientIDs.add(clientID);
+    }
+
+    void releaseClientID(String clientID) {
+        clientIDs.remove(clientID);
+    }
+
+    /**
+     * Returns the messages of the specified queue, creating the queue unless it is temporary.
+     */
+    MessageQueue queue(Queue queue) throws JMSException {
+        String name = queue.getQueueName();
+        if (queue instanceof TemporaryQueue) {
+            MessageQueue messages = queues.get(name);
+            if (messages == null) {
+                throw new InvalidDestinationException("Temporary queue " + name + " has been deleted");
+            }
+            return messages;
+        }
+        return queues.computeIfAbsent(name, n -> new MessageQueue());
+    }
+
+    /**
+     * Returns the subscriptions of the specified topic, creating the topic unless it is temporary.
+     */
+    List<Subscription> topic(Topic topic) throws JMSException {
+        String name = topic.getTopicName();
+        if (topic instanceof TemporaryTopic) {
+            List<Subscription> subscribers = topics.get(name);
+            if (subscribers == null) {
+                throw new InvalidDestinationException("Temporary topic " + name + " has been deleted");
+            }
+            return subscribers;
+        }
+        return topics.computeIfAbsent(name, n -> new CopyOnWriteArrayList<>());
+    }
+
+    void createTemporary(TemporaryQueue queue) throws JMSException {
+        queues.put(queue.getQueueName(), new MessageQueue());
+    }
+
+    void createTemporary(TemporaryTopic topic) throws JMSException {
+        topics.put(topic.getTopicName(), new CopyOnWriteArrayList<>());
+    }
+
+    void deleteTemporary(TemporaryQueue queue) throws JMSException {
+        queues.remove(queue.getQueueName());
+    }
+
+    void deleteTemporary(TemporaryTopic topic) throws JMSException {
+        topics.remove(topic.getTopicName());
+    }
+
+    /**
+     * Delivers a message to a queue or topic, once its delivery time has come. Resolving the destination fails at once
+     * if it does not exist.
+     */
+    void send(Destination destination, InVMMessage message) throws JMSException {
+        long delay = message.getJMSDeliveryTime() - System.currentTimeMillis();
+        if (destination instanceof Queue) {
+            MessageQueue queue = queue((Queue) destination);
+            if (delay > 0) {
+                executor().schedule(() -> queue.add(message), delay, TimeUnit.MILLISECONDS);
+            } else {
+                queue.add(message);
+            }
+        } else if (destination instanceof Topic) {
+            List<Subscription> subscribers = topic((Topic) destination);
+            if (delay > 0) {
+                executor().schedule(() -> publish(subscribers, message), delay, TimeUnit.MILLISECONDS);
+            } else {
+                publish(subscribers, message);
+            }
+        } else {
+            throw new InvalidDestinationException("Destination is neither a queue nor a topic: " + destination);
+        }
+    }
+
+    private static void publish(List<Subscription> subscribers, InVMMessage message) {
+        for (Subscription subscription : subscribers) {
+            subscription.publish(message);
+        }
+    }
+
+    /**
+     * Adds a consumer to a subscription, creating the subscription if it does not exist. A durable or shared
+     * subscription is identified by its key and is replaced if it has no consumers and a different topic or selector.
+     *
+     * @param key the key identifying a durable or shared subscription, or null for an unshared non-durable one
+     */
+    synchronized Subscription subscribe(String key, Topic topic, MessageSelector selector, boolean noLocal,
+            long connection, boolean durable, boolean shared) throws JMSException {
+        List<Subscription> subscribers = topic(topic);
+        String topicName = topic.getTopicName();
+        Subscription subscription = key == null ? null : subscriptions.get(key);
+        if (subscription != null) {
+            int consumers = subscription.consumers.get();
+            if (consumers > 0 && (!shared || !subscription.shared)) {
+                throw new IllegalStateException("Subscription " + key + " already has an active consumer");
+            }
+            if (!subscription.isCompatible(topicName, selector, noLocal) || subscription.shared != shared) {
+                if (consumers > 0) {
+                    throw new JMSException("Subscription " + key + " is in use with a different topic or selector");
+                }
+                remove(key, subscription);
+                subscription = null;
+            }
+        }
+        if (subscription == null) {
+            subscription = new Subscription(topicName, selector, noLocal, connection, durable, shared);
+            if (key != null) {
+                subscriptions.put(key, subscription);
+            }
+            subscribers.add(subscription);
+        }
+        subscription.consumers.incrementAndGet();
+        return subscription;
+    }
+
+    /**
+     * Removes a consumer from a subscription, removing a non-durable subscription once it has no consumers.
+     */
+    synchronized void release(String key, Subscription subscription) {
+        if (subscription.consumers.decrementAndGet() == 0 && !subscription.durable) {
+            remove(key, subscription);
+        }
+    }
+
+    /**
+     * Removes a durable subscription that has no consumers.
+     */
+    synchronized void unsubscribe(String key) throws JMSException {
+        Subscription subscription = subscriptions.get(key);
+        if (subscription == null) {
+            throw new InvalidDestinationException("No durable subscription " + key);
+        }
+        if (subscription.consumers.get() > 0) {
+            throw new IllegalStateException("Durable subscription " + key + " has an active consumer");
+        }
+        remove(key, subscription);
+    }
+
+    private void remove(String key, Subscription subscription) {
+        if (key != null) {
+            subscriptions.remove(key, subscription);
+        }
+        List<Subscription> subscribers = topics.get(subscription.topic);
+        if (subscribers != null) {
+            subscribers.remove(subscription);
+        }
+        subscription.queue.clear();
+    }
+
+    /**
+     * Returns the single daemon thread that delivers delayed messages and notifies completion listeners.
+     */
+    ScheduledExecutorService executor() {
+        ScheduledExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = new ScheduledThreadPoolExecutor(1, r -> {
+                        Thread thread = new Thread(r, "InVMBroker");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compiles a message selector, returning null if it selects every message.
+     */
+    static MessageSelector selector(String selector) throws InvalidSelectorException {
+        MessageSelector compiled = MessageSelector.compile(selector);
+        return compiled.isAlwaysTrue() ? null : compiled;
+    }
+}
@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.MessageEOFException;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageNotReadableException;
+
+/**
+ * A bytes message held in memory, written and read with {@code DataOutputStream} and {@code DataInputStream}. The body
+ * is written into a growable array, which becomes the readable body on {@code reset} without being copied, and which
+ * {@code ByteBuffer} reads, writes and views access directly. Strings are encoded by {@link Utf8} straight into the
+ * body, and decoded through a character array that is kept for the next string, so that a consumer reading strings
+ * into its own builder or buffer creates no garbage.
+ */
+public class InVMBytesMessage extends InVMMessage implements BytesMessage {
+
+    private BodyOutputStream written = new BodyOutputStream();
+    private DataOutputStream out = new DataOutputStream(written);
+
+    /**
+     * The readable body, of which the first {@code length} bytes are used, or null if the body is write-only.
+     */
+    private byte[] body;
+    private int length;
+    private BodyInputStream input;
+    private DataInputStream in;
+
+    /**
+     * The characters of the last string read, kept so that strings read into a builder or buffer create no garbage.
+     */
+    private char[] chars = new char[0];
+
+    @Override
+    public long getBodyLength() throws JMSException {
+        readable();
+        return length;
+    }
+
+    @Override
+    public boolean readBoolean() throws JMSException {
+        try {
+            return in().readBoolean();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public byte readByte() throws JMSException {
+        try {
+            return in().readByte();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readUnsignedByte() throws JMSException {
+        try {
+            return in().readUnsignedByte();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public short readShort() throws JMSException {
+        try {
+            return in().readShort();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readUnsignedShort() throws JMSException {
+        try {
+            return in().readUnsignedShort();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public char readChar() throws JMSException {
+        try {
+            return in().readChar();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readInt() throws JMSException {
+        try {
+            return in().readInt();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public long readLong() throws JMSException {
+        try {
+            return in().readLong();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public float readFloat() throws JMSException {
+        try {
+            return in().readFloat();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public double readDouble() throws JMSException {
+        try {
+            return in().readDouble();
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public String readUTF() throws JMSException {
+        try {
+            int count = decode(true);
+            return new String(chars, 0, count);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readUTF(StringBuilder builder) throws JMSException {
+        return read(true, builder);
+    }
+
+    @Override
+    public int readUTF(CharBuffer buffer) throws JMSException {
+        return read(true, buffer);
+    }
+
+    @Override
+    public String readUTF8() throws JMSException {
+        try {
+            int length = utf8Length();
+            return new String(body, input.skipString(length), length, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readUTF8(StringBuilder builder) throws JMSException {
+        return read(false, builder);
+    }
+
+    @Override
+    public int readUTF8(CharBuffer buffer) throws JMSException {
+        return read(false, buffer);
+    }
+
+    @Override
+    public int readBytes(byte[] value) throws JMSException {
+        return readBytes(value, value.length);
+    }
+
+    @Override
+    public int readBytes(byte[] value, int length) throws JMSException {
+        if (length < 0 || length > value.length) {
+            throw new IndexOutOfBoundsException("Invalid length " + length);
+        }
+        try {
+            int read = in().read(value, 0, length);
+            return read < 0 ? -1 : read;
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    @Override
+    public int readBytes(ByteBuffer buffer) throws JMSException {
+        in();
+        return input.read(buffer);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws JMSException {
+        try {
+            out().writeBoolean(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeByte(byte value) throws JMSException {
+        try {
+            out().writeByte(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeShort(short value) throws JMSException {
+        try {
+            out().writeShort(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeChar(char value) throws JMSException {
+        try {
+            out().writeChar(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeInt(int value) throws JMSException {
+        try {
+            out().writeInt(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeLong(long value) throws JMSException {
+        try {
+            out().writeLong(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeFloat(float value) throws JMSException {
+        try {
+            out().writeFloat(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeDouble(double value) throws JMSException {
+        try {
+            out().writeDouble(value);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeUTF(String value) throws JMSException {
+        writeUTF((CharSequence) value);
+    }
+
+    @Override
+    public void writeUTF(CharSequence value) throws JMSException {
+        checkWriteable();
+        long length = Utf8.modifiedLength(value);
+        if (length > 0xFFFF) {
+            throw writeFailure(new UTFDataFormatException("Encoded string too long: " + length + " bytes"));
+        }
+        written.writeUTF(value, (int) length, true);
+    }
+
+    @Override
+    public void writeUTF8(CharSequence value) throws JMSException {
+        checkWriteable();
+        long length = Utf8.length(value);
+        if (length > Integer.MAX_VALUE - 4) {
+            throw writeFailure(new UTFDataFormatException("Encoded string too long: " + length + " bytes"));
+        }
+        written.writeUTF(value, (int) length, false);
+    }
+
+    @Override
+    public void writeBytes(byte[] value) throws JMSException {
+        writeBytes(value, 0, value.length);
+    }
+
+    @Override
+    public void writeBytes(byte[] value, int offset, int length) throws JMSException {
+        try {
+            out().write(value, offset, length);
+        } catch (IOException e) {
+            throw writeFailure(e);
+        }
+    }
+
+    @Override
+    public void writeBytes(ByteBuffer buffer) throws JMSException {
+        checkWriteable();
+        written.write(buffer);
+    }
+
+    @Override
+    public void writeObject(Object value) throws JMSException {
+        if (value instanceof Boolean) {
+            writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            writeShort((Short) value);
+        } else if (value instanceof Character) {
+            writeChar((Character) value);
+        } else if (value instanceof Integer) {
+            writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else if (value instanceof Float) {
+            writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            writeDouble((Double) value);
+        } else if (value instanceof String) {
+            writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            writeBytes((byte[]) value);
+        } else if (value == null) {
+            throw new NullPointerException("Cannot write null");
+        } else {
+            throw new MessageFormatException("Invalid object type: " + value.getClass().getName());
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (out != null) {
+            body = written.buffer();
+            length = written.size();
+            written = null;
+            out = null;
+            input = null;
+        }
+        if (input == null) {
+            input = new BodyInputStream(body, length);
+            in = new DataInputStream(input);
+        } else {
+            input.reset();
+        }
+        bodyReadOnly = true;
+    }
+
+    /**
+     * Returns a view of the body, which is never written again, as {@code clearBody} starts a new array.
+     */
+    @Override
+    public ByteBuffer asByteBuffer() throws JMSException {
+        readable();
+        reset();
+        return ByteBuffer.wrap(body, 0, length).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    void markReadOnly() throws JMSException {
+        super.markReadOnly();
+        reset();
+    }
+
+    @Override
+    InVMMessage newInstance() {
+        return new InVMBytesMessage();
+    }
+
+    /**
+     * Copies the bytes written so far, leaving the copy neither readable nor writable until it is reset or cleared.
+     */
+    @Override
+    void copyBody(InVMMessage target) {
+        InVMBytesMessage copy = (InVMBytesMessage) target;
+        if (out != null) {
+            copy.body = written.toByteArray();
+            copy.length = copy.body.length;
+        } else {
+            copy.body = body;
+            copy.length = length;
+        }
+        copy.written = null;
+        copy.out = null;
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        super.clearBody();
+        written = new BodyOutputStream();
+        out = new DataOutputStream(written);
+        body = null;
+        length = 0;
+        input = null;
+        in = null;
+    }
+
+    @Override
+    Object decodeBody() throws JMSException {
+        byte[] bytes = readable();
+        return length == 0 ? null : Arrays.copyOf(bytes, length);
+    }
+
+    @Override
+    Object unshare(Object body) {
+        return ((byte[]) body).clone();
+    }
+
+    @Override
+    public boolean isBodyAssignableTo(Class c) throws JMSException {
+        readable();
+        return length == 0 || ((Class<?>) c).isAssignableFrom(byte[].class);
+    }
+
+    /**
+     * Returns the body, which must be readable.
+     */
+    private byte[] readable() throws MessageNotReadableException {
+        if (body == null) {
+            throw new MessageNotReadableException("Message body is write-only");
+        }
+        return body;
+    }
+
+    private DataInputStream in() throws MessageNotReadableException {
+        if (in == null) {
+            throw new MessageNotReadableException("Message body is write-only");
+        }
+        return in;
+    }
+
+    private int read(boolean modified, StringBuilder builder) throws JMSException {
+        try {
+            int count = decode(modified);
+            builder.append(chars, 0, count);
+            return count;
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    private int read(boolean modified, CharBuffer buffer) throws JMSException {
+        try {
+            int count = decode(modified);
+            if (count > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            buffer.put(chars, 0, count);
+            return count;
+        } catch (IOException e) {
+            throw readFailure(e);
+        }
+    }
+
+    /**
+     * Reads a string in modified or standard UTF-8 into {@code chars}, and returns the number of characters.
+     */
+    private int decode(boolean modified) throws IOException, JMSException {
+        int length = modified ? in().readUnsignedShort() : utf8Length();
+        int offset = input.skipString(length);
+        if (chars.length < length) {
+            chars = new char[Math.max(chars.length << 1, length)];
+        }
+        return modified ? Utf8.decodeModified(body, offset, length, chars) : Utf8.decode(body, offset, length, chars);
+    }
+
+    private int utf8Length() throws IOException, JMSException {
+        int length = in().readInt();
+        if (length < 0) {
+            throw new MessageFormatException("Invalid UTF-8 string length: " + length);
+        }
+        return length;
+    }
+
+    private DataOutputStream out() throws JMSException {
+        checkWriteable();
+        return out;
+    }
+
+    private static JMSException readFailure(IOException e) {
+        JMSException exception = e instanceof EOFException ? new MessageEOFException("Unexpected end of message body")
+                : new MessageFormatException(e.toString());
+        exception.setLinkedException(e);
+        return exception;
+    }
+
+    private static JMSException writeFailure(IOException e) {
+        JMSException exception = new JMSException(e.toString());
+        exception.setLinkedException(e);
+        return exception;
+    }
+
+    /**
+     * A byte array output stream whose array can be taken over without copying, and written from a buffer.
+     */
+    private static final class BodyOutputStream extends ByteArrayOutputStream {
+
+        BodyOutputStream() {
+            super(64);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void write(ByteBuffer source) {
+            int remaining = source.remaining();
+            ensure(remaining);
+            source.get(buf, count, remaining);
+            count += remaining;
+        }
+
+        /**
+         * Writes a string of the specified encoded length in modified UTF-8 preceded by a two byte length, or in standard
+         * UTF-8 preceded by a four byte length.
+         */
+        void writeUTF(CharSequence value, int length, boolean modified) {
+            ensure(length + (modified ? 2 : 4));
+            if (!modified) {
+                buf[count++] = (byte) (length >>> 24);
+                buf[count++] = (byte) (length >>> 16);
+            }
+            buf[count++] = (byte) (length >>> 8);
+            buf[count++] = (byte) length;
+            count = modified ? Utf8.encodeModified(value, buf, count) : Utf8.encode(value, buf, count);
+        }
+
+        private void ensure(int extra) {
+            if (extra > buf.length - count) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, Math.addExact(count, extra)));
+            }
+        }
+    }
+
+    /**
+     * A byte array input stream that can be read into a buffer.
+     */
+    private static final class BodyInputStream extends ByteArrayInputStream {
+
+        BodyInputStream(byte[] body, int length) {
+            super(body, 0, length);
+        }
+
+        int read(ByteBuffer target) {
+            int remaining = target.remaining();
+            if (remaining == 0) {
+                return 0;
+            }
+            if (pos >= count) {
+                return -1;
+            }
+            int read = Math.min(remaining, count - pos);
+            target.put(buf, pos, read);
+            pos += read;
+            return read;
+        }
+
+        /**
+         * Skips a string of the specified length, returning the offset at which it starts in the body.
+         */
+        int skipString(int length) throws EOFException {
+            if (length > count - pos) {
+                throw new EOFException();
+            }
+            int offset = pos;
+            pos += length;
+            return offset;
+        }
+    }
+}
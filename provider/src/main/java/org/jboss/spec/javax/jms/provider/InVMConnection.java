@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.jms.ConnectionConsumer;
+import javax.jms.ConnectionMetaData;
+import javax.jms.Destination;
+import javax.jms.ExceptionListener;
+import javax.jms.IllegalStateException;
+import javax.jms.InvalidClientIDException;
+import javax.jms.JMSException;
+import javax.jms.ObjectBodyCodecs;
+import javax.jms.Queue;
+import javax.jms.QueueConnection;
+import javax.jms.ServerSessionPool;
+import javax.jms.Session;
+import javax.jms.TemporaryQueue;
+import javax.jms.TemporaryTopic;
+import javax.jms.Topic;
+import javax.jms.TopicConnection;
+
+/**
+ * A connection to an {@link InVMBroker}. Connection consumers are not supported.
+ */
+public class InVMConnection implements QueueConnection, TopicConnection {
+
+    final InVMBroker broker;
+    final ObjectBodyCodecs codecs;
+    final long id;
+    private final List<InVMSession> sessions = new CopyOnWriteArrayList<>();
+    private final List<Destination> temporaries = new CopyOnWriteArrayList<>();
+    private String clientID;
+    private boolean clientIDFixed;
+    private ExceptionListener exceptionListener;
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    InVMConnection(InVMBroker broker, ObjectBodyCodecs codecs) {
+        this.broker = broker;
+        this.codecs = codecs;
+        this.id = broker.nextId();
+    }
+
+    @Override
+    public InVMSession createSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        return createSession(transacted ? Session.SESSION_TRANSACTED : acknowledgeMode);
+    }
+
+    @Override
+    public InVMSession createSession(int sessionMode) throws JMSException {
+        checkOpen();
+        fixClientID();
+        switch (sessionMode) {
+            case Session.AUTO_ACKNOWLEDGE:
+            case Session.CLIENT_ACKNOWLEDGE:
+            case Session.DUPS_OK_ACKNOWLEDGE:
+            case Session.SESSION_TRANSACTED:
+                break;
+            default:
+                throw new JMSException("Invalid session mode: " + sessionMode);
+        }
+        InVMSession session = new InVMSession(this, sessionMode);
+        sessions.add(session);
+        return session;
+    }
+
+    @Override
+    public InVMSession createSession() throws JMSException {
+        return createSession(Session.AUTO_ACKNOWLEDGE);
+    }
+
+    @Override
+    public InVMSession createQueueSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        return createSession(transacted, acknowledgeMode);
+    }
+
+    @Override
+    public InVMSession createTopicSession(boolean transacted, int acknowledgeMode) throws JMSException {
+        return createSession(transacted, acknowledgeMode);
+    }
+
+    @Override
+    public synchronized String getClientID() throws JMSException {
+        checkOpen();
+        return clientID;
+    }
+
+    @Override
+    public synchronized void setClientID(String clientID) throws JMSException {
+        checkOpen();
+        if (clientIDFixed) {
+            throw new IllegalStateException("Client ID can only be set before the connection is used");
+        }
+        if (clientID == null || clientID.isEmpty()) {
+            throw new InvalidClientIDException("Client ID must not be null or empty");
+        }
+        if (!broker.claimClientID(clientID)) {
+            throw new InvalidClientIDException("Client ID " + clientID + " is already in use");
+        }
+        this.clientID = clientID;
+        clientIDFixed = true;
+    }
+
+    synchronized void fixClientID() {
+        clientIDFixed = true;
+    }
+
+    @Override
+    public ConnectionMetaData getMetaData() throws JMSException {
+        checkOpen();
+        fixClientID();
+        return InVMConnectionMetaData.INSTANCE;
+    }
+
+    @Override
+    public synchronized ExceptionListener getExceptionListener() throws JMSException {
+        checkOpen();
+        fixClientID();
+        return exceptionListener;
+    }
+
+    /**
+     * Sets the exception listener, which is never called as this provider has no connection to lose.
+     */
+    @Override
+    public synchronized void setExceptionListener(ExceptionListener listener) throws JMSException {
+        checkOpen();
+        fixClientID();
+        exceptionListener = listener;
+    }
+
+    @Override
+    public void start() throws JMSException {
+        checkOpen();
+        fixClientID();
+        started = true;
+        for (InVMSession session : sessions) {
+            session.wake();
+        }
+    }
+
+    /**
+     * Stops delivery, waiting for any message listener that is running to return.
+     */
+    @Override
+    public void stop() throws JMSException {
+        checkOpen();
+        checkNotListener("stop");
+        fixClientID();
+        started = false;
+        for (InVMSession session : sessions) {
+            session.awaitListener();
+        }
+    }
+
+    /**
+     * Closes the sessions of this connection and deletes its temporary destinations.
+     */
+    @Override
+    public void close() throws JMSException {
+        if (closed) {
+            return;
+        }
+        checkNotListener("close");
+        started = false;
+        closed = true;
+        for (InVMSession session : sessions) {
+            session.close();
+        }
+        for (Destination destination : temporaries) {
+            if (destination instanceof TemporaryQueue) {
+                broker.deleteTemporary((TemporaryQueue) destination);
+            } else {
+                broker.deleteTemporary((TemporaryTopic) destination);
+            }
+        }
+        temporaries.clear();
+        synchronized (this) {
+            if (clientID != null) {
+                broker.releaseClientID(clientID);
+            }
+        }
+    }
+
+    @Override
+    public ConnectionConsumer createConnectionConsumer(Destination destination, String messageSelector,
+            ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    @Override
+    public ConnectionConsumer createConnectionConsumer(Queue queue, String messageSelector,
+            ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    @Override
+    public ConnectionConsumer createConnectionConsumer(Topic topic, String messageSelector,
+            ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    @Override
+    public ConnectionConsumer createSharedConnectionConsumer(Topic topic, String subscriptionName,
+            String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    @Override
+    public ConnectionConsumer createDurableConnectionConsumer(Topic topic, String subscriptionName,
+            String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    @Override
+    public ConnectionConsumer createSharedDurableConnectionConsumer(Topic topic, String subscriptionName,
+            String messageSelector, ServerSessionPool sessionPool, int maxMessages) throws JMSException {
+        throw connectionConsumersUnsupported();
+    }
+
+    private static JMSException connectionConsumersUnsupported() {
+        return new JMSException("Connection consumers are not supported");
+    }
+
+    boolean isStarted() {
+        return started;
+    }
+
+    TemporaryQueue createTemporaryQueue() throws JMSException {
+        InVMTemporaryQueue queue = new InVMTemporaryQueue(this, "temporary-queue-" + id + "-" + broker.nextId());
+        broker.createTemporary(queue);
+        temporaries.add(queue);
+        return queue;
+    }
+
+    TemporaryTopic createTemporaryTopic() throws JMSException {
+        InVMTemporaryTopic topic = new InVMTemporaryTopic(this, "temporary-topic-" + id + "-" + broker.nextId());
+        broker.createTemporary(topic);
+        temporaries.add(topic);
+        return topic;
+    }
+
+    void deleteTemporary(TemporaryQueue queue) throws JMSException {
+        checkNoConsumers(queue);
+        broker.deleteTemporary(queue);
+        temporaries.remove(queue);
+    }
+
+    void deleteTemporary(TemporaryTopic topic) throws JMSException {
+        checkNoConsumers(topic);
+        broker.deleteTemporary(topic);
+        temporaries.remove(topic);
+    }
+
+    private void checkNoConsumers(Destination destination) throws JMSException {
+        for (InVMSession session : sessions) {
+            if (session.hasConsumer(destination)) {
+                throw new JMSException("Temporary destination " + destination + " has consumers");
+            }
+        }
+    }
+
+    void removeSession(InVMSession session) {
+        sessions.remove(session);
+    }
+
+    void checkOpen() throws IllegalStateException {
+        if (closed) {
+            throw new IllegalStateException("Connection is closed");
+        }
+    }
+
+    /**
+     * Throws if the current thread is running a message listener of this connection, which would wait for itself.
+     */
+    private void checkNotListener(String operation) throws IllegalStateException {
+        for (InVMSession session : sessions) {
+            if (session.isListenerThread()) {
+                throw new IllegalStateException("A message listener must not " + operation + " its own connection");
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.ObjectBodyCodecs;
+import javax.jms.QueueConnection;
+import javax.jms.QueueConnectionFactory;
+import javax.jms.TopicConnection;
+import javax.jms.TopicConnectionFactory;
+
+/**
+ * A connection factory for an in-JVM provider that holds its messages in memory and passes them between threads
+ * without a network or serialization, so that the costs measured through it are those of the API and of the
+ * application.
+ *
+ * <p>
+ * Connections created by factories with the same {@link InVMBroker} share its queues and topics. User names and
+ * passwords are ignored.
+ */
+public class InVMConnectionFactory implements ConnectionFactory, QueueConnectionFactory, TopicConnectionFactory {
+
+    private static final InVMBroker DEFAULT_BROKER = new InVMBroker();
+
+    private final InVMBroker broker;
+    private final ObjectBodyCodecs codecs;
+
+    /**
+     * Creates a connection factory for the broker shared by every factory created with this constructor.
+     */
+    public InVMConnectionFactory() {
+        this(DEFAULT_BROKER);
+    }
+
+    /**
+     * Creates a connection factory for the specified broker. Object messages are encoded with the codecs found, and
+     * their classes resolved, with the context class loader of the current thread.
+     *
+     * @param broker the broker holding the queues and topics
+     */
+    public InVMConnectionFactory(InVMBroker broker) {
+        this(broker, ObjectBodyCodecs.load(Thread.currentThread().getContextClassLoader()));
+    }
+
+    /**
+     * Creates a connection factory for the specified broker, whose object messages are encoded with the specified
+     * registry.
+     *
+     * @param broker the broker holding the queues and topics
+     * @param codecs the registry with which object messages are encoded and decoded
+     */
+    public InVMConnectionFactory(InVMBroker broker, ObjectBodyCodecs codecs) {
+        if (broker == null) {
+            throw new IllegalArgumentException("Broker must not be null");
+        }
+        if (codecs == null) {
+            throw new IllegalArgumentException("Codecs must not be null");
+        }
+        this.broker = broker;
+        this.codecs = codecs;
+    }
+
+    public InVMBroker getBroker() {
+        return broker;
+    }
+
+    @Override
+    public InVMConnection createConnection() {
+        return new InVMConnection(broker, codecs);
+    }
+
+    @Override
+    public InVMConnection createConnection(String userName, String password) {
+        return createConnection();
+    }
+
+    @Override
+    public QueueConnection createQueueConnection() {
+        return createConnection();
+    }
+
+    @Override
+    public QueueConnection createQueueConnection(String userName, String password) {
+        return createConnection();
+    }
+
+    @Override
+    public TopicConnection createTopicConnection() {
+        return createConnection();
+    }
+
+    @Override
+    public TopicConnection createTopicConnection(String userName, String password) {
+        return createConnection();
+    }
+
+    @Override
+    public JMSContext createContext() {
+        return createContext(JMSContext.AUTO_ACKNOWLEDGE);
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password) {
+        return createContext();
+    }
+
+    @Override
+    public JMSContext createContext(String userName, String password, int sessionMode) {
+        return createContext(sessionMode);
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        InVMConnection connection = createConnection();
+        try {
+            return new InVMContext(connection, sessionMode);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.Collections;
+import java.util.Enumeration;
+
+import javax.jms.ConnectionMetaData;
+
+/**
+ * The metadata of an in-JVM connection.
+ */
+final class InVMConnectionMetaData implements ConnectionMetaData {
+
+    static final InVMConnectionMetaData INSTANCE = new InVMConnectionMetaData();
+
+    @Override
+    public String getJMSVersion() {
+        return "2.0";
+    }
+
+    @Override
+    public int getJMSMajorVersion() {
+        return 2;
+    }
+
+    @Override
+    public int getJMSMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public String getJMSProviderName() {
+        return "JBoss In-JVM Reference Provider";
+    }
+
+    @Override
+    public String getProviderVersion() {
+        return "1.0";
+    }
+
+    @Override
+    public int getProviderMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getProviderMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public Enumeration<String> getJMSXPropertyNames() {
+        return Collections.enumeration(Collections.singletonList(InVMMessage.DELIVERY_COUNT));
+    }
+}
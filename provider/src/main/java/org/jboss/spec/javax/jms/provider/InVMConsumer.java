@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.concurrent.locks.LockSupport;
+
+import javax.jms.Destination;
+import javax.jms.IllegalStateException;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.MessageSelector;
+import javax.jms.Queue;
+import javax.jms.QueueReceiver;
+import javax.jms.Topic;
+import javax.jms.TopicSubscriber;
+
+/**
+ * A consumer of the messages of a queue or a topic subscription.
+ *
+ * <p>
+ * A consumer waiting in {@code receive} parks until a message is added to its queue, so a message sent to an idle
+ * consumer is handed over without polling.
+ */
+public class InVMConsumer implements QueueReceiver, TopicSubscriber {
+
+    private final InVMSession session;
+    final Destination destination;
+    final MessageQueue queue;
+    private final MessageSelector selector;
+    private final String messageSelector;
+    private final boolean noLocal;
+    private final String subscriptionKey;
+    private final Subscription subscription;
+    private volatile MessageListener listener;
+    private volatile Thread receiver;
+    private volatile boolean closed;
+
+    /**
+     * @param selector the selector to apply when taking messages, or null if the queue only has selected messages
+     * @param subscription the topic subscription whose queue this consumer takes messages from, or null for a queue
+     */
+    InVMConsumer(InVMSession session, Destination destination, MessageQueue queue, MessageSelector selector,
+            String messageSelector, boolean noLocal, String subscriptionKey, Subscription subscription) {
+        this.session = session;
+        this.destination = destination;
+        this.queue = queue;
+        this.selector = selector;
+        this.messageSelector = messageSelector;
+        this.noLocal = noLocal;
+        this.subscriptionKey = subscriptionKey;
+        this.subscription = subscription;
+    }
+
+    @Override
+    public String getMessageSelector() throws JMSException {
+        checkOpen();
+        return messageSelector;
+    }
+
+    @Override
+    public MessageListener getMessageListener() throws JMSException {
+        checkOpen();
+        return listener;
+    }
+
+    @Override
+    public void setMessageListener(MessageListener listener) throws JMSException {
+        checkOpen();
+        this.listener = listener;
+        if (listener != null) {
+            session.listen(this);
+        }
+    }
+
+    @Override
+    public Queue getQueue() throws JMSException {
+        checkOpen();
+        return (Queue) destination;
+    }
+
+    @Override
+    public Topic getTopic() throws JMSException {
+        checkOpen();
+        return (Topic) destination;
+    }
+
+    @Override
+    public boolean getNoLocal() throws JMSException {
+        checkOpen();
+        return noLocal;
+    }
+
+    @Override
+    public Message receive() throws JMSException {
+        return receive(-1, true);
+    }
+
+    @Override
+    public Message receive(long timeout) throws JMSException {
+        return receive(timeout, timeout == 0);
+    }
+
+    @Override
+    public Message receiveNoWait() throws JMSException {
+        return receive(0, false);
+    }
+
+    /**
+     * Takes the next message, parking until one arrives, the timeout elapses or the consumer is closed.
+     */
+    private Message receive(long timeout, boolean forever) throws JMSException {
+        checkOpen();
+        if (listener != null) {
+            throw new IllegalStateException("Consumer has a message listener");
+        }
+        InVMMessage message = poll();
+        if (message != null || (timeout <= 0 && !forever)) {
+            return message == null ? null : session.deliver(queue, message);
+        }
+        long deadline = forever ? 0 : System.nanoTime() + timeout * 1_000_000;
+        Thread thread = Thread.currentThread();
+        receiver = thread;
+        queue.addWaiter(thread);
+        try {
+            while (true) {
+                // Polling again after registering as a waiter ensures a message added meanwhile is not missed.
+                message = poll();
+                if (message != null) {
+                    return session.deliver(queue, message);
+                }
+                if (closed || thread.isInterrupted()) {
+                    return null;
+                }
+                if (forever) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+        } finally {
+            queue.removeWaiter(thread);
+            receiver = null;
+        }
+    }
+
+    private InVMMessage poll() {
+        return closed || !session.connection.isStarted() ? null : queue.poll(selector);
+    }
+
+    /**
+     * Calls the message listener with the next message, if there is one, on the dispatcher thread of the session.
+     *
+     * @return whether a message was dispatched
+     */
+    boolean dispatch() {
+        MessageListener listener = this.listener;
+        if (listener == null || closed) {
+            return false;
+        }
+        InVMMessage message = queue.poll(selector);
+        if (message == null) {
+            return false;
+        }
+        try {
+            listener.onMessage(session.deliver(queue, message));
+        } catch (RuntimeException | JMSException e) {
+            if (session.isAutoAcknowledge()) {
+                // The message is redelivered, as the specification requires when a listener fails.
+                try {
+                    queue.add(message.redelivery());
+                } catch (JMSException f) {
+                    e.addSuppressed(f);
+                }
+            }
+        }
+        return true;
+    }
+
+    void wake() {
+        Thread thread = receiver;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Closes the consumer, waking a thread waiting in {@code receive}, which returns null. A message listener that is
+     * running on another thread is left to return.
+     */
+    @Override
+    public void close() throws JMSException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        listener = null;
+        session.removeConsumer(this);
+        if (subscription != null) {
+            session.connection.broker.release(subscriptionKey, subscription);
+        }
+        wake();
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if (closed || session.isClosed()) {
+            throw new IllegalStateException("Consumer is closed");
+        }
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.BytesMessage;
+import javax.jms.ConnectionMetaData;
+import javax.jms.Destination;
+import javax.jms.ExceptionListener;
+import javax.jms.IllegalStateRuntimeException;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.ObjectMessage;
+import javax.jms.Queue;
+import javax.jms.QueueBrowser;
+import javax.jms.StreamMessage;
+import javax.jms.TemporaryQueue;
+import javax.jms.TemporaryTopic;
+import javax.jms.TextMessage;
+import javax.jms.Topic;
+
+/**
+ * A context of the in-JVM provider, holding a session of a connection that is shared with the contexts created from
+ * it by {@link #createContext(int)} and closed with the last of them.
+ */
+final class InVMContext implements JMSContext {
+
+    private final InVMConnection connection;
+    private final AtomicInteger connectionUsers;
+    private final InVMSession session;
+    private volatile boolean autoStart = true;
+    private volatile boolean closed;
+
+    InVMContext(InVMConnection connection, int sessionMode) throws JMSException {
+        this(connection, new AtomicInteger(1), sessionMode);
+    }
+
+    private InVMContext(InVMConnection connection, AtomicInteger connectionUsers, int sessionMode)
+            throws JMSException {
+        this.connection = connection;
+        this.connectionUsers = connectionUsers;
+        this.session = connection.createSession(sessionMode);
+    }
+
+    @Override
+    public JMSContext createContext(int sessionMode) {
+        checkOpen();
+        connectionUsers.incrementAndGet();
+        try {
+            return new InVMContext(connection, connectionUsers, sessionMode);
+        } catch (JMSException e) {
+            connectionUsers.decrementAndGet();
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSProducer createProducer() {
+        checkOpen();
+        return new InVMJMSProducer(this, session);
+    }
+
+    @Override
+    public String getClientID() {
+        try {
+            return connection.getClientID();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void setClientID(String clientID) {
+        try {
+            connection.setClientID(clientID);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public ConnectionMetaData getMetaData() {
+        try {
+            return connection.getMetaData();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public ExceptionListener getExceptionListener() {
+        try {
+            return connection.getExceptionListener();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void setExceptionListener(ExceptionListener listener) {
+        try {
+            connection.setExceptionListener(listener);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            connection.start();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        try {
+            connection.stop();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void setAutoStart(boolean autoStart) {
+        this.autoStart = autoStart;
+    }
+
+    @Override
+    public boolean getAutoStart() {
+        return autoStart;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            session.close();
+            closed = true;
+            if (connectionUsers.decrementAndGet() == 0) {
+                connection.close();
+            }
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public BytesMessage createBytesMessage() {
+        try {
+            return session.createBytesMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public MapMessage createMapMessage() {
+        try {
+            return session.createMapMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Message createMessage() {
+        try {
+            return session.createMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage() {
+        try {
+            return session.createObjectMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public ObjectMessage createObjectMessage(Serializable object) {
+        try {
+            return session.createObjectMessage(object);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public StreamMessage createStreamMessage() {
+        try {
+            return session.createStreamMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public TextMessage createTextMessage() {
+        try {
+            return session.createTextMessage();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public TextMessage createTextMessage(String text) {
+        try {
+            return session.createTextMessage(text);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public boolean getTransacted() {
+        try {
+            return session.getTransacted();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public int getSessionMode() {
+        try {
+            return session.getAcknowledgeMode();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void commit() {
+        try {
+            session.commit();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            session.rollback();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void recover() {
+        try {
+            session.recover();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination) {
+        return createConsumer(destination, null, false);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector) {
+        return createConsumer(destination, messageSelector, false);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) {
+        try {
+            return started(session.createConsumer(destination, messageSelector, noLocal));
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Queue createQueue(String queueName) {
+        try {
+            return session.createQueue(queueName);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Topic createTopic(String topicName) {
+        try {
+            return session.createTopic(topicName);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name) {
+        return createDurableConsumer(topic, name, null, false);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) {
+        try {
+            return started(session.createDurableConsumer(topic, name, messageSelector, noLocal));
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name) {
+        return createSharedDurableConsumer(topic, name, null);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) {
+        try {
+            return started(session.createSharedDurableConsumer(topic, name, messageSelector));
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) {
+        return createSharedConsumer(topic, sharedSubscriptionName, null);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) {
+        try {
+            return started(session.createSharedConsumer(topic, sharedSubscriptionName, messageSelector));
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) {
+        return createBrowser(queue, null);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) {
+        try {
+            return session.createBrowser(queue, messageSelector);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() {
+        try {
+            return session.createTemporaryQueue();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() {
+        try {
+            return session.createTemporaryTopic();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void unsubscribe(String name) {
+        try {
+            session.unsubscribe(name);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void acknowledge() {
+        try {
+            session.acknowledge();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    /**
+     * Wraps a new consumer, starting the connection if the context starts it automatically.
+     */
+    private JMSConsumer started(InVMConsumer consumer) throws JMSException {
+        if (autoStart) {
+            connection.start();
+        }
+        return new InVMJMSConsumer(consumer);
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateRuntimeException("Context is closed");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * A consumer of the simplified API, delegating to a consumer of the classic API.
+ */
+final class InVMJMSConsumer implements JMSConsumer {
+
+    private final InVMConsumer consumer;
+
+    InVMJMSConsumer(InVMConsumer consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public String getMessageSelector() {
+        try {
+            return consumer.getMessageSelector();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public MessageListener getMessageListener() {
+        try {
+            return consumer.getMessageListener();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void setMessageListener(MessageListener listener) {
+        try {
+            consumer.setMessageListener(listener);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Message receive() {
+        try {
+            return consumer.receive();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Message receive(long timeout) {
+        try {
+            return consumer.receive(timeout);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Message receiveNoWait() {
+        try {
+            return consumer.receiveNoWait();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            consumer.close();
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public <T> T receiveBody(Class<T> c) {
+        return body(receive(), c);
+    }
+
+    @Override
+    public <T> T receiveBody(Class<T> c, long timeout) {
+        return body(receive(timeout), c);
+    }
+
+    @Override
+    public <T> T receiveBodyNoWait(Class<T> c) {
+        return body(receiveNoWait(), c);
+    }
+
+    private static <T> T body(Message message, Class<T> c) {
+        try {
+            return message == null ? null : message.getBody(c);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jms.CompletionListener;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.InvalidDestinationRuntimeException;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageFormatRuntimeException;
+import javax.jms.PropertyVisitor;
+
+/**
+ * A producer of the simplified API, which sends through the session of its context.
+ */
+final class InVMJMSProducer implements JMSProducer {
+
+    private final JMSContext context;
+    private final InVMSession session;
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private boolean disableMessageID;
+    private boolean disableMessageTimestamp;
+    private int deliveryMode = DeliveryMode.PERSISTENT;
+    private int priority = Message.DEFAULT_PRIORITY;
+    private long timeToLive = Message.DEFAULT_TIME_TO_LIVE;
+    private long deliveryDelay = Message.DEFAULT_DELIVERY_DELAY;
+    private CompletionListener completionListener;
+    private String correlationID;
+    private String type;
+    private Destination replyTo;
+
+    InVMJMSProducer(JMSContext context, InVMSession session) {
+        this.context = context;
+        this.session = session;
+    }
+
+    @Override
+    public JMSProducer send(Destination destination, Message message) {
+        if (destination == null) {
+            throw new InvalidDestinationRuntimeException("Destination must not be null");
+        }
+        if (message == null) {
+            throw new MessageFormatRuntimeException("Message must not be null");
+        }
+        try {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                message.setObjectProperty(property.getKey(), property.getValue());
+            }
+            if (correlationID != null) {
+                message.setJMSCorrelationID(correlationID);
+            }
+            if (type != null) {
+                message.setJMSType(type);
+            }
+            if (replyTo != null) {
+                message.setJMSReplyTo(replyTo);
+            }
+            session.send(destination, message, deliveryMode, priority, timeToLive, deliveryDelay, disableMessageID,
+                    disableMessageTimestamp);
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+        CompletionListener listener = completionListener;
+        if (listener != null) {
+            session.connection.broker.executor().execute(() -> listener.onCompletion(message));
+        }
+        return this;
+    }
+
+    @Override
+    public JMSProducer send(Destination destination, String body) {
+        return send(destination, context.createTextMessage(body));
+    }
+
+    @Override
+    public JMSProducer send(Destination destination, Map<String, Object> body) {
+        InVMMapMessage message = new InVMMapMessage();
+        if (body != null) {
+            try {
+                for (Map.Entry<String, Object> entry : body.entrySet()) {
+                    message.setObject(entry.getKey(), entry.getValue());
+                }
+            } catch (JMSException e) {
+                throw Exceptions.toRuntime(e);
+            }
+        }
+        return send(destination, message);
+    }
+
+    @Override
+    public JMSProducer send(Destination destination, byte[] body) {
+        InVMBytesMessage message = new InVMBytesMessage();
+        if (body != null) {
+            try {
+                message.writeBytes(body);
+            } catch (JMSException e) {
+                throw Exceptions.toRuntime(e);
+            }
+        }
+        return send(destination, message);
+    }
+
+    @Override
+    public JMSProducer send(Destination destination, Serializable body) {
+        return send(destination, context.createObjectMessage(body));
+    }
+
+    @Override
+    public JMSProducer setDisableMessageID(boolean value) {
+        disableMessageID = value;
+        return this;
+    }
+
+    @Override
+    public boolean getDisableMessageID() {
+        return disableMessageID;
+    }
+
+    @Override
+    public JMSProducer setDisableMessageTimestamp(boolean value) {
+        disableMessageTimestamp = value;
+        return this;
+    }
+
+    @Override
+    public boolean getDisableMessageTimestamp() {
+        return disableMessageTimestamp;
+    }
+
+    @Override
+    public JMSProducer setDeliveryMode(int deliveryMode) {
+        if (deliveryMode != DeliveryMode.PERSISTENT && deliveryMode != DeliveryMode.NON_PERSISTENT) {
+            throw new JMSRuntimeException("Invalid delivery mode: " + deliveryMode);
+        }
+        this.deliveryMode = deliveryMode;
+        return this;
+    }
+
+    @Override
+    public int getDeliveryMode() {
+        return deliveryMode;
+    }
+
+    @Override
+    public JMSProducer setPriority(int priority) {
+        if (priority < 0 || priority > 9) {
+            throw new JMSRuntimeException("Invalid priority: " + priority);
+        }
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public JMSProducer setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    @Override
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public JMSProducer setDeliveryDelay(long deliveryDelay) {
+        this.deliveryDelay = deliveryDelay;
+        return this;
+    }
+
+    @Override
+    public long getDeliveryDelay() {
+        return deliveryDelay;
+    }
+
+    @Override
+    public JMSProducer setAsync(CompletionListener completionListener) {
+        this.completionListener = completionListener;
+        return this;
+    }
+
+    @Override
+    public CompletionListener getAsync() {
+        return completionListener;
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, boolean value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, byte value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, short value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, int value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, long value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, float value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, double value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, String value) {
+        return put(name, value);
+    }
+
+    @Override
+    public JMSProducer setProperty(String name, Object value) {
+        try {
+            Conversions.checkProperty(value);
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+        return put(name, value);
+    }
+
+    private JMSProducer put(String name, Object value) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Property name must not be null or empty");
+        }
+        properties.put(name, value);
+        return this;
+    }
+
+    @Override
+    public JMSProducer clearProperties() {
+        properties.clear();
+        return this;
+    }
+
+    @Override
+    public boolean propertyExists(String name) {
+        return properties.containsKey(name);
+    }
+
+    @Override
+    public boolean getBooleanProperty(String name) {
+        try {
+            return Conversions.toBoolean(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public byte getByteProperty(String name) {
+        try {
+            return Conversions.toByte(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public short getShortProperty(String name) {
+        try {
+            return Conversions.toShort(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public int getIntProperty(String name) {
+        try {
+            return Conversions.toInt(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public long getLongProperty(String name) {
+        try {
+            return Conversions.toLong(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public float getFloatProperty(String name) {
+        try {
+            return Conversions.toFloat(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public double getDoubleProperty(String name) {
+        try {
+            return Conversions.toDouble(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public String getStringProperty(String name) {
+        try {
+            return Conversions.toString(properties.get(name));
+        } catch (MessageFormatException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public Object getObjectProperty(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return Collections.unmodifiableSet(new HashSet<>(properties.keySet()));
+    }
+
+    /**
+     * Passes the properties without copying their names.
+     */
+    @Override
+    public void forEachProperty(PropertyVisitor visitor) {
+        try {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                visitor.visit(property.getKey(), property.getValue());
+            }
+        } catch (JMSException e) {
+            throw Exceptions.toRuntime(e);
+        }
+    }
+
+    @Override
+    public JMSProducer setJMSCorrelationIDAsBytes(byte[] correlationID) {
+        this.correlationID = correlationID == null ? null : new String(correlationID, StandardCharsets.ISO_8859_1);
+        return this;
+    }
+
+    @Override
+    public byte[] getJMSCorrelationIDAsBytes() {
+        return correlationID == null ? null : correlationID.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public JMSProducer setJMSCorrelationID(String correlationID) {
+        this.correlationID = correlationID;
+        return this;
+    }
+
+    @Override
+    public String getJMSCorrelationID() {
+        return correlationID;
+    }
+
+    @Override
+    public JMSProducer setJMSType(String type) {
+        this.type = type;
+        return this;
+    }
+
+    @Override
+    public String getJMSType() {
+        return type;
+    }
+
+    @Override
+    public JMSProducer setJMSReplyTo(Destination replyTo) {
+        this.replyTo = replyTo;
+        return this;
+    }
+
+    @Override
+    public Destination getJMSReplyTo() {
+        return replyTo;
+    }
+}
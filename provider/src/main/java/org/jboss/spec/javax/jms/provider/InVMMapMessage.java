@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.jms.JMSException;
+import javax.jms.MapBody;
+import javax.jms.MapMessage;
+
+/**
+ * A map message held in a {@link MapBody}, which stores the values unboxed. Byte arrays are copied as they are set and
+ * read, so that copies of the message can share the body's arrays.
+ */
+public class InVMMapMessage extends InVMMessage implements MapMessage {
+
+    private MapBody body = new MapBody();
+
+    @Override
+    public boolean getBoolean(String name) throws JMSException {
+        return body.getBoolean(name);
+    }
+
+    @Override
+    public byte getByte(String name) throws JMSException {
+        return body.getByte(name);
+    }
+
+    @Override
+    public short getShort(String name) throws JMSException {
+        return body.getShort(name);
+    }
+
+    @Override
+    public char getChar(String name) throws JMSException {
+        return body.getChar(name);
+    }
+
+    @Override
+    public int getInt(String name) throws JMSException {
+        return body.getInt(name);
+    }
+
+    @Override
+    public long getLong(String name) throws JMSException {
+        return body.getLong(name);
+    }
+
+    @Override
+    public float getFloat(String name) throws JMSException {
+        return body.getFloat(name);
+    }
+
+    @Override
+    public double getDouble(String name) throws JMSException {
+        return body.getDouble(name);
+    }
+
+    @Override
+    public String getString(String name) throws JMSException {
+        return body.getString(name);
+    }
+
+    @Override
+    public byte[] getBytes(String name) throws JMSException {
+        byte[] value = body.getBytes(name);
+        return value == null ? null : value.clone();
+    }
+
+    @Override
+    public Object getObject(String name) {
+        Object value = body.getObject(name);
+        return value instanceof byte[] ? ((byte[]) value).clone() : value;
+    }
+
+    @Override
+    public Enumeration getMapNames() {
+        return body.getMapNames();
+    }
+
+    /**
+     * Passes the items without boxing them. The byte arrays passed are the body's own.
+     */
+    @Override
+    public void forEachItem(MapBody.Visitor visitor) throws JMSException {
+        body.forEach(visitor);
+    }
+
+    @Override
+    public void setBoolean(String name, boolean value) throws JMSException {
+        checkWriteable();
+        body.setBoolean(name, value);
+    }
+
+    @Override
+    public void setByte(String name, byte value) throws JMSException {
+        checkWriteable();
+        body.setByte(name, value);
+    }
+
+    @Override
+    public void setShort(String name, short value) throws JMSException {
+        checkWriteable();
+        body.setShort(name, value);
+    }
+
+    @Override
+    public void setChar(String name, char value) throws JMSException {
+        checkWriteable();
+        body.setChar(name, value);
+    }
+
+    @Override
+    public void setInt(String name, int value) throws JMSException {
+        checkWriteable();
+        body.setInt(name, value);
+    }
+
+    @Override
+    public void setLong(String name, long value) throws JMSException {
+        checkWriteable();
+        body.setLong(name, value);
+    }
+
+    @Override
+    public void setFloat(String name, float value) throws JMSException {
+        checkWriteable();
+        body.setFloat(name, value);
+    }
+
+    @Override
+    public void setDouble(String name, double value) throws JMSException {
+        checkWriteable();
+        body.setDouble(name, value);
+    }
+
+    @Override
+    public void setString(String name, String value) throws JMSException {
+        checkWriteable();
+        body.setString(name, value);
+    }
+
+    @Override
+    public void setBytes(String name, byte[] value) throws JMSException {
+        checkWriteable();
+        body.setBytes(name, value == null ? null : value.clone());
+    }
+
+    @Override
+    public void setBytes(String name, byte[] value, int offset, int length) throws JMSException {
+        checkWriteable();
+        byte[] copy = new byte[length];
+        System.arraycopy(value, offset, copy, 0, length);
+        body.setBytes(name, copy);
+    }
+
+    @Override
+    public void setObject(String name, Object value) throws JMSException {
+        checkWriteable();
+        body.setObject(name, value instanceof byte[] ? ((byte[]) value).clone() : value);
+    }
+
+    @Override
+    public boolean itemExists(String name) {
+        return body.itemExists(name);
+    }
+
+    @Override
+    InVMMessage newInstance() {
+        return new InVMMapMessage();
+    }
+
+    @Override
+    void copyBody(InVMMessage target) {
+        ((InVMMapMessage) target).body = body.copy();
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        super.clearBody();
+        body.clear();
+    }
+
+    /**
+     * Returns the items as an unmodifiable map, which is shared by the callers of {@code getBody}.
+     */
+    @Override
+    Object decodeBody() {
+        return body.isEmpty() ? null : Collections.unmodifiableMap(body.toMap());
+    }
+
+    /**
+     * Returns the shared map, or a copy of it holding copies of its byte arrays if it has any, since they are those of
+     * the body.
+     */
+    @Override
+    Object unshare(Object decoded) {
+        Map<?, ?> map = (Map<?, ?>) decoded;
+        if (map.values().stream().noneMatch(byte[].class::isInstance)) {
+            return map;
+        }
+        Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 2);
+        map.forEach((name, value) -> copy.put(name, value instanceof byte[] ? ((byte[]) value).clone() : value));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Override
+    public boolean isBodyAssignableTo(Class c) {
+        return body.isEmpty() || ((Class<?>) c).isAssignableFrom(Map.class);
+    }
+}
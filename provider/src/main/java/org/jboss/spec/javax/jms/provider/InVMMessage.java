@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import javax.jms.BodyCache;
+import javax.jms.BytesMessage;
+import javax.jms.DeliveryMode;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.MapBody;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.MessageEOFException;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageNotWriteableException;
+import javax.jms.ObjectBodyCodecs;
+import javax.jms.ObjectMessage;
+import javax.jms.PropertyVisitor;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+
+/**
+ * A message held in memory, with no body. The subclasses add the body of each message type.
+ *
+ * <p>
+ * Sending a message stores a copy of it, so that the sender may go on changing the message. Each consumer is then
+ * given its own read-only copy of the stored message.
+ */
+public class InVMMessage implements Message {
+
+    static final String DELIVERY_COUNT = "JMSXDeliveryCount";
+
+    private String messageID;
+    private long timestamp;
+    private String correlationID;
+    private Destination replyTo;
+    private Destination destination;
+    private int deliveryMode = DeliveryMode.PERSISTENT;
+    private boolean redelivered;
+    private String type;
+    private long expiration;
+    private long deliveryTime;
+    private int priority = Message.DEFAULT_PRIORITY;
+
+    /**
+     * The properties, held unboxed in the order in which they were first set.
+     */
+    private MapBody properties = new MapBody();
+    private boolean propertiesReadOnly;
+
+    /**
+     * Whether the body is read-only, as it is once the message has been received.
+     */
+    boolean bodyReadOnly;
+
+    /**
+     * The body decoded by {@link #decodeBody()} for {@code getBody}, created when it is first needed.
+     */
+    private BodyCache<Object> bodyCache;
+
+    /**
+     * The session through which this message was delivered, if it is a delivered copy.
+     */
+    private InVMSession session;
+
+    /**
+     * The identifier of the connection that sent this message.
+     */
+    long origin;
+
+    /**
+     * The number of times this message has been delivered and not acknowledged.
+     */
+    int deliveryCount;
+
+    /**
+     * Returns a new message of the same type as this one, with no body.
+     */
+    InVMMessage newInstance() {
+        return new InVMMessage();
+    }
+
+    /**
+     * Copies the body of this message to a message of the same type, created by {@link #newInstance()}.
+     */
+    void copyBody(InVMMessage target) throws JMSException {
+    }
+
+    /**
+     * Returns a writable copy of this message.
+     */
+    final InVMMessage copy() throws JMSException {
+        InVMMessage copy = newInstance();
+        copy.messageID = messageID;
+        copy.timestamp = timestamp;
+        copy.correlationID = correlationID;
+        copy.replyTo = replyTo;
+        copy.destination = destination;
+        copy.deliveryMode = deliveryMode;
+        copy.redelivered = redelivered;
+        copy.type = type;
+        copy.expiration = expiration;
+        copy.deliveryTime = deliveryTime;
+        copy.priority = priority;
+        copy.properties = properties.copy();
+        copy.origin = origin;
+        copy.deliveryCount = deliveryCount;
+        copyBody(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the copy of the specified message to store when it is sent. The message may come from another provider,
+     * in which case an object body is encoded with the specified registry.
+     */
+    static InVMMessage snapshot(Message message, ObjectBodyCodecs codecs) throws JMSException {
+        if (message instanceof InVMMessage) {
+            return ((InVMMessage) message).copy();
+        }
+        InVMMessage copy;
+        if (message instanceof TextMessage) {
+            InVMTextMessage text = new InVMTextMessage();
+            text.setText(((TextMessage) message).getText());
+            copy = text;
+        } else if (message instanceof BytesMessage) {
+            BytesMessage foreign = (BytesMessage) message;
+            foreign.reset();
+            byte[] bytes = new byte[(int) foreign.getBodyLength()];
+            foreign.readBytes(bytes);
+            InVMBytesMessage body = new InVMBytesMessage();
+            body.writeBytes(bytes);
+            copy = body;
+        } else if (message instanceof MapMessage) {
+            MapMessage foreign = (MapMessage) message;
+            InVMMapMessage map = new InVMMapMessage();
+            for (Enumeration<?> names = foreign.getMapNames(); names.hasMoreElements();) {
+                String name = (String) names.nextElement();
+                map.setObject(name, foreign.getObject(name));
+            }
+            copy = map;
+        } else if (message instanceof StreamMessage) {
+            StreamMessage foreign = (StreamMessage) message;
+            foreign.reset();
+            InVMStreamMessage stream = new InVMStreamMessage();
+            try {
+                while (true) {
+                    stream.writeObject(foreign.readObject());
+                }
+            } catch (MessageEOFException e) {
+                // The whole stream has been copied.
+            }
+            copy = stream;
+        } else if (message instanceof ObjectMessage) {
+            InVMObjectMessage object = new InVMObjectMessage(codecs);
+            object.setObject(((ObjectMessage) message).getObject());
+            copy = object;
+        } else {
+            copy = new InVMMessage();
+        }
+        copy.messageID = message.getJMSMessageID();
+        copy.timestamp = message.getJMSTimestamp();
+        copy.correlationID = message.getJMSCorrelationID();
+        copy.replyTo = message.getJMSReplyTo();
+        copy.destination = message.getJMSDestination();
+        copy.deliveryMode = message.getJMSDeliveryMode();
+        copy.type = message.getJMSType();
+        copy.expiration = message.getJMSExpiration();
+        copy.deliveryTime = message.getJMSDeliveryTime();
+        copy.priority = message.getJMSPriority();
+        for (Enumeration<?> names = message.getPropertyNames(); names.hasMoreElements();) {
+            String name = (String) names.nextElement();
+            copy.properties.setObject(name, message.getObjectProperty(name));
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the read-only copy of this stored message to deliver through the specified session.
+     */
+    InVMMessage deliver(InVMSession session) throws JMSException {
+        InVMMessage copy = copy();
+        copy.session = session;
+        copy.redelivered = deliveryCount > 0;
+        copy.properties.setInt(DELIVERY_COUNT, deliveryCount + 1);
+        copy.markReadOnly();
+        return copy;
+    }
+
+    /**
+     * Returns the copy of this stored message to store again after it has been delivered and not acknowledged.
+     */
+    InVMMessage redelivery() throws JMSException {
+        InVMMessage copy = copy();
+        copy.deliveryCount++;
+        return copy;
+    }
+
+    boolean isExpired(long now) {
+        return expiration != 0 && expiration <= now;
+    }
+
+    @Override
+    public String getJMSMessageID() {
+        return messageID;
+    }
+
+    @Override
+    public void setJMSMessageID(String id) {
+        messageID = id;
+    }
+
+    @Override
+    public long getJMSTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setJMSTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public byte[] getJMSCorrelationIDAsBytes() {
+        return correlationID == null ? null : correlationID.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public void setJMSCorrelationIDAsBytes(byte[] correlationID) {
+        this.correlationID = correlationID == null ? null : new String(correlationID, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public void setJMSCorrelationID(String correlationID) {
+        this.correlationID = correlationID;
+    }
+
+    @Override
+    public String getJMSCorrelationID() {
+        return correlationID;
+    }
+
+    @Override
+    public Destination getJMSReplyTo() {
+        return replyTo;
+    }
+
+    @Override
+    public void setJMSReplyTo(Destination replyTo) {
+        this.replyTo = replyTo;
+    }
+
+    @Override
+    public Destination getJMSDestination() {
+        return destination;
+    }
+
+    @Override
+    public void setJMSDestination(Destination destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public int getJMSDeliveryMode() {
+        return deliveryMode;
+    }
+
+    @Override
+    public void setJMSDeliveryMode(int deliveryMode) {
+        this.deliveryMode = deliveryMode;
+    }
+
+    @Override
+    public boolean getJMSRedelivered() {
+        return redelivered;
+    }
+
+    @Override
+    public void setJMSRedelivered(boolean redelivered) {
+        this.redelivered = redelivered;
+    }
+
+    @Override
+    public String getJMSType() {
+        return type;
+    }
+
+    @Override
+    public void setJMSType(String type) {
+        this.type = type;
+    }
+
+    @Override
+    public long getJMSExpiration() {
+        return expiration;
+    }
+
+    @Override
+    public void setJMSExpiration(long expiration) {
+        this.expiration = expiration;
+    }
+
+    @Override
+    public long getJMSDeliveryTime() {
+        return deliveryTime;
+    }
+
+    @Override
+    public void setJMSDeliveryTime(long deliveryTime) {
+        this.deliveryTime = deliveryTime;
+    }
+
+    @Override
+    public int getJMSPriority() {
+        return priority;
+    }
+
+    @Override
+    public void setJMSPriority(int priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public void clearProperties() {
+        properties.clear();
+        propertiesReadOnly = false;
+    }
+
+    @Override
+    public boolean propertyExists(String name) {
+        return properties.itemExists(name);
+    }
+
+    @Override
+    public boolean getBooleanProperty(String name) throws JMSException {
+        return properties.getBoolean(name);
+    }
+
+    @Override
+    public byte getByteProperty(String name) throws JMSException {
+        return properties.getByte(name);
+    }
+
+    @Override
+    public short getShortProperty(String name) throws JMSException {
+        return properties.getShort(name);
+    }
+
+    @Override
+    public int getIntProperty(String name) throws JMSException {
+        return properties.getInt(name);
+    }
+
+    @Override
+    public long getLongProperty(String name) throws JMSException {
+        return properties.getLong(name);
+    }
+
+    @Override
+    public float getFloatProperty(String name) throws JMSException {
+        return properties.getFloat(name);
+    }
+
+    @Override
+    public double getDoubleProperty(String name) throws JMSException {
+        return properties.getDouble(name);
+    }
+
+    @Override
+    public String getStringProperty(String name) throws JMSException {
+        return properties.getString(name);
+    }
+
+    @Override
+    public Object getObjectProperty(String name) {
+        return properties.getObject(name);
+    }
+
+    @Override
+    public Enumeration getPropertyNames() {
+        return properties.getMapNames();
+    }
+
+    /**
+     * Passes the properties without boxing them.
+     */
+    @Override
+    public void forEachProperty(PropertyVisitor visitor) throws JMSException {
+        properties.forEach(MapBody.Visitor.forProperties(visitor));
+    }
+
+    @Override
+    public void setBooleanProperty(String name, boolean value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setBoolean(name, value);
+    }
+
+    @Override
+    public void setByteProperty(String name, byte value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setByte(name, value);
+    }
+
+    @Override
+    public void setShortProperty(String name, short value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setShort(name, value);
+    }
+
+    @Override
+    public void setIntProperty(String name, int value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setInt(name, value);
+    }
+
+    @Override
+    public void setLongProperty(String name, long value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setLong(name, value);
+    }
+
+    @Override
+    public void setFloatProperty(String name, float value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setFloat(name, value);
+    }
+
+    @Override
+    public void setDoubleProperty(String name, double value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setDouble(name, value);
+    }
+
+    @Override
+    public void setStringProperty(String name, String value) throws JMSException {
+        checkPropertyWriteable(name);
+        properties.setString(name, value);
+    }
+
+    @Override
+    public void setObjectProperty(String name, Object value) throws JMSException {
+        Conversions.checkProperty(value);
+        checkPropertyWriteable(name);
+        properties.setObject(name, value);
+    }
+
+    private void checkPropertyWriteable(String name) throws MessageNotWriteableException {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Property name must not be null or empty");
+        }
+        if (propertiesReadOnly) {
+            throw new MessageNotWriteableException("Message properties are read-only");
+        }
+    }
+
+    @Override
+    public void acknowledge() throws JMSException {
+        if (session != null) {
+            session.acknowledge();
+        }
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        bodyReadOnly = false;
+        invalidateBody();
+    }
+
+    /**
+     * Returns the body decoded once by {@link #decodeBody()}, as given to this caller by {@link #unshare(Object)}.
+     */
+    @Override
+    public <T> T getBody(Class<T> c) throws JMSException {
+        return bodyCache().getBody(c);
+    }
+
+    @Override
+    public boolean isBodyAssignableTo(Class c) throws JMSException {
+        return bodyCache().isBodyAssignableTo(c);
+    }
+
+    private BodyCache<Object> bodyCache() {
+        if (bodyCache == null) {
+            bodyCache = new BodyCache<>(this::decodeBody, this::unshare);
+        }
+        return bodyCache;
+    }
+
+    /**
+     * Decodes the body returned by {@code getBody}, which is null for a message without a body.
+     */
+    Object decodeBody() throws JMSException {
+        return null;
+    }
+
+    /**
+     * Returns the decoded body to give to one caller of {@code getBody}, copying any part of it that the caller could
+     * change and that other callers would see.
+     */
+    Object unshare(Object body) {
+        return body;
+    }
+
+    private void invalidateBody() {
+        if (bodyCache != null) {
+            bodyCache.invalidate();
+        }
+    }
+
+    /**
+     * Makes the body and properties read-only, as they are when the message is received, and makes the body readable.
+     */
+    void markReadOnly() throws JMSException {
+        bodyReadOnly = true;
+        propertiesReadOnly = true;
+    }
+
+    /**
+     * Checks that the body may be changed, which every change to the body does first, and forgets the decoded body,
+     * which the change makes stale.
+     */
+    void checkWriteable() throws MessageNotWriteableException {
+        if (bodyReadOnly) {
+            throw new MessageNotWriteableException("Message body is read-only");
+        }
+        invalidateBody();
+    }
+
+    /**
+     * Returns a body value as the specified type, as {@code getBody} does.
+     */
+    static <T> T bodyAs(Object body, Class<T> c) throws MessageFormatException {
+        if (body != null && !c.isInstance(body)) {
+            throw new MessageFormatException("Message body cannot be assigned to " + c.getName());
+        }
+        return c.cast(body);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.Serializable;
+
+import javax.jms.JMSException;
+import javax.jms.ObjectBodyCodecs;
+import javax.jms.ObjectMessage;
+
+/**
+ * An object message held in memory. The object is encoded by the {@link ObjectBodyCodecs} registry of the connection
+ * factory when it is set, so that later changes to it do not affect the message. It is decoded each time it is got by {@code getObject},
+ * and once for {@code getBody}.
+ */
+public class InVMObjectMessage extends InVMMessage implements ObjectMessage {
+
+    private final ObjectBodyCodecs codecs;
+    private byte[] encoded;
+
+    InVMObjectMessage(ObjectBodyCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    public void setObject(Serializable object) throws JMSException {
+        checkWriteable();
+        encoded = codecs.encode(object);
+    }
+
+    @Override
+    public Serializable getObject() throws JMSException {
+        return codecs.decode(encoded);
+    }
+
+    @Override
+    InVMMessage newInstance() {
+        return new InVMObjectMessage(codecs);
+    }
+
+    @Override
+    void copyBody(InVMMessage target) {
+        ((InVMObjectMessage) target).encoded = encoded;
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        super.clearBody();
+        encoded = null;
+    }
+
+    @Override
+    Object decodeBody() throws JMSException {
+        return getObject();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.jms.IllegalStateException;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageSelector;
+import javax.jms.Queue;
+import javax.jms.QueueBrowser;
+
+/**
+ * A browser of the messages on a queue, each enumeration of which is a snapshot of the queue when it was created.
+ */
+final class InVMQueueBrowser implements QueueBrowser {
+
+    private final InVMSession session;
+    private final Queue queue;
+    private final MessageQueue messages;
+    private final MessageSelector selector;
+    private final String messageSelector;
+    private boolean closed;
+
+    InVMQueueBrowser(InVMSession session, Queue queue, MessageQueue messages, MessageSelector selector,
+            String messageSelector) {
+        this.session = session;
+        this.queue = queue;
+        this.messages = messages;
+        this.selector = selector;
+        this.messageSelector = messageSelector;
+    }
+
+    @Override
+    public Queue getQueue() throws JMSException {
+        checkOpen();
+        return queue;
+    }
+
+    @Override
+    public String getMessageSelector() throws JMSException {
+        checkOpen();
+        return messageSelector;
+    }
+
+    @Override
+    public Enumeration<Message> getEnumeration() throws JMSException {
+        checkOpen();
+        long now = System.currentTimeMillis();
+        List<Message> snapshot = new ArrayList<>();
+        for (Iterator<InVMMessage> i = messages.iterator(); i.hasNext();) {
+            InVMMessage message = i.next();
+            if (!message.isExpired(now) && MessageQueue.selects(selector, message)) {
+                InVMMessage copy = message.copy();
+                copy.markReadOnly();
+                snapshot.add(copy);
+            }
+        }
+        return Collections.enumeration(snapshot);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private void checkOpen() throws IllegalStateException {
+        if (closed || session.isClosed()) {
+            throw new IllegalStateException("Browser is closed");
+        }
+    }
+}
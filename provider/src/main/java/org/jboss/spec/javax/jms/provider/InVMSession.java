@@ -0,0 +1,603 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.jms.Destination;
+import javax.jms.IllegalStateException;
+import javax.jms.InvalidDestinationException;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.MessageSelector;
+import javax.jms.Queue;
+import javax.jms.QueueBrowser;
+import javax.jms.QueueSession;
+import javax.jms.Session;
+import javax.jms.TemporaryQueue;
+import javax.jms.TemporaryTopic;
+import javax.jms.Topic;
+import javax.jms.TopicSession;
+
+/**
+ * A session of an {@link InVMConnection}.
+ *
+ * <p>
+ * Message listeners of the session are called, one at a time, by a dispatcher thread started when the first listener
+ * is set. In a transacted session, messages sent are held until the session is committed. Messages received in a
+ * transacted or {@code CLIENT_ACKNOWLEDGE} session are put back at the end of their queue, and marked as redelivered,
+ * if the session is rolled back or recovered, or closed before they are acknowledged. Session message listeners, used
+ * by application servers, are not supported.
+ */
+public class InVMSession implements QueueSession, TopicSession {
+
+    final InVMConnection connection;
+    private final int sessionMode;
+    private final String messageIDPrefix;
+    private long messageIDs;
+    private final List<InVMConsumer> consumers = new CopyOnWriteArrayList<>();
+    private final List<Delivery> unacknowledged = new ArrayList<>();
+    private final List<Delivery> uncommitted = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * Held while a message listener is running, so that stopping the connection can wait for it to return.
+     */
+    private final Object dispatching = new Object();
+    private volatile Thread dispatcher;
+
+    InVMSession(InVMConnection connection, int sessionMode) {
+        this.connection = connection;
+        this.sessionMode = sessionMode;
+        this.messageIDPrefix = "ID:" + connection.id + "-" + connection.broker.nextId() + "-";
+    }
+
+    @Override
+    public InVMBytesMessage createBytesMessage() throws JMSException {
+        checkOpen();
+        return new InVMBytesMessage();
+    }
+
+    @Override
+    public InVMMapMessage createMapMessage() throws JMSException {
+        checkOpen();
+        return new InVMMapMessage();
+    }
+
+    @Override
+    public InVMMessage createMessage() throws JMSException {
+        checkOpen();
+        return new InVMMessage();
+    }
+
+    @Override
+    public InVMObjectMessage createObjectMessage() throws JMSException {
+        checkOpen();
+        return new InVMObjectMessage(connection.codecs);
+    }
+
+    @Override
+    public InVMObjectMessage createObjectMessage(Serializable object) throws JMSException {
+        InVMObjectMessage message = createObjectMessage();
+        message.setObject(object);
+        return message;
+    }
+
+    @Override
+    public InVMStreamMessage createStreamMessage() throws JMSException {
+        checkOpen();
+        return new InVMStreamMessage();
+    }
+
+    @Override
+    public InVMTextMessage createTextMessage() throws JMSException {
+        checkOpen();
+        return new InVMTextMessage();
+    }
+
+    @Override
+    public InVMTextMessage createTextMessage(String text) throws JMSException {
+        InVMTextMessage message = createTextMessage();
+        message.setText(text);
+        return message;
+    }
+
+    @Override
+    public boolean getTransacted() throws JMSException {
+        checkOpen();
+        return sessionMode == SESSION_TRANSACTED;
+    }
+
+    @Override
+    public int getAcknowledgeMode() throws JMSException {
+        checkOpen();
+        return sessionMode;
+    }
+
+    @Override
+    public void commit() throws JMSException {
+        checkOpen();
+        if (sessionMode != SESSION_TRANSACTED) {
+            throw new IllegalStateException("Session is not transacted");
+        }
+        List<Delivery> sends;
+        synchronized (uncommitted) {
+            sends = new ArrayList<>(uncommitted);
+            uncommitted.clear();
+        }
+        synchronized (unacknowledged) {
+            unacknowledged.clear();
+        }
+        for (Delivery send : sends) {
+            connection.broker.send(send.destination, send.message);
+        }
+    }
+
+    @Override
+    public void rollback() throws JMSException {
+        checkOpen();
+        if (sessionMode != SESSION_TRANSACTED) {
+            throw new IllegalStateException("Session is not transacted");
+        }
+        synchronized (uncommitted) {
+            uncommitted.clear();
+        }
+        redeliver();
+    }
+
+    /**
+     * Closes the consumers of this session and redelivers the messages it has not acknowledged. Messages sent in an
+     * uncommitted transaction are discarded.
+     */
+    @Override
+    public void close() throws JMSException {
+        if (closed) {
+            return;
+        }
+        if (isListenerThread()) {
+            throw new IllegalStateException("A message listener must not close its own session");
+        }
+        closed = true;
+        for (InVMConsumer consumer : consumers) {
+            consumer.close();
+        }
+        synchronized (uncommitted) {
+            uncommitted.clear();
+        }
+        redeliver();
+        Thread thread = dispatcher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            awaitListener();
+        }
+        connection.removeSession(this);
+    }
+
+    @Override
+    public void recover() throws JMSException {
+        checkOpen();
+        if (sessionMode == SESSION_TRANSACTED) {
+            throw new IllegalStateException("Session is transacted");
+        }
+        redeliver();
+    }
+
+    @Override
+    public MessageListener getMessageListener() throws JMSException {
+        checkOpen();
+        return null;
+    }
+
+    @Override
+    public void setMessageListener(MessageListener listener) throws JMSException {
+        checkOpen();
+        throw new JMSException("Session message listeners are not supported");
+    }
+
+    @Override
+    public void run() {
+        throw new UnsupportedOperationException("Session message listeners are not supported");
+    }
+
+    @Override
+    public InVMProducer createProducer(Destination destination) throws JMSException {
+        checkOpen();
+        return new InVMProducer(this, destination);
+    }
+
+    @Override
+    public InVMProducer createSender(Queue queue) throws JMSException {
+        return createProducer(queue);
+    }
+
+    @Override
+    public InVMProducer createPublisher(Topic topic) throws JMSException {
+        return createProducer(topic);
+    }
+
+    @Override
+    public InVMConsumer createConsumer(Destination destination) throws JMSException {
+        return createConsumer(destination, null, false);
+    }
+
+    @Override
+    public InVMConsumer createConsumer(Destination destination, String messageSelector) throws JMSException {
+        return createConsumer(destination, messageSelector, false);
+    }
+
+    @Override
+    public InVMConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal)
+            throws JMSException {
+        checkOpen();
+        if (destination instanceof Queue) {
+            checkOwner(destination);
+            MessageQueue queue = connection.broker.queue((Queue) destination);
+            return add(new InVMConsumer(this, destination, queue, InVMBroker.selector(messageSelector),
+                    messageSelector, noLocal, null, null));
+        }
+        if (destination instanceof Topic) {
+            checkOwner(destination);
+            return subscribe((Topic) destination, null, messageSelector, noLocal, false, false);
+        }
+        throw new InvalidDestinationException("Destination is neither a queue nor a topic: " + destination);
+    }
+
+    @Override
+    public InVMConsumer createReceiver(Queue queue) throws JMSException {
+        return createConsumer(queue, null, false);
+    }
+
+    @Override
+    public InVMConsumer createReceiver(Queue queue, String messageSelector) throws JMSException {
+        return createConsumer(queue, messageSelector, false);
+    }
+
+    @Override
+    public InVMConsumer createSubscriber(Topic topic) throws JMSException {
+        return createConsumer(topic, null, false);
+    }
+
+    @Override
+    public InVMConsumer createSubscriber(Topic topic, String messageSelector, boolean noLocal) throws JMSException {
+        return createConsumer(topic, messageSelector, noLocal);
+    }
+
+    @Override
+    public InVMConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) throws JMSException {
+        return createSharedConsumer(topic, sharedSubscriptionName, null);
+    }
+
+    @Override
+    public InVMConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector)
+            throws JMSException {
+        checkOpen();
+        return subscribe(topic, "shared:" + subscriptionKey(sharedSubscriptionName), messageSelector, false, false,
+                true);
+    }
+
+    @Override
+    public InVMConsumer createDurableSubscriber(Topic topic, String name) throws JMSException {
+        return createDurableConsumer(topic, name, null, false);
+    }
+
+    @Override
+    public InVMConsumer createDurableSubscriber(Topic topic, String name, String messageSelector, boolean noLocal)
+            throws JMSException {
+        return createDurableConsumer(topic, name, messageSelector, noLocal);
+    }
+
+    @Override
+    public InVMConsumer createDurableConsumer(Topic topic, String name) throws JMSException {
+        return createDurableConsumer(topic, name, null, false);
+    }
+
+    @Override
+    public InVMConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal)
+            throws JMSException {
+        checkOpen();
+        return subscribe(topic, durableKey(name), messageSelector, noLocal, true, false);
+    }
+
+    @Override
+    public InVMConsumer createSharedDurableConsumer(Topic topic, String name) throws JMSException {
+        return createSharedDurableConsumer(topic, name, null);
+    }
+
+    @Override
+    public InVMConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector)
+            throws JMSException {
+        checkOpen();
+        return subscribe(topic, durableKey(name), messageSelector, false, true, true);
+    }
+
+    @Override
+    public void unsubscribe(String name) throws JMSException {
+        checkOpen();
+        connection.broker.unsubscribe(durableKey(name));
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) throws JMSException {
+        return createBrowser(queue, null);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) throws JMSException {
+        checkOpen();
+        if (queue == null) {
+            throw new InvalidDestinationException("Queue must not be null");
+        }
+        return new InVMQueueBrowser(this, queue, connection.broker.queue(queue), InVMBroker.selector(messageSelector),
+                messageSelector);
+    }
+
+    @Override
+    public Queue createQueue(String queueName) throws JMSException {
+        checkOpen();
+        return new InVMQueue(queueName);
+    }
+
+    @Override
+    public Topic createTopic(String topicName) throws JMSException {
+        checkOpen();
+        return new InVMTopic(topicName);
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() throws JMSException {
+        checkOpen();
+        return connection.createTemporaryQueue();
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() throws JMSException {
+        checkOpen();
+        return connection.createTemporaryTopic();
+    }
+
+    private InVMConsumer subscribe(Topic topic, String key, String messageSelector, boolean noLocal, boolean durable,
+            boolean shared) throws JMSException {
+        if (topic == null) {
+            throw new InvalidDestinationException("Topic must not be null");
+        }
+        MessageSelector selector = InVMBroker.selector(messageSelector);
+        Subscription subscription = connection.broker.subscribe(key, topic, selector, noLocal, connection.id, durable,
+                shared);
+        return add(new InVMConsumer(this, topic, subscription.queue, null, messageSelector, noLocal, key,
+                subscription));
+    }
+
+    private String subscriptionKey(String name) throws JMSException {
+        if (name == null || name.isEmpty()) {
+            throw new JMSException("Subscription name must not be null or empty");
+        }
+        return connection.getClientID() + ":" + name;
+    }
+
+    private String durableKey(String name) throws JMSException {
+        return "durable:" + subscriptionKey(name);
+    }
+
+    /**
+     * Temporary destinations may only be consumed by the connection that created them.
+     */
+    private void checkOwner(Destination destination) throws JMSException {
+        InVMConnection owner = destination instanceof InVMTemporaryQueue
+                ? ((InVMTemporaryQueue) destination).connection
+                : destination instanceof InVMTemporaryTopic ? ((InVMTemporaryTopic) destination).connection : connection;
+        if (owner != connection) {
+            throw new InvalidDestinationException("Temporary destination " + destination
+                    + " can only be consumed by the connection that created it");
+        }
+    }
+
+    private InVMConsumer add(InVMConsumer consumer) {
+        consumers.add(consumer);
+        return consumer;
+    }
+
+    void removeConsumer(InVMConsumer consumer) {
+        consumers.remove(consumer);
+        Thread thread = dispatcher;
+        if (thread != null) {
+            consumer.queue.removeWaiter(thread);
+        }
+    }
+
+    boolean hasConsumer(Destination destination) {
+        for (InVMConsumer consumer : consumers) {
+            if (consumer.destination.equals(destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets the headers of a message on behalf of a producer and sends a copy of it, or holds the copy until commit.
+     */
+    void send(Destination destination, Message message, int deliveryMode, int priority, long timeToLive,
+            long deliveryDelay, boolean disableMessageID, boolean disableMessageTimestamp) throws JMSException {
+        checkOpen();
+        long now = System.currentTimeMillis();
+        message.setJMSDestination(destination);
+        message.setJMSDeliveryMode(deliveryMode);
+        message.setJMSPriority(priority);
+        message.setJMSTimestamp(disableMessageTimestamp ? 0 : now);
+        message.setJMSExpiration(timeToLive == 0 ? 0 : now + timeToLive);
+        message.setJMSDeliveryTime(now + deliveryDelay);
+        message.setJMSMessageID(disableMessageID ? null : nextMessageID());
+        InVMMessage copy = InVMMessage.snapshot(message, connection.codecs);
+        copy.origin = connection.id;
+        copy.deliveryCount = 0;
+        if (sessionMode == SESSION_TRANSACTED) {
+            if (destination instanceof Queue) {
+                connection.broker.queue((Queue) destination);
+            } else if (destination instanceof Topic) {
+                connection.broker.topic((Topic) destination);
+            }
+            synchronized (uncommitted) {
+                uncommitted.add(new Delivery(destination, null, copy));
+            }
+        } else {
+            connection.broker.send(destination, copy);
+        }
+    }
+
+    private synchronized String nextMessageID() {
+        return messageIDPrefix + ++messageIDs;
+    }
+
+    /**
+     * Returns the copy of a stored message to give to a consumer, remembering the message until it is acknowledged.
+     */
+    Message deliver(MessageQueue queue, InVMMessage message) throws JMSException {
+        InVMMessage delivered = message.deliver(this);
+        if (sessionMode == SESSION_TRANSACTED || sessionMode == CLIENT_ACKNOWLEDGE) {
+            synchronized (unacknowledged) {
+                unacknowledged.add(new Delivery(null, queue, message));
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Acknowledges every message delivered by this session, as {@link Message#acknowledge()} does.
+     */
+    void acknowledge() throws JMSException {
+        if (closed) {
+            throw new IllegalStateException("Session is closed");
+        }
+        if (sessionMode == CLIENT_ACKNOWLEDGE) {
+            synchronized (unacknowledged) {
+                unacknowledged.clear();
+            }
+        }
+    }
+
+    boolean isAutoAcknowledge() {
+        return sessionMode == AUTO_ACKNOWLEDGE || sessionMode == DUPS_OK_ACKNOWLEDGE;
+    }
+
+    private void redeliver() throws JMSException {
+        List<Delivery> deliveries;
+        synchronized (unacknowledged) {
+            deliveries = new ArrayList<>(unacknowledged);
+            unacknowledged.clear();
+        }
+        for (Delivery delivery : deliveries) {
+            delivery.queue.add(delivery.message.redelivery());
+        }
+    }
+
+    /**
+     * Registers a consumer whose message listener has been set, starting the dispatcher thread if necessary.
+     */
+    void listen(InVMConsumer consumer) {
+        Thread thread;
+        synchronized (this) {
+            thread = dispatcher;
+            if (thread == null) {
+                thread = new Thread(this::dispatch, "InVMSession dispatcher " + messageIDPrefix);
+                thread.setDaemon(true);
+                dispatcher = thread;
+                thread.start();
+            }
+        }
+        consumer.queue.addWaiter(thread);
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Calls the message listeners of the consumers of this session until it is closed, parking whenever there is no
+     * message for any of them.
+     */
+    private void dispatch() {
+        while (!closed) {
+            boolean dispatched = false;
+            if (connection.isStarted()) {
+                for (InVMConsumer consumer : consumers) {
+                    synchronized (dispatching) {
+                        dispatched |= connection.isStarted() && !closed && consumer.dispatch();
+                    }
+                }
+            }
+            if (!dispatched) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    boolean isListenerThread() {
+        return Thread.currentThread() == dispatcher;
+    }
+
+    /**
+     * Waits for any message listener that is running to return.
+     */
+    void awaitListener() {
+        if (!isListenerThread()) {
+            synchronized (dispatching) {
+                // Entering the monitor is enough.
+            }
+        }
+    }
+
+    /**
+     * Wakes the threads waiting for messages on this session, so that they notice the connection has been started.
+     */
+    void wake() {
+        Thread thread = dispatcher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        for (InVMConsumer consumer : consumers) {
+            consumer.wake();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void checkOpen() throws IllegalStateException {
+        if (closed) {
+            throw new IllegalStateException("Session is closed");
+        }
+    }
+
+    /**
+     * A message sent in an uncommitted transaction, or delivered and not yet acknowledged.
+     */
+    private static final class Delivery {
+
+        final Destination destination;
+        final MessageQueue queue;
+        final InVMMessage message;
+
+        Delivery(Destination destination, MessageQueue queue, InVMMessage message) {
+            this.destination = destination;
+            this.queue = queue;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.JMSException;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageNotReadableException;
+import javax.jms.StreamBody;
+import javax.jms.StreamMessage;
+
+/**
+ * A stream message held in a {@link StreamBody}, which encodes the values as tagged binary items, so that fields can be
+ * peeked at and skipped without being decoded. Byte arrays are copied into the body as they are written.
+ */
+public class InVMStreamMessage extends InVMMessage implements StreamMessage {
+
+    private StreamBody body = new StreamBody();
+    private boolean readable;
+
+    @Override
+    public boolean readBoolean() throws JMSException {
+        checkReadable();
+        return body.readBoolean();
+    }
+
+    @Override
+    public byte readByte() throws JMSException {
+        checkReadable();
+        return body.readByte();
+    }
+
+    @Override
+    public short readShort() throws JMSException {
+        checkReadable();
+        return body.readShort();
+    }
+
+    @Override
+    public char readChar() throws JMSException {
+        checkReadable();
+        return body.readChar();
+    }
+
+    @Override
+    public int readInt() throws JMSException {
+        checkReadable();
+        return body.readInt();
+    }
+
+    @Override
+    public long readLong() throws JMSException {
+        checkReadable();
+        return body.readLong();
+    }
+
+    @Override
+    public float readFloat() throws JMSException {
+        checkReadable();
+        return body.readFloat();
+    }
+
+    @Override
+    public double readDouble() throws JMSException {
+        checkReadable();
+        return body.readDouble();
+    }
+
+    @Override
+    public String readString() throws JMSException {
+        checkReadable();
+        return body.readString();
+    }
+
+    /**
+     * Appends numbers and ASCII strings without creating a string first.
+     */
+    @Override
+    public int readString(StringBuilder builder) throws JMSException {
+        checkReadable();
+        return body.readString(builder);
+    }
+
+    @Override
+    public int readBytes(byte[] value) throws JMSException {
+        checkReadable();
+        return body.readBytes(value);
+    }
+
+    @Override
+    public Object readObject() throws JMSException {
+        checkReadable();
+        return body.readObject();
+    }
+
+    /**
+     * Returns the type of the next field without reading it, or null if there are no more fields. This is not part of
+     * {@code StreamMessage}, since a provider that does not tag each field with its type has no way to implement it.
+     */
+    public StreamBody.Type peekType() throws JMSException {
+        checkReadable();
+        return body.peekType();
+    }
+
+    @Override
+    public boolean skip() throws JMSException {
+        checkReadable();
+        return body.skip();
+    }
+
+    @Override
+    public int skip(int count) throws JMSException {
+        checkReadable();
+        return body.skip(count);
+    }
+
+    @Override
+    public int readInts(int[] values, int offset, int length) throws JMSException {
+        checkReadable();
+        return body.readInts(values, offset, length);
+    }
+
+    @Override
+    public int readLongs(long[] values, int offset, int length) throws JMSException {
+        checkReadable();
+        return body.readLongs(values, offset, length);
+    }
+
+    @Override
+    public int readDoubles(double[] values, int offset, int length) throws JMSException {
+        checkReadable();
+        return body.readDoubles(values, offset, length);
+    }
+
+    private void checkReadable() throws MessageNotReadableException {
+        if (!readable) {
+            throw new MessageNotReadableException("Message body is write-only");
+        }
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws JMSException {
+        checkWriteable();
+        body.writeBoolean(value);
+    }
+
+    @Override
+    public void writeByte(byte value) throws JMSException {
+        checkWriteable();
+        body.writeByte(value);
+    }
+
+    @Override
+    public void writeShort(short value) throws JMSException {
+        checkWriteable();
+        body.writeShort(value);
+    }
+
+    @Override
+    public void writeChar(char value) throws JMSException {
+        checkWriteable();
+        body.writeChar(value);
+    }
+
+    @Override
+    public void writeInt(int value) throws JMSException {
+        checkWriteable();
+        body.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) throws JMSException {
+        checkWriteable();
+        body.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(float value) throws JMSException {
+        checkWriteable();
+        body.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(double value) throws JMSException {
+        checkWriteable();
+        body.writeDouble(value);
+    }
+
+    @Override
+    public void writeString(String value) throws JMSException {
+        checkWriteable();
+        body.writeString(value);
+    }
+
+    @Override
+    public void writeBytes(byte[] value) throws JMSException {
+        checkWriteable();
+        body.writeBytes(value);
+    }
+
+    @Override
+    public void writeBytes(byte[] value, int offset, int length) throws JMSException {
+        checkWriteable();
+        body.writeBytes(value, offset, length);
+    }
+
+    @Override
+    public void writeObject(Object value) throws JMSException {
+        checkWriteable();
+        body.writeObject(value);
+    }
+
+    @Override
+    public void writeInts(int[] values, int offset, int length) throws JMSException {
+        checkWriteable();
+        body.writeInts(values, offset, length);
+    }
+
+    @Override
+    public void writeLongs(long[] values, int offset, int length) throws JMSException {
+        checkWriteable();
+        body.writeLongs(values, offset, length);
+    }
+
+    @Override
+    public void writeDoubles(double[] values, int offset, int length) throws JMSException {
+        checkWriteable();
+        body.writeDoubles(values, offset, length);
+    }
+
+    @Override
+    public void reset() {
+        readable = true;
+        bodyReadOnly = true;
+        body.reset();
+    }
+
+    @Override
+    void markReadOnly() throws JMSException {
+        super.markReadOnly();
+        reset();
+    }
+
+    @Override
+    InVMMessage newInstance() {
+        return new InVMStreamMessage();
+    }
+
+    @Override
+    void copyBody(InVMMessage target) {
+        ((InVMStreamMessage) target).body = body.copy();
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        super.clearBody();
+        body.clear();
+        readable = false;
+    }
+
+    @Override
+    public <T> T getBody(Class<T> c) throws JMSException {
+        throw new MessageFormatException("The body of a StreamMessage cannot be returned by getBody");
+    }
+
+    @Override
+    public boolean isBodyAssignableTo(Class c) {
+        return false;
+    }
+}
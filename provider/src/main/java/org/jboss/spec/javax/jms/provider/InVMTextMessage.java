@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import javax.jms.JMSException;
+import javax.jms.TextMessage;
+
+/**
+ * A text message held in memory.
+ */
+public class InVMTextMessage extends InVMMessage implements TextMessage {
+
+    private String text;
+
+    @Override
+    public void setText(String text) throws JMSException {
+        checkWriteable();
+        this.text = text;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    InVMMessage newInstance() {
+        return new InVMTextMessage();
+    }
+
+    @Override
+    void copyBody(InVMMessage target) {
+        ((InVMTextMessage) target).text = text;
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        super.clearBody();
+        text = null;
+    }
+
+    @Override
+    public <T> T getBody(Class<T> c) throws JMSException {
+        return bodyAs(text, c);
+    }
+
+    @Override
+    public boolean isBodyAssignableTo(Class c) {
+        return text == null || ((Class<?>) c).isAssignableFrom(String.class);
+    }
+}
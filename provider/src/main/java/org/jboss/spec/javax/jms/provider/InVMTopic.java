@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.Serializable;
+
+import javax.jms.Topic;
+
+/**
+ * A topic, identified by its name within an {@link InVMBroker}.
+ */
+public class InVMTopic implements Topic, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    public InVMTopic(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Topic name must not be null");
+        }
+        this.name = name;
+    }
+
+    @Override
+    public String getTopicName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof InVMTopic && ((InVMTopic) obj).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "topic://" + name;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.jms.JMSException;
+import javax.jms.MessageSelector;
+
+/**
+ * The messages stored for a queue or a topic subscription, in the order they arrived.
+ *
+ * <p>
+ * Messages are added and taken without locking. Threads waiting for a message register themselves with
+ * {@link #addWaiter(Thread)} and are unparked whenever a message is added, after which they must poll again.
+ */
+final class MessageQueue {
+
+    private final ConcurrentLinkedQueue<InVMMessage> messages = new ConcurrentLinkedQueue<>();
+    private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+
+    void add(InVMMessage message) {
+        messages.add(message);
+        for (Thread waiter : waiters) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    /**
+     * Removes and returns the first unexpired message matched by the selector, discarding any expired messages passed
+     * over, or returns null if there is none.
+     *
+     * @param selector the selector to match, or null to match every message
+     */
+    InVMMessage poll(MessageSelector selector) {
+        long now = System.currentTimeMillis();
+        if (selector == null) {
+            InVMMessage message;
+            while ((message = messages.poll()) != null) {
+                if (!message.isExpired(now)) {
+                    return message;
+                }
+            }
+            return null;
+        }
+        for (Iterator<InVMMessage> i = messages.iterator(); i.hasNext();) {
+            InVMMessage message = i.next();
+            if (message.isExpired(now)) {
+                messages.remove(message);
+            } else if (selects(selector, message) && messages.remove(message)) {
+                // Another consumer may have taken the message since it was seen.
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the selector, which may be null, selects the message. The header fields and properties of an
+     * in-JVM message can always be read.
+     */
+    static boolean selects(MessageSelector selector, InVMMessage message) {
+        try {
+            return selector == null || selector.matches(message);
+        } catch (JMSException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the messages currently stored, without removing them.
+     */
+    Iterator<InVMMessage> iterator() {
+        return messages.iterator();
+    }
+
+    int size() {
+        return messages.size();
+    }
+
+    void clear() {
+        messages.clear();
+    }
+
+    void addWaiter(Thread thread) {
+        waiters.add(thread);
+    }
+
+    void removeWaiter(Thread thread) {
+        waiters.remove(thread);
+    }
+}
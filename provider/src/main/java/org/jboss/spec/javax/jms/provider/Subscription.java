@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.MessageSelector;
+
+/**
+ * A subscription to a topic, which stores a copy of each message published to the topic that it selects.
+ */
+final class Subscription {
+
+    final String topic;
+    final MessageSelector selector;
+    final boolean noLocal;
+    final long connection;
+    final boolean durable;
+    final boolean shared;
+    final MessageQueue queue = new MessageQueue();
+
+    /**
+     * The number of consumers on the subscription, which may be more than one only for a shared subscription.
+     */
+    final AtomicInteger consumers = new AtomicInteger();
+
+    Subscription(String topic, MessageSelector selector, boolean noLocal, long connection, boolean durable,
+            boolean shared) {
+        this.topic = topic;
+        this.selector = selector;
+        this.noLocal = noLocal;
+        this.connection = connection;
+        this.durable = durable;
+        this.shared = shared;
+    }
+
+    /**
+     * Stores the message if the subscription selects it.
+     */
+    void publish(InVMMessage message) {
+        if (noLocal && message.origin == connection) {
+            return;
+        }
+        if (MessageQueue.selects(selector, message)) {
+            queue.add(message);
+        }
+    }
+
+    /**
+     * Returns whether a consumer created with the specified topic and selector may use this subscription unchanged.
+     */
+    boolean isCompatible(String topic, MessageSelector selector, boolean noLocal) {
+        return this.topic.equals(topic) && this.noLocal == noLocal
+                && Objects.equals(this.selector == null ? null : this.selector.getSelector(),
+                        selector == null ? null : selector.getSelector());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.jboss.spec.javax.jms.provider;
+
+import java.io.UTFDataFormatException;
+
+/**
+ * Encodes and decodes strings between characters and byte arrays, in the modified UTF-8 of
+ * {@code DataOutputStream.writeUTF} and in standard UTF-8. Characters are encoded straight into the body array and
+ * decoded into a character array that the caller reuses, with a fast path for a leading run of ASCII bytes, which are
+ * copied one to one.
+ */
+final class Utf8 {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private Utf8() {
+    }
+
+    /**
+     * Returns the number of bytes in the modified UTF-8 encoding of the characters.
+     */
+    static long modifiedLength(CharSequence value) {
+        int length = value.length();
+        long bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 || c == 0) {
+                bytes += c < 0x800 ? 1 : 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the number of bytes in the standard UTF-8 encoding of the characters.
+     */
+    static long length(CharSequence value) {
+        int length = value.length();
+        long bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encodes the characters in modified UTF-8 into the array, which must have room for them, and returns the offset
+     * following them.
+     */
+    static int encodeModified(CharSequence value, byte[] target, int offset) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80 && c != 0) {
+                target[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                target[offset++] = (byte) (0xC0 | c >> 6);
+                target[offset++] = (byte) (0x80 | c & 0x3F);
+            } else {
+                target[offset++] = (byte) (0xE0 | c >> 12);
+                target[offset++] = (byte) (0x80 | c >> 6 & 0x3F);
+                target[offset++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Encodes the characters in standard UTF-8 into the array, which must have room for them, and returns the offset
+     * following them. A surrogate that is not part of a pair is encoded as {@code '?'}.
+     */
+    static int encode(CharSequence value, byte[] target, int offset) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                target[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                target[offset++] = (byte) (0xC0 | c >> 6);
+                target[offset++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                target[offset++] = (byte) (0xE0 | c >> 12);
+                target[offset++] = (byte) (0x80 | c >> 6 & 0x3F);
+                target[offset++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target[offset++] = (byte) (0xF0 | codePoint >> 18);
+                target[offset++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                target[offset++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                target[offset++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                target[offset++] = '?';
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Decodes the bytes in modified UTF-8 into the array, which must have room for {@code length} characters, and
+     * returns the number of characters, or throws {@code UTFDataFormatException} if the bytes are malformed.
+     */
+    static int decodeModified(byte[] source, int offset, int length, char[] target) throws UTFDataFormatException {
+        int end = offset + length;
+        int count = 0;
+        while (offset < end && source[offset] >= 0) {
+            target[count++] = (char) source[offset++];
+        }
+        while (offset < end) {
+            int b0 = source[offset++];
+            if (b0 >= 0) {
+                target[count++] = (char) b0;
+            } else if ((b0 & 0xE0) == 0xC0 && offset < end && isContinuation(source[offset])) {
+                target[count++] = (char) ((b0 & 0x1F) << 6 | source[offset++] & 0x3F);
+            } else if ((b0 & 0xF0) == 0xE0 && offset + 1 < end && isContinuation(source[offset])
+                    && isContinuation(source[offset + 1])) {
+                target[count++] = (char) ((b0 & 0x0F) << 12 | (source[offset] & 0x3F) << 6 | source[offset + 1] & 0x3F);
+                offset += 2;
+            } else {
+                throw new UTFDataFormatException("Malformed input around byte " + (offset - 1));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Decodes the bytes in standard UTF-8 into the array, which must have room for {@code length} characters, and
+     * returns the number of characters. Each malformed sequence is replaced by {@code U+FFFD}, as it is by the
+     * {@code UTF-8} charset of the platform: a sequence ends at the first byte that cannot continue it, and an encoded
+     * surrogate is replaced as a whole.
+     */
+    static int decode(byte[] source, int offset, int length, char[] target) {
+        int end = offset + length;
+        int count = 0;
+        while (offset < end && source[offset] >= 0) {
+            target[count++] = (char) source[offset++];
+        }
+        while (offset < end) {
+            int b0 = source[offset++];
+            if (b0 >= 0) {
+                target[count++] = (char) b0;
+                continue;
+            }
+            b0 &= 0xFF;
+            if (b0 >= 0xC2 && b0 <= 0xDF) {
+                if (offset < end && isContinuation(source[offset])) {
+                    target[count++] = (char) ((b0 & 0x1F) << 6 | source[offset++] & 0x3F);
+                    continue;
+                }
+            } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+                if (offset < end && inRange(source[offset], b0 == 0xE0 ? 0xA0 : 0x80, 0xBF)) {
+                    int b1 = source[offset++];
+                    if (offset < end && isContinuation(source[offset])) {
+                        char c = (char) ((b0 & 0x0F) << 12 | (b1 & 0x3F) << 6 | source[offset++] & 0x3F);
+                        target[count++] = Character.isSurrogate(c) ? REPLACEMENT : c;
+                        continue;
+                    }
+                }
+            } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+                if (offset < end && inRange(source[offset], b0 == 0xF0 ? 0x90 : 0x80, b0 == 0xF4 ? 0x8F : 0xBF)) {
+                    int b1 = source[offset++];
+                    if (offset < end && isContinuation(source[offset])) {
+                        int b2 = source[offset++];
+                        if (offset < end && isContinuation(source[offset])) {
+                            int codePoint = (b0 & 0x07) << 18 | (b1 & 0x3F) << 12 | (b2 & 0x3F) << 6
+                                    | source[offset++] & 0x3F;
+                            target[count++] = Character.highSurrogate(codePoint);
+                            target[count++] = Character.lowSurrogate(codePoint);
+                            continue;
+                        }
+                    }
+                }
+            }
+            target[count++] = REPLACEMENT;
+        }
+        return count;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static boolean inRange(byte b, int min, int max) {
+        int value = b & 0xFF;
+        return value >= min && value <= max;
+    }
+}